@@ -0,0 +1,121 @@
+package com.benchmark;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Точка входа для запуска {@link ListBenchmarks} через JMH.
+ * Преобразует результаты JMH в объекты {@link Result} и выводит их
+ * в том же табличном формате, что и {@link ListPerformanceTester}.
+ * <p>
+ * Параметры прогона задаются системными свойствами:
+ * {@code jmh.forks} (по умолчанию 1), {@code jmh.warmupIterations} (5),
+ * {@code jmh.measurementIterations} (5), а также длительность одной итерации
+ * прогрева и измерения в миллисекундах: {@code jmh.warmupTime} (1000)
+ * и {@code jmh.measurementTime} (1000).
+ * <p>
+ * Запускается из uber-jar ({@code mvn -Pjmh package}, затем
+ * {@code java -jar target/benchmarks.jar}): форки JMH наследуют classpath
+ * текущей JVM. Если ни один прогон не дал результата, программа
+ * завершается с кодом 1.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class JmhRunner {
+
+    /**
+     * Порядок вывода методов, совпадающий с порядком в {@link ListPerformanceTester}.
+     */
+    private static final List<String> METHOD_ORDER =
+            Arrays.asList("add", "addFirst", "get", "deleteFirst", "deleteLast");
+
+    /**
+     * Запускает JMH-бенчмарки и выводит результаты.
+     *
+     * @param args аргументы командной строки (не используются)
+     * @throws RunnerException если JMH не удалось выполнить прогон
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ListBenchmarks.class.getSimpleName())
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("jmh.warmupIterations", 5))
+                .measurementIterations(Integer.getInteger("jmh.measurementIterations", 5))
+                .warmupTime(TimeValue.milliseconds(Long.getLong("jmh.warmupTime", 1000)))
+                .measurementTime(TimeValue.milliseconds(Long.getLong("jmh.measurementTime", 1000)))
+                .build();
+
+        Collection<RunResult> runResults = new Runner(options).run();
+        Map<Integer, List<Result>> results = toResults(runResults);
+        if (results.isEmpty()) {
+            System.err.println("JMH не вернул ни одного результата: проверьте вывод форков");
+            System.exit(1);
+        }
+
+        System.out.println("\n=== Сравнение производительности ArrayList и LinkedList (JMH) ===\n");
+        for (Map.Entry<Integer, List<Result>> entry : results.entrySet()) {
+            System.out.println("Тестирование для " + entry.getKey() + " операций:");
+            System.out.println("=".repeat(80));
+            ListPerformanceTester.printResults(entry.getValue());
+            System.out.println();
+        }
+    }
+
+    /**
+     * Преобразует результаты JMH в объекты {@link Result}, сгруппированные
+     * по количеству операций. Внутри группы результаты упорядочены по методу,
+     * а затем по типу списка, чтобы сравнение выполнялось попарно.
+     *
+     * @param runResults результаты прогона JMH
+     * @return результаты, сгруппированные по количеству операций
+     */
+    static Map<Integer, List<Result>> toResults(Collection<RunResult> runResults) {
+        Map<Integer, List<Result>> bySize = new TreeMap<>();
+        for (RunResult runResult : runResults) {
+            String benchmark = runResult.getParams().getBenchmark();
+            String methodName = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            String listType = runResult.getParams().getParam("listType");
+            int size = Integer.parseInt(runResult.getParams().getParam("size"));
+            long executionTime = Math.round(runResult.getPrimaryResult().getScore());
+
+            bySize.computeIfAbsent(size, key -> new ArrayList<>())
+                    .add(new Result(methodName, listType, size, executionTime, operationType(methodName)));
+        }
+        Comparator<Result> order = Comparator
+                .comparingInt((Result result) -> METHOD_ORDER.indexOf(result.getMethodName()))
+                .thenComparing(Result::getListType);
+        for (List<Result> results : bySize.values()) {
+            results.sort(order);
+        }
+        return bySize;
+    }
+
+    /**
+     * Определяет общий тип операции по названию метода.
+     *
+     * @param methodName название метода бенчмарка
+     * @return тип операции ("add", "get", "delete")
+     */
+    private static String operationType(String methodName) {
+        if (methodName.startsWith("add")) {
+            return "add";
+        } else if (methodName.startsWith("delete")) {
+            return "delete";
+        } else {
+            return "get";
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH-эквиваленты операций класса {@link com.benchmark.Benchmark}.
+ * Каждый метод выполняет полный цикл из {@code size} операций, поэтому
+ * среднее время одного вызова соответствует полю {@code executionTime}
+ * объекта {@link Result}. Все прочитанные и удаленные значения передаются
+ * в {@link Blackhole}, чтобы JIT-компилятор не мог устранить цикл.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ListBenchmarks {
+
+    /**
+     * Название тестируемой реализации в {@link ListFactoryRegistry}.
+     */
+    @Param({"ArrayList", "LinkedList", "OffHeapIntList", "CircularArrayList", "GapBufferList", "TieredList",
+            "AdaptiveList"})
+    public String listType;
+
+    /**
+     * Количество операций в одном вызове бенчмарка.
+     */
+    @Param({"1000", "2000", "5000"})
+    public int size;
+
+    /**
+     * Заполненный список для операции получения по индексу.
+     * Создается один раз на весь прогон, так как {@code get} его не изменяет.
+     */
+    private List<Integer> filledList;
+
+    /**
+     * Подготавливает список для операции получения по индексу.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        filledList = createList(listType);
+        for (int i = 0; i < size; i++) {
+            filledList.add(i);
+        }
+    }
+
+    /**
+     * Добавление элементов в конец списка.
+     *
+     * @param blackhole приемник результатов
+     */
+    @Benchmark
+    public void add(Blackhole blackhole) {
+        List<Integer> list = createList(listType);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        blackhole.consume(list);
+    }
+
+    /**
+     * Добавление элементов в начало списка.
+     *
+     * @param blackhole приемник результатов
+     */
+    @Benchmark
+    public void addFirst(Blackhole blackhole) {
+        List<Integer> list = createList(listType);
+        for (int i = 0; i < size; i++) {
+            list.add(0, i);
+        }
+        blackhole.consume(list);
+    }
+
+    /**
+     * Получение элементов по индексу.
+     *
+     * @param blackhole приемник результатов
+     */
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        List<Integer> list = filledList;
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(list.get(i % list.size()));
+        }
+    }
+
+    /**
+     * Удаление элементов из начала списка.
+     *
+     * @param state заполненный перед вызовом список
+     * @param blackhole приемник результатов
+     */
+    @Benchmark
+    public void deleteFirst(DeleteState state, Blackhole blackhole) {
+        List<Integer> list = state.list;
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(list.remove(0));
+        }
+    }
+
+    /**
+     * Удаление элементов из конца списка.
+     *
+     * @param state заполненный перед вызовом список
+     * @param blackhole приемник результатов
+     */
+    @Benchmark
+    public void deleteLast(DeleteState state, Blackhole blackhole) {
+        List<Integer> list = state.list;
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(list.remove(list.size() - 1));
+        }
+    }
+
+    /**
+     * Состояние операций удаления: список, заполняемый удвоенным количеством
+     * элементов перед каждым вызовом, аналогично подготовке в
+     * {@link com.benchmark.Benchmark#testDeleteFirst(List, int)}.
+     * Вынесено в отдельный класс, чтобы подготовка уровня {@link Level#Invocation}
+     * не выполнялась для остальных бенчмарков.
+     */
+    @State(Scope.Thread)
+    public static class DeleteState {
+        List<Integer> list;
+
+        /**
+         * Заполняет список перед каждым вызовом бенчмарка.
+         *
+         * @param benchmark основное состояние с параметрами прогона
+         */
+        @Setup(Level.Invocation)
+        public void fill(ListBenchmarks benchmark) {
+            list = createList(benchmark.listType);
+            for (int i = 0; i < benchmark.size * 2; i++) {
+                list.add(i);
+            }
+        }
+    }
+
+    /**
+     * Создает пустой список по названию его реализации в {@link ListFactoryRegistry}.
+     *
+     * @param type название реализации списка
+     * @return новый пустой список
+     * @throws IllegalArgumentException если реализация не зарегистрирована
+     */
+    private static List<Integer> createList(String type) {
+        return ListFactoryRegistry.getDefault().get(type).create();
+    }
+}
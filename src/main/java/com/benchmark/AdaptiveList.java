@@ -0,0 +1,399 @@
+package com.benchmark;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Список, выбирающий внутреннее представление по наблюдаемому характеру доступа.
+ * Элементы хранятся в одном из трех списков: массиве ({@link ArrayList}),
+ * кольцевом буфере ({@link CircularArrayList}) или блоках ({@link TieredList}).
+ * Каждая операция увеличивает легкие счетчики: чтения по индексу, изменения
+ * в начале, в конце и в середине, а для изменений в середине — количество
+ * элементов, которые сдвинул бы массив и кольцевой буфер (изменение в начале
+ * сдвигает в массиве весь список, а в кольцевом буфере ничего не сдвигает).
+ * <p>
+ * Каждые {@value #WINDOW} операций, а также как только текущее представление
+ * сдвинуло больше элементов, чем содержит список (и не меньше
+ * {@value #EARLY_SHIFTS}), модель стоимости оценивает
+ * время окна для каждого представления по измеренным на этом проекте
+ * стоимостям операций (чтение, сдвиг элемента, поиск блока). Разница с текущим
+ * представлением накапливается по окнам (неотрицательная накопленная выгода),
+ * и список переходит на представление, выгода которого превысила стоимость
+ * копирования всех элементов. Как в задаче об аренде лыж, до перехода теряется
+ * не больше стоимости самого перехода, а редкие всплески другого характера
+ * доступа перехода не вызывают.
+ * <p>
+ * Начальное представление — кольцевой буфер: чтение и добавление в конец
+ * в нем лишь немного медленнее, чем в массиве, а операции в начале не требуют
+ * перехода, который для очереди из n операций стоил бы больше ее самой
+ * (копирование в новый буфер обходится в несколько операций на элемент).
+ * Изменения в начале массива, в который список перешел из-за преобладания
+ * чтений, — исключение из правила окупаемости: каждое сдвигает весь список,
+ * поэтому {@value #HEAD_RUN} изменений в начале подряд (без изменений в середине)
+ * сразу возвращают кольцевой буфер.
+ * <p>
+ * Полностью реализует {@link java.util.List},
+ * включая элементы {@code null} и итераторы с быстрым отказом. Итераторы
+ * обращаются к элементам по индексу, поэтому обход учитывается как чтения.
+ *
+ * @param <E> тип элементов
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class AdaptiveList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Внутреннее представление списка.
+     */
+    public enum Representation {
+        /**
+         * Массив ({@link ArrayList}): быстрое чтение и добавление в конец.
+         */
+        ARRAY,
+        /**
+         * Кольцевой буфер ({@link CircularArrayList}): быстрые операции на обоих концах.
+         */
+        CIRCULAR,
+        /**
+         * Блоки с индексом Фенвика ({@link TieredList}): быстрые изменения в середине.
+         */
+        CHUNKED
+    }
+
+    /**
+     * Количество операций между оценками модели стоимости.
+     */
+    static final int WINDOW = 256;
+
+    /**
+     * Количество изменений в начале подряд, после которого массив
+     * сразу переходит на кольцевой буфер.
+     */
+    static final int HEAD_RUN = 4;
+
+    /**
+     * Наименьшее количество сдвинутых элементов, после которого окно
+     * оценивается досрочно (около 2 мкс сдвигов массива).
+     */
+    private static final long EARLY_SHIFTS = 1 << 14;
+
+    /**
+     * Стоимость чтения по индексу из массива, нс.
+     */
+    private static final double ARRAY_GET = 2;
+
+    /**
+     * Стоимость чтения по индексу из кольцевого буфера (с маской индекса), нс.
+     */
+    private static final double CIRCULAR_GET = 2.5;
+
+    /**
+     * Постоянная часть стоимости поиска блока, нс.
+     */
+    private static final double CHUNK_LOOKUP = 5;
+
+    /**
+     * Стоимость одного уровня дерева Фенвика при поиске блока, нс.
+     */
+    private static final double CHUNK_LEVEL = 5;
+
+    /**
+     * Стоимость сдвига одного элемента массива ({@code System.arraycopy}), нс.
+     */
+    private static final double ARRAY_SHIFT = 0.13;
+
+    /**
+     * Стоимость сдвига одного элемента кольцевого буфера (поэлементно с маской), нс.
+     */
+    private static final double CIRCULAR_SHIFT = 1;
+
+    /**
+     * Стоимость копирования одного элемента при смене представления, нс.
+     */
+    private static final double COPY = 2;
+
+    /**
+     * Во сколько раз накопленная выгода должна превысить стоимость копирования.
+     */
+    private static final double PAYBACK = 1;
+
+    /**
+     * Наименьшая емкость блока {@link TieredList}; у больших списков блок около √n.
+     */
+    private static final int CHUNK = 64;
+
+    private static final Representation[] REPRESENTATIONS = Representation.values();
+
+    /**
+     * Текущее представление хранится в поле своего типа, а не в общем поле
+     * {@code List}: так каждый вызов имеет одного получателя и встраивается
+     * JIT-компилятором, а не выполняется через таблицу интерфейса.
+     */
+    private ArrayList<E> array;
+    private CircularArrayList<E> circular;
+    private TieredList<E> chunked;
+    private Representation representation = Representation.CIRCULAR;
+    private final double[] gain = new double[REPRESENTATIONS.length];
+    private int size;
+    private int migrations;
+    private int window;
+    private long gets;
+    private long headEdits;
+    private int headRun;
+    private long tailEdits;
+    private long middleEdits;
+    private long arrayShifts;
+    private long circularShifts;
+
+    /**
+     * Создает пустой список.
+     */
+    public AdaptiveList() {
+        this.circular = new CircularArrayList<>();
+    }
+
+    /**
+     * Создает пустой список с заданной начальной емкостью кольцевого буфера.
+     *
+     * @param initialCapacity начальная емкость
+     * @throws IllegalArgumentException если емкость отрицательна
+     */
+    public AdaptiveList(int initialCapacity) {
+        this.circular = new CircularArrayList<>(initialCapacity);
+    }
+
+    @Override
+    public E get(int index) {
+        E element;
+        if (representation == Representation.CIRCULAR) {
+            element = circular.get(index);
+        } else if (representation == Representation.ARRAY) {
+            element = array.get(index);
+        } else {
+            element = chunked.get(index);
+        }
+        gets++;
+        tick();
+        return element;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous;
+        if (representation == Representation.CIRCULAR) {
+            previous = circular.set(index, element);
+        } else if (representation == Representation.ARRAY) {
+            previous = array.set(index, element);
+        } else {
+            previous = chunked.set(index, element);
+        }
+        gets++;
+        tick();
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element) {
+        add(size, element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (representation == Representation.CIRCULAR) {
+            circular.add(index, element);
+        } else if (representation == Representation.ARRAY) {
+            array.add(index, element);
+        } else {
+            chunked.add(index, element);
+        }
+        size++;
+        modCount++;
+        recordEdit(index, size - 1 - index);
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed;
+        if (representation == Representation.CIRCULAR) {
+            removed = circular.remove(index);
+        } else if (representation == Representation.ARRAY) {
+            removed = array.remove(index);
+        } else {
+            removed = chunked.remove(index);
+        }
+        size--;
+        modCount++;
+        recordEdit(index, size - index);
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        current().subList(fromIndex, toIndex).clear();
+        size -= toIndex - fromIndex;
+        modCount++;
+        recordEdit(fromIndex, size - fromIndex);
+    }
+
+    @Override
+    public void clear() {
+        current().clear();
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает текущее внутреннее представление.
+     *
+     * @return представление
+     */
+    public Representation getRepresentation() {
+        return representation;
+    }
+
+    /**
+     * Возвращает количество смен представления.
+     *
+     * @return количество переходов
+     */
+    public int getMigrationCount() {
+        return migrations;
+    }
+
+    /**
+     * Учитывает вставку или удаление элемента.
+     *
+     * @param index позиция изменения
+     * @param after количество элементов после позиции, которые сдвигает массив
+     */
+    private void recordEdit(int index, int after) {
+        if (after <= 0) {
+            // Изменение в конце не сдвигает элементов ни в одном представлении
+            tailEdits++;
+            tick();
+            return;
+        }
+        if (index == 0) {
+            headEdits++;
+            if (++headRun >= HEAD_RUN && representation == Representation.ARRAY) {
+                migrate(Representation.CIRCULAR);
+                resetWindow();
+            } else {
+                tick();
+            }
+            return;
+        }
+        middleEdits++;
+        headRun = 0;
+        arrayShifts += after;
+        circularShifts += Math.min(index, after);
+        // Дорогие сдвиги оцениваются сразу, не дожидаясь конца окна:
+        // иначе окно сдвигов целого массива стоило бы больше перехода
+        long shifts = representation == Representation.ARRAY ? arrayShifts + headEdits * size
+                : representation == Representation.CIRCULAR ? circularShifts : 0;
+        if (shifts > Math.max(size, EARLY_SHIFTS)) {
+            adapt();
+        } else {
+            tick();
+        }
+    }
+
+    private void tick() {
+        if (++window >= WINDOW) {
+            adapt();
+        }
+    }
+
+    /**
+     * Оценивает окно операций, накапливает выгоду других представлений
+     * и при необходимости меняет представление. Счетчики окна обнуляются.
+     */
+    private void adapt() {
+        double current = cost(representation, size);
+        Representation best = representation;
+        for (Representation candidate : REPRESENTATIONS) {
+            int i = candidate.ordinal();
+            gain[i] = candidate == representation ? 0 : Math.max(0, gain[i] + current - cost(candidate, size));
+            if (gain[i] > gain[best.ordinal()]) {
+                best = candidate;
+            }
+        }
+        if (best != representation && gain[best.ordinal()] > PAYBACK * COPY * size) {
+            migrate(best);
+        }
+        resetWindow();
+    }
+
+    /**
+     * Обнуляет счетчики окна.
+     */
+    private void resetWindow() {
+        window = 0;
+        gets = 0;
+        headEdits = 0;
+        tailEdits = 0;
+        middleEdits = 0;
+        arrayShifts = 0;
+        circularShifts = 0;
+    }
+
+    /**
+     * Оценивает время операций текущего окна для представления.
+     *
+     * @param candidate представление
+     * @param size текущий размер списка
+     * @return оценка времени в наносекундах
+     */
+    private double cost(Representation candidate, int size) {
+        switch (candidate) {
+            case ARRAY:
+                return gets * ARRAY_GET + (arrayShifts + (double) headEdits * size) * ARRAY_SHIFT;
+            case CIRCULAR:
+                return gets * CIRCULAR_GET + circularShifts * CIRCULAR_SHIFT;
+            default:
+                // Поиск блока для каждой операции, сдвиг половины блока при изменении
+                // не в конце и перестроение индекса O(n / B) не чаще раза в B / 2 изменений
+                double chunk = Math.max(CHUNK, Math.sqrt(size));
+                double lookup = CHUNK_LOOKUP + CHUNK_LEVEL * (Math.log(size / chunk + 1) / Math.log(2));
+                double edit = (chunk / 2.0 + 2.0 * size / (chunk * chunk)) * ARRAY_SHIFT;
+                return (gets + headEdits + tailEdits + middleEdits) * lookup + (headEdits + middleEdits) * edit;
+        }
+    }
+
+    /**
+     * Копирует элементы в новое представление.
+     *
+     * @param target новое представление
+     */
+    private void migrate(Representation target) {
+        List<E> elements = current();
+        array = target == Representation.ARRAY ? new ArrayList<>(elements) : null;
+        circular = target == Representation.CIRCULAR ? new CircularArrayList<>(elements) : null;
+        chunked = target == Representation.CHUNKED ? new TieredList<>(elements) : null;
+        representation = target;
+        migrations++;
+        headRun = 0;
+        Arrays.fill(gain, 0);
+    }
+
+    /**
+     * Возвращает список текущего представления для редких операций.
+     *
+     * @return список, хранящий элементы
+     */
+    private List<E> current() {
+        if (representation == Representation.ARRAY) {
+            return array;
+        }
+        return representation == Representation.CIRCULAR ? circular : chunked;
+    }
+}
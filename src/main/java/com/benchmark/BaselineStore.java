@@ -0,0 +1,163 @@
+package com.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Хранилище базовой линии — результатов эталонного прогона, с которыми
+ * сравниваются последующие прогоны, например после обновления JDK.
+ * Файл текстовый: строки комментариев со сведениями о JVM начинаются с {@code #},
+ * каждая остальная строка — результат в формате {@link CellRunner#encode(Result)},
+ * включая полную выборку времен выполнения.
+ * <p>
+ * В заголовке сохраняются параметры запуска, влияющие на измеренные времена
+ * ({@link #currentParameters()}): режим задержек добавляет к каждой операции
+ * обращение к таймеру, варианты без упаковки и нагрузка меняют сами операции,
+ * а количество прогонов — ширину доверительных интервалов. Сравнивать можно
+ * только прогоны с одинаковыми параметрами ({@link #parameterMismatches(Map, Map)}).
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class BaselineStore {
+
+    /**
+     * Префикс строки заголовка с параметром запуска.
+     */
+    private static final String PARAMETER_PREFIX = "# параметр ";
+
+
+    /**
+     * Сохраняет результаты в файл базовой линии, перезаписывая его.
+     *
+     * @param results результаты эталонного прогона
+     * @param path путь к файлу
+     * @throws IOException если файл не удалось записать
+     */
+    public static void save(List<Result> results, Path path) throws IOException {
+        RunEnvironment environment = RunEnvironment.current();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("# Базовая линия: Java " + environment.getJavaVersion() + ", "
+                    + environment.getVmName() + ", GC " + environment.getGarbageCollectors()
+                    + ", запуск " + environment.getStartTime());
+            writer.newLine();
+            writer.write("# " + environment.getJvmArguments().replace('\n', ' '));
+            writer.newLine();
+            for (Map.Entry<String, String> parameter : currentParameters().entrySet()) {
+                writer.write(PARAMETER_PREFIX + parameter.getKey() + "=" + parameter.getValue());
+                writer.newLine();
+            }
+            for (Result result : results) {
+                writer.write(CellRunner.encode(result));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Загружает результаты из файла базовой линии.
+     *
+     * @param path путь к файлу
+     * @return результаты, индексированные ключом {@link #key(Result)}, в порядке файла
+     * @throws IOException если файл не удалось прочитать
+     * @throws IllegalArgumentException если строка файла имеет неверный формат
+     */
+    public static Map<String, Result> load(Path path) throws IOException {
+        Map<String, Result> baseline = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            Result result = CellRunner.decode(line);
+            baseline.put(key(result), result);
+        }
+        return baseline;
+    }
+
+    /**
+     * Загружает параметры запуска из заголовка файла базовой линии.
+     *
+     * @param path путь к файлу
+     * @return параметры в порядке файла; пустые, если файл сохранен без них
+     * @throws IOException если файл не удалось прочитать
+     */
+    public static Map<String, String> loadParameters(Path path) throws IOException {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            int separator = line.indexOf('=');
+            if (line.startsWith(PARAMETER_PREFIX) && separator > PARAMETER_PREFIX.length()) {
+                parameters.put(line.substring(PARAMETER_PREFIX.length(), separator), line.substring(separator + 1));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Возвращает параметры текущего запуска, влияющие на измеренные времена:
+     * значения системных свойств {@code benchmark.*} или значения по умолчанию.
+     *
+     * @return параметры, индексированные названием без префикса {@code benchmark.}
+     */
+    public static Map<String, String> currentParameters() {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameter(parameters, "latency", "false");
+        parameter(parameters, "latencyBatch", String.valueOf(LatencyRecorder.DEFAULT_BATCH));
+        parameter(parameters, "latencyInterval", "-");
+        parameter(parameters, "structureOnly", "false");
+        parameter(parameters, "presize", "false");
+        parameter(parameters, "workload", WorkloadSpec.DEFAULT);
+        parameter(parameters, "profile", "-");
+        parameter(parameters, "warmup", String.valueOf(ListPerformanceTester.WARMUP_TRIALS));
+        parameter(parameters, "trials", String.valueOf(ListPerformanceTester.MEASURED_TRIALS));
+        return parameters;
+    }
+
+    /**
+     * Сравнивает параметры базовой линии с параметрами текущего запуска.
+     * Базовая линия без сохраненных параметров считается совместимой.
+     *
+     * @param saved параметры базовой линии
+     * @param current параметры текущего запуска
+     * @return описания различий, например {@code "trials: 15 -> 5"}; пустой список, если различий нет
+     */
+    public static List<String> parameterMismatches(Map<String, String> saved, Map<String, String> current) {
+        List<String> mismatches = new ArrayList<>();
+        for (Map.Entry<String, String> parameter : saved.entrySet()) {
+            String value = current.get(parameter.getKey());
+            if (value != null && !value.equals(parameter.getValue())) {
+                mismatches.add(parameter.getKey() + ": " + parameter.getValue() + " -> " + value);
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Добавляет значение системного свойства {@code benchmark.<имя>}.
+     *
+     * @param parameters параметры запуска
+     * @param name название параметра
+     * @param defaultValue значение, если свойство не задано
+     */
+    private static void parameter(Map<String, String> parameters, String name, String defaultValue) {
+        parameters.put(name, System.getProperty("benchmark." + name, defaultValue).trim());
+    }
+
+    /**
+     * Возвращает ключ, по которому результат сопоставляется с базовой линией:
+     * операция, реализация списка, количество операций и потоков.
+     *
+     * @param result результат
+     * @return ключ результата
+     */
+    public static String key(Result result) {
+        return result.getMethodName() + "/" + result.getListType() + "/"
+                + result.getOperationsCount() + "/" + result.getThreadCount();
+    }
+}
@@ -1,19 +1,26 @@
 package com.benchmark;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Утилитарный класс для измерения производительности операций со списками.
  * Предоставляет статические методы для тестирования основных операций 
  * ArrayList и LinkedList, таких как добавление, получение и удаление элементов.
+ * Если для текущего потока активна гистограмма {@link LatencyRecorder},
+ * операции измеряемого участка дополнительно измеряются пакетами.
  * 
  * @author Panova Viktoria
  * @version 1.0
  */
 public class Benchmark {
-    
+
+    /**
+     * Поле для сохранения результата чтения, чтобы JIT-компилятор
+     * не удалил цикл получения элементов, не имеющий побочных эффектов,
+     * как и в {@link IntBenchmark}.
+     */
+    private static volatile long sink;
+
     /**
      * Тестирует производительность операции добавления элементов в конец списка.
      * Измеряет время, необходимое для добавления указанного количества элементов
@@ -28,14 +35,23 @@ public class Benchmark {
     public static Result testAdd(List<Integer> list, int elementsCount) {
         List<Integer> testList = createNewList(list);
         
+        LatencyHistogram latency = LatencyRecorder.active();
+        ResourceProbe probe = ResourceProbe.start();
         long startTime = System.nanoTime();
-        for (int i = 0; i < elementsCount; i++) {
-            testList.add(i);
+        if (latency == null) {
+            for (int i = 0; i < elementsCount; i++) {
+                testList.add(i);
+            }
+        } else {
+            LatencyRecorder.timeBatches(latency, elementsCount, i -> testList.add(i));
         }
         long endTime = System.nanoTime();
+        probe.stop();
         
-        return new Result("add", testList.getClass().getSimpleName(), 
-                         elementsCount, endTime - startTime, "add");
+        return new Result("add", listType(list), 
+                         elementsCount, endTime - startTime, "add")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
     }
 
     /**
@@ -53,14 +69,23 @@ public class Benchmark {
     public static Result testAddFirst(List<Integer> list, int elementsCount) {
         List<Integer> testList = createNewList(list);
         
+        LatencyHistogram latency = LatencyRecorder.active();
+        ResourceProbe probe = ResourceProbe.start();
         long startTime = System.nanoTime();
-        for (int i = 0; i < elementsCount; i++) {
-            testList.add(0, i);
+        if (latency == null) {
+            for (int i = 0; i < elementsCount; i++) {
+                testList.add(0, i);
+            }
+        } else {
+            LatencyRecorder.timeBatches(latency, elementsCount, i -> testList.add(0, i));
         }
         long endTime = System.nanoTime();
+        probe.stop();
         
-        return new Result("addFirst", testList.getClass().getSimpleName(), 
-                         elementsCount, endTime - startTime, "add");
+        return new Result("addFirst", listType(list), 
+                         elementsCount, endTime - startTime, "add")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
     }
 
     /**
@@ -81,14 +106,28 @@ public class Benchmark {
             testList.add(i);
         }
         
+        LatencyHistogram latency = LatencyRecorder.active();
+        long checksum = 0;
+        ResourceProbe probe = ResourceProbe.start();
         long startTime = System.nanoTime();
-        for (int i = 0; i < operationsCount; i++) {
-            testList.get(i % testList.size());
+        if (latency == null) {
+            for (int i = 0; i < operationsCount; i++) {
+                checksum += testList.get(i % testList.size());
+            }
+        } else {
+            long[] batchChecksum = new long[1];
+            LatencyRecorder.timeBatches(latency, operationsCount,
+                    i -> batchChecksum[0] += testList.get(i % testList.size()));
+            checksum = batchChecksum[0];
         }
         long endTime = System.nanoTime();
+        probe.stop();
+        sink = checksum;
         
-        return new Result("get", testList.getClass().getSimpleName(), 
-                         operationsCount, endTime - startTime, "get");
+        return new Result("get", listType(list), 
+                         operationsCount, endTime - startTime, "get")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
     }
 
     /**
@@ -110,16 +149,25 @@ public class Benchmark {
             testList.add(i);
         }
         
+        LatencyHistogram latency = LatencyRecorder.active();
+        ResourceProbe probe = ResourceProbe.start();
         long startTime = System.nanoTime();
-        for (int i = 0; i < operationsCount; i++) {
-            if (!testList.isEmpty()) {
-                testList.remove(0);
+        if (latency == null) {
+            for (int i = 0; i < operationsCount; i++) {
+                if (!testList.isEmpty()) {
+                    testList.remove(0);
+                }
             }
+        } else {
+            LatencyRecorder.timeBatches(latency, operationsCount, i -> testList.remove(0));
         }
         long endTime = System.nanoTime();
+        probe.stop();
         
-        return new Result("deleteFirst", testList.getClass().getSimpleName(), 
-                         operationsCount, endTime - startTime, "delete");
+        return new Result("deleteFirst", listType(list), 
+                         operationsCount, endTime - startTime, "delete")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
     }
 
     /**
@@ -141,34 +189,185 @@ public class Benchmark {
             testList.add(i);
         }
         
+        LatencyHistogram latency = LatencyRecorder.active();
+        ResourceProbe probe = ResourceProbe.start();
         long startTime = System.nanoTime();
+        if (latency == null) {
+            for (int i = 0; i < operationsCount; i++) {
+                if (!testList.isEmpty()) {
+                    testList.remove(testList.size() - 1);
+                }
+            }
+        } else {
+            LatencyRecorder.timeBatches(latency, operationsCount, i -> testList.remove(testList.size() - 1));
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        
+        return new Result("deleteLast", listType(list), 
+                         operationsCount, endTime - startTime, "delete")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Тестирует производительность вставки элементов в середину списка.
+     * Перед тестированием заполняет список указанным количеством элементов,
+     * затем вставляет столько же элементов в позицию {@code size() / 2}.
+     * Для массивов это сдвиг половины элементов, для связных списков — обход
+     * половины списка.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param operationsCount количество операций вставки
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testInsertMiddle(List<Integer> list, int operationsCount) {
+        List<Integer> testList = createNewList(list);
+        
         for (int i = 0; i < operationsCount; i++) {
-            if (!testList.isEmpty()) {
-                testList.remove(testList.size() - 1);
+            testList.add(i);
+        }
+        
+        LatencyHistogram latency = LatencyRecorder.active();
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        if (latency == null) {
+            for (int i = 0; i < operationsCount; i++) {
+                testList.add(testList.size() / 2, i);
             }
+        } else {
+            LatencyRecorder.timeBatches(latency, operationsCount, i -> testList.add(testList.size() / 2, i));
         }
         long endTime = System.nanoTime();
+        probe.stop();
         
-        return new Result("deleteLast", testList.getClass().getSimpleName(), 
-                         operationsCount, endTime - startTime, "delete");
+        return new Result("insertMiddle", listType(list), 
+                         operationsCount, endTime - startTime, "add")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Тестирует производительность удаления элементов из середины списка.
+     * Перед тестированием заполняет список удвоенным количеством элементов,
+     * затем удаляет элементы из позиции {@code size() / 2}.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param operationsCount количество операций удаления
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testRemoveMiddle(List<Integer> list, int operationsCount) {
+        List<Integer> testList = createNewList(list);
+        
+        for (int i = 0; i < operationsCount * 2; i++) {
+            testList.add(i);
+        }
+        
+        LatencyHistogram latency = LatencyRecorder.active();
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        if (latency == null) {
+            for (int i = 0; i < operationsCount; i++) {
+                testList.remove(testList.size() / 2);
+            }
+        } else {
+            LatencyRecorder.timeBatches(latency, operationsCount, i -> testList.remove(testList.size() / 2));
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        
+        return new Result("removeMiddle", listType(list), 
+                         operationsCount, endTime - startTime, "delete")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Тестирует производительность смешанной нагрузки, заданной заранее
+     * сгенерированной последовательностью операций {@link WorkloadTrace}.
+     * Перед тестированием заполняет список до начального размера нагрузки;
+     * в измеряемом участке выполняется только воспроизведение операций.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param trace последовательность операций
+     * @return объект {@link Result} с результатами тестирования (тип операции "mixed")
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testMixed(List<Integer> list, WorkloadTrace trace) {
+        List<Integer> testList = createNewList(list);
+        
+        for (int i = 0; i < trace.getInitialSize(); i++) {
+            testList.add(i);
+        }
+        
+        LatencyHistogram latency = LatencyRecorder.active();
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        if (latency == null) {
+            for (int i = 0; i < trace.size(); i++) {
+                apply(testList, trace, i);
+            }
+        } else {
+            LatencyRecorder.timeBatches(latency, trace.size(), i -> apply(testList, trace, i));
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        
+        return new Result("mixed", listType(list), 
+                         trace.size(), endTime - startTime, "mixed")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Выполняет операцию смешанной нагрузки с указанным номером.
+     *
+     * @param testList тестовый список
+     * @param trace последовательность операций
+     * @param i номер операции
+     */
+    private static void apply(List<Integer> testList, WorkloadTrace trace, int i) {
+        int index = trace.getIndex(i);
+        switch (trace.getOperation(i)) {
+            case GET:
+                testList.get(index);
+                break;
+            case ADD:
+                testList.add(index, i);
+                break;
+            case REMOVE:
+                testList.remove(index);
+                break;
+            default:
+                testList.set(index, i);
+                break;
+        }
+    }
+
+    /**
+     * Возвращает название реализации, под которым фабрика переданного списка
+     * зарегистрирована в {@link ListFactoryRegistry}.
+     *
+     * @param original оригинальный список
+     * @return название реализации
+     * @throws IllegalArgumentException если тип списка не зарегистрирован
+     */
+    static String listType(List<Integer> original) {
+        return ListFactoryRegistry.getDefault().forList(original).getName();
     }
 
     /**
      * Создает новый экземпляр списка того же типа, что и переданный список.
-     * Поддерживает создание ArrayList и LinkedList. Если тип списка неизвестен,
-     * по умолчанию создается ArrayList.
+     * Фабрика списка определяется по его классу в {@link ListFactoryRegistry#getDefault()}.
      *
      * @param original оригинальный список, тип которого используется для создания нового списка
      * @return новый экземпляр списка того же типа, что и оригинальный список
      * @throws NullPointerException если переданный список равен null
+     * @throws IllegalArgumentException если тип списка не зарегистрирован
      */
     private static List<Integer> createNewList(List<Integer> original) {
-        if (original instanceof ArrayList) {
-            return new ArrayList<>();
-        } else if (original instanceof LinkedList) {
-            return new LinkedList<>();
-        } else {
-            return new ArrayList<>();
-        }
+        return ListFactoryRegistry.getDefault().forList(original).create();
     }
 }
\ No newline at end of file
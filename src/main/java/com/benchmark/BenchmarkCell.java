@@ -0,0 +1,124 @@
+package com.benchmark;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Ячейка матрицы измерений: операция, реализация списка и количество операций.
+ * Ячейки независимы друг от друга и задаются только названиями, поэтому
+ * могут выполняться в любом порядке, в разных потоках и в отдельных JVM.
+ * <p>
+ * Реализация ищется сначала в {@link ListFactoryRegistry#getDefault()},
+ * затем среди примитивных списков {@link IntArrayList} и {@link IntLinkedList}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class BenchmarkCell {
+    private final String methodName;
+    private final String listType;
+    private final int operationsCount;
+
+    /**
+     * Создает ячейку матрицы измерений.
+     *
+     * @param methodName название операции из {@link ListPerformanceTester#scenarios()},
+     *                   {@link ListPerformanceTester#structureScenarios()},
+     *                   {@link BulkPerformanceTester#scenarios()}
+     *                   или {@link SortSearchTester#scenarios()}
+     * @param listType название реализации списка
+     * @param operationsCount количество операций
+     */
+    public BenchmarkCell(String methodName, String listType, int operationsCount) {
+        this.methodName = Objects.requireNonNull(methodName);
+        this.listType = Objects.requireNonNull(listType);
+        this.operationsCount = operationsCount;
+    }
+
+    /**
+     * Выполняет измерение ячейки.
+     *
+     * @param runner исполнитель повторных измерений
+     * @return результат измерения или {@code null}, если реализация
+     *         не поддерживает операцию
+     * @throws IllegalArgumentException если операция или реализация неизвестны
+     */
+    public Result execute(TrialRunner runner) {
+        try {
+            if (isPrimitive()) {
+                Measurement<IntList> measurement = ListPerformanceTester.intScenarios().get(methodName);
+                if (measurement == null) {
+                    return null;
+                }
+                return runner.run(measurement, createIntList(), operationsCount);
+            }
+            Measurement<List<Integer>> measurement = ListPerformanceTester.scenarios().get(methodName);
+            if (measurement == null) {
+                measurement = ListPerformanceTester.structureScenarios().get(methodName);
+            }
+            if (measurement == null) {
+                measurement = BulkPerformanceTester.scenarios().get(methodName);
+            }
+            if (measurement == null) {
+                measurement = SortSearchTester.scenarios().get(methodName);
+            }
+            if (measurement == null) {
+                throw new IllegalArgumentException("Неизвестная операция: " + methodName);
+            }
+            return runner.run(measurement, ListFactoryRegistry.getDefault().createTemplate(listType),
+                    operationsCount);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Проверяет, относится ли ячейка к примитивному списку.
+     *
+     * @return {@code true} для {@link IntArrayList} и {@link IntLinkedList}
+     */
+    private boolean isPrimitive() {
+        return "IntArrayList".equals(listType) || "IntLinkedList".equals(listType);
+    }
+
+    /**
+     * Создает примитивный список по названию реализации.
+     *
+     * @return новый пустой список
+     * @throws IllegalArgumentException если реализация не является примитивным списком
+     */
+    private IntList createIntList() {
+        if ("IntLinkedList".equals(listType)) {
+            return new IntLinkedList();
+        } else if ("IntArrayList".equals(listType)) {
+            return new IntArrayList();
+        }
+        throw new IllegalArgumentException("Неизвестный примитивный список: " + listType);
+    }
+
+    /**
+     * Возвращает название операции.
+     *
+     * @return название операции
+     */
+    public String getMethodName() { return methodName; }
+
+    /**
+     * Возвращает название реализации списка.
+     *
+     * @return название реализации
+     */
+    public String getListType() { return listType; }
+
+    /**
+     * Возвращает количество операций.
+     *
+     * @return количество операций
+     */
+    public int getOperationsCount() { return operationsCount; }
+
+    @Override
+    public String toString() {
+        return methodName + "/" + listType + "/" + operationsCount;
+    }
+}
@@ -0,0 +1,272 @@
+package com.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Утилитарный класс для измерения производительности групповых операций
+ * со списками: обхода итератором и {@code forEach}, {@code removeIf},
+ * {@code addAll}, {@code subList().clear()}, {@code sort} и свертки потоков
+ * {@code stream()} и {@code parallelStream()}.
+ * <p>
+ * В отличие от {@link Benchmark}, где измеряется серия одиночных операций,
+ * здесь измеряется один вызов над списком из {@code elementsCount} элементов;
+ * количеством операций результата считается количество обработанных элементов.
+ * Список заполняется до начала измерения.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class BulkBenchmark {
+
+    /**
+     * Начальное значение генератора для перемешивания данных сортировки.
+     */
+    private static final long SORT_SEED = 42;
+
+    /**
+     * Приемник вычисленных сумм, не позволяющий JIT-компилятору
+     * исключить измеряемый обход как не имеющий эффекта.
+     */
+    private static volatile long consumed;
+
+    /**
+     * Тестирует обход списка итератором в цикле {@code for-each} с суммированием элементов.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testIterate(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createFilledList(list, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        long sum = 0;
+        for (Integer value : testList) {
+            sum += value;
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = sum;
+
+        return result("iterate", list, testList, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Тестирует обход списка методом {@code forEach} с суммированием элементов.
+     * Реализации могут переопределять {@code forEach} обходом внутреннего массива.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testForEach(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createFilledList(list, elementsCount);
+        long[] sum = new long[1];
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        testList.forEach(value -> sum[0] += value);
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = sum[0];
+
+        return result("forEach", list, testList, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Тестирует удаление каждого второго элемента методом {@code removeIf}.
+     * Реализации без собственного {@code removeIf} удаляют элементы через
+     * итератор, что для массивов дает квадратичное время.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testRemoveIf(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createFilledList(list, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        testList.removeIf(value -> (value & 1) == 0);
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("removeIf", list, testList, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Тестирует добавление всех элементов другой коллекции методом {@code addAll}
+     * в пустой список. Исходная коллекция ({@link ArrayList}) создается до измерения.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество добавляемых элементов
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testAddAll(List<Integer> list, int elementsCount) {
+        List<Integer> source = new ArrayList<>(elementsCount);
+        for (int i = 0; i < elementsCount; i++) {
+            source.add(i);
+        }
+        List<Integer> testList = createNewList(list);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        testList.addAll(source);
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("addAll", list, testList, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Тестирует удаление средней половины списка вызовом {@code subList(from, to).clear()}.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testSubListClear(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createFilledList(list, elementsCount);
+        int from = elementsCount / 4;
+        int to = elementsCount - elementsCount / 4;
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        testList.subList(from, to).clear();
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("subListClear", list, testList, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Тестирует сортировку перемешанного списка методом {@code sort(null)}.
+     * Порядок элементов задается генератором с фиксированным начальным значением,
+     * поэтому все реализации сортируют одинаковые данные.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testSort(List<Integer> list, int elementsCount) {
+        List<Integer> values = new ArrayList<>(elementsCount);
+        for (int i = 0; i < elementsCount; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values, new Random(SORT_SEED));
+        List<Integer> testList = createNewList(list);
+        for (Integer value : values) {
+            testList.add(value);
+        }
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        testList.sort(null);
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("sort", list, testList, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Тестирует последовательную свертку {@code stream().mapToLong(...).sum()}.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testStream(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createFilledList(list, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        long sum = testList.stream().mapToLong(Integer::longValue).sum();
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = sum;
+
+        return result("stream", list, testList, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Тестирует параллельную свертку {@code parallelStream().mapToLong(...).sum()}
+     * в общем пуле {@link java.util.concurrent.ForkJoinPool}. Эффективность
+     * зависит от разделителя ({@link java.util.Spliterator}) списка: списки
+     * с произвольным доступом делятся пополам, а {@link java.util.LinkedList}
+     * копирует элементы в массивы растущего размера при последовательном обходе.
+     * Выделенная память учитывается только для вызывающего потока.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testParallelStream(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createFilledList(list, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        long sum = testList.parallelStream().mapToLong(Integer::longValue).sum();
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = sum;
+
+        return result("parallelStream", list, testList, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Формирует результат групповой операции (тип операции "bulk").
+     *
+     * @param methodName название операции
+     * @param list оригинальный список, по фабрике которого называется реализация
+     * @param testList тестовый список после операции
+     * @param elementsCount количество обработанных элементов
+     * @param executionTime время выполнения в наносекундах
+     * @param probe остановленный измеритель ресурсов
+     * @return результат измерения
+     */
+    private static Result result(String methodName, List<Integer> list, List<Integer> testList,
+                                 int elementsCount, long executionTime, ResourceProbe probe) {
+        return new Result(methodName, Benchmark.listType(list),
+                elementsCount, executionTime, "bulk")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Создает новый список того же типа и заполняет его числами от 0 до {@code elementsCount - 1}.
+     *
+     * @param original оригинальный список, тип которого используется для создания нового списка
+     * @param elementsCount количество элементов
+     * @return заполненный список
+     */
+    private static List<Integer> createFilledList(List<Integer> original, int elementsCount) {
+        List<Integer> testList = createNewList(original);
+        for (int i = 0; i < elementsCount; i++) {
+            testList.add(i);
+        }
+        return testList;
+    }
+
+    /**
+     * Создает новый экземпляр списка того же типа, что и переданный список.
+     *
+     * @param original оригинальный список, тип которого используется для создания нового списка
+     * @return новый экземпляр списка того же типа
+     * @throws IllegalArgumentException если тип списка не зарегистрирован
+     */
+    private static List<Integer> createNewList(List<Integer> original) {
+        return ListFactoryRegistry.getDefault().forList(original).create();
+    }
+}
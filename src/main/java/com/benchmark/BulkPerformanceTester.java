@@ -0,0 +1,311 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+/**
+ * Класс для тестирования групповых операций {@link BulkBenchmark} для всех
+ * реализаций из {@link ListFactoryRegistry#getDefault()} на нескольких размерах списка.
+ * Помимо таблиц по размерам выводит ускорение {@code parallelStream()}
+ * относительно {@code stream()} для каждой реализации и размеры, при которых
+ * параллельный поток начинает или перестает окупаться.
+ * <p>
+ * Ячейки выполняются по одной, так как параллельные потоки занимают все
+ * процессоры общего пула {@link ForkJoinPool}. Размеры перебираются
+ * по возрастанию; если оценка времени ячейки превышает бюджет,
+ * оставшиеся размеры для реализации пропускаются, как в {@link SizeSweepTester}.
+ * <p>
+ * Параметры задаются системными свойствами: {@code benchmark.sizes} — размеры
+ * через запятую (по умолчанию {@code 1000,10000,100000,1000000}),
+ * {@code benchmark.cellBudgetMs} — бюджет ячейки в миллисекундах (по умолчанию 5000),
+ * а также {@code benchmark.execution} и {@code benchmark.output}, как в {@link ListPerformanceTester}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class BulkPerformanceTester {
+
+    /**
+     * Размеры списков по умолчанию.
+     */
+    private static final int[] DEFAULT_SIZES = {1000, 10000, 100000, 1000000};
+
+    /**
+     * Бюджет времени одной ячейки по умолчанию в миллисекундах.
+     */
+    private static final long DEFAULT_CELL_BUDGET_MS = 5000;
+
+    /**
+     * Количество прогревочных прогонов каждого измерения.
+     */
+    private static final int WARMUP_TRIALS = 5;
+
+    /**
+     * Количество измеряемых прогонов каждого измерения.
+     */
+    private static final int MEASURED_TRIALS = 10;
+
+    /**
+     * Основной метод, запускающий тестирование групповых операций.
+     *
+     * @param args аргументы командной строки (не используются)
+     * @throws IOException если не удалось открыть или записать файл результатов
+     */
+    public static void main(String[] args) throws IOException {
+        String sizesProperty = System.getProperty("benchmark.sizes");
+        int[] sizes = sizesProperty != null ? ListPerformanceTester.parseSizes(sizesProperty) : DEFAULT_SIZES;
+        long budgetNanos = Long.getLong("benchmark.cellBudgetMs", DEFAULT_CELL_BUDGET_MS) * 1_000_000L;
+        ExecutionMode mode = ExecutionMode.valueOf(
+                System.getProperty("benchmark.execution", "sequential").toUpperCase());
+        ExecutionEngine engine = new ExecutionEngine(mode, 1, WARMUP_TRIALS, MEASURED_TRIALS);
+
+        System.out.println("=== Групповые операции и потоки ===\n");
+        System.out.println("Параллелизм общего пула ForkJoinPool: "
+                + ForkJoinPool.commonPool().getParallelism() + "\n");
+
+        List<Result> results = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        String output = System.getProperty("benchmark.output");
+        try (ResultSink sink = output != null ? ResultSink.open(output) : ResultSink.NONE) {
+            for (String methodName : scenarios().keySet()) {
+                for (ListFactory factory : ListFactoryRegistry.getDefault().getFactories()) {
+                    String stopReason = sweep(engine, sink, methodName, factory.getName(), sizes,
+                            budgetNanos, WARMUP_TRIALS + MEASURED_TRIALS, results);
+                    if (stopReason != null) {
+                        skipped.add(methodName + "/" + factory.getName() + " пропущен при " + stopReason);
+                    }
+                }
+            }
+        }
+
+        for (int size : sizes) {
+            System.out.println("Тестирование для " + size + " элементов:");
+            System.out.println("=".repeat(80));
+            List<Result> sizeResults = new ArrayList<>();
+            for (Result result : results) {
+                if (result.getOperationsCount() == size) {
+                    sizeResults.add(result);
+                }
+            }
+            ListPerformanceTester.printResults(sizeResults);
+            System.out.println();
+        }
+        for (String line : skipped) {
+            System.out.println("  " + line);
+        }
+        System.out.println();
+        printParallelSpeedup(results, sizes);
+    }
+
+    /**
+     * Возвращает групповые операции в порядке вывода.
+     *
+     * @return операции, индексированные названием метода
+     */
+    static Map<String, Measurement<List<Integer>>> scenarios() {
+        Map<String, Measurement<List<Integer>>> scenarios = new LinkedHashMap<>();
+        scenarios.put("iterate", BulkBenchmark::testIterate);
+        scenarios.put("forEach", BulkBenchmark::testForEach);
+        scenarios.put("removeIf", BulkBenchmark::testRemoveIf);
+        scenarios.put("addAll", BulkBenchmark::testAddAll);
+        scenarios.put("subListClear", BulkBenchmark::testSubListClear);
+        scenarios.put("sort", BulkBenchmark::testSort);
+        scenarios.put("stream", BulkBenchmark::testStream);
+        scenarios.put("parallelStream", BulkBenchmark::testParallelStream);
+        return scenarios;
+    }
+
+    /**
+     * Измеряет одну операцию и реализацию на размерах по возрастанию,
+     * пока оценка времени ячейки не превысит бюджет.
+     *
+     * @param engine исполнитель ячеек
+     * @param sink приемник результатов
+     * @param methodName название операции
+     * @param listType название реализации
+     * @param sizes размеры по возрастанию
+     * @param budgetNanos бюджет ячейки в наносекундах
+     * @param trialsPerCell количество прогонов ячейки вместе с прогревочными
+     * @param results список, в который добавляются результаты
+     * @return причина пропуска оставшихся размеров или {@code null}
+     */
+    static String sweep(ExecutionEngine engine, ResultSink sink, String methodName, String listType,
+                        int[] sizes, long budgetNanos, int trialsPerCell, List<Result> results) {
+        int[] measuredSizes = new int[sizes.length];
+        double[] trialNanos = new double[sizes.length];
+        int count = 0;
+        for (int size : sizes) {
+            double predicted = SizeSweepTester.predictTrialNanos(measuredSizes, trialNanos, count, size)
+                    * trialsPerCell;
+            if (predicted > budgetNanos) {
+                return String.format("n ≥ %d: оценка %.1f с превышает бюджет", size, predicted / 1e9);
+            }
+            List<Result> cellResults;
+            try {
+                cellResults = engine.run(
+                        Collections.singletonList(new BenchmarkCell(methodName, listType, size)), sink);
+            } catch (OutOfMemoryError e) {
+                return "n ≥ " + size + ": недостаточно памяти";
+            }
+            if (cellResults.isEmpty()) {
+                // Реализация не поддерживает операцию
+                return null;
+            }
+            Result result = cellResults.get(0);
+            results.add(result);
+            measuredSizes[count] = size;
+            trialNanos[count] = result.getStatistics().getMedian();
+            count++;
+        }
+        return null;
+    }
+
+    /**
+     * Выводит ускорение {@code parallelStream()} относительно {@code stream()}
+     * для каждой реализации и размера и вывод о том, окупается ли параллельный поток.
+     *
+     * @param results результаты всех операций
+     * @param sizes размеры
+     */
+    static void printParallelSpeedup(List<Result> results, int[] sizes) {
+        printSpeedup(results, sizes, "stream", "parallelStream", BulkPerformanceTester::parallelVerdict);
+    }
+
+    /**
+     * Выводит ускорение операции относительно эталонной для каждой реализации
+     * и размера. Значимые различия (95% доверительные интервалы не пересекаются)
+     * отмечаются звездочкой. Если задан вывод, он добавляется последним столбцом.
+     *
+     * @param results результаты всех операций
+     * @param sizes размеры
+     * @param reference название эталонной операции
+     * @param candidate название сравниваемой операции
+     * @param verdict вывод по результатам эталонной и сравниваемой операций
+     *                одной реализации или {@code null}, если столбец не нужен
+     */
+    static void printSpeedup(List<Result> results, int[] sizes, String reference, String candidate,
+                             BiFunction<Map<Integer, Result>, Map<Integer, Result>, String> verdict) {
+        Map<String, Map<Integer, Result>> first = byListAndSize(results, reference);
+        Map<String, Map<Integer, Result>> second = byListAndSize(results, candidate);
+        if (first.isEmpty() || second.isEmpty()) {
+            return;
+        }
+
+        System.out.println("Ускорение " + candidate + " относительно " + reference + " (* — значимое различие):");
+        StringBuilder header = new StringBuilder(String.format("%-20s", "List Type"));
+        for (int size : sizes) {
+            header.append(String.format(" | %9d", size));
+        }
+        if (verdict != null) {
+            header.append(" | Вывод");
+        }
+        System.out.println(header);
+        System.out.println("-".repeat(header.length() + (verdict != null ? 40 : 0)));
+
+        for (Map.Entry<String, Map<Integer, Result>> entry : first.entrySet()) {
+            Map<Integer, Result> candidateBySize = second.get(entry.getKey());
+            if (candidateBySize == null) {
+                continue;
+            }
+            StringBuilder row = new StringBuilder(String.format("%-20s", entry.getKey()));
+            for (int size : sizes) {
+                Result base = entry.getValue().get(size);
+                Result other = candidateBySize.get(size);
+                if (base == null || other == null || other.getExecutionTime() <= 0) {
+                    row.append(String.format(" | %9s", "-"));
+                } else {
+                    boolean significant = !base.getStatistics().overlaps(other.getStatistics());
+                    row.append(String.format(" | %8.2fx%s", speedup(base, other), significant ? "*" : " "));
+                }
+            }
+            if (verdict != null) {
+                row.append(" | ").append(verdict.apply(entry.getValue(), candidateBySize));
+            }
+            System.out.println(row);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Формирует вывод о том, на каких размерах параллельный поток окупается.
+     * Учитываются только размеры со значимым различием; при смене знака
+     * размер перехода оценивается {@link SizeSweepTester#crossoverSize}.
+     *
+     * @param sequential результаты {@code stream()} по размерам
+     * @param parallel результаты {@code parallelStream()} по размерам
+     * @return вывод для одной реализации
+     */
+    static String parallelVerdict(Map<Integer, Result> sequential, Map<Integer, Result> parallel) {
+        List<String> transitions = new ArrayList<>();
+        int previousSize = -1;
+        double previousSpeedup = 0;
+        int faster = 0;
+        int slower = 0;
+        for (Map.Entry<Integer, Result> entry : new TreeMap<>(sequential).entrySet()) {
+            Result second = parallel.get(entry.getKey());
+            Result first = entry.getValue();
+            if (second == null || first.getExecutionTime() <= 0 || second.getExecutionTime() <= 0
+                    || first.getStatistics().overlaps(second.getStatistics())) {
+                continue;
+            }
+            double speedup = speedup(first, second);
+            if (speedup > 1) {
+                faster++;
+            } else {
+                slower++;
+            }
+            if (previousSize > 0 && (previousSpeedup - 1) * (speedup - 1) < 0) {
+                double crossover = SizeSweepTester.crossoverSize(previousSize, previousSpeedup,
+                        entry.getKey(), speedup);
+                transitions.add(String.format(speedup > 1 ? "окупается с n ≈ %.0f" : "перестает окупаться при n ≈ %.0f",
+                        crossover));
+            }
+            previousSize = entry.getKey();
+            previousSpeedup = speedup;
+        }
+        if (!transitions.isEmpty()) {
+            return String.join(", ", transitions);
+        } else if (faster > 0 && slower == 0) {
+            return "окупается на всех значимых размерах";
+        } else if (slower > 0 && faster == 0) {
+            return "не окупается ни на одном значимом размере";
+        }
+        return "нет значимой разницы";
+    }
+
+    /**
+     * Вычисляет ускорение как отношение медианных времен.
+     *
+     * @param reference результат эталонной операции
+     * @param candidate результат сравниваемой операции
+     * @return ускорение (больше 1, если сравниваемая операция быстрее)
+     */
+    static double speedup(Result reference, Result candidate) {
+        return (double) reference.getExecutionTime() / candidate.getExecutionTime();
+    }
+
+    /**
+     * Группирует результаты одной операции по реализации и размеру, сохраняя порядок реализаций.
+     *
+     * @param results результаты всех операций
+     * @param methodName название операции
+     * @return результаты, индексированные реализацией и размером
+     */
+    static Map<String, Map<Integer, Result>> byListAndSize(List<Result> results, String methodName) {
+        Map<String, Map<Integer, Result>> grouped = new LinkedHashMap<>();
+        for (Result result : results) {
+            if (result.getMethodName().equals(methodName)) {
+                grouped.computeIfAbsent(result.getListType(), key -> new TreeMap<>())
+                        .put(result.getOperationsCount(), result);
+            }
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,325 @@
+package com.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сводка профилирования измеряемых прогонов одной ячейки, собранная
+ * {@link CellProfiler}: аппаратные счетчики {@code perf}, выделения памяти
+ * и паузы сборщика мусора по событиям JFR, а также компиляции
+ * и деоптимизации измеряемых методов JIT-компилятором.
+ * <p>
+ * Все величины — суммы по всем измеряемым прогонам; значения в расчете
+ * на одну операцию получаются делением на {@link #getOperations()}.
+ * Несобранные величины равны -1.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class CellProfile {
+
+    /**
+     * Сводка, означающая, что профилирование не выполнялось.
+     */
+    public static final CellProfile EMPTY = new Builder(0).build();
+
+    private final long operations;
+    private final long cycles;
+    private final long instructions;
+    private final long l1Misses;
+    private final long llcMisses;
+    private final long branchMisses;
+    private final long jfrAllocatedBytes;
+    private final String topAllocatedType;
+    private final long gcPauses;
+    private final long gcPauseNanos;
+    private final long compilations;
+    private final long compilationNanos;
+    private final long deoptimizations;
+    private final List<String> compiledMethods;
+
+    private CellProfile(Builder builder) {
+        this.operations = builder.operations;
+        this.cycles = builder.cycles;
+        this.instructions = builder.instructions;
+        this.l1Misses = builder.l1Misses;
+        this.llcMisses = builder.llcMisses;
+        this.branchMisses = builder.branchMisses;
+        this.jfrAllocatedBytes = builder.jfrAllocatedBytes;
+        this.topAllocatedType = builder.topAllocatedType;
+        this.gcPauses = builder.gcPauses;
+        this.gcPauseNanos = builder.gcPauseNanos;
+        this.compilations = builder.compilations;
+        this.compilationNanos = builder.compilationNanos;
+        this.deoptimizations = builder.deoptimizations;
+        this.compiledMethods = Collections.unmodifiableList(new ArrayList<>(builder.compiledMethods));
+    }
+
+    /**
+     * Проверяет, собраны ли какие-либо данные профилирования.
+     *
+     * @return {@code true}, если доступны счетчики {@code perf} или события JFR
+     */
+    public boolean isPresent() {
+        return hasCounters() || jfrAllocatedBytes >= 0 || gcPauses >= 0 || compilations >= 0;
+    }
+
+    /**
+     * Проверяет, собраны ли аппаратные счетчики.
+     *
+     * @return {@code true}, если известно хотя бы количество тактов
+     */
+    public boolean hasCounters() {
+        return cycles >= 0;
+    }
+
+    /**
+     * Возвращает количество инструкций за такт.
+     *
+     * @return IPC или -1, если счетчики не собраны
+     */
+    public double getInstructionsPerCycle() {
+        return cycles > 0 && instructions >= 0 ? (double) instructions / cycles : -1;
+    }
+
+    /**
+     * Делит значение счетчика на количество операций.
+     *
+     * @param counter значение счетчика (-1, если не собран)
+     * @return значение на одну операцию или -1, если счетчик не собран
+     */
+    public double perOperation(long counter) {
+        return counter >= 0 && operations > 0 ? (double) counter / operations : -1;
+    }
+
+    /**
+     * Кодирует сводку в строку пар {@code ключ=значение}, разделенных точкой с запятой,
+     * без табуляций, чтобы ее можно было передать полем {@link CellRunner#encode(Result)}.
+     *
+     * @return закодированная сводка
+     */
+    String encode() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("ops", String.valueOf(operations));
+        fields.put("cycles", String.valueOf(cycles));
+        fields.put("instructions", String.valueOf(instructions));
+        fields.put("l1Misses", String.valueOf(l1Misses));
+        fields.put("llcMisses", String.valueOf(llcMisses));
+        fields.put("branchMisses", String.valueOf(branchMisses));
+        fields.put("jfrAllocated", String.valueOf(jfrAllocatedBytes));
+        fields.put("topType", topAllocatedType);
+        fields.put("gcPauses", String.valueOf(gcPauses));
+        fields.put("gcPauseNs", String.valueOf(gcPauseNanos));
+        fields.put("compilations", String.valueOf(compilations));
+        fields.put("compilationNs", String.valueOf(compilationNanos));
+        fields.put("deopts", String.valueOf(deoptimizations));
+        fields.put("compiled", String.join("|", compiledMethods));
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            if (encoded.length() > 0) {
+                encoded.append(';');
+            }
+            encoded.append(field.getKey()).append('=').append(field.getValue());
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Восстанавливает сводку из строки, полученной методом {@link #encode()}.
+     * Неизвестные ключи пропускаются.
+     *
+     * @param text закодированная сводка
+     * @return сводка профилирования
+     * @throws IllegalArgumentException если строка имеет неверный формат
+     */
+    static CellProfile decode(String text) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (String part : text.split(";")) {
+            int separator = part.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Неверный формат профиля: " + text);
+            }
+            fields.put(part.substring(0, separator), part.substring(separator + 1));
+        }
+        try {
+            Builder builder = new Builder(Long.parseLong(fields.getOrDefault("ops", "0")))
+                    .counters(number(fields, "cycles"), number(fields, "instructions"),
+                            number(fields, "l1Misses"), number(fields, "llcMisses"),
+                            number(fields, "branchMisses"))
+                    .allocations(number(fields, "jfrAllocated"), fields.getOrDefault("topType", ""))
+                    .gc(number(fields, "gcPauses"), number(fields, "gcPauseNs"));
+            String compiled = fields.getOrDefault("compiled", "");
+            builder.jit(number(fields, "compilations"), number(fields, "compilationNs"),
+                    number(fields, "deopts"),
+                    compiled.isEmpty() ? Collections.<String>emptyList() : Arrays.asList(compiled.split("\\|")));
+            return builder.build();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Неверный формат профиля: " + text, e);
+        }
+    }
+
+    private static long number(Map<String, String> fields, String key) {
+        return Long.parseLong(fields.getOrDefault(key, "-1"));
+    }
+
+    /**
+     * Возвращает количество операций, по которым собраны величины.
+     *
+     * @return количество операций во всех измеряемых прогонах
+     */
+    public long getOperations() { return operations; }
+
+    /**
+     * Возвращает количество тактов процессора.
+     *
+     * @return такты или -1, если не собраны
+     */
+    public long getCycles() { return cycles; }
+
+    /**
+     * Возвращает количество выполненных инструкций.
+     *
+     * @return инструкции или -1, если не собраны
+     */
+    public long getInstructions() { return instructions; }
+
+    /**
+     * Возвращает количество промахов кэша данных L1 при чтении.
+     *
+     * @return промахи или -1, если не собраны
+     */
+    public long getL1Misses() { return l1Misses; }
+
+    /**
+     * Возвращает количество промахов кэша последнего уровня при чтении.
+     *
+     * @return промахи или -1, если не собраны
+     */
+    public long getLlcMisses() { return llcMisses; }
+
+    /**
+     * Возвращает количество неверно предсказанных переходов.
+     *
+     * @return промахи предсказания или -1, если не собраны
+     */
+    public long getBranchMisses() { return branchMisses; }
+
+    /**
+     * Возвращает объем памяти, выделенной измеряющим потоком, по событиям
+     * выделения TLAB и выделений вне TLAB.
+     *
+     * @return объем в байтах или -1, если события JFR не собирались
+     */
+    public long getJfrAllocatedBytes() { return jfrAllocatedBytes; }
+
+    /**
+     * Возвращает тип, на который пришелся наибольший объем выделений.
+     *
+     * @return имя класса или пустая строка, если выделений не было
+     */
+    public String getTopAllocatedType() { return topAllocatedType; }
+
+    /**
+     * Возвращает количество сборок мусора по событиям JFR.
+     *
+     * @return количество сборок или -1, если события JFR не собирались
+     */
+    public long getGcPauses() { return gcPauses; }
+
+    /**
+     * Возвращает суммарную длительность пауз сборщика мусора.
+     *
+     * @return длительность в наносекундах или -1, если события JFR не собирались
+     */
+    public long getGcPauseNanos() { return gcPauseNanos; }
+
+    /**
+     * Возвращает количество компиляций измеряемых методов.
+     *
+     * @return количество компиляций или -1, если события JIT не собирались
+     */
+    public long getCompilations() { return compilations; }
+
+    /**
+     * Возвращает суммарную длительность компиляций измеряемых методов.
+     *
+     * @return длительность в наносекундах или -1, если события JIT не собирались
+     */
+    public long getCompilationNanos() { return compilationNanos; }
+
+    /**
+     * Возвращает количество деоптимизаций измеряемых методов.
+     *
+     * @return количество деоптимизаций или -1, если события недоступны
+     */
+    public long getDeoptimizations() { return deoptimizations; }
+
+    /**
+     * Возвращает скомпилированные измеряемые методы с уровнем компиляции,
+     * например {@code java.util.LinkedList.node@4}.
+     *
+     * @return методы в порядке компиляции
+     */
+    public List<String> getCompiledMethods() { return compiledMethods; }
+
+    /**
+     * Построитель сводки профилирования. Несобранные величины остаются равными -1.
+     */
+    static final class Builder {
+        private final long operations;
+        private long cycles = -1;
+        private long instructions = -1;
+        private long l1Misses = -1;
+        private long llcMisses = -1;
+        private long branchMisses = -1;
+        private long jfrAllocatedBytes = -1;
+        private String topAllocatedType = "";
+        private long gcPauses = -1;
+        private long gcPauseNanos = -1;
+        private long compilations = -1;
+        private long compilationNanos = -1;
+        private long deoptimizations = -1;
+        private List<String> compiledMethods = Collections.emptyList();
+
+        Builder(long operations) {
+            this.operations = operations;
+        }
+
+        Builder counters(long cycles, long instructions, long l1Misses, long llcMisses, long branchMisses) {
+            this.cycles = cycles;
+            this.instructions = instructions;
+            this.l1Misses = l1Misses;
+            this.llcMisses = llcMisses;
+            this.branchMisses = branchMisses;
+            return this;
+        }
+
+        Builder allocations(long jfrAllocatedBytes, String topAllocatedType) {
+            this.jfrAllocatedBytes = jfrAllocatedBytes;
+            this.topAllocatedType = topAllocatedType;
+            return this;
+        }
+
+        Builder gc(long gcPauses, long gcPauseNanos) {
+            this.gcPauses = gcPauses;
+            this.gcPauseNanos = gcPauseNanos;
+            return this;
+        }
+
+        Builder jit(long compilations, long compilationNanos, long deoptimizations, List<String> compiledMethods) {
+            this.compilations = compilations;
+            this.compilationNanos = compilationNanos;
+            this.deoptimizations = deoptimizations;
+            this.compiledMethods = compiledMethods;
+            return this;
+        }
+
+        CellProfile build() {
+            return new CellProfile(this);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Необязательный слой профилирования вокруг измеряемых прогонов ячейки.
+ * Помогает понять, чем объясняется разница во времени: промахами кэша,
+ * неверно предсказанными переходами, выделениями памяти или перекомпиляцией.
+ * <p>
+ * Источники данных задаются списком через запятую (системное свойство
+ * {@code benchmark.profile}):
+ * <ul>
+ *   <li>{@code perf} — аппаратные счетчики {@link PerfStat} измеряющего потока:
+ *       такты, инструкции, промахи L1 и LLC, промахи предсказания переходов;</li>
+ *   <li>{@code jfr} — события JFR о выделениях памяти измеряющим потоком и паузах сборщика мусора;</li>
+ *   <li>{@code jit} — события JFR о компиляциях и деоптимизациях измеряемых методов;</li>
+ *   <li>{@code all} — все перечисленные источники.</li>
+ * </ul>
+ * Измеряемыми считаются методы классов {@link Benchmark}, {@link IntBenchmark}, {@link BulkBenchmark},
+ * {@link StructureBenchmark}, {@link SortSearchBenchmark}, класса тестируемого списка
+ * и его суперклассов, включая вложенные классы.
+ * Компиляции во время измеряемых прогонов означают, что прогрева недостаточно.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class CellProfiler {
+
+    /**
+     * Профилировщик, не собирающий данных.
+     */
+    public static final CellProfiler NONE = new CellProfiler(false, false, false);
+
+    private final boolean perf;
+    private final boolean jfr;
+    private final boolean jit;
+
+    private CellProfiler(boolean perf, boolean jfr, boolean jit) {
+        this.perf = perf;
+        this.jfr = jfr;
+        this.jit = jit;
+    }
+
+    /**
+     * Создает профилировщик по описанию источников, например {@code "perf,jit"}.
+     *
+     * @param spec источники через запятую: {@code perf}, {@code jfr}, {@code jit}, {@code all}
+     * @return профилировщик
+     * @throws IllegalArgumentException если источник неизвестен
+     */
+    public static CellProfiler parse(String spec) {
+        boolean perf = false;
+        boolean jfr = false;
+        boolean jit = false;
+        for (String part : spec.split(",")) {
+            String source = part.trim().toLowerCase();
+            if (source.equals("perf")) {
+                perf = true;
+            } else if (source.equals("jfr")) {
+                jfr = true;
+            } else if (source.equals("jit")) {
+                jit = true;
+            } else if (source.equals("all")) {
+                perf = true;
+                jfr = true;
+                jit = true;
+            } else if (!source.isEmpty()) {
+                throw new IllegalArgumentException("Неизвестный источник профилирования: " + source);
+            }
+        }
+        return perf || jfr || jit ? new CellProfiler(perf, jfr, jit) : NONE;
+    }
+
+    /**
+     * Возвращает профилировщик, заданный системным свойством {@code benchmark.profile}.
+     *
+     * @return профилировщик или {@link #NONE}, если свойство не задано
+     */
+    public static CellProfiler configured() {
+        String spec = System.getProperty("benchmark.profile");
+        return spec != null ? parse(spec) : NONE;
+    }
+
+    /**
+     * Проверяет, собирает ли профилировщик какие-либо данные.
+     *
+     * @return {@code true}, если включен хотя бы один источник
+     */
+    public boolean isEnabled() {
+        return perf || jfr || jit;
+    }
+
+    /**
+     * Начинает профилирование в текущем потоке. Запись JFR запускается раньше
+     * сбора счетчиков, а останавливается позже, чтобы работа самого JFR
+     * не попадала в счетчики.
+     *
+     * @param listClass класс тестируемого списка
+     * @return сеанс профилирования
+     */
+    public Session start(Class<?> listClass) {
+        Set<String> timedClasses = new LinkedHashSet<>();
+        timedClasses.add(Benchmark.class.getName());
+        timedClasses.add(IntBenchmark.class.getName());
+        timedClasses.add(BulkBenchmark.class.getName());
+        timedClasses.add(StructureBenchmark.class.getName());
+        timedClasses.add(SortSearchBenchmark.class.getName());
+        for (Class<?> type = listClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            timedClasses.add(type.getName());
+        }
+        JfrProbe recording = jfr || jit ? JfrProbe.start(jfr, jit) : null;
+        PerfStat counters = perf ? PerfStat.start() : null;
+        return new Session(recording, counters, timedClasses);
+    }
+
+    /**
+     * Сеанс профилирования, начатый методом {@link #start(Class)}.
+     */
+    public static final class Session {
+        private final JfrProbe recording;
+        private final PerfStat counters;
+        private final Set<String> timedClasses;
+        private final long threadId = Thread.currentThread().getId();
+
+        private Session(JfrProbe recording, PerfStat counters, Set<String> timedClasses) {
+            this.recording = recording;
+            this.counters = counters;
+            this.timedClasses = timedClasses;
+        }
+
+        /**
+         * Завершает профилирование и возвращает сводку. Если запись JFR
+         * не удалось прочитать, события JFR в сводку не входят.
+         *
+         * @param operations количество операций, выполненных за сеанс
+         * @return сводка профилирования
+         */
+        public CellProfile stop(long operations) {
+            CellProfile.Builder profile = new CellProfile.Builder(operations);
+            if (counters != null) {
+                long[] values = counters.stop();
+                profile.counters(values[0], values[1], values[2], values[3], values[4]);
+            }
+            if (recording != null) {
+                try {
+                    recording.stop(profile, threadId, timedClasses);
+                } catch (IOException e) {
+                    System.err.println("Не удалось прочитать запись JFR: " + e.getMessage());
+                }
+            }
+            return profile.build();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Точка входа дочерней JVM, выполняющей одну ячейку матрицы измерений
+ * в режиме {@link ExecutionMode#FORK}. Результат выводится в стандартный
+ * поток вывода одной строкой с префиксом {@code RESULT}, которую разбирает
+ * {@link ExecutionEngine}; для неподдерживаемой операции выводится {@code UNSUPPORTED}.
+ * <p>
+ * Аргументы: операция, реализация списка, количество операций,
+ * количество прогревочных и измеряемых прогонов.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class CellRunner {
+
+    /**
+     * Префикс строки с результатом.
+     */
+    static final String RESULT_PREFIX = "RESULT\t";
+
+    /**
+     * Строка, сообщающая о неподдерживаемой операции.
+     */
+    static final String UNSUPPORTED = "UNSUPPORTED";
+
+    /**
+     * Выполняет ячейку, заданную аргументами командной строки.
+     *
+     * @param args операция, реализация, количество операций, прогрев, измерения
+     */
+    public static void main(String[] args) {
+        if (args.length != 5) {
+            System.err.println("Использование: CellRunner <операция> <реализация> "
+                    + "<количество операций> <прогрев> <измерения>");
+            System.exit(2);
+        }
+        BenchmarkCell cell = new BenchmarkCell(args[0], args[1], Integer.parseInt(args[2]));
+        TrialRunner runner = new TrialRunner(Integer.parseInt(args[3]), Integer.parseInt(args[4]));
+        Result result = cell.execute(runner);
+        System.out.println(result == null ? UNSUPPORTED : RESULT_PREFIX + encode(result));
+    }
+
+    /**
+     * Кодирует результат в строку с полями, разделенными табуляцией.
+     *
+     * @param result результат
+     * @return закодированная строка
+     */
+    static String encode(Result result) {
+        StringBuilder samples = new StringBuilder();
+        for (long sample : result.getStatistics().getSamples()) {
+            if (samples.length() > 0) {
+                samples.append(',');
+            }
+            samples.append(sample);
+        }
+        return String.join("\t",
+                result.getMethodName(),
+                result.getListType(),
+                String.valueOf(result.getOperationsCount()),
+                result.getOperationType(),
+                samples,
+                String.valueOf(result.getAllocatedBytes()),
+                String.valueOf(result.getGcCount()),
+                String.valueOf(result.getGcTimeMillis()),
+                String.valueOf(result.getThreadCount()),
+                String.valueOf(result.getRetainedBytes()),
+                String.valueOf(result.getElementCount()),
+                result.getProfile().encode(),
+                String.valueOf(result.getStructuralBytes()),
+                result.getLatency().encode());
+    }
+
+    /**
+     * Восстанавливает результат из строки, полученной методом {@link #encode(Result)}.
+     * Строки без сводки профилирования, прироста памяти структуры или сводки
+     * задержек (например, из ранее сохраненной базовой линии) восстанавливаются
+     * с {@link CellProfile#EMPTY}, неизвестным приростом и {@link LatencySummary#EMPTY}.
+     *
+     * @param line закодированная строка
+     * @return результат
+     * @throws IllegalArgumentException если строка имеет неверный формат
+     */
+    static Result decode(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length < 11 || fields.length > 14) {
+            throw new IllegalArgumentException("Неверный формат результата: " + line);
+        }
+        long[] samples = Arrays.stream(fields[4].split(",")).mapToLong(Long::parseLong).toArray();
+        return new Result(fields[0], fields[1], Integer.parseInt(fields[2]),
+                new Statistics(samples), fields[3])
+                .withResourceUsage(Long.parseLong(fields[5]), Long.parseLong(fields[6]),
+                        Long.parseLong(fields[7]))
+                .withThreadCount(Integer.parseInt(fields[8]))
+                .withFootprint(Long.parseLong(fields[9]), Integer.parseInt(fields[10]))
+                .withProfile(fields.length >= 12 ? CellProfile.decode(fields[11]) : CellProfile.EMPTY)
+                .withStructuralBytes(fields.length >= 13 ? Long.parseLong(fields[12]) : -1)
+                .withLatency(fields.length == 14 ? LatencySummary.decode(fields[13]) : LatencySummary.EMPTY);
+    }
+}
@@ -0,0 +1,125 @@
+package com.benchmark;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Неблокирующий список только для добавления в конец, рассчитанный
+ * на одновременную запись из многих потоков.
+ * <p>
+ * Элементы хранятся в блоках, размер которых удваивается: блок {@code k}
+ * содержит {@code 16 << k} ячеек, поэтому уже выделенные блоки никогда
+ * не копируются. Добавление резервирует индекс атомарным счетчиком,
+ * при необходимости публикует новый блок операцией CAS и записывает
+ * значение в ячейку с семантикой volatile. Чтение по индексу меньше
+ * {@link #size()} дожидается публикации значения, если поток-писатель
+ * зарезервировал ячейку, но еще не записал ее.
+ * <p>
+ * Удаление и вставка в середину не поддерживаются; элементы {@code null} запрещены.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class ChunkedAppendList extends AbstractList<Integer> implements RandomAccess {
+
+    /**
+     * Двоичный логарифм размера первого блока.
+     */
+    private static final int FIRST_CHUNK_BITS = 4;
+
+    /**
+     * Максимальное количество блоков, достаточное для индексов типа {@code int}.
+     */
+    private static final int MAX_CHUNKS = 32 - FIRST_CHUNK_BITS;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<Integer>> chunks =
+            new AtomicReferenceArray<>(MAX_CHUNKS);
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    @Override
+    public boolean add(Integer element) {
+        Objects.requireNonNull(element);
+        int index = reserved.getAndIncrement();
+        if (index < 0 || index > Integer.MAX_VALUE - (1 << FIRST_CHUNK_BITS)) {
+            reserved.decrementAndGet();
+            throw new IllegalStateException("Превышена максимальная емкость списка");
+        }
+        int position = index + (1 << FIRST_CHUNK_BITS);
+        int chunkIndex = chunkIndex(position);
+        chunk(chunkIndex).set(position - (1 << (chunkIndex + FIRST_CHUNK_BITS)), element);
+        return true;
+    }
+
+    @Override
+    public Integer get(int index) {
+        AtomicReferenceArray<Integer> chunk;
+        Integer element;
+        int position = checkedPosition(index);
+        int chunkIndex = chunkIndex(position);
+        int offset = position - (1 << (chunkIndex + FIRST_CHUNK_BITS));
+        // Ячейка зарезервирована, но значение может быть еще не опубликовано
+        while ((chunk = chunks.get(chunkIndex)) == null || (element = chunk.get(offset)) == null) {
+            Thread.onSpinWait();
+        }
+        return element;
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        Objects.requireNonNull(element);
+        int position = checkedPosition(index);
+        int chunkIndex = chunkIndex(position);
+        Integer previous = get(index);
+        chunk(chunkIndex).set(position - (1 << (chunkIndex + FIRST_CHUNK_BITS)), element);
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return reserved.get();
+    }
+
+    /**
+     * Проверяет индекс и переводит его в позицию со смещением на размер первого блока.
+     *
+     * @param index индекс элемента
+     * @return позиция элемента
+     * @throws IndexOutOfBoundsException если индекс вне диапазона
+     */
+    private int checkedPosition(int index) {
+        if (index < 0 || index >= reserved.get()) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + reserved.get());
+        }
+        return index + (1 << FIRST_CHUNK_BITS);
+    }
+
+    /**
+     * Возвращает номер блока, содержащего позицию.
+     *
+     * @param position позиция элемента со смещением на размер первого блока
+     * @return номер блока
+     */
+    private static int chunkIndex(int position) {
+        return 31 - Integer.numberOfLeadingZeros(position) - FIRST_CHUNK_BITS;
+    }
+
+    /**
+     * Возвращает блок с указанным номером, публикуя его операцией CAS,
+     * если он еще не был создан.
+     *
+     * @param chunkIndex номер блока
+     * @return блок
+     */
+    private AtomicReferenceArray<Integer> chunk(int chunkIndex) {
+        AtomicReferenceArray<Integer> chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            AtomicReferenceArray<Integer> created =
+                    new AtomicReferenceArray<>(1 << (chunkIndex + FIRST_CHUNK_BITS));
+            chunk = chunks.compareAndSet(chunkIndex, null, created) ? created : chunks.get(chunkIndex);
+        }
+        return chunk;
+    }
+}
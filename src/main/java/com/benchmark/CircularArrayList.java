@@ -0,0 +1,232 @@
+package com.benchmark;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Список на кольцевом буфере: элементы хранятся в массиве, начиная с позиции
+ * {@code head}, и при достижении конца массива продолжаются с его начала.
+ * Добавление и удаление на обоих концах выполняются за амортизированное O(1),
+ * получение по индексу — за O(1), как у {@link java.util.ArrayList}.
+ * При вставке и удалении в середине сдвигается более короткая часть списка,
+ * поэтому такие операции стоят O(min(i, n - i)).
+ * <p>
+ * Емкость массива всегда является степенью двойки, чтобы переход через
+ * границу массива вычислялся маской. Полностью реализует {@link java.util.List},
+ * включая элементы {@code null} и итераторы с быстрым отказом при
+ * одновременном изменении, и может заменить {@code ArrayList} в очередях
+ * с произвольным доступом.
+ *
+ * @param <E> тип элементов
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class CircularArrayList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Емкость по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Максимальная емкость массива, являющаяся степенью двойки.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Создает пустой список с емкостью по умолчанию.
+     */
+    public CircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с заданной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость; округляется вверх до степени двойки
+     * @throws IllegalArgumentException если емкость отрицательна или слишком велика
+     */
+    public CircularArrayList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Некорректная емкость: " + initialCapacity);
+        }
+        this.elements = new Object[Math.max(2, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1)];
+    }
+
+    /**
+     * Создает список, содержащий элементы коллекции в порядке ее итератора.
+     * Элементы копируются сразу в буфер через {@link Collection#toArray(Object[])},
+     * без поэлементного добавления.
+     *
+     * @param collection исходная коллекция
+     * @throws NullPointerException если коллекция равна null
+     */
+    public CircularArrayList(Collection<? extends E> collection) {
+        this(collection.size());
+        int count = collection.size();
+        Object[] source = collection.toArray(elements);
+        if (source != elements) {
+            // Коллекция выросла после вызова size() и вернула новый массив
+            count = source.length;
+            ensureCapacity(count);
+            System.arraycopy(source, 0, elements, 0, count);
+        }
+        size = count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) elements[slot(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index, size);
+        int slot = slot(index);
+        E previous = (E) elements[slot];
+        elements[slot] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element) {
+        ensureCapacity(size + 1);
+        elements[slot(size)] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        int mask = elements.length - 1;
+        if (index < size - index) {
+            // Сдвигаем начало списка на одну позицию влево
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+        } else {
+            // Сдвигаем конец списка на одну позицию вправо
+            for (int i = size; i > index; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+        }
+        elements[(head + index) & mask] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index, size);
+        int mask = elements.length - 1;
+        E removed = (E) elements[(head + index) & mask];
+        if (index < size - 1 - index) {
+            // Сдвигаем начало списка на одну позицию вправо
+            for (int i = index; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            elements[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // Сдвигаем конец списка на одну позицию влево
+            for (int i = index; i < size - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+            elements[(head + size - 1) & mask] = null;
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[slot(i)] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int tail = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, array, 0, tail);
+        System.arraycopy(elements, 0, array, tail, size - tail);
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] array) {
+        Object[] copy = toArray();
+        if (array.length < size) {
+            return (T[]) Arrays.copyOf(copy, size, array.getClass());
+        }
+        System.arraycopy(copy, 0, array, 0, size);
+        if (array.length > size) {
+            array[size] = null;
+        }
+        return array;
+    }
+    /**
+     * Возвращает текущую емкость кольцевого буфера.
+     *
+     * @return емкость
+     */
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Увеличивает емкость вдвое, если она меньше требуемой. Элементы
+     * переписываются в новый массив по порядку, начиная с позиции 0.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elements.length) {
+            return;
+        }
+        if (elements.length >= MAX_CAPACITY) {
+            throw new IllegalStateException("Превышена максимальная емкость списка");
+        }
+        Object[] grown = new Object[elements.length << 1];
+        int tail = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, tail);
+        System.arraycopy(elements, 0, grown, tail, size - tail);
+        elements = grown;
+        head = 0;
+    }
+
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + bound);
+        }
+    }
+}
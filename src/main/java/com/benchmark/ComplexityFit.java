@@ -0,0 +1,146 @@
+package com.benchmark;
+
+/**
+ * Подбор асимптотической сложности операции по измерениям на разных размерах.
+ * Время одной операции {@code t(n)} аппроксимируется каждой из моделей
+ * {@code c·f(n)}, где {@code f} — 1, log n, n или n², методом наименьших
+ * квадратов. Абсолютная ошибка придает наибольший вес большим размерам,
+ * на которых проявляется асимптотика, а не шум прогрева на малых размерах.
+ * Выбирается модель с наименьшей среднеквадратичной ошибкой, отнесенной
+ * к среднему времени операции.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class ComplexityFit {
+
+    /**
+     * Модель сложности операции.
+     */
+    public enum Model {
+        CONSTANT("O(1)"),
+        LOGARITHMIC("O(log n)"),
+        LINEAR("O(n)"),
+        QUADRATIC("O(n²)");
+
+        private final String notation;
+
+        Model(String notation) {
+            this.notation = notation;
+        }
+
+        /**
+         * Вычисляет функцию роста модели.
+         *
+         * @param n размер
+         * @return значение функции роста
+         */
+        public double apply(double n) {
+            switch (this) {
+                case CONSTANT:
+                    return 1;
+                case LOGARITHMIC:
+                    return Math.log(Math.max(2, n)) / Math.log(2);
+                case LINEAR:
+                    return n;
+                default:
+                    return n * n;
+            }
+        }
+
+        /**
+         * Возвращает обозначение сложности, например "O(n)".
+         *
+         * @return обозначение сложности
+         */
+        public String getNotation() { return notation; }
+    }
+
+    private final Model model;
+    private final double constant;
+    private final double error;
+
+    private ComplexityFit(Model model, double constant, double error) {
+        this.model = model;
+        this.constant = constant;
+        this.error = error;
+    }
+
+    /**
+     * Подбирает модель сложности по измерениям.
+     *
+     * @param sizes размеры, для которых выполнены измерения
+     * @param timesPerOperation время одной операции для каждого размера в наносекундах
+     * @return модель с наименьшей ошибкой
+     * @throws IllegalArgumentException если массивы пусты или имеют разную длину
+     */
+    public static ComplexityFit fit(int[] sizes, double[] timesPerOperation) {
+        if (sizes.length == 0 || sizes.length != timesPerOperation.length) {
+            throw new IllegalArgumentException("Требуются измерения хотя бы для одного размера");
+        }
+        double meanTime = 0;
+        for (double time : timesPerOperation) {
+            meanTime += time / timesPerOperation.length;
+        }
+        ComplexityFit best = null;
+        for (Model model : Model.values()) {
+            // Минимизация суммы (t - c·f)² дает c = Σ(t·f) / Σ(f²)
+            double sumProducts = 0;
+            double sumSquares = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                double growth = model.apply(sizes[i]);
+                sumProducts += timesPerOperation[i] * growth;
+                sumSquares += growth * growth;
+            }
+            double constant = sumProducts / sumSquares;
+            double squaredError = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                double residual = timesPerOperation[i] - constant * model.apply(sizes[i]);
+                squaredError += residual * residual;
+            }
+            double error = meanTime > 0 ? Math.sqrt(squaredError / sizes.length) / meanTime : 0;
+            if (best == null || error < best.error) {
+                best = new ComplexityFit(model, constant, error);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Оценивает время одной операции по подобранной модели.
+     *
+     * @param n размер
+     * @return время операции в наносекундах
+     */
+    public double predict(double n) {
+        return constant * model.apply(n);
+    }
+
+    /**
+     * Возвращает подобранную модель сложности.
+     *
+     * @return модель сложности
+     */
+    public Model getModel() { return model; }
+
+    /**
+     * Возвращает постоянный множитель модели: время операции в наносекундах
+     * на единицу функции роста.
+     *
+     * @return постоянный множитель
+     */
+    public double getConstant() { return constant; }
+
+    /**
+     * Возвращает среднеквадратичную ошибку модели, отнесенную к среднему
+     * времени операции.
+     *
+     * @return относительная ошибка (0.1 означает 10%)
+     */
+    public double getError() { return error; }
+
+    @Override
+    public String toString() {
+        return String.format("%s, c = %.3g нс, ошибка %.0f%%", model.getNotation(), constant, error * 100);
+    }
+}
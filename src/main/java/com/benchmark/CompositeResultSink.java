@@ -0,0 +1,52 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Приемник, передающий каждый результат нескольким приемникам.
+ * При закрытии закрываются все приемники, даже если некоторые из них
+ * завершились ошибкой; первая ошибка пробрасывается.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class CompositeResultSink implements ResultSink {
+    private final List<ResultSink> sinks;
+
+    /**
+     * Создает составной приемник.
+     *
+     * @param sinks приемники в порядке записи
+     */
+    CompositeResultSink(List<ResultSink> sinks) {
+        this.sinks = new ArrayList<>(sinks);
+    }
+
+    @Override
+    public void write(Result result) throws IOException {
+        for (ResultSink sink : sinks) {
+            sink.write(result);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (ResultSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Утилитарный класс для измерения производительности операций со списками,
+ * разделяемыми между несколькими потоками. Повторяет набор операций
+ * класса {@link Benchmark} (добавление, получение, удаление из начала и конца)
+ * и дополняет его смешанным сценарием. Каждый из {@code threadCount} потоков
+ * выполняет {@code operationsPerThread} операций над одним общим списком;
+ * время измеряется от одновременного старта всех потоков до завершения последнего.
+ * <p>
+ * При одновременных удалениях индекс, вычисленный по размеру списка,
+ * может оказаться устаревшим; такие операции пропускаются.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class ConcurrentBenchmark {
+
+    /**
+     * Доля операций получения по индексу в смешанном сценарии, в процентах.
+     */
+    private static final int MIXED_GET_PERCENT = 60;
+
+    /**
+     * Доля операций добавления в конец в смешанном сценарии, в процентах.
+     * Остальные операции смешанного сценария — удаление из начала.
+     */
+    private static final int MIXED_ADD_PERCENT = 30;
+
+    /**
+     * Доля операций получения по индексу в сценарии добавления с чтением, в процентах.
+     * Остальные операции — добавление в конец.
+     */
+    private static final int APPEND_READ_GET_PERCENT = 25;
+
+    /**
+     * Задача, выполняемая одним потоком.
+     */
+    @FunctionalInterface
+    private interface ThreadTask {
+        /**
+         * Выполняет операции потока.
+         *
+         * @param threadIndex номер потока от 0 до {@code threadCount - 1}
+         */
+        void run(int threadIndex);
+    }
+
+    /**
+     * Возвращает потокобезопасные реализации списков, участвующие в сравнении:
+     * синхронизированный {@link ArrayList}, {@link CopyOnWriteArrayList},
+     * {@link java.util.concurrent.ConcurrentLinkedDeque}, {@link StripedLockList}
+     * и неблокирующий {@link ChunkedAppendList}.
+     *
+     * @return фабрики потокобезопасных списков
+     */
+    public static List<ListFactory> factories() {
+        return Arrays.asList(
+                ListFactory.of("SynchronizedList", Collections.synchronizedList(new ArrayList<>()).getClass(),
+                        () -> Collections.synchronizedList(new ArrayList<>())),
+                ListFactory.of("CopyOnWriteArrayList", CopyOnWriteArrayList.class, CopyOnWriteArrayList::new),
+                ListFactory.of("ConcurrentLinkedDeque", ConcurrentDequeList.class, ConcurrentDequeList::new),
+                ListFactory.of("StripedLockList", StripedLockList.class, StripedLockList::new),
+                ListFactory.of("ChunkedAppendList", ChunkedAppendList.class, ChunkedAppendList::new));
+    }
+
+    /**
+     * Тестирует одновременное добавление элементов в конец общего списка.
+     *
+     * @param factory фабрика тестируемого списка
+     * @param threadCount количество потоков
+     * @param operationsPerThread количество операций в каждом потоке
+     * @return объект {@link Result} с суммарным количеством операций всех потоков
+     */
+    public static Result testAdd(ListFactory factory, int threadCount, int operationsPerThread) {
+        List<Integer> testList = factory.create();
+        
+        long time = runThreads(threadCount, threadIndex -> {
+            for (int i = 0; i < operationsPerThread; i++) {
+                testList.add(i);
+            }
+        });
+        
+        return result("add", factory, threadCount, operationsPerThread, time, "add");
+    }
+
+    /**
+     * Тестирует одновременное получение элементов по индексу из общего списка.
+     * Перед тестированием список заполняется {@code operationsPerThread} элементами;
+     * потоки читают индексы со смещением, чтобы не обращаться к одним и тем же элементам.
+     *
+     * @param factory фабрика тестируемого списка
+     * @param threadCount количество потоков
+     * @param operationsPerThread количество операций в каждом потоке
+     * @return объект {@link Result} с суммарным количеством операций всех потоков
+     */
+    public static Result testGet(ListFactory factory, int threadCount, int operationsPerThread) {
+        List<Integer> testList = factory.create();
+        for (int i = 0; i < operationsPerThread; i++) {
+            testList.add(i);
+        }
+        
+        long time = runThreads(threadCount, threadIndex -> {
+            int size = testList.size();
+            int offset = threadIndex * (size / threadCount);
+            for (int i = 0; i < operationsPerThread; i++) {
+                testList.get((i + offset) % size);
+            }
+        });
+        
+        return result("get", factory, threadCount, operationsPerThread, time, "get");
+    }
+
+    /**
+     * Тестирует одновременное удаление элементов из начала общего списка.
+     * Перед тестированием список заполняется удвоенным суммарным количеством операций.
+     *
+     * @param factory фабрика тестируемого списка
+     * @param threadCount количество потоков
+     * @param operationsPerThread количество операций в каждом потоке
+     * @return объект {@link Result} с суммарным количеством операций всех потоков
+     */
+    public static Result testDeleteFirst(ListFactory factory, int threadCount, int operationsPerThread) {
+        List<Integer> testList = filledList(factory, threadCount * operationsPerThread * 2);
+        
+        long time = runThreads(threadCount, threadIndex -> {
+            for (int i = 0; i < operationsPerThread; i++) {
+                removeQuietly(testList, 0);
+            }
+        });
+        
+        return result("deleteFirst", factory, threadCount, operationsPerThread, time, "delete");
+    }
+
+    /**
+     * Тестирует одновременное удаление элементов из конца общего списка.
+     * Перед тестированием список заполняется удвоенным суммарным количеством операций.
+     *
+     * @param factory фабрика тестируемого списка
+     * @param threadCount количество потоков
+     * @param operationsPerThread количество операций в каждом потоке
+     * @return объект {@link Result} с суммарным количеством операций всех потоков
+     */
+    public static Result testDeleteLast(ListFactory factory, int threadCount, int operationsPerThread) {
+        List<Integer> testList = filledList(factory, threadCount * operationsPerThread * 2);
+        
+        long time = runThreads(threadCount, threadIndex -> {
+            for (int i = 0; i < operationsPerThread; i++) {
+                removeQuietly(testList, testList.size() - 1);
+            }
+        });
+        
+        return result("deleteLast", factory, threadCount, operationsPerThread, time, "delete");
+    }
+
+    /**
+     * Тестирует смешанную нагрузку: {@code MIXED_GET_PERCENT}% получений по индексу,
+     * {@code MIXED_ADD_PERCENT}% добавлений в конец, остальное — удаления из начала.
+     * Последовательность операций детерминирована и не требует генерации
+     * случайных чисел внутри измеряемого участка.
+     *
+     * @param factory фабрика тестируемого списка
+     * @param threadCount количество потоков
+     * @param operationsPerThread количество операций в каждом потоке
+     * @return объект {@link Result} с суммарным количеством операций всех потоков
+     */
+    public static Result testMixed(ListFactory factory, int threadCount, int operationsPerThread) {
+        List<Integer> testList = filledList(factory, operationsPerThread);
+        
+        long time = runThreads(threadCount, threadIndex -> {
+            for (int i = 0; i < operationsPerThread; i++) {
+                int slot = (i * 7 + threadIndex) % 100;
+                if (slot < MIXED_GET_PERCENT) {
+                    int size = testList.size();
+                    if (size > 0) {
+                        getQuietly(testList, (i + threadIndex) % size);
+                    }
+                } else if (slot < MIXED_GET_PERCENT + MIXED_ADD_PERCENT) {
+                    testList.add(i);
+                } else {
+                    removeQuietly(testList, 0);
+                }
+            }
+        });
+        
+        return result("mixed", factory, threadCount, operationsPerThread, time, "mixed");
+    }
+
+    /**
+     * Тестирует одновременное добавление в конец с чтением уже опубликованных элементов:
+     * {@code APPEND_READ_GET_PERCENT}% операций — получение по индексу меньше текущего
+     * размера, остальные — добавление в конец. Сценарий не удаляет элементы и подходит
+     * для списков, поддерживающих только добавление.
+     *
+     * @param factory фабрика тестируемого списка
+     * @param threadCount количество потоков
+     * @param operationsPerThread количество операций в каждом потоке
+     * @return объект {@link Result} с суммарным количеством операций всех потоков
+     */
+    public static Result testAppendRead(ListFactory factory, int threadCount, int operationsPerThread) {
+        List<Integer> testList = filledList(factory, 1);
+        
+        long time = runThreads(threadCount, threadIndex -> {
+            for (int i = 0; i < operationsPerThread; i++) {
+                if ((i * 7 + threadIndex) % 100 < APPEND_READ_GET_PERCENT) {
+                    testList.get((i * 31 + threadIndex) % testList.size());
+                } else {
+                    testList.add(i);
+                }
+            }
+        });
+        
+        return result("appendRead", factory, threadCount, operationsPerThread, time, "mixed");
+    }
+
+    /**
+     * Запускает задачу в указанном количестве потоков с одновременным стартом
+     * и измеряет время до завершения последнего потока.
+     *
+     * @param threadCount количество потоков
+     * @param task задача, выполняемая каждым потоком
+     * @return время выполнения в наносекундах
+     * @throws UnsupportedOperationException если список не поддерживает операцию задачи
+     * @throws IllegalStateException если выполнение задачи завершилось другим исключением
+     *         или ожидание было прервано
+     */
+    private static long runThreads(int threadCount, ThreadTask task) {
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        
+        for (int t = 0; t < threadCount; t++) {
+            int threadIndex = t;
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    task.run(threadIndex);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }, "concurrent-benchmark-" + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        
+        try {
+            ready.await();
+            long startTime = System.nanoTime();
+            start.countDown();
+            done.await();
+            long endTime = System.nanoTime();
+            if (failure.get() instanceof UnsupportedOperationException) {
+                throw (UnsupportedOperationException) failure.get();
+            }
+            if (failure.get() != null) {
+                throw new IllegalStateException("Ошибка в потоке измерения", failure.get());
+            }
+            return endTime - startTime;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Измерение прервано", e);
+        }
+    }
+
+    /**
+     * Создает список и заполняет его указанным количеством элементов.
+     *
+     * @param factory фабрика списка
+     * @param elementsCount количество элементов
+     * @return заполненный список
+     */
+    private static List<Integer> filledList(ListFactory factory, int elementsCount) {
+        List<Integer> list = factory.create();
+        for (int i = 0; i < elementsCount; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * Удаляет элемент, пропуская операцию, если индекс устарел из-за
+     * одновременного удаления в другом потоке.
+     *
+     * @param list список
+     * @param index индекс удаляемого элемента
+     */
+    private static void removeQuietly(List<Integer> list, int index) {
+        try {
+            list.remove(index);
+        } catch (IndexOutOfBoundsException e) {
+            // Список был изменен другим потоком между вычислением индекса и удалением
+        }
+    }
+
+    /**
+     * Получает элемент, пропуская операцию, если индекс устарел из-за
+     * одновременного удаления в другом потоке.
+     *
+     * @param list список
+     * @param index индекс элемента
+     */
+    private static void getQuietly(List<Integer> list, int index) {
+        try {
+            list.get(index);
+        } catch (IndexOutOfBoundsException e) {
+            // Список был изменен другим потоком между вычислением индекса и чтением
+        }
+    }
+
+    /**
+     * Формирует результат многопоточного измерения.
+     *
+     * @param methodName название метода
+     * @param factory фабрика тестируемого списка
+     * @param threadCount количество потоков
+     * @param operationsPerThread количество операций в каждом потоке
+     * @param time время выполнения в наносекундах
+     * @param operationType тип операции
+     * @return объект {@link Result} с суммарным количеством операций всех потоков
+     */
+    private static Result result(String methodName, ListFactory factory, int threadCount,
+                                 int operationsPerThread, long time, String operationType) {
+        return new Result(methodName, factory.getName(), threadCount * operationsPerThread,
+                time, operationType).withThreadCount(threadCount);
+    }
+}
@@ -0,0 +1,100 @@
+package com.benchmark;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Адаптер неблокирующей очереди {@link ConcurrentLinkedDeque} к интерфейсу
+ * {@link java.util.List}, позволяющий использовать ее в сценариях {@link ConcurrentBenchmark}.
+ * Добавление в конец и удаление с концов отображаются на операции очереди
+ * и выполняются за O(1); доступ и удаление по произвольному индексу требуют
+ * обхода очереди за O(n).
+ * <p>
+ * Размер ведется отдельным счетчиком, так как {@link ConcurrentLinkedDeque#size()}
+ * обходит всю очередь. При одновременных изменениях значение счетчика является
+ * приблизительным, поэтому удаление с индексом {@code size() - 1} трактуется
+ * как удаление последнего элемента.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class ConcurrentDequeList extends AbstractList<Integer> {
+    private final ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Override
+    public boolean add(Integer element) {
+        deque.addLast(element);
+        size.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        if (index == 0) {
+            deque.addFirst(element);
+            size.incrementAndGet();
+        } else if (index == size.get()) {
+            add(element);
+        } else {
+            throw new UnsupportedOperationException("Вставка в середину не поддерживается");
+        }
+    }
+
+    @Override
+    public Integer get(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Индекс: " + index);
+        }
+        Iterator<Integer> iterator = deque.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            Integer element = iterator.next();
+            if (i == index) {
+                return element;
+            }
+        }
+        throw new IndexOutOfBoundsException("Индекс: " + index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        Integer removed;
+        if (index == 0) {
+            removed = deque.pollFirst();
+        } else if (index == size.get() - 1) {
+            removed = deque.pollLast();
+        } else {
+            removed = removeByIteration(index);
+        }
+        if (removed == null) {
+            throw new IndexOutOfBoundsException("Индекс: " + index);
+        }
+        size.decrementAndGet();
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return Math.max(0, size.get());
+    }
+
+    /**
+     * Удаляет элемент с заданным индексом обходом очереди.
+     *
+     * @param index индекс элемента
+     * @return удаленный элемент или {@code null}, если индекс вне диапазона
+     */
+    private Integer removeByIteration(int index) {
+        Iterator<Integer> iterator = deque.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            Integer element = iterator.next();
+            if (i == index) {
+                iterator.remove();
+                return element;
+            }
+        }
+        return null;
+    }
+}
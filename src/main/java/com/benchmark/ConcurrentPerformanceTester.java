@@ -0,0 +1,246 @@
+package com.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Класс для тестирования производительности списков, разделяемых между потоками.
+ * Для каждой операции {@link ConcurrentBenchmark} и каждой потокобезопасной
+ * реализации выполняет измерения при разном количестве потоков и выводит
+ * кривые масштабирования: пропускную способность (операций в миллисекунду)
+ * для каждого количества потоков и ускорение относительно одного потока.
+ * Реализации, не поддерживающие операцию, в таблицу операции не включаются.
+ * <p>
+ * Каждый поток выполняет достаточно операций, чтобы запуск потоков и передача
+ * управления через защелки занимали малую долю измерения. Для операций,
+ * стоимость которых растет с размером списка (удаление из начала
+ * {@link java.util.concurrent.CopyOnWriteArrayList}), время ячейки оценивается
+ * заранее по пробным прогонам с меньшим количеством операций, как в
+ * {@link SizeSweepTester#predictTrialNanos}; если оценка превышает бюджет,
+ * оставшиеся количества потоков для реализации пропускаются.
+ * <p>
+ * Параметры задаются системными свойствами: {@code benchmark.sizes} — количества
+ * операций на поток через запятую (по умолчанию {@value #DEFAULT_OPERATIONS_PER_THREAD}),
+ * {@code benchmark.threads} — количества потоков через запятую (по умолчанию
+ * степени двойки до удвоенного количества доступных процессоров),
+ * {@code benchmark.cellBudgetMs} — бюджет ячейки в миллисекундах
+ * (по умолчанию {@value #DEFAULT_CELL_BUDGET_MS}).
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class ConcurrentPerformanceTester {
+
+    /**
+     * Количество операций, выполняемых каждым потоком в одном измерении, по умолчанию.
+     */
+    static final int DEFAULT_OPERATIONS_PER_THREAD = 100_000;
+
+    /**
+     * Бюджет времени одной ячейки по умолчанию в миллисекундах.
+     */
+    private static final long DEFAULT_CELL_BUDGET_MS = 5000;
+
+    /**
+     * Во сколько раз пробные прогоны короче измеряемых.
+     */
+    private static final int PROBE_DIVISOR = 100;
+
+    /**
+     * Количество прогревочных прогонов каждого измерения.
+     */
+    private static final int WARMUP_TRIALS = 2;
+
+    /**
+     * Количество измеряемых прогонов каждого измерения.
+     */
+    private static final int MEASURED_TRIALS = 5;
+
+    /**
+     * Многопоточная операция над списком, создаваемым фабрикой.
+     */
+    @FunctionalInterface
+    private interface ConcurrentMeasurement {
+        /**
+         * Выполняет одно многопоточное измерение.
+         *
+         * @param factory фабрика тестируемого списка
+         * @param threadCount количество потоков
+         * @param operationsPerThread количество операций в каждом потоке
+         * @return результат измерения
+         */
+        Result measure(ListFactory factory, int threadCount, int operationsPerThread);
+    }
+
+    /**
+     * Основной метод, запускающий многопоточное тестирование.
+     *
+     * @param args аргументы командной строки (не используются)
+     */
+    public static void main(String[] args) {
+        String sizesProperty = System.getProperty("benchmark.sizes");
+        int[] sizes = sizesProperty != null
+                ? ListPerformanceTester.parseSizes(sizesProperty)
+                : new int[] {DEFAULT_OPERATIONS_PER_THREAD};
+        String threadsProperty = System.getProperty("benchmark.threads");
+        int[] threadCounts = threadsProperty != null
+                ? ListPerformanceTester.parseSizes(threadsProperty)
+                : defaultThreadCounts(Runtime.getRuntime().availableProcessors());
+        long budgetNanos = Long.getLong("benchmark.cellBudgetMs", DEFAULT_CELL_BUDGET_MS) * 1_000_000L;
+
+        System.out.println("=== Масштабирование потокобезопасных списков ===\n");
+        TrialRunner runner = new TrialRunner(WARMUP_TRIALS, MEASURED_TRIALS);
+        for (int operationsPerThread : sizes) {
+            System.out.println("Операций на поток: " + operationsPerThread + "\n");
+            for (Map.Entry<String, ConcurrentMeasurement> scenario : scenarios().entrySet()) {
+                List<Result> results = new ArrayList<>();
+                List<String> skipped = new ArrayList<>();
+                for (ListFactory factory : ConcurrentBenchmark.factories()) {
+                    String stopReason = sweepThreads(runner, scenario.getValue(), factory, threadCounts,
+                            operationsPerThread, budgetNanos, results);
+                    if (stopReason != null) {
+                        skipped.add(factory.getName() + " пропущен при " + stopReason);
+                    }
+                }
+                System.out.println("Операция: " + scenario.getKey());
+                printScaling(results, threadCounts);
+                for (String line : skipped) {
+                    System.out.println("  " + line);
+                }
+                System.out.println();
+            }
+        }
+    }
+
+    /**
+     * Возвращает количества потоков по умолчанию: степени двойки от 1
+     * до удвоенного количества процессоров, чтобы кривая показывала
+     * и масштабирование, и поведение при нехватке процессоров.
+     *
+     * @param processors количество доступных процессоров
+     * @return количества потоков по возрастанию
+     */
+    static int[] defaultThreadCounts(int processors) {
+        List<Integer> counts = new ArrayList<>();
+        int limit = 2 * Math.max(1, processors);
+        for (int count = 1; count < limit; count *= 2) {
+            counts.add(count);
+        }
+        counts.add(limit);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Измеряет операцию для одной реализации при каждом количестве потоков,
+     * пока оценка времени ячейки не превысит бюджет. Первая оценка строится
+     * по двум пробным прогонам в одном потоке с меньшим количеством операций.
+     *
+     * @param runner исполнитель прогонов
+     * @param measurement многопоточная операция
+     * @param factory фабрика тестируемого списка
+     * @param threadCounts количества потоков по возрастанию
+     * @param operationsPerThread количество операций в каждом потоке
+     * @param budgetNanos бюджет ячейки в наносекундах
+     * @param results список, в который добавляются результаты
+     * @return причина пропуска оставшихся количеств потоков или {@code null}
+     */
+    private static String sweepThreads(TrialRunner runner, ConcurrentMeasurement measurement,
+                                       ListFactory factory, int[] threadCounts, int operationsPerThread,
+                                       long budgetNanos, List<Result> results) {
+        int[] totals = new int[threadCounts.length + 2];
+        double[] trialNanos = new double[threadCounts.length + 2];
+        int count = 0;
+        int trialsPerCell = runner.getWarmupTrials() + runner.getMeasuredTrials();
+        try {
+            for (int divisor = PROBE_DIVISOR; divisor > 1 && operationsPerThread / divisor > 0; divisor /= 10) {
+                int probeOperations = operationsPerThread / divisor;
+                totals[count] = probeOperations;
+                trialNanos[count] = measurement.measure(factory, 1, probeOperations).getExecutionTime();
+                count++;
+            }
+            for (int threadCount : threadCounts) {
+                int total = threadCount * operationsPerThread;
+                double predicted = SizeSweepTester.predictTrialNanos(totals, trialNanos, count, total)
+                        * trialsPerCell;
+                if (predicted > budgetNanos) {
+                    return String.format("числе потоков %d: оценка %.1f с превышает бюджет", threadCount, predicted / 1e9);
+                }
+                Result result = runner.run((listFactory, operations) ->
+                        measurement.measure(listFactory, threadCount, operations),
+                        factory, operationsPerThread);
+                results.add(result);
+                totals[count] = total;
+                trialNanos[count] = result.getStatistics().getMedian();
+                count++;
+            }
+        } catch (UnsupportedOperationException e) {
+            // Реализация не поддерживает операцию (например, список только для добавления)
+        }
+        return null;
+    }
+
+    /**
+     * Возвращает многопоточные операции в порядке вывода.
+     *
+     * @return операции, индексированные названием метода
+     */
+    private static Map<String, ConcurrentMeasurement> scenarios() {
+        Map<String, ConcurrentMeasurement> scenarios = new LinkedHashMap<>();
+        scenarios.put("add", ConcurrentBenchmark::testAdd);
+        scenarios.put("get", ConcurrentBenchmark::testGet);
+        scenarios.put("deleteFirst", ConcurrentBenchmark::testDeleteFirst);
+        scenarios.put("deleteLast", ConcurrentBenchmark::testDeleteLast);
+        scenarios.put("mixed", ConcurrentBenchmark::testMixed);
+        scenarios.put("appendRead", ConcurrentBenchmark::testAppendRead);
+        return scenarios;
+    }
+
+    /**
+     * Выводит таблицу масштабирования: для каждой реализации пропускную
+     * способность при каждом количестве потоков и ускорение при максимальном
+     * измеренном количестве потоков относительно наименьшего.
+     *
+     * @param results результаты одной операции для всех реализаций и количеств потоков
+     * @param threadCounts количества потоков по возрастанию
+     */
+    static void printScaling(List<Result> results, int[] threadCounts) {
+        StringBuilder header = new StringBuilder(String.format("%-22s", "List Type"));
+        for (int threadCount : threadCounts) {
+            header.append(String.format(" | %9s", threadCount + " thr"));
+        }
+        header.append(String.format(" | %8s", "Speedup"));
+        System.out.println(header);
+        System.out.println("-".repeat(header.length()));
+        
+        // Группируем результаты по реализации, сохраняя порядок измерений
+        Map<String, Map<Integer, Result>> byList = new LinkedHashMap<>();
+        for (Result result : results) {
+            byList.computeIfAbsent(result.getListType(), key -> new LinkedHashMap<>())
+                    .put(result.getThreadCount(), result);
+        }
+        
+        for (Map.Entry<String, Map<Integer, Result>> entry : byList.entrySet()) {
+            StringBuilder row = new StringBuilder(String.format("%-22s", entry.getKey()));
+            for (int threadCount : threadCounts) {
+                Result result = entry.getValue().get(threadCount);
+                row.append(result != null
+                        ? String.format(" | %9.1f", result.getThroughput())
+                        : String.format(" | %9s", "-"));
+            }
+            Result single = entry.getValue().get(threadCounts[0]);
+            Result widest = null;
+            for (int threadCount : threadCounts) {
+                Result result = entry.getValue().get(threadCount);
+                widest = result != null ? result : widest;
+            }
+            if (single != null && widest != single && single.getThroughput() > 0) {
+                row.append(String.format(" | %7.2fx", widest.getThroughput() / single.getThroughput()));
+            } else {
+                row.append(String.format(" | %8s", "-"));
+            }
+            System.out.println(row);
+        }
+    }
+}
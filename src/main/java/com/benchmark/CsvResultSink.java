@@ -0,0 +1,75 @@
+package com.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Приемник, записывающий результаты в CSV-файл: строка заголовка и по одной
+ * строке на результат. Поля определяются {@link ResultRecord}; значения,
+ * содержащие запятые, кавычки или переводы строк, заключаются в кавычки.
+ * После каждой строки буфер сбрасывается на диск.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class CsvResultSink implements ResultSink {
+    private final BufferedWriter writer;
+    private final RunEnvironment environment;
+    private boolean headerWritten;
+
+    /**
+     * Создает приемник, перезаписывая файл.
+     *
+     * @param path путь к файлу
+     * @param environment сведения о JVM, записываемые с каждым результатом
+     * @throws IOException если файл не удалось открыть
+     */
+    public CsvResultSink(Path path, RunEnvironment environment) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        this.environment = environment;
+    }
+
+    @Override
+    public synchronized void write(Result result) throws IOException {
+        Map<String, Object> fields = ResultRecord.fields(result, environment, Instant.now());
+        if (!headerWritten) {
+            writer.write(String.join(",", fields.keySet()));
+            writer.newLine();
+            headerWritten = true;
+        }
+        StringBuilder line = new StringBuilder();
+        for (Object value : fields.values()) {
+            if (line.length() > 0) {
+                line.append(',');
+            }
+            line.append(escape(String.valueOf(value)));
+        }
+        writer.write(line.toString());
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Экранирует значение по правилам RFC 4180.
+     *
+     * @param value значение
+     * @return значение, пригодное для записи в CSV
+     */
+    static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,434 @@
+package com.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Исполнитель матрицы измерений. Распределяет независимые ячейки
+ * {@link BenchmarkCell} по выбранному способу выполнения {@link ExecutionMode}
+ * и возвращает результаты в порядке ячеек независимо от порядка их завершения.
+ * <p>
+ * Количество одновременно выполняемых ячеек ограничено параметром {@code parallelism}.
+ * По умолчанию используется половина процессоров, доступных JVM с учетом
+ * ограничений контейнера и маски привязки процесса, чтобы потокам JIT-компилятора
+ * и сборщика мусора оставались свободные ядра. В режиме {@link ExecutionMode#FORK}
+ * на Linux при наличии утилиты {@code taskset} каждая дочерняя JVM
+ * привязывается к отдельному процессору из маски привязки текущего процесса.
+ * Дочерним JVM передаются системные свойства {@code benchmark.*} и открываются
+ * пакеты JDK, необходимые для измерения памяти {@link MemoryFootprint}.
+ * <p>
+ * Счетчики сборок мусора общие для всей JVM, поэтому при одновременном
+ * выполнении нескольких ячеек в одной JVM сборки, вызванные одной ячейкой,
+ * попали бы в результаты других. В этом случае количество и время сборок
+ * в результатах неизвестны (-1). Выделения памяти считаются по потоку
+ * платформенных потоков и остаются точными в режиме {@link ExecutionMode#PLATFORM}.
+ * Для виртуальных потоков JVM не сообщает выделенную память (-1), поэтому
+ * в режиме {@link ExecutionMode#VIRTUAL} выделения в результатах неизвестны.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class ExecutionEngine {
+    private final ExecutionMode mode;
+    private final int parallelism;
+    private final int warmupTrials;
+    private final int measuredTrials;
+
+    /**
+     * Создает исполнитель с параллелизмом по умолчанию.
+     *
+     * @param mode способ выполнения ячеек
+     * @param warmupTrials количество прогревочных прогонов каждой ячейки
+     * @param measuredTrials количество измеряемых прогонов каждой ячейки
+     */
+    public ExecutionEngine(ExecutionMode mode, int warmupTrials, int measuredTrials) {
+        this(mode, defaultParallelism(), warmupTrials, measuredTrials);
+    }
+
+    /**
+     * Создает исполнитель.
+     *
+     * @param mode способ выполнения ячеек
+     * @param parallelism максимальное количество одновременно выполняемых ячеек
+     * @param warmupTrials количество прогревочных прогонов каждой ячейки
+     * @param measuredTrials количество измеряемых прогонов каждой ячейки
+     * @throws IllegalArgumentException если параллелизм меньше 1
+     */
+    public ExecutionEngine(ExecutionMode mode, int parallelism, int warmupTrials, int measuredTrials) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Параллелизм должен быть положительным: " + parallelism);
+        }
+        this.mode = mode;
+        this.parallelism = mode == ExecutionMode.SEQUENTIAL ? 1 : parallelism;
+        this.warmupTrials = warmupTrials;
+        this.measuredTrials = measuredTrials;
+        // Проверяем корректность количества прогонов до запуска ячеек
+        new TrialRunner(warmupTrials, measuredTrials);
+    }
+
+    /**
+     * Возвращает параллелизм по умолчанию: половину доступных процессоров, но не меньше 1.
+     *
+     * @return параллелизм по умолчанию
+     */
+    public static int defaultParallelism() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    /**
+     * Выполняет все ячейки и возвращает результаты в порядке ячеек.
+     * Ячейки, реализация которых не поддерживает операцию, в результат не входят.
+     *
+     * @param cells ячейки матрицы измерений
+     * @return результаты измерений
+     * @throws IllegalStateException если выполнение ячейки завершилось ошибкой
+     */
+    public List<Result> run(List<BenchmarkCell> cells) {
+        return run(cells, ResultSink.NONE);
+    }
+
+    /**
+     * Выполняет все ячейки и возвращает результаты в порядке ячеек.
+     * Каждый результат передается в приемник сразу после завершения ячейки,
+     * то есть при параллельном выполнении — в порядке завершения.
+     * Ячейки, реализация которых не поддерживает операцию, в результат не входят.
+     *
+     * @param cells ячейки матрицы измерений
+     * @param sink приемник результатов
+     * @return результаты измерений
+     * @throws IllegalStateException если выполнение ячейки завершилось ошибкой
+     * @throws UncheckedIOException если приемник не смог записать результат
+     */
+    public List<Result> run(List<BenchmarkCell> cells, ResultSink sink) {
+        try {
+            return execute(cells, sink);
+        } finally {
+            // Пул значений ячеек StructureBenchmark нужен только на время матрицы
+            ValuePool.release();
+        }
+    }
+
+    /**
+     * Выполняет все ячейки выбранным способом.
+     *
+     * @param cells ячейки матрицы измерений
+     * @param sink приемник результатов
+     * @return результаты измерений
+     */
+    private List<Result> execute(List<BenchmarkCell> cells, ResultSink sink) {
+        if (mode == ExecutionMode.SEQUENTIAL) {
+            List<Result> results = new ArrayList<>();
+            TrialRunner runner = new TrialRunner(warmupTrials, measuredTrials);
+            for (BenchmarkCell cell : cells) {
+                Result result = cell.execute(runner);
+                writeIfPresent(sink, cell, result);
+                addIfPresent(results, result);
+            }
+            return results;
+        }
+
+        // Слоты ограничивают число одновременно выполняемых ячеек и задают процессор дочерней JVM
+        BlockingQueue<Integer> slots = new ArrayBlockingQueue<>(parallelism);
+        for (int slot = 0; slot < parallelism; slot++) {
+            slots.add(slot);
+        }
+
+        ExecutorService executor = createExecutor();
+        // Пул платформенных потоков используется и в режиме VIRTUAL, если виртуальные потоки недоступны
+        boolean virtualThreads = !(executor instanceof ThreadPoolExecutor);
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (BenchmarkCell cell : cells) {
+                futures.add(executor.submit(() -> {
+                    int slot = slots.take();
+                    Result result;
+                    try {
+                        result = mode == ExecutionMode.FORK
+                                ? executeForked(cell, slot)
+                                : withoutSharedUsage(cell.execute(new TrialRunner(warmupTrials, measuredTrials)),
+                                        virtualThreads);
+                    } finally {
+                        slots.add(slot);
+                    }
+                    writeIfPresent(sink, cell, result);
+                    return result;
+                }));
+            }
+
+            List<Result> results = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    addIfPresent(results, futures.get(i).get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof UncheckedIOException) {
+                        throw (UncheckedIOException) e.getCause();
+                    }
+                    throw new IllegalStateException("Ошибка при выполнении ячейки " + cells.get(i), e.getCause());
+                }
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Выполнение матрицы прервано", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Отмечает как неизвестные данные, которые нельзя отнести к ячейке:
+     * сборки мусора, если ячейка выполнялась одновременно с другими в этой JVM,
+     * и выделения памяти, если ячейка выполнялась в виртуальном потоке.
+     *
+     * @param result результат ячейки или {@code null}
+     * @param virtualThread выполнялась ли ячейка в виртуальном потоке
+     * @return результат без недостоверных данных или {@code null}
+     */
+    private Result withoutSharedUsage(Result result, boolean virtualThread) {
+        if (result == null || (parallelism == 1 && !virtualThread)) {
+            return result;
+        }
+        return result.withResourceUsage(virtualThread ? -1 : result.getAllocatedBytes(),
+                parallelism == 1 ? result.getGcCount() : -1,
+                parallelism == 1 ? result.getGcTimeMillis() : -1);
+    }
+
+    /**
+     * Создает исполнитель задач для выбранного режима. Для виртуальных потоков
+     * фабрика ищется через отражение, так как проект компилируется для Java 11.
+     *
+     * @return исполнитель задач
+     */
+    private ExecutorService createExecutor() {
+        if (mode == ExecutionMode.VIRTUAL) {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                System.err.println("Виртуальные потоки недоступны (требуется Java 21+), "
+                        + "используется пул платформенных потоков");
+            }
+        }
+        return Executors.newFixedThreadPool(parallelism);
+    }
+
+    /**
+     * Выполняет ячейку в дочерней JVM и разбирает ее результат.
+     *
+     * @param cell ячейка матрицы измерений
+     * @param slot номер слота, используемый как номер процессора для привязки
+     * @return результат или {@code null}, если операция не поддерживается
+     * @throws IOException если не удалось запустить дочернюю JVM
+     * @throws InterruptedException если ожидание завершения было прервано
+     */
+    private Result executeForked(BenchmarkCell cell, int slot) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        int[] cpus = TasksetHolder.ALLOWED_CPUS;
+        if (cpus.length > 0) {
+            command.add("taskset");
+            command.add("-c");
+            command.add(String.valueOf(cpus[slot % cpus.length]));
+        }
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        for (String module : MemoryFootprint.OPENED_PACKAGES) {
+            command.add("--add-opens");
+            command.add(module + "=ALL-UNNAMED");
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("benchmark.")) {
+                command.add("-D" + name + "=" + System.getProperty(name));
+            }
+        }
+        command.add("-cp");
+        command.add(childClasspath());
+        command.add(CellRunner.class.getName());
+        command.add(cell.getMethodName());
+        command.add(cell.getListType());
+        command.add(String.valueOf(cell.getOperationsCount()));
+        command.add(String.valueOf(warmupTrials));
+        command.add(String.valueOf(measuredTrials));
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String resultLine = null;
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line).append('\n');
+                if (line.startsWith(CellRunner.RESULT_PREFIX) || line.equals(CellRunner.UNSUPPORTED)) {
+                    resultLine = line;
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+        if (exitCode != 0 || resultLine == null) {
+            throw new IllegalStateException("Дочерняя JVM завершилась с кодом " + exitCode + ":\n" + output);
+        }
+        return resultLine.equals(CellRunner.UNSUPPORTED)
+                ? null
+                : CellRunner.decode(resultLine.substring(CellRunner.RESULT_PREFIX.length()));
+    }
+
+    /**
+     * Формирует classpath дочерней JVM: элементы загрузчика классов проекта
+     * (при запуске через {@code exec:java} он отличается от {@code java.class.path})
+     * и расположение классов самого проекта.
+     *
+     * @return classpath дочерней JVM
+     */
+    private static String childClasspath() {
+        Set<String> entries = new LinkedHashSet<>();
+        ClassLoader loader = ExecutionEngine.class.getClassLoader();
+        if (loader instanceof URLClassLoader) {
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                addUrl(entries, url);
+            }
+        }
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!entry.isEmpty()) {
+                entries.add(entry);
+            }
+        }
+        addUrl(entries, ExecutionEngine.class.getProtectionDomain().getCodeSource().getLocation());
+        return String.join(File.pathSeparator, entries);
+    }
+
+    /**
+     * Добавляет путь файловой системы, соответствующий URL, в набор элементов classpath.
+     *
+     * @param entries элементы classpath
+     * @param url URL элемента
+     */
+    private static void addUrl(Set<String> entries, URL url) {
+        try {
+            entries.add(Paths.get(url.toURI()).toString());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            // Элементы, не являющиеся файлами, дочерней JVM не нужны
+        }
+    }
+
+    /**
+     * Добавляет результат, если ячейка поддерживает операцию.
+     *
+     * @param results список результатов
+     * @param result результат ячейки или {@code null}
+     */
+    private static void addIfPresent(List<Result> results, Result result) {
+        if (result != null) {
+            results.add(result);
+        }
+    }
+
+    /**
+     * Передает результат в приемник, если ячейка поддерживает операцию.
+     *
+     * @param sink приемник результатов
+     * @param cell ячейка матрицы измерений
+     * @param result результат ячейки или {@code null}
+     * @throws UncheckedIOException если приемник не смог записать результат
+     */
+    private static void writeIfPresent(ResultSink sink, BenchmarkCell cell, Result result) {
+        if (result == null) {
+            return;
+        }
+        try {
+            sink.write(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось записать результат ячейки " + cell, e);
+        }
+    }
+
+    /**
+     * Ленивое определение процессоров, к которым можно привязывать дочерние JVM:
+     * номера из маски привязки текущего процесса ({@code Cpus_allowed_list}
+     * в {@code /proc/self/status}). Пустой массив означает, что привязка
+     * недоступна (не Linux или нет утилиты {@code taskset}).
+     */
+    private static final class TasksetHolder {
+        static final int[] ALLOWED_CPUS = detect();
+
+        private static int[] detect() {
+            if (!System.getProperty("os.name", "").toLowerCase().contains("linux")) {
+                return new int[0];
+            }
+            try {
+                Process process = new ProcessBuilder("taskset", "-V").redirectErrorStream(true).start();
+                process.getInputStream().readAllBytes();
+                if (process.waitFor() != 0) {
+                    return new int[0];
+                }
+                for (String line : Files.readAllLines(Paths.get("/proc/self/status"))) {
+                    if (line.startsWith("Cpus_allowed_list:")) {
+                        return parseCpuList(line.substring(line.indexOf(':') + 1).trim());
+                    }
+                }
+                return new int[0];
+            } catch (IOException | RuntimeException e) {
+                return new int[0];
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new int[0];
+            }
+        }
+    }
+
+    /**
+     * Разбирает список процессоров в формате Linux, например {@code "0-3,8,10-11"}.
+     *
+     * @param list список процессоров
+     * @return номера процессоров
+     * @throws NumberFormatException если список имеет неверный формат
+     */
+    static int[] parseCpuList(String list) {
+        List<Integer> cpus = new ArrayList<>();
+        for (String part : list.split(",")) {
+            String range = part.trim();
+            if (range.isEmpty()) {
+                continue;
+            }
+            int dash = range.indexOf('-');
+            int from = Integer.parseInt(dash < 0 ? range : range.substring(0, dash));
+            int to = dash < 0 ? from : Integer.parseInt(range.substring(dash + 1));
+            for (int cpu = from; cpu <= to; cpu++) {
+                cpus.add(cpu);
+            }
+        }
+        return cpus.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Возвращает способ выполнения ячеек.
+     *
+     * @return способ выполнения
+     */
+    public ExecutionMode getMode() { return mode; }
+
+    /**
+     * Возвращает максимальное количество одновременно выполняемых ячеек.
+     *
+     * @return параллелизм
+     */
+    public int getParallelism() { return parallelism; }
+}
@@ -0,0 +1,33 @@
+package com.benchmark;
+
+/**
+ * Способ выполнения независимых ячеек матрицы измерений в {@link ExecutionEngine}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public enum ExecutionMode {
+
+    /**
+     * Последовательное выполнение в текущем потоке. Дает наименее
+     * зашумленные результаты и используется по умолчанию.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Параллельное выполнение в пуле платформенных потоков.
+     */
+    PLATFORM,
+
+    /**
+     * Параллельное выполнение в виртуальных потоках (Java 21 и выше).
+     * На более ранних версиях Java используется пул платформенных потоков.
+     */
+    VIRTUAL,
+
+    /**
+     * Выполнение каждой ячейки в отдельной JVM, что изолирует
+     * состояние JIT-компилятора и кучи между ячейками.
+     */
+    FORK
+}
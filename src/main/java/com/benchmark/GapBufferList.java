@@ -0,0 +1,192 @@
+package com.benchmark;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Список на буфере с разрывом (gap buffer): массив содержит непрерывную
+ * свободную область, которая перемещается к месту изменения. Вставка
+ * и удаление в позиции разрыва выполняются за O(1), а перемещение разрыва
+ * стоит O(d), где d — расстояние от предыдущего места изменения. Поэтому
+ * серии правок в одной области списка, в том числе в середине, обходятся
+ * дешевле, чем у {@link java.util.ArrayList}, при сохранении получения
+ * по индексу за O(1).
+ * <p>
+ * Полностью реализует {@link java.util.List}, включая элементы {@code null}
+ * и итераторы с быстрым отказом при одновременном изменении.
+ *
+ * @param <E> тип элементов
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class GapBufferList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Емкость по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] buffer;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Создает пустой список с емкостью по умолчанию.
+     */
+    public GapBufferList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с заданной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость
+     * @throws IllegalArgumentException если емкость отрицательна
+     */
+    public GapBufferList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Некорректная емкость: " + initialCapacity);
+        }
+        this.buffer = new Object[Math.max(1, initialCapacity)];
+        this.gapEnd = buffer.length;
+    }
+
+    /**
+     * Создает список, содержащий элементы коллекции в порядке ее итератора.
+     *
+     * @param collection исходная коллекция
+     * @throws NullPointerException если коллекция равна null
+     */
+    public GapBufferList(Collection<? extends E> collection) {
+        this(collection.size());
+        addAll(collection);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size());
+        return (E) buffer[position(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index, size());
+        int position = position(index);
+        E previous = (E) buffer[position];
+        buffer[position] = element;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size() + 1);
+        moveGap(index);
+        if (gapStart == gapEnd) {
+            grow();
+        }
+        buffer[gapStart++] = element;
+        modCount++;
+    }
+
+    @Override
+    public boolean add(E element) {
+        add(size(), element);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index, size());
+        moveGap(index);
+        E removed = (E) buffer[gapEnd];
+        buffer[gapEnd++] = null;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < gapStart; i++) {
+            buffer[i] = null;
+        }
+        for (int i = gapEnd; i < buffer.length; i++) {
+            buffer[i] = null;
+        }
+        gapStart = 0;
+        gapEnd = buffer.length;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Возвращает позицию начала разрыва, то есть индекс, по которому
+     * следующая вставка или удаление выполнится без сдвига элементов.
+     *
+     * @return позиция разрыва
+     */
+    int gapPosition() {
+        return gapStart;
+    }
+
+    /**
+     * Перемещает разрыв так, чтобы он начинался с указанного индекса.
+     * Освободившиеся ячейки очищаются, чтобы не удерживать ссылки.
+     *
+     * @param index логический индекс начала разрыва
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            clearRange(index, Math.min(gapStart, gapEnd - count));
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            clearRange(Math.max(gapEnd, index), gapEnd + count);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Увеличивает емкость вдвое, сохраняя позицию разрыва.
+     */
+    private void grow() {
+        int tail = buffer.length - gapEnd;
+        int capacity = buffer.length + Math.max(1, buffer.length);
+        if (capacity < 0) {
+            throw new IllegalStateException("Превышена максимальная емкость списка");
+        }
+        Object[] grown = new Object[capacity];
+        System.arraycopy(buffer, 0, grown, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, grown, capacity - tail, tail);
+        buffer = grown;
+        gapEnd = capacity - tail;
+    }
+
+    private void clearRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            buffer[i] = null;
+        }
+    }
+
+    private int position(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + bound);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.benchmark;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Наблюдатель за отдельными паузами сборщика мусора по уведомлениям
+ * {@link GarbageCollectionNotificationInfo}. В отличие от суммарных счетчиков
+ * {@link GarbageCollectorMXBean}, позволяет узнать самую длинную паузу
+ * за интервал. Параллельные циклы сборщиков (например, «G1 Concurrent GC»
+ * или «ZGC Cycles») паузами не считаются.
+ * <p>
+ * Уведомления доставляются в отдельном потоке, поэтому сводка за интервал
+ * может не включать паузу, закончившуюся непосредственно перед ее снятием.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+final class GcPauseMonitor implements NotificationListener, AutoCloseable {
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private long pauses;
+    private long totalPauseMillis;
+    private long maxPauseMillis;
+
+    private GcPauseMonitor() {
+    }
+
+    /**
+     * Подписывается на уведомления всех сборщиков мусора, которые их поддерживают.
+     *
+     * @return наблюдатель
+     */
+    static GcPauseMonitor start() {
+        GcPauseMonitor monitor = new GcPauseMonitor();
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter) {
+                NotificationEmitter emitter = (NotificationEmitter) bean;
+                emitter.addNotificationListener(monitor, null, null);
+                monitor.emitters.add(emitter);
+            }
+        }
+        return monitor;
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        if (!isPause(info.getGcName())) {
+            return;
+        }
+        long duration = info.getGcInfo().getDuration();
+        synchronized (this) {
+            pauses++;
+            totalPauseMillis += duration;
+            maxPauseMillis = Math.max(maxPauseMillis, duration);
+        }
+    }
+
+    /**
+     * Возвращает сводку пауз с момента предыдущего вызова и начинает новый интервал.
+     *
+     * @return количество пауз, их суммарная и наибольшая длительность в миллисекундах
+     */
+    synchronized long[] drain() {
+        long[] interval = {pauses, totalPauseMillis, maxPauseMillis};
+        pauses = 0;
+        totalPauseMillis = 0;
+        maxPauseMillis = 0;
+        return interval;
+    }
+
+    /**
+     * Отписывается от уведомлений сборщиков мусора.
+     */
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException e) {
+                // Подписка уже снята
+            }
+        }
+        emitters.clear();
+    }
+
+    /**
+     * Проверяет, означает ли уведомление сборщика паузу приложения.
+     *
+     * @param gcName название сборщика
+     * @return {@code false} для параллельных циклов
+     */
+    static boolean isPause(String gcName) {
+        return !gcName.contains("Concurrent") && !gcName.contains("Cycles");
+    }
+}
@@ -0,0 +1,127 @@
+package com.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Приемник, формирующий HTML-отчет. Заголовок со сведениями о JVM
+ * записывается при открытии, каждый результат дописывается строкой таблицы
+ * сразу после получения. При закрытии добавляется сценарий, который
+ * по строкам таблицы строит столбчатые диаграммы медианы времени
+ * для каждой пары "метод — количество операций". Отчет не хранит
+ * результаты в памяти; если прогон прервался, таблица остается читаемой.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class HtmlResultSink implements ResultSink {
+
+    /**
+     * Сценарий построения диаграмм по строкам таблицы.
+     */
+    private static final String CHART_SCRIPT = String.join("\n",
+            "<script>",
+            "var groups = {};",
+            "document.querySelectorAll('#results tbody tr').forEach(function (row) {",
+            "  var key = row.dataset.method + ' \\u2014 ' + row.dataset.operations;",
+            "  (groups[key] = groups[key] || []).push(row);",
+            "});",
+            "var charts = document.getElementById('charts');",
+            "Object.keys(groups).forEach(function (key) {",
+            "  var rows = groups[key];",
+            "  var max = Math.max.apply(null, rows.map(function (r) { return +r.dataset.median; }));",
+            "  var html = '<h3>' + key + '</h3><svg width=\"720\" height=\"' + (rows.length * 22) + '\">';",
+            "  rows.forEach(function (r, i) {",
+            "    var width = max > 0 ? 500 * r.dataset.median / max : 0;",
+            "    html += '<text x=\"0\" y=\"' + (i * 22 + 15) + '\">' + r.dataset.list + '</text>'",
+            "      + '<rect x=\"170\" y=\"' + (i * 22 + 3) + '\" width=\"' + width + '\" height=\"16\" fill=\"#4a7ab7\"/>'",
+            "      + '<text x=\"' + (175 + width) + '\" y=\"' + (i * 22 + 15) + '\">'",
+            "      + (r.dataset.median / 1e6).toFixed(3) + ' ms</text>';",
+            "  });",
+            "  charts.insertAdjacentHTML('beforeend', html + '</svg>');",
+            "});",
+            "</script>");
+
+    private final BufferedWriter writer;
+
+    /**
+     * Создает приемник, перезаписывая файл, и записывает заголовок отчета.
+     *
+     * @param path путь к файлу
+     * @param environment сведения о JVM, выводимые в заголовке отчета
+     * @throws IOException если файл не удалось открыть или записать
+     */
+    public HtmlResultSink(Path path, RunEnvironment environment) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        writer.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n"
+                + "<title>Производительность списков</title>\n"
+                + "<style>body{font-family:sans-serif}td,th{padding:2px 8px;text-align:right}"
+                + "td:nth-child(2),td:nth-child(3){text-align:left}svg text{font-size:12px}</style>\n"
+                + "</head>\n<body>\n<h1>Производительность списков</h1>\n<p>"
+                + escape("Java " + environment.getJavaVersion() + ", " + environment.getVmName()
+                        + ", GC: " + environment.getGarbageCollectors()
+                        + ", куча: " + environment.getInitialHeapBytes() / (1024 * 1024) + " / "
+                        + environment.getMaxHeapBytes() / (1024 * 1024) + " МБ"
+                        + ", процессоров: " + environment.getAvailableProcessors()
+                        + ", запуск: " + environment.getStartTime())
+                + "<br>" + escape(environment.getJvmArguments()) + "</p>\n"
+                + "<div id=\"charts\"></div>\n"
+                + "<table id=\"results\">\n<thead><tr><th>Время</th><th>Метод</th><th>Тип списка</th>"
+                + "<th>Операции</th><th>Медиана (мс)</th><th>p90 (мс)</th><th>ops/ms</th>"
+                + "<th>Alloc (КБ)</th><th>Retained (КБ)</th><th>Оп. p50 (нс)</th><th>Оп. p99 (нс)</th>"
+                + "<th>Оп. p99.9 (нс)</th><th>Оп. max (нс)</th></tr></thead>\n<tbody>\n");
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void write(Result result) throws IOException {
+        Statistics statistics = result.getStatistics();
+        LatencySummary latency = result.getLatency();
+        writer.write(String.format(Locale.ROOT,
+                "<tr data-method=\"%s\" data-list=\"%s\" data-operations=\"%d\" data-median=\"%.0f\">"
+                        + "<td>%s</td><td>%s</td><td>%s</td><td>%d</td><td>%.3f</td><td>%.3f</td>"
+                        + "<td>%.1f</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td></tr>%n",
+                escape(result.getMethodName()), escape(result.getListType()),
+                result.getOperationsCount(), statistics.getMedian(),
+                Instant.now(), escape(result.getMethodName()), escape(result.getListType()),
+                result.getOperationsCount(), statistics.getMedian() / 1_000_000.0,
+                statistics.getP90() / 1_000_000.0, result.getThroughput(),
+                kilobytes(result.getAllocatedBytes()), kilobytes(result.getRetainedBytes()),
+                nanos(latency.getP50()), nanos(latency.getP99()), nanos(latency.getP999()),
+                nanos(latency.getMax())));
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            writer.write("</tbody>\n</table>\n" + CHART_SCRIPT + "\n</body>\n</html>\n");
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static String kilobytes(long bytes) {
+        return bytes >= 0 ? String.format(Locale.ROOT, "%.1f", bytes / 1024.0) : "-";
+    }
+
+    private static String nanos(long value) {
+        return value >= 0 ? String.valueOf(value) : "-";
+    }
+
+    /**
+     * Экранирует специальные символы HTML.
+     *
+     * @param value строка
+     * @return строка, пригодная для вставки в HTML
+     */
+    static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,101 @@
+package com.benchmark;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Реализация {@link IntList} на основе массива {@code int[]}.
+ * Повторяет поведение {@link java.util.ArrayList}: добавление в конец
+ * за амортизированное O(1) с увеличением емкости в 1.5 раза,
+ * вставка и удаление в начале за O(n) со сдвигом элементов.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class IntArrayList implements IntList {
+
+    /**
+     * Начальная емкость массива, совпадающая с {@link java.util.ArrayList}.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Создает пустой список с начальной емкостью по умолчанию.
+     */
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с заданной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость
+     * @throws IllegalArgumentException если емкость отрицательна
+     */
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Отрицательная емкость: " + initialCapacity);
+        }
+        this.elements = new int[initialCapacity];
+    }
+
+    @Override
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    @Override
+    public void addFirst(int value) {
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, 0, elements, 1, size);
+        elements[0] = value;
+        size++;
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + size);
+        }
+        return elements[index];
+    }
+
+    @Override
+    public int removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int value = elements[0];
+        System.arraycopy(elements, 1, elements, 0, --size);
+        return value;
+    }
+
+    @Override
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return elements[--size];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Увеличивает емкость массива, если она меньше требуемой.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.benchmark;
+
+/**
+ * Утилитарный класс для измерения производительности операций со списками
+ * примитивных значений {@link IntList}. Повторяет сценарии класса {@link Benchmark}
+ * без упаковки значений в {@link Integer}, что позволяет сравнить стоимость
+ * самой структуры данных со стоимостью упаковки.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class IntBenchmark {
+
+    /**
+     * Поле для сохранения результата чтения, чтобы JIT-компилятор
+     * не удалил цикл получения элементов, не имеющий побочных эффектов.
+     */
+    private static volatile long sink;
+
+    /**
+     * Тестирует производительность добавления элементов в конец списка.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов для добавления
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testAdd(IntList list, int elementsCount) {
+        IntList testList = createNewList(list);
+        
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < elementsCount; i++) {
+            testList.add(i);
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        
+        return new Result("add", testList.getClass().getSimpleName(), 
+                         elementsCount, endTime - startTime, "add")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Тестирует производительность добавления элементов в начало списка.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов для добавления в начало
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testAddFirst(IntList list, int elementsCount) {
+        IntList testList = createNewList(list);
+        
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < elementsCount; i++) {
+            testList.addFirst(i);
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        
+        return new Result("addFirst", testList.getClass().getSimpleName(), 
+                         elementsCount, endTime - startTime, "add")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Тестирует производительность получения элементов по индексу.
+     * Перед тестированием заполняет список тестовыми данными.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param operationsCount количество операций получения элементов
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testGet(IntList list, int operationsCount) {
+        IntList testList = createNewList(list);
+        
+        for (int i = 0; i < operationsCount; i++) {
+            testList.add(i);
+        }
+        
+        long checksum = 0;
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < operationsCount; i++) {
+            checksum += testList.get(i % testList.size());
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        sink = checksum;
+        
+        return new Result("get", testList.getClass().getSimpleName(), 
+                         operationsCount, endTime - startTime, "get")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Тестирует производительность удаления элементов из начала списка.
+     * Перед тестированием заполняет список удвоенным количеством элементов.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param operationsCount количество операций удаления элементов из начала
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testDeleteFirst(IntList list, int operationsCount) {
+        IntList testList = createNewList(list);
+        
+        for (int i = 0; i < operationsCount * 2; i++) {
+            testList.add(i);
+        }
+        
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < operationsCount; i++) {
+            if (!testList.isEmpty()) {
+                testList.removeFirst();
+            }
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        
+        return new Result("deleteFirst", testList.getClass().getSimpleName(), 
+                         operationsCount, endTime - startTime, "delete")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Тестирует производительность удаления элементов из конца списка.
+     * Перед тестированием заполняет список удвоенным количеством элементов.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param operationsCount количество операций удаления элементов из конца
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testDeleteLast(IntList list, int operationsCount) {
+        IntList testList = createNewList(list);
+        
+        for (int i = 0; i < operationsCount * 2; i++) {
+            testList.add(i);
+        }
+        
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < operationsCount; i++) {
+            if (!testList.isEmpty()) {
+                testList.removeLast();
+            }
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        
+        return new Result("deleteLast", testList.getClass().getSimpleName(), 
+                         operationsCount, endTime - startTime, "delete")
+                .withResourceUsage(probe)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Создает новый экземпляр списка того же типа, что и переданный список.
+     * Поддерживает {@link IntArrayList} и {@link IntLinkedList}.
+     *
+     * @param original оригинальный список, тип которого используется для создания нового списка
+     * @return новый пустой экземпляр списка
+     * @throws NullPointerException если переданный список равен null
+     * @throws IllegalArgumentException если тип списка не поддерживается
+     */
+    private static IntList createNewList(IntList original) {
+        if (original.getClass() == IntLinkedList.class) {
+            return new IntLinkedList();
+        } else if (original.getClass() == IntArrayList.class) {
+            return new IntArrayList();
+        }
+        throw new IllegalArgumentException("Неизвестный тип примитивного списка: "
+                + original.getClass().getName());
+    }
+}
@@ -0,0 +1,120 @@
+package com.benchmark;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Двусвязная реализация {@link IntList} с узлами, хранящими значение {@code int}.
+ * Повторяет поведение {@link java.util.LinkedList}: вставка и удаление на концах
+ * за O(1), получение по индексу за O(n) с обходом от ближайшего конца.
+ * В отличие от {@link java.util.LinkedList} узел не ссылается на объект
+ * {@link Integer}, поэтому на каждый элемент приходится одно выделение памяти.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class IntLinkedList implements IntList {
+
+    /**
+     * Узел двусвязного списка.
+     */
+    private static final class Node {
+        int value;
+        Node prev;
+        Node next;
+
+        Node(Node prev, int value, Node next) {
+            this.prev = prev;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private Node first;
+    private Node last;
+    private int size;
+
+    @Override
+    public void add(int value) {
+        Node node = new Node(last, value, null);
+        if (last == null) {
+            first = node;
+        } else {
+            last.next = node;
+        }
+        last = node;
+        size++;
+    }
+
+    @Override
+    public void addFirst(int value) {
+        Node node = new Node(null, value, first);
+        if (first == null) {
+            last = node;
+        } else {
+            first.prev = node;
+        }
+        first = node;
+        size++;
+    }
+
+    @Override
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + size);
+        }
+        Node node;
+        if (index < (size >> 1)) {
+            node = first;
+            for (int i = 0; i < index; i++) {
+                node = node.next;
+            }
+        } else {
+            node = last;
+            for (int i = size - 1; i > index; i--) {
+                node = node.prev;
+            }
+        }
+        return node.value;
+    }
+
+    @Override
+    public int removeFirst() {
+        if (first == null) {
+            throw new NoSuchElementException();
+        }
+        int value = first.value;
+        Node next = first.next;
+        first.next = null;
+        first = next;
+        if (next == null) {
+            last = null;
+        } else {
+            next.prev = null;
+        }
+        size--;
+        return value;
+    }
+
+    @Override
+    public int removeLast() {
+        if (last == null) {
+            throw new NoSuchElementException();
+        }
+        int value = last.value;
+        Node prev = last.prev;
+        last.prev = null;
+        last = prev;
+        if (prev == null) {
+            first = null;
+        } else {
+            prev.next = null;
+        }
+        size--;
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
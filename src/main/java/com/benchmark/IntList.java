@@ -0,0 +1,67 @@
+package com.benchmark;
+
+/**
+ * Список примитивных значений {@code int} без упаковки в {@link Integer}.
+ * Содержит только операции, измеряемые в {@link IntBenchmark}, что позволяет
+ * отделить стоимость самой структуры данных от стоимости упаковки.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public interface IntList {
+
+    /**
+     * Добавляет значение в конец списка.
+     *
+     * @param value добавляемое значение
+     */
+    void add(int value);
+
+    /**
+     * Добавляет значение в начало списка.
+     *
+     * @param value добавляемое значение
+     */
+    void addFirst(int value);
+
+    /**
+     * Возвращает значение по индексу.
+     *
+     * @param index индекс элемента
+     * @return значение элемента
+     * @throws IndexOutOfBoundsException если индекс вне диапазона
+     */
+    int get(int index);
+
+    /**
+     * Удаляет и возвращает первое значение списка.
+     *
+     * @return удаленное значение
+     * @throws java.util.NoSuchElementException если список пуст
+     */
+    int removeFirst();
+
+    /**
+     * Удаляет и возвращает последнее значение списка.
+     *
+     * @return удаленное значение
+     * @throws java.util.NoSuchElementException если список пуст
+     */
+    int removeLast();
+
+    /**
+     * Возвращает количество элементов в списке.
+     *
+     * @return размер списка
+     */
+    int size();
+
+    /**
+     * Проверяет, пуст ли список.
+     *
+     * @return {@code true}, если список не содержит элементов
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+}
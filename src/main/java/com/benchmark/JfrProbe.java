@@ -0,0 +1,164 @@
+package com.benchmark;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Запись событий Java Flight Recorder за время измеряемых прогонов.
+ * Выделения памяти ({@code jdk.ObjectAllocationInNewTLAB},
+ * {@code jdk.ObjectAllocationOutsideTLAB}) учитываются только для измеряющего
+ * потока, сборки мусора ({@code jdk.GarbageCollection}) — для всей JVM,
+ * компиляции ({@code jdk.Compilation}) и деоптимизации ({@code jdk.Deoptimization},
+ * Java 14+) — только для методов измеряемых классов.
+ * <p>
+ * Стеки вызовов не записываются, чтобы запись меньше влияла на измерение.
+ * Запись выгружается во временный файл и разбирается после остановки.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+final class JfrProbe {
+    private static final String ALLOCATION_IN_TLAB = "jdk.ObjectAllocationInNewTLAB";
+    private static final String ALLOCATION_OUTSIDE_TLAB = "jdk.ObjectAllocationOutsideTLAB";
+    private static final String GARBAGE_COLLECTION = "jdk.GarbageCollection";
+    private static final String COMPILATION = "jdk.Compilation";
+    private static final String DEOPTIMIZATION = "jdk.Deoptimization";
+
+    private final Recording recording;
+    private final boolean allocations;
+    private final boolean compilations;
+
+    private JfrProbe(Recording recording, boolean allocations, boolean compilations) {
+        this.recording = recording;
+        this.allocations = allocations;
+        this.compilations = compilations;
+    }
+
+    /**
+     * Начинает запись событий.
+     *
+     * @param allocations записывать выделения памяти и сборки мусора
+     * @param compilations записывать компиляции и деоптимизации
+     * @return запущенная запись
+     */
+    static JfrProbe start(boolean allocations, boolean compilations) {
+        Recording recording = new Recording();
+        if (allocations) {
+            recording.enable(ALLOCATION_IN_TLAB).withoutStackTrace();
+            recording.enable(ALLOCATION_OUTSIDE_TLAB).withoutStackTrace();
+            recording.enable(GARBAGE_COLLECTION);
+        }
+        if (compilations) {
+            recording.enable(COMPILATION).withThreshold(Duration.ZERO);
+            recording.enable(DEOPTIMIZATION).withoutStackTrace();
+        }
+        recording.start();
+        return new JfrProbe(recording, allocations, compilations);
+    }
+
+    /**
+     * Останавливает запись и добавляет сводку событий в построитель профиля.
+     *
+     * @param profile построитель профиля
+     * @param threadId идентификатор измеряющего потока
+     * @param timedClasses имена измеряемых классов
+     * @throws IOException если не удалось выгрузить или прочитать запись
+     */
+    void stop(CellProfile.Builder profile, long threadId, Set<String> timedClasses) throws IOException {
+        recording.stop();
+        Path file = Files.createTempFile("cell-profile", ".jfr");
+        List<RecordedEvent> events;
+        try {
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            recording.close();
+            Files.deleteIfExists(file);
+        }
+
+        long allocated = 0;
+        Map<String, Long> allocatedByType = new HashMap<>();
+        long gcPauses = 0;
+        long gcPauseNanos = 0;
+        long compiled = 0;
+        long compilationNanos = 0;
+        long deoptimizations = 0;
+        List<String> compiledMethods = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            String name = event.getEventType().getName();
+            if (ALLOCATION_IN_TLAB.equals(name) || ALLOCATION_OUTSIDE_TLAB.equals(name)) {
+                RecordedThread thread = event.getThread();
+                if (thread == null || thread.getJavaThreadId() != threadId) {
+                    continue;
+                }
+                long bytes = ALLOCATION_IN_TLAB.equals(name)
+                        ? event.getLong("tlabSize")
+                        : event.getLong("allocationSize");
+                allocated += bytes;
+                RecordedClass type = event.getClass("objectClass");
+                if (type != null) {
+                    allocatedByType.merge(type.getName(), bytes, Long::sum);
+                }
+            } else if (GARBAGE_COLLECTION.equals(name)) {
+                gcPauses++;
+                gcPauseNanos += event.getDuration("sumOfPauses").toNanos();
+            } else if (COMPILATION.equals(name) || DEOPTIMIZATION.equals(name)) {
+                RecordedMethod method = event.getValue("method");
+                if (method == null || !isTimed(method.getType().getName(), timedClasses)) {
+                    continue;
+                }
+                if (COMPILATION.equals(name)) {
+                    compiled++;
+                    compilationNanos += event.getDuration().toNanos();
+                    compiledMethods.add(method.getType().getName() + "." + method.getName()
+                            + "@" + event.getShort("compileLevel"));
+                } else {
+                    deoptimizations++;
+                }
+            }
+        }
+
+        if (allocations) {
+            String topType = "";
+            long topBytes = -1;
+            for (Map.Entry<String, Long> entry : allocatedByType.entrySet()) {
+                if (entry.getValue() > topBytes) {
+                    topType = entry.getKey();
+                    topBytes = entry.getValue();
+                }
+            }
+            profile.allocations(allocated, topType).gc(gcPauses, gcPauseNanos);
+        }
+        if (compilations) {
+            // Событие деоптимизации появилось в Java 14
+            boolean deoptimizationEvents = Runtime.version().feature() >= 14;
+            profile.jit(compiled, compilationNanos, deoptimizationEvents ? deoptimizations : -1, compiledMethods);
+        }
+    }
+
+    /**
+     * Проверяет, относится ли метод к измеряемым классам, включая их вложенные классы.
+     *
+     * @param typeName имя класса метода
+     * @param timedClasses имена измеряемых классов
+     * @return {@code true}, если метод измеряемый
+     */
+    static boolean isTimed(String typeName, Set<String> timedClasses) {
+        int nested = typeName.indexOf('$');
+        return timedClasses.contains(nested < 0 ? typeName : typeName.substring(0, nested));
+    }
+}
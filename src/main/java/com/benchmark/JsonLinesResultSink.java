@@ -0,0 +1,111 @@
+package com.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Приемник, записывающий результаты в формате JSON Lines: по одному
+ * JSON-объекту на строку с полями {@link ResultRecord}. Такой файл можно
+ * дописывать и читать построчно, не загружая целиком.
+ * После каждой строки буфер сбрасывается на диск.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class JsonLinesResultSink implements ResultSink {
+    private final BufferedWriter writer;
+    private final RunEnvironment environment;
+
+    /**
+     * Создает приемник, перезаписывая файл.
+     *
+     * @param path путь к файлу
+     * @param environment сведения о JVM, записываемые с каждым результатом
+     * @throws IOException если файл не удалось открыть
+     */
+    public JsonLinesResultSink(Path path, RunEnvironment environment) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        this.environment = environment;
+    }
+
+    @Override
+    public synchronized void write(Result result) throws IOException {
+        writer.write(toJson(ResultRecord.fields(result, environment, Instant.now())));
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Преобразует поля записи в JSON-объект в одну строку.
+     * Числа записываются без кавычек, нечисловые значения {@code double} — как {@code null}.
+     *
+     * @param fields поля записи
+     * @return JSON-объект
+     */
+    static String toJson(Map<String, Object> fields) {
+        StringBuilder json = new StringBuilder("{");
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(quote(field.getKey())).append(':');
+            Object value = field.getValue();
+            if (value instanceof Double && (((Double) value).isNaN() || ((Double) value).isInfinite())) {
+                json.append("null");
+            } else if (value instanceof Number) {
+                json.append(value);
+            } else {
+                json.append(quote(String.valueOf(value)));
+            }
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Заключает строку в кавычки, экранируя специальные символы JSON.
+     *
+     * @param value строка
+     * @return строковый литерал JSON
+     */
+    static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                    break;
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,217 @@
+package com.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Гистограмма задержек с логарифмически-линейными интервалами по образцу
+ * HdrHistogram. Значения меньше 256 хранятся точно; большие значения
+ * попадают в интервалы, ширина которых составляет 1/128 от значения,
+ * поэтому относительная погрешность перцентилей не превышает 0,8%
+ * во всем диапазоне {@code long} при фиксированном объеме памяти (около 57 КБ).
+ * <p>
+ * Запись значения выполняется за O(1) без выделения памяти, что позволяет
+ * записывать задержку каждой операции в длительных прогонах.
+ * Класс не потокобезопасен.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    /**
+     * Количество бит значения, сохраняемых точно.
+     */
+    private static final int SUB_BUCKET_BITS = 8;
+
+    /**
+     * Количество точно хранимых значений.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Количество интервалов на каждую степень двойки выше точного диапазона.
+     */
+    private static final int HALF_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private final long[] counts = new long[indexOf(Long.MAX_VALUE) + 1];
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+
+    /**
+     * Записывает значение. Отрицательные значения записываются как 0.
+     *
+     * @param value значение, например задержка в наносекундах
+     */
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * Записывает значение указанное количество раз, например среднюю задержку
+     * каждой операции пакета. Отрицательные значения записываются как 0.
+     *
+     * @param value значение
+     * @param count количество повторений (неположительное количество игнорируется)
+     */
+    public void record(long value, long count) {
+        if (count <= 0) {
+            return;
+        }
+        long recorded = Math.max(0, value);
+        counts[indexOf(recorded)] += count;
+        totalCount += count;
+        sum += (double) recorded * count;
+        if (recorded < min) {
+            min = recorded;
+        }
+        if (recorded > max) {
+            max = recorded;
+        }
+    }
+
+    /**
+     * Возвращает копию гистограммы с поправкой на скоординированное пропускание
+     * (coordinated omission), как {@code copyCorrectedForCoordinatedOmission} в HdrHistogram.
+     * При замкнутом цикле измерения следующая операция не начинается, пока не
+     * закончилась предыдущая, поэтому операции, которые пришлись бы на время
+     * задержки, не измеряются вовсе. Для каждого значения {@code v}, превышающего
+     * ожидаемый интервал {@code e}, дополнительно записываются значения
+     * {@code v - e}, {@code v - 2e}, ... не меньше {@code e} с тем же количеством.
+     *
+     * @param expectedInterval ожидаемый интервал между операциями
+     * @return новая гистограмма с поправкой
+     * @throws IllegalArgumentException если интервал не положителен
+     */
+    public LatencyHistogram copyCorrectedForCoordinatedOmission(long expectedInterval) {
+        if (expectedInterval <= 0) {
+            throw new IllegalArgumentException("Ожидаемый интервал должен быть положительным: " + expectedInterval);
+        }
+        LatencyHistogram corrected = new LatencyHistogram();
+        corrected.add(this);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            long value = Math.min(highestEquivalentValue(i), max);
+            for (long missing = value - expectedInterval; missing >= expectedInterval; missing -= expectedInterval) {
+                corrected.record(missing, counts[i]);
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * Добавляет все значения другой гистограммы.
+     *
+     * @param other гистограмма
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Удаляет все значения.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * Возвращает количество записанных значений.
+     *
+     * @return количество значений
+     */
+    public long getCount() { return totalCount; }
+
+    /**
+     * Возвращает наименьшее записанное значение.
+     *
+     * @return наименьшее значение или 0, если значений нет
+     */
+    public long getMin() { return totalCount > 0 ? min : 0; }
+
+    /**
+     * Возвращает наибольшее записанное значение (точно, без округления до интервала).
+     *
+     * @return наибольшее значение или 0, если значений нет
+     */
+    public long getMax() { return max; }
+
+    /**
+     * Возвращает среднее записанных значений.
+     *
+     * @return среднее или 0, если значений нет
+     */
+    public double getMean() { return totalCount > 0 ? sum / totalCount : 0; }
+
+    /**
+     * Возвращает значение, не меньше которого {@code percentile} процентов записанных
+     * значений: верхнюю границу интервала, содержащего перцентиль, но не больше максимума.
+     *
+     * @param percentile перцентиль от 0 до 100, например 99.9
+     * @return значение перцентиля или 0, если значений нет
+     * @throws IllegalArgumentException если перцентиль вне диапазона от 0 до 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Перцентиль должен быть от 0 до 100: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Возвращает номер интервала для значения.
+     *
+     * @param value неотрицательное значение
+     * @return номер интервала
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Сохраняются старшие SUB_BUCKET_BITS бит значения
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int mantissa = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_COUNT + (mantissa - HALF_COUNT);
+    }
+
+    /**
+     * Возвращает наибольшее значение, попадающее в интервал.
+     *
+     * @param index номер интервала
+     * @return верхняя граница интервала
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / HALF_COUNT + 1;
+        long mantissa = HALF_COUNT + offset % HALF_COUNT;
+        long upper = ((mantissa + 1) << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
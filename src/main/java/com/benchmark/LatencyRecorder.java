@@ -0,0 +1,124 @@
+package com.benchmark;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Режим измерения задержек отдельных операций (системное свойство
+ * {@code benchmark.latency=true}). Время цикла в {@link Result#getExecutionTime()}
+ * усредняет все операции, и единичный всплеск — копирование массива при росте
+ * {@code ArrayList} или пауза сборщика мусора — в нем незаметен; в этом режиме
+ * каждая операция измеряется отдельно и ее задержка записывается
+ * в {@link LatencyHistogram}, так что всплески попадают в p99.9 и максимум.
+ * <p>
+ * Свойство {@code benchmark.latencyBatch} (по умолчанию {@value #DEFAULT_BATCH})
+ * объединяет операции в пакеты и записывает среднюю задержку операции пакета.
+ * Пакеты уменьшают долю накладных расходов {@link System#nanoTime()}, но дают
+ * усредненные значения в духе пропускной способности, а не хвостовые задержки:
+ * всплеск внутри пакета делится на его размер, поэтому p99.9, максимум
+ * и поправка на скоординированное пропускание занижаются.
+ * <p>
+ * Гистограмма активна для текущего потока между {@link #start(LatencyHistogram)}
+ * и {@link #stop()}; {@link TrialRunner} активирует ее на время измеряемых
+ * прогонов. Для смешанной нагрузки (тип операции {@code mixed}) к гистограмме
+ * применяется поправка на скоординированное пропускание
+ * ({@link LatencyHistogram#copyCorrectedForCoordinatedOmission(long)}) с ожидаемым
+ * интервалом {@code benchmark.latencyInterval} наносекунд на операцию,
+ * а если он не задан — с медианой измеренных задержек.
+ * <p>
+ * В этом режиме время выполнения включает накладные расходы таймера,
+ * поэтому его не следует сравнивать с результатами без режима задержек.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public final class LatencyRecorder {
+
+    /**
+     * Количество операций в пакете по умолчанию: каждая операция измеряется отдельно.
+     */
+    public static final int DEFAULT_BATCH = 1;
+
+    private static final ThreadLocal<LatencyHistogram> ACTIVE = new ThreadLocal<>();
+
+    private LatencyRecorder() {
+    }
+
+    /**
+     * Проверяет, включен ли режим измерения задержек.
+     *
+     * @return {@code true}, если задано системное свойство {@code benchmark.latency=true}
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("benchmark.latency");
+    }
+
+    /**
+     * Делает гистограмму активной для текущего потока.
+     *
+     * @param histogram гистограмма, в которую записываются задержки
+     */
+    static void start(LatencyHistogram histogram) {
+        ACTIVE.set(histogram);
+    }
+
+    /**
+     * Прекращает запись задержек в текущем потоке.
+     *
+     * @return гистограмма, бывшая активной, или {@code null}
+     */
+    static LatencyHistogram stop() {
+        LatencyHistogram histogram = ACTIVE.get();
+        ACTIVE.remove();
+        return histogram;
+    }
+
+    /**
+     * Возвращает активную гистограмму текущего потока.
+     *
+     * @return гистограмма или {@code null}, если задержки не измеряются
+     */
+    static LatencyHistogram active() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * Выполняет операции с номерами от 0 до {@code count - 1} пакетами
+     * и записывает среднюю задержку операции каждого пакета; при пакете
+     * из одной операции записывается ее собственная задержка.
+     *
+     * @param histogram гистограмма задержек
+     * @param count количество операций
+     * @param operation операция по номеру
+     */
+    static void timeBatches(LatencyHistogram histogram, int count, IntConsumer operation) {
+        int batch = Math.max(1, Integer.getInteger("benchmark.latencyBatch", DEFAULT_BATCH));
+        for (int from = 0; from < count; from += batch) {
+            int to = Math.min(count, from + batch);
+            long start = System.nanoTime();
+            for (int i = from; i < to; i++) {
+                operation.accept(i);
+            }
+            long elapsed = System.nanoTime() - start;
+            histogram.record(elapsed / (to - from), to - from);
+        }
+    }
+
+    /**
+     * Формирует сводку задержек, применяя поправку на скоординированное
+     * пропускание для смешанной нагрузки.
+     *
+     * @param histogram гистограмма измеренных задержек
+     * @param operationType тип операции результата
+     * @return сводка задержек
+     */
+    static LatencySummary summarize(LatencyHistogram histogram, String operationType) {
+        if (histogram.getCount() == 0 || !"mixed".equals(operationType)) {
+            return LatencySummary.of(histogram, 0);
+        }
+        long expected = Long.getLong("benchmark.latencyInterval", histogram.getValueAtPercentile(50));
+        if (expected <= 0) {
+            return LatencySummary.of(histogram, 0);
+        }
+        return LatencySummary.of(histogram.copyCorrectedForCoordinatedOmission(expected), expected);
+    }
+}
@@ -0,0 +1,143 @@
+package com.benchmark;
+
+/**
+ * Неизменяемая сводка задержек отдельных операций ячейки: перцентили
+ * p50, p99, p99.9 и максимум в наносекундах по {@link LatencyHistogram}.
+ * Если к гистограмме применялась поправка на скоординированное пропускание,
+ * сводка содержит использованный ожидаемый интервал.
+ * Неизвестные значения равны -1.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public final class LatencySummary {
+
+    /**
+     * Сводка для результата, задержки которого не измерялись.
+     */
+    public static final LatencySummary EMPTY = new LatencySummary(0, -1, -1, -1, -1, 0);
+
+    private final long count;
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final long max;
+    private final long expectedInterval;
+
+    private LatencySummary(long count, long p50, long p99, long p999, long max, long expectedInterval) {
+        this.count = count;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+        this.expectedInterval = expectedInterval;
+    }
+
+    /**
+     * Формирует сводку по гистограмме.
+     *
+     * @param histogram гистограмма задержек в наносекундах
+     * @param expectedInterval ожидаемый интервал поправки в наносекундах (0, если поправка не применялась)
+     * @return сводка или {@link #EMPTY}, если гистограмма пуста
+     */
+    public static LatencySummary of(LatencyHistogram histogram, long expectedInterval) {
+        if (histogram.getCount() == 0) {
+            return EMPTY;
+        }
+        return new LatencySummary(histogram.getCount(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMax(),
+                expectedInterval);
+    }
+
+    /**
+     * Проверяет, измерялись ли задержки.
+     *
+     * @return {@code true}, если сводка содержит значения
+     */
+    public boolean isPresent() { return count > 0; }
+
+    /**
+     * Проверяет, применялась ли поправка на скоординированное пропускание.
+     *
+     * @return {@code true}, если поправка применялась
+     */
+    public boolean isCorrected() { return expectedInterval > 0; }
+
+    /**
+     * Возвращает количество значений в гистограмме (с учетом поправки).
+     *
+     * @return количество значений
+     */
+    public long getCount() { return count; }
+
+    /**
+     * Возвращает медиану задержки.
+     *
+     * @return задержка в наносекундах или -1
+     */
+    public long getP50() { return p50; }
+
+    /**
+     * Возвращает 99-й перцентиль задержки.
+     *
+     * @return задержка в наносекундах или -1
+     */
+    public long getP99() { return p99; }
+
+    /**
+     * Возвращает 99,9-й перцентиль задержки.
+     *
+     * @return задержка в наносекундах или -1
+     */
+    public long getP999() { return p999; }
+
+    /**
+     * Возвращает наибольшую задержку.
+     *
+     * @return задержка в наносекундах или -1
+     */
+    public long getMax() { return max; }
+
+    /**
+     * Возвращает ожидаемый интервал, использованный для поправки.
+     *
+     * @return интервал в наносекундах или 0, если поправка не применялась
+     */
+    public long getExpectedInterval() { return expectedInterval; }
+
+    /**
+     * Кодирует сводку в строку без табуляций для передачи из дочерней JVM.
+     *
+     * @return значения через запятую
+     */
+    String encode() {
+        return count + "," + p50 + "," + p99 + "," + p999 + "," + max + "," + expectedInterval;
+    }
+
+    /**
+     * Восстанавливает сводку из строки, полученной методом {@link #encode()}.
+     *
+     * @param text закодированная сводка
+     * @return сводка
+     * @throws IllegalArgumentException если строка имеет неверный формат
+     */
+    static LatencySummary decode(String text) {
+        String[] fields = text.split(",");
+        if (fields.length != 6) {
+            throw new IllegalArgumentException("Неверный формат сводки задержек: " + text);
+        }
+        try {
+            long count = Long.parseLong(fields[0]);
+            if (count == 0) {
+                return EMPTY;
+            }
+            return new LatencySummary(count, Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                    Long.parseLong(fields[3]), Long.parseLong(fields[4]), Long.parseLong(fields[5]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Неверный формат сводки задержек: " + text, e);
+        }
+    }
+}
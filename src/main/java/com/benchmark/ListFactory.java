@@ -0,0 +1,114 @@
+package com.benchmark;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Фабрика списков, участвующих в сравнении производительности.
+ * Реализации регистрируются в {@link ListFactoryRegistry} вручную либо
+ * загружаются из classpath через {@link java.util.ServiceLoader}: для этого
+ * имя класса реализации указывается в файле
+ * {@code META-INF/services/com.benchmark.ListFactory}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public interface ListFactory {
+
+    /**
+     * Возвращает название реализации, под которым она выводится в отчетах.
+     *
+     * @return название реализации, например "ArrayList"
+     */
+    String getName();
+
+    /**
+     * Возвращает класс списков, создаваемых фабрикой.
+     * Используется для поиска фабрики по экземпляру списка.
+     *
+     * @return класс создаваемых списков
+     */
+    Class<?> getListClass();
+
+    /**
+     * Создает новый пустой список.
+     *
+     * @return новый список
+     */
+    List<Integer> create();
+
+    /**
+     * Создает новый пустой список, рассчитанный на указанное количество элементов,
+     * чтобы при заполнении не выполнялись копирования при росте.
+     * По умолчанию емкость не учитывается и вызывается {@link #create()}.
+     *
+     * @param capacity ожидаемое количество элементов
+     * @return новый список
+     */
+    default List<Integer> create(int capacity) {
+        return create();
+    }
+
+    /**
+     * Создает фабрику по названию, классу и конструктору списка.
+     *
+     * @param name название реализации
+     * @param listClass класс создаваемых списков
+     * @param constructor конструктор нового пустого списка
+     * @return фабрика списков
+     */
+    static ListFactory of(String name, Class<?> listClass, Supplier<List<Integer>> constructor) {
+        return new ListFactory() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Class<?> getListClass() {
+                return listClass;
+            }
+
+            @Override
+            public List<Integer> create() {
+                return constructor.get();
+            }
+        };
+    }
+
+    /**
+     * Создает фабрику по названию, классу и конструкторам списка,
+     * включая конструктор с начальной емкостью.
+     *
+     * @param name название реализации
+     * @param listClass класс создаваемых списков
+     * @param constructor конструктор нового пустого списка
+     * @param sizedConstructor конструктор пустого списка с начальной емкостью
+     * @return фабрика списков
+     */
+    static ListFactory of(String name, Class<?> listClass, Supplier<List<Integer>> constructor,
+                          IntFunction<List<Integer>> sizedConstructor) {
+        return new ListFactory() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Class<?> getListClass() {
+                return listClass;
+            }
+
+            @Override
+            public List<Integer> create() {
+                return constructor.get();
+            }
+
+            @Override
+            public List<Integer> create(int capacity) {
+                return sizedConstructor.apply(capacity);
+            }
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package com.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Реестр фабрик списков, участвующих в сравнении производительности.
+ * Сохраняет порядок регистрации, который определяет порядок реализаций
+ * в отчетах. Реестр по умолчанию содержит встроенные реализации
+ * и все фабрики, найденные в classpath через {@link ServiceLoader}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class ListFactoryRegistry {
+
+    /**
+     * Реестр по умолчанию, создаваемый при первом обращении.
+     */
+    private static volatile ListFactoryRegistry defaultRegistry;
+
+    private final Map<String, ListFactory> factories = new LinkedHashMap<>();
+
+    /**
+     * Последний шаблон, созданный методом {@link #createTemplate(String)} в текущем потоке,
+     * и его фабрика. Позволяет {@link #forList(List)} различать фабрики одного класса.
+     */
+    private final ThreadLocal<Map.Entry<List<?>, ListFactory>> lastTemplate = new ThreadLocal<>();
+
+    /**
+     * Возвращает реестр по умолчанию со встроенными реализациями
+     * ({@link ArrayList}, {@link LinkedList}, {@link OffHeapIntList},
+     * {@link Vector}, {@link CopyOnWriteArrayList}, {@link ChunkedAppendList},
+     * {@link CircularArrayList}, {@link GapBufferList}, {@link TieredList}, {@link AdaptiveList})
+     * и реализациями из classpath.
+     *
+     * @return реестр по умолчанию
+     */
+    public static ListFactoryRegistry getDefault() {
+        ListFactoryRegistry registry = defaultRegistry;
+        if (registry == null) {
+            synchronized (ListFactoryRegistry.class) {
+                registry = defaultRegistry;
+                if (registry == null) {
+                    registry = withBuiltins();
+                    registry.loadServices();
+                    defaultRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Создает реестр, содержащий только встроенные реализации.
+     *
+     * @return новый реестр
+     */
+    public static ListFactoryRegistry withBuiltins() {
+        ListFactoryRegistry registry = new ListFactoryRegistry();
+        registry.register(ListFactory.of("ArrayList", ArrayList.class, ArrayList::new, ArrayList::new));
+        registry.register(ListFactory.of("LinkedList", LinkedList.class, LinkedList::new));
+        registry.register(ListFactory.of("OffHeapIntList", OffHeapIntList.class, OffHeapIntList::new));
+        registry.register(ListFactory.of("Vector", Vector.class, Vector::new, Vector::new));
+        registry.register(ListFactory.of("CopyOnWriteArrayList", CopyOnWriteArrayList.class,
+                CopyOnWriteArrayList::new));
+        registry.register(ListFactory.of("ChunkedAppendList", ChunkedAppendList.class,
+                ChunkedAppendList::new));
+        registry.register(ListFactory.of("CircularArrayList", CircularArrayList.class,
+                CircularArrayList::new, CircularArrayList::new));
+        registry.register(ListFactory.of("GapBufferList", GapBufferList.class,
+                GapBufferList::new, GapBufferList::new));
+        registry.register(ListFactory.of("TieredList", TieredList.class, TieredList::new));
+        registry.register(ListFactory.of("AdaptiveList", AdaptiveList.class,
+                AdaptiveList::new, AdaptiveList::new));
+        return registry;
+    }
+
+    /**
+     * Регистрирует фабрику списков.
+     *
+     * @param factory фабрика списков
+     * @throws IllegalArgumentException если фабрика с таким названием уже зарегистрирована
+     */
+    public void register(ListFactory factory) {
+        if (factories.putIfAbsent(factory.getName(), factory) != null) {
+            throw new IllegalArgumentException("Реализация уже зарегистрирована: " + factory.getName());
+        }
+    }
+
+    /**
+     * Регистрирует все фабрики, найденные в classpath через {@link ServiceLoader}.
+     * Фабрики, название которых уже зарегистрировано, пропускаются.
+     */
+    public void loadServices() {
+        for (ListFactory factory : ServiceLoader.load(ListFactory.class)) {
+            factories.putIfAbsent(factory.getName(), factory);
+        }
+    }
+
+    /**
+     * Возвращает фабрику по названию реализации.
+     *
+     * @param name название реализации
+     * @return фабрика списков
+     * @throws IllegalArgumentException если реализация не зарегистрирована
+     */
+    public ListFactory get(String name) {
+        ListFactory factory = factories.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("Неизвестная реализация списка: " + name);
+        }
+        return factory;
+    }
+
+    /**
+     * Создает список-шаблон для бенчмарков и запоминает его фабрику в текущем потоке,
+     * чтобы {@link #forList(List)} вернул именно ее, даже если класс списка
+     * зарегистрирован под несколькими названиями.
+     *
+     * @param name название реализации
+     * @return новый пустой список
+     * @throws IllegalArgumentException если реализация не зарегистрирована
+     */
+    public List<Integer> createTemplate(String name) {
+        ListFactory factory = get(name);
+        List<Integer> template = factory.create();
+        lastTemplate.set(Map.entry(template, factory));
+        return template;
+    }
+
+    /**
+     * Возвращает фабрику, создающую списки того же класса, что и переданный список.
+     * Для шаблона из {@link #createTemplate(String)} возвращается фабрика, его создавшая;
+     * иначе - первая зарегистрированная фабрика этого класса.
+     *
+     * @param list экземпляр списка
+     * @return фабрика списков
+     * @throws IllegalArgumentException если класс списка не зарегистрирован
+     */
+    public ListFactory forList(List<?> list) {
+        Map.Entry<List<?>, ListFactory> template = lastTemplate.get();
+        if (template != null && template.getKey() == list) {
+            return template.getValue();
+        }
+        for (ListFactory factory : factories.values()) {
+            if (factory.getListClass() == list.getClass()) {
+                return factory;
+            }
+        }
+        throw new IllegalArgumentException("Реализация списка не зарегистрирована: "
+                + list.getClass().getName());
+    }
+
+    /**
+     * Возвращает зарегистрированные фабрики в порядке регистрации.
+     *
+     * @return неизменяемая коллекция фабрик
+     */
+    public Collection<ListFactory> getFactories() {
+        return Collections.unmodifiableCollection(factories.values());
+    }
+}
@@ -1,11 +1,21 @@
 package com.benchmark;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
 
 /**
- * Основной класс для тестирования производительности ArrayList и LinkedList.
+ * Основной класс для тестирования производительности ArrayList, LinkedList
+ * и других реализаций списков из {@link ListFactoryRegistry}.
  * Выполняет сравнительный анализ основных операций коллекций и выводит
  * результаты в табличном формате с детальным сравнением производительности.
  * 
@@ -17,127 +27,766 @@ public class ListPerformanceTester {
     /**
      * Массив размеров тестовых данных для проведения измерений производительности.
      * Определяет количество операций, выполняемых в каждом тестовом прогоне.
+     * Заменяется системным свойством {@code benchmark.sizes}, например {@code 1000,10000,100000};
+     * для измерения на геометрической последовательности размеров с подбором
+     * сложности используется {@link SizeSweepTester}.
      */
     private static final int[] TEST_SIZES = {1000, 2000, 5000};
 
+    /**
+     * Количество прогревочных прогонов каждого измерения, результаты которых отбрасываются.
+     */
+    static final int WARMUP_TRIALS = 5;
+
+    /**
+     * Количество измеряемых прогонов, по которым строится распределение времен.
+     */
+    static final int MEASURED_TRIALS = 15;
+
+    /**
+     * Во сколько раз {@link AdaptiveList} может быть медленнее лучшего из своих
+     * представлений; операции сверх этой границы отмечаются в отчете.
+     */
+    static final double ADAPTIVE_BOUND = 2.0;
+
     /**
      * Основной метод приложения, запускающий процесс тестирования производительности.
-     * Выполняет серию тестов для каждого размера данных из {@code TEST_SIZES},
-     * выводит результаты в консоль в удобочитаемом формате.
+     * Формирует матрицу измерений для всех размеров данных из {@code TEST_SIZES}
+     * (или свойства {@code benchmark.sizes}),
+     * выполняет ее с помощью {@link ExecutionEngine} и выводит результаты
+     * в консоль в удобочитаемом формате, сгруппированными по размеру.
+     * <p>
+     * Способ выполнения задается системным свойством {@code benchmark.execution}
+     * ({@code sequential} по умолчанию, {@code platform}, {@code virtual}, {@code fork}),
+     * количество одновременно выполняемых ячеек — свойством {@code benchmark.parallelism}.
+     * Свойство {@code benchmark.output} задает файлы, в которые результаты
+     * записываются по мере получения, например
+     * {@code csv:results.csv,jsonl:results.jsonl,html:report.html} (см. {@link ResultSink#open(String)}).
+     * <p>
+     * Свойство {@code benchmark.saveBaseline} задает файл, в который сохраняются
+     * результаты как базовая линия. Свойство {@code benchmark.baseline} задает файл
+     * базовой линии для сравнения: при статистически значимом замедлении больше
+     * порога {@code benchmark.regressionThreshold} (по умолчанию 0.10) приложение
+     * завершается с кодом 1, что позволяет использовать его как проверку регрессий.
+     * <p>
+     * Свойство {@code benchmark.profile} включает профилирование измеряемых прогонов
+     * каждой ячейки (см. {@link CellProfiler}), например {@code perf,jfr,jit} или {@code all}.
+     * <p>
+     * Свойство {@code benchmark.latency=true} включает измерение задержек отдельных
+     * операций (см. {@link LatencyRecorder}).
+     * <p>
+     * Свойство {@code benchmark.structureOnly=true} добавляет после операций добавления
+     * и удаления их варианты без упаковки значений (см. {@link StructureBenchmark}),
+     * а {@code benchmark.presize=true} создает для них списки с начальной емкостью.
      *
-     * @param args аргументы командной строки (не используются)
+     * <p>
+     * Те же параметры, а также выбор операций ({@code benchmark.scenarios}),
+     * реализаций ({@code benchmark.lists}) и количества прогонов ({@code benchmark.warmup},
+     * {@code benchmark.trials}) задаются аргументами командной строки и файлом
+     * настроек (см. {@link RunOptions}), например
+     * {@code --scenarios=deleteFirst --sizes=10000000 --lists=ArrayList,TieredList}.
+     * Аргумент {@code --quick} выполняет быструю проверку без прогрева.
+     *
+     * @param args аргументы командной строки вида {@code --имя=значение}
+     * @throws IOException если не удалось открыть или записать файл результатов
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        int[] sizes;
+        List<BenchmarkCell> cells;
+        ExecutionEngine engine;
+        try {
+            RunOptions options = RunOptions.parse(args);
+            if (options.isHelp()) {
+                System.out.print(RunOptions.usage());
+                return;
+            }
+            options.apply();
+            String sizesProperty = System.getProperty("benchmark.sizes");
+            sizes = sizesProperty != null ? parseSizes(sizesProperty) : TEST_SIZES;
+            cells = createCells(sizes);
+            ExecutionMode mode = ExecutionMode.valueOf(
+                    System.getProperty("benchmark.execution", "sequential").toUpperCase());
+            engine = new ExecutionEngine(mode,
+                    Integer.getInteger("benchmark.parallelism", ExecutionEngine.defaultParallelism()),
+                    Integer.getInteger("benchmark.warmup", WARMUP_TRIALS),
+                    Integer.getInteger("benchmark.trials", MEASURED_TRIALS));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(RunOptions.usage());
+            System.exit(2);
+            return;
+        }
+        
         System.out.println("=== Сравнение производительности ArrayList и LinkedList ===\n");
+        System.out.println("Ячеек: " + cells.size() + ", прогонов: прогрев "
+                + Integer.getInteger("benchmark.warmup", WARMUP_TRIALS) + ", измерения "
+                + Integer.getInteger("benchmark.trials", MEASURED_TRIALS) + "\n");
         
-        for (int size : TEST_SIZES) {
+        String output = System.getProperty("benchmark.output");
+        List<Result> results;
+        try (ResultSink sink = output != null ? ResultSink.open(output) : ResultSink.NONE) {
+            results = engine.run(cells, sink);
+        }
+        for (int size : sizes) {
             System.out.println("Тестирование для " + size + " операций:");
             System.out.println("=".repeat(80));
             
-            runPerformanceTests(size);
+            List<Result> sizeResults = new ArrayList<>();
+            for (Result result : results) {
+                if (result.getOperationsCount() == size) {
+                    sizeResults.add(result);
+                }
+            }
+            printResults(sizeResults);
             System.out.println();
         }
+
+        String saveBaseline = System.getProperty("benchmark.saveBaseline");
+        if (saveBaseline != null) {
+            BaselineStore.save(results, Paths.get(saveBaseline));
+            System.out.println("Базовая линия сохранена: " + saveBaseline);
+        }
+        String baseline = System.getProperty("benchmark.baseline");
+        if (baseline != null) {
+            RegressionGate gate = new RegressionGate(
+                    Double.parseDouble(System.getProperty("benchmark.regressionThreshold", "0.10")));
+            System.out.println("=== Сравнение с базовой линией " + baseline + " ===\n");
+            List<String> mismatches = BaselineStore.parameterMismatches(
+                    BaselineStore.loadParameters(Paths.get(baseline)), BaselineStore.currentParameters());
+            if (!mismatches.isEmpty()) {
+                System.err.println("Базовая линия снята с другими параметрами запуска, сравнение невозможно:");
+                for (String mismatch : mismatches) {
+                    System.err.println("  " + mismatch);
+                }
+                System.exit(2);
+            }
+            int regressions = gate.print(gate.compare(results, BaselineStore.load(Paths.get(baseline))));
+            if (regressions > 0) {
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Разбирает список размеров, разделенных запятыми.
+     *
+     * @param text размеры через запятую, например "1000,2000,5000"
+     * @return размеры
+     * @throws IllegalArgumentException если размер не является положительным числом
+     */
+    static int[] parseSizes(String text) {
+        String[] parts = text.split(",");
+        int[] sizes = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                sizes[i] = Integer.parseInt(parts[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Неверный размер: " + parts[i].trim(), e);
+            }
+            if (sizes[i] <= 0) {
+                throw new IllegalArgumentException("Размер должен быть положительным: " + sizes[i]);
+            }
+        }
+        return sizes;
     }
 
     /**
-     * Выполняет полный цикл тестирования производительности для указанного количества операций.
+     * Формирует матрицу измерений для указанных количеств операций.
      * Тестирует основные операции со списками: добавление в конец, добавление в начало,
-     * получение по индексу, удаление из начала и удаление из конца.
+     * получение по индексу, удаление из начала, удаление из конца, вставку и удаление
+     * в середине и смешанную нагрузку.
+     * Каждая операция измеряется для всех реализаций из {@link ListFactoryRegistry#getDefault()},
+     * а затем для примитивных {@link IntArrayList} и {@link IntLinkedList}, чтобы отделить
+     * стоимость упаковки от стоимости структуры данных. Реализации, не поддерживающие
+     * операцию, для нее пропускаются при выполнении.
+     * Порядок ячеек определяет порядок результатов в отчете.
+     * Системные свойства {@code benchmark.scenarios} и {@code benchmark.lists}
+     * ограничивают матрицу указанными через запятую операциями и реализациями.
      *
-     * @param operationsCount количество операций для выполнения в каждом тесте
+     * @param sizes количества операций
+     * @return ячейки матрицы измерений
+     * @throws IllegalArgumentException если выбрана неизвестная операция или реализация
      */
-    private static void runPerformanceTests(int operationsCount) {
-        List<Result> results = new ArrayList<>();
-        
-        // Создаем экземпляры списков для тестирования
-        List<Integer> arrayList = new ArrayList<>();
-        List<Integer> linkedList = new LinkedList<>();
-        
-        // Тестируем операции добавления в конец
-        results.add(Benchmark.testAdd(arrayList, operationsCount));
-        results.add(Benchmark.testAdd(linkedList, operationsCount));
-        
-        // Тестируем операции добавления в начало
-        results.add(Benchmark.testAddFirst(arrayList, operationsCount));
-        results.add(Benchmark.testAddFirst(linkedList, operationsCount));
-        
-        // Тестируем операции получения по индексу
-        results.add(Benchmark.testGet(arrayList, operationsCount));
-        results.add(Benchmark.testGet(linkedList, operationsCount));
-        
-        // Тестируем операции удаления из начала
-        results.add(Benchmark.testDeleteFirst(arrayList, operationsCount));
-        results.add(Benchmark.testDeleteFirst(linkedList, operationsCount));
-        
-        // Тестируем операции удаления из конца
-        results.add(Benchmark.testDeleteLast(arrayList, operationsCount));
-        results.add(Benchmark.testDeleteLast(linkedList, operationsCount));
-        
-        printResults(results);
+    static List<BenchmarkCell> createCells(int[] sizes) {
+        Set<String> allListTypes = new LinkedHashSet<>();
+        for (String methodName : scenarios().keySet()) {
+            allListTypes.addAll(listTypes(methodName));
+        }
+        Set<String> methodNames = selection("benchmark.scenarios", scenarios().keySet());
+        Set<String> selectedListTypes = selection("benchmark.lists", allListTypes);
+        List<BenchmarkCell> cells = new ArrayList<>();
+        for (int size : sizes) {
+            for (String methodName : methodNames) {
+                for (String listType : listTypes(methodName)) {
+                    if (selectedListTypes.contains(listType)) {
+                        cells.add(new BenchmarkCell(methodName, listType, size));
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Возвращает названия, выбранные системным свойством, в порядке доступных названий.
+     *
+     * @param property системное свойство с названиями через запятую
+     * @param available доступные названия
+     * @return выбранные названия или все доступные, если свойство не задано
+     * @throws IllegalArgumentException если выбрано недоступное название
+     */
+    static Set<String> selection(String property, Collection<String> available) {
+        String text = System.getProperty(property);
+        if (text == null || text.trim().isEmpty()) {
+            return new LinkedHashSet<>(available);
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        for (String part : text.split(",")) {
+            String name = part.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!available.contains(name)) {
+                throw new IllegalArgumentException("Неизвестное значение " + property + ": " + name
+                        + ", доступны: " + String.join(", ", available));
+            }
+            requested.add(name);
+        }
+        Set<String> selected = new LinkedHashSet<>(available);
+        selected.retainAll(requested);
+        return selected;
+    }
+
+    /**
+     * Возвращает реализации, для которых измеряется операция: все реализации
+     * из {@link ListFactoryRegistry#getDefault()}, а если операция есть среди
+     * {@link #intScenarios()}, то и примитивные {@link IntArrayList} и {@link IntLinkedList}.
+     *
+     * @param methodName название операции
+     * @return названия реализаций в порядке вывода
+     */
+    static List<String> listTypes(String methodName) {
+        List<String> listTypes = new ArrayList<>();
+        for (ListFactory factory : ListFactoryRegistry.getDefault().getFactories()) {
+            listTypes.add(factory.getName());
+        }
+        if (intScenarios().containsKey(methodName)) {
+            listTypes.add("IntArrayList");
+            listTypes.add("IntLinkedList");
+        }
+        return listTypes;
+    }
+
+    /**
+     * Возвращает измеряемые операции над списками {@code Integer} в порядке вывода.
+     *
+     * @return операции, индексированные названием метода
+     */
+    static Map<String, Measurement<List<Integer>>> scenarios() {
+        Map<String, Measurement<List<Integer>>> scenarios = new LinkedHashMap<>();
+        scenarios.put("add", Benchmark::testAdd);
+        scenarios.put("addFirst", Benchmark::testAddFirst);
+        scenarios.put("get", Benchmark::testGet);
+        scenarios.put("deleteFirst", Benchmark::testDeleteFirst);
+        scenarios.put("deleteLast", Benchmark::testDeleteLast);
+        scenarios.put("insertMiddle", Benchmark::testInsertMiddle);
+        scenarios.put("removeMiddle", Benchmark::testRemoveMiddle);
+        scenarios.put("mixed", (list, operationsCount) -> Benchmark.testMixed(list,
+                WorkloadTrace.generate(WorkloadSpec.parse(mixedWorkload()), operationsCount)));
+        if (!Boolean.getBoolean("benchmark.structureOnly")) {
+            return scenarios;
+        }
+        // Вариант без упаковки выводится сразу после обычного варианта операции
+        Map<String, Measurement<List<Integer>>> structure = structureScenarios();
+        Map<String, Measurement<List<Integer>>> combined = new LinkedHashMap<>();
+        for (Map.Entry<String, Measurement<List<Integer>>> entry : scenarios.entrySet()) {
+            combined.put(entry.getKey(), entry.getValue());
+            String structureName = entry.getKey() + StructureBenchmark.SUFFIX;
+            if (structure.containsKey(structureName)) {
+                combined.put(structureName, structure.get(structureName));
+            }
+        }
+        return combined;
+    }
+
+    /**
+     * Возвращает операции {@link StructureBenchmark}, измеряющие стоимость
+     * самой структуры без упаковки значений. Названия совпадают с операциями
+     * {@link #scenarios()} с суффиксом {@link StructureBenchmark#SUFFIX}.
+     *
+     * @return операции, индексированные названием метода
+     */
+    static Map<String, Measurement<List<Integer>>> structureScenarios() {
+        Map<String, Measurement<List<Integer>>> scenarios = new LinkedHashMap<>();
+        scenarios.put("add" + StructureBenchmark.SUFFIX, StructureBenchmark::testAdd);
+        scenarios.put("addFirst" + StructureBenchmark.SUFFIX, StructureBenchmark::testAddFirst);
+        scenarios.put("deleteFirst" + StructureBenchmark.SUFFIX, StructureBenchmark::testDeleteFirst);
+        scenarios.put("deleteLast" + StructureBenchmark.SUFFIX, StructureBenchmark::testDeleteLast);
+        return scenarios;
+    }
+
+    /**
+     * Возвращает измеряемые операции над примитивными списками,
+     * индексированные тем же названием метода, что и в {@link #scenarios()}.
+     *
+     * @return операции над примитивными списками
+     */
+    static Map<String, Measurement<IntList>> intScenarios() {
+        Map<String, Measurement<IntList>> scenarios = new LinkedHashMap<>();
+        scenarios.put("add", IntBenchmark::testAdd);
+        scenarios.put("addFirst", IntBenchmark::testAddFirst);
+        scenarios.put("get", IntBenchmark::testGet);
+        scenarios.put("deleteFirst", IntBenchmark::testDeleteFirst);
+        scenarios.put("deleteLast", IntBenchmark::testDeleteLast);
+        return scenarios;
+    }
+
+    /**
+     * Возвращает описание смешанной нагрузки для операции "mixed" в формате {@link WorkloadSpec},
+     * заданное системным свойством {@code benchmark.workload}. Свойство читается при каждом
+     * обращении, так как может быть установлено аргументами командной строки.
+     *
+     * @return описание нагрузки
+     */
+    private static String mixedWorkload() {
+        return System.getProperty("benchmark.workload", WorkloadSpec.DEFAULT);
     }
 
     /**
      * Выводит результаты тестирования в табличном формате.
      * Форматирует данные для удобного восприятия, включая название метода,
-     * тип списка, количество операций и время выполнения.
+     * тип списка, количество операций, медиану и 90-й перцентиль времени
+     * выполнения, полуширину 95% доверительного интервала среднего,
+     * пропускную способность, объем выделенной в куче памяти на один прогон
+     * и на одну операцию, суммарное время сборок мусора, а также объем памяти,
+     * удерживаемой списком после операций, и его долю на один элемент.
+     * Для результатов однократного измерения интервал не выводится,
+     * а для неизмеренной памяти и неизвестного времени сборок выводится прочерк.
      *
      * @param results список объектов {@link Result} с результатами тестирования
      */
-    private static void printResults(List<Result> results) {
+    static void printResults(List<Result> results) {
         // Заголовок таблицы
-        System.out.printf("%-15s | %-12s | %10s | %12s | %-8s%n",
-                "Method", "List Type", "Operations", "Time (ms)", "Type");
-        System.out.println("-".repeat(75));
+        System.out.printf("%-17s | %-20s | %10s | %12s | %10s | %10s | %10s | %11s | %9s | %8s"
+                        + " | %13s | %8s | %-8s%n",
+                "Method", "List Type", "Operations", "Median (ms)", "p90 (ms)", "±CI95 (ms)",
+                "ops/ms", "Alloc (KB)", "Alloc/op", "GC (ms)", "Retained (KB)", "B/elem", "Type");
+        System.out.println("-".repeat(188));
         
         // Данные таблицы
         for (Result result : results) {
-            System.out.printf("%-15s | %-12s | %10d | %12.3f | %-8s%n",
+            Statistics statistics = result.getStatistics();
+            String ci = result.hasDistribution()
+                    ? String.format("%10.3f", toMillis(statistics.getCiHigh() - statistics.getMean()))
+                    : String.format("%10s", "-");
+            String allocated = result.getAllocatedBytes() >= 0
+                    ? String.format("%11.1f", result.getAllocatedBytes() / 1024.0)
+                    : String.format("%11s", "-");
+            String allocatedPerOperation = result.getAllocatedBytesPerOperation() >= 0
+                    ? String.format("%9.1f", result.getAllocatedBytesPerOperation())
+                    : String.format("%9s", "-");
+            String retained = result.getRetainedBytes() >= 0
+                    ? String.format("%13.1f", result.getRetainedBytes() / 1024.0)
+                    : String.format("%13s", "-");
+            String perElement = result.getBytesPerElement() >= 0
+                    ? String.format("%8.1f", result.getBytesPerElement())
+                    : String.format("%8s", "-");
+            String gcTime = result.getGcTimeMillis() >= 0
+                    ? String.format("%8d", result.getGcTimeMillis())
+                    : String.format("%8s", "-");
+            System.out.printf("%-17s | %-20s | %10d | %12.3f | %10.3f | %s | %10.1f | %s | %s | %s"
+                            + " | %s | %s | %-8s%n",
                     result.getMethodName(),
                     result.getListType(),
                     result.getOperationsCount(),
                     result.getTimeInMillis(),
+                    toMillis(statistics.getP90()),
+                    ci,
+                    result.getThroughput(),
+                    allocated,
+                    allocatedPerOperation,
+                    gcTime,
+                    retained,
+                    perElement,
                     result.getOperationType());
         }
         
+        printProfiles(results);
+        printLatencies(results);
+
         // Дополнительное сравнение производительности
         printComparison(results);
+        printAdaptiveComparison(results);
+        printStructureComparison(results);
+    }
+
+    /**
+     * Выводит сводки профилирования {@link CellProfile}, если они собирались
+     * (системное свойство {@code benchmark.profile}): количество инструкций за такт,
+     * такты, промахи кэша L1 и LLC и промахи предсказания переходов на операцию,
+     * выделения по событиям JFR на операцию с основным выделяемым типом,
+     * паузы сборщика мусора, компиляции и деоптимизации измеряемых методов.
+     * Компиляции во время измеряемых прогонов перечисляются отдельно,
+     * так как означают недостаточный прогрев.
+     *
+     * @param results список объектов {@link Result} с результатами тестирования
+     */
+    private static void printProfiles(List<Result> results) {
+        boolean present = false;
+        for (Result result : results) {
+            present |= result.getProfile().isPresent();
+        }
+        if (!present) {
+            return;
+        }
+        System.out.println("\nПрофилирование (на операцию):");
+        System.out.printf("%-17s | %-20s | %5s | %9s | %9s | %9s | %9s | %9s | %-24s | %8s | %4s | %6s%n",
+                "Method", "List Type", "IPC", "cycles", "L1 miss", "LLC miss", "br miss",
+                "JFR B/op", "Top type", "GC (ms)", "JIT", "Deopt");
+        System.out.println("-".repeat(162));
+        for (Result result : results) {
+            CellProfile profile = result.getProfile();
+            if (!profile.isPresent()) {
+                continue;
+            }
+            System.out.printf("%-17s | %-20s | %s | %s | %s | %s | %s | %s | %-24s | %s | %s | %s%n",
+                    result.getMethodName(),
+                    result.getListType(),
+                    formatOrDash("%5.2f", profile.getInstructionsPerCycle()),
+                    formatOrDash("%9.1f", profile.perOperation(profile.getCycles())),
+                    formatOrDash("%9.2f", profile.perOperation(profile.getL1Misses())),
+                    formatOrDash("%9.2f", profile.perOperation(profile.getLlcMisses())),
+                    formatOrDash("%9.2f", profile.perOperation(profile.getBranchMisses())),
+                    formatOrDash("%9.1f", profile.perOperation(profile.getJfrAllocatedBytes())),
+                    abbreviate(profile.getTopAllocatedType(), 24),
+                    formatOrDash("%8.1f", profile.getGcPauseNanos() < 0 ? -1 : toMillis(profile.getGcPauseNanos())),
+                    formatOrDash("%4.0f", profile.getCompilations()),
+                    formatOrDash("%6.0f", profile.getDeoptimizations()));
+            if (!profile.getCompiledMethods().isEmpty()) {
+                System.out.printf("%-17s   компиляции при измерении: %s%n", "",
+                        String.join(", ", profile.getCompiledMethods()));
+            }
+        }
+    }
+
+    /**
+     * Выводит задержки отдельных операций {@link LatencySummary}, если они
+     * измерялись (системное свойство {@code benchmark.latency}): перцентили p50,
+     * p99, p99.9 и максимум, а для смешанной нагрузки — ожидаемый интервал
+     * поправки на скоординированное пропускание.
+     *
+     * @param results список объектов {@link Result} с результатами тестирования
+     */
+    private static void printLatencies(List<Result> results) {
+        boolean present = false;
+        for (Result result : results) {
+            present |= result.getLatency().isPresent();
+        }
+        if (!present) {
+            return;
+        }
+        int batch = Integer.getInteger("benchmark.latencyBatch", LatencyRecorder.DEFAULT_BATCH);
+        System.out.println(batch > 1
+                ? "\nЗадержки операций (нс, средние по пакетам из " + batch + " операций, хвосты занижены):"
+                : "\nЗадержки операций (нс):");
+        System.out.printf("%-17s | %-20s | %10s | %10s | %10s | %12s | %9s | %s%n",
+                "Method", "List Type", "p50", "p99", "p99.9", "max", "p99/p50", "Поправка CO");
+        System.out.println("-".repeat(120));
+        for (Result result : results) {
+            LatencySummary latency = result.getLatency();
+            if (!latency.isPresent()) {
+                continue;
+            }
+            System.out.printf("%-17s | %-20s | %10d | %10d | %10d | %12d | %s | %s%n",
+                    result.getMethodName(),
+                    result.getListType(),
+                    latency.getP50(),
+                    latency.getP99(),
+                    latency.getP999(),
+                    latency.getMax(),
+                    formatOrDash("%9.1f", latency.getP50() > 0 ? (double) latency.getP99() / latency.getP50() : -1),
+                    latency.isCorrected() ? "интервал " + latency.getExpectedInterval() + " нс" : "-");
+        }
+    }
+
+    /**
+     * Сокращает строку до заданной длины, отбрасывая начало, так как
+     * в имени класса наиболее информативна последняя часть.
+     *
+     * @param text исходная строка
+     * @param width максимальная длина
+     * @return строка не длиннее {@code width}
+     */
+    private static String abbreviate(String text, int width) {
+        return text.length() <= width ? text : "…" + text.substring(text.length() - width + 1);
+    }
+
+    /**
+     * Форматирует значение или возвращает прочерк той же ширины, если значение неизвестно.
+     *
+     * @param format формат вида {@code %9.2f}
+     * @param value значение (отрицательное, если неизвестно)
+     * @return отформатированная строка
+     */
+    private static String formatOrDash(String format, double value) {
+        if (value >= 0) {
+            return String.format(format, value);
+        }
+        int width = Integer.parseInt(format.substring(1, format.indexOf('.')));
+        return String.format("%" + width + "s", "-");
     }
 
     /**
-     * Выводит сравнительный анализ производительности ArrayList и LinkedList.
-     * Для каждой пары тестов (ArrayList vs LinkedList) вычисляет, какая реализация
-     * быстрее и во сколько раз, выводит эту информацию в формате:
-     * "Метод: ArrayList: X.XXX ms, LinkedList: Y.YYY ms | Быстрее: Реализация (в Z.ZZ раз)"
+     * Выводит сравнительный анализ производительности реализаций списков.
+     * Результаты группируются по методу; для каждой группы выводятся времена
+     * всех реализаций и сравнение самой быстрой реализации со следующей за ней:
+     * во сколько раз она быстрее. Если оба результата содержат распределение
+     * и их 95% доверительные интервалы пересекаются, победитель не называется,
+     * а выводится "нет значимой разницы".
+     * Для примитивных списков дополнительно выводится доля времени,
+     * приходящаяся на упаковку, относительно соответствующего списка {@code Integer}.
      *
-     * @param results список объектов {@link Result}, сгруппированных попарно
-     *                (ArrayList, LinkedList для каждого метода)
+     * @param results список объектов {@link Result} с результатами тестирования
      */
     private static void printComparison(List<Result> results) {
         System.out.println("\nСравнение производительности:");
         System.out.println("-".repeat(50));
         
-        // Обрабатываем результаты попарно (ArrayList и LinkedList для каждого метода)
-        for (int i = 0; i < results.size(); i += 2) {
-            if (i + 1 < results.size()) {
-                Result arrayListResult = results.get(i);
-                Result linkedListResult = results.get(i + 1);
-                
-                double arrayListTime = arrayListResult.getTimeInMillis();
-                double linkedListTime = linkedListResult.getTimeInMillis();
-                
-                // Выполняем сравнение только если оба времени положительные
-                if (arrayListTime > 0 && linkedListTime > 0) {
-                    String faster = arrayListTime < linkedListTime ? "ArrayList" : "LinkedList";
-                    double ratio = Math.max(arrayListTime, linkedListTime) / Math.min(arrayListTime, linkedListTime);
-                    
-                    System.out.printf("%-12s: ArrayList: %6.3f ms, LinkedList: %6.3f ms | Быстрее: %-10s (в %.2f раз)%n",
-                            arrayListResult.getMethodName(),
-                            arrayListTime,
-                            linkedListTime,
-                            faster,
-                            ratio);
+        // Группируем результаты по методу, сохраняя порядок измерений
+        Map<String, List<Result>> byMethod = new LinkedHashMap<>();
+        for (Result result : results) {
+            byMethod.computeIfAbsent(result.getMethodName(), key -> new ArrayList<>()).add(result);
+        }
+        
+        for (Map.Entry<String, List<Result>> entry : byMethod.entrySet()) {
+            List<Result> group = entry.getValue();
+            
+            // Сравниваем только результаты с положительным временем
+            List<Result> ranked = new ArrayList<>();
+            StringBuilder times = new StringBuilder();
+            for (Result result : group) {
+                if (result.getTimeInMillis() > 0) {
+                    ranked.add(result);
+                    if (times.length() > 0) {
+                        times.append(", ");
+                    }
+                    times.append(String.format("%s: %.3f ms", result.getListType(), result.getTimeInMillis()));
+                }
+            }
+            if (ranked.size() < 2) {
+                continue;
+            }
+            ranked.sort(Comparator.comparingDouble(Result::getTimeInMillis));
+            
+            System.out.printf("%-12s: %s%n", entry.getKey(), times);
+            System.out.printf("%-12s  %s (по сравнению с %s)%n", "",
+                    verdict(ranked.get(0), ranked.get(1)), ranked.get(1).getListType());
+            
+            // Сравниваем примитивные списки с их аналогами на Integer
+            for (Result primitive : group) {
+                String boxedType = boxedCounterpart(primitive.getListType());
+                for (Result boxed : group) {
+                    if (boxed.getListType().equals(boxedType) && boxed.getTimeInMillis() > 0) {
+                        System.out.printf("%-12s  %s: %6.3f ms vs %s: %6.3f ms | доля упаковки: %5.1f%%%n",
+                                "",
+                                primitive.getListType(),
+                                primitive.getTimeInMillis(),
+                                boxed.getListType(),
+                                boxed.getTimeInMillis(),
+                                boxingShare(boxed, primitive) * 100);
+                    }
                 }
             }
         }
     }
+
+    /**
+     * Выводит сравнение операций при обычном использовании («as-used»)
+     * с их вариантами без упаковки значений («structure-only», {@link StructureBenchmark}):
+     * времена обоих вариантов, долю времени, приходящуюся на упаковку
+     * и рост емкости, выделения на операцию, прирост памяти самой структуры
+     * на операцию и результат проверки, что сверх этого прироста
+     * в измеряемом участке ничего не выделяется.
+     *
+     * @param results список объектов {@link Result} с результатами тестирования
+     */
+    private static void printStructureComparison(List<Result> results) {
+        Map<String, Result> asUsed = new LinkedHashMap<>();
+        List<Result> structureOnly = new ArrayList<>();
+        for (Result result : results) {
+            if (result.getMethodName().endsWith(StructureBenchmark.SUFFIX)) {
+                structureOnly.add(result);
+            } else {
+                asUsed.put(result.getMethodName() + "/" + result.getListType(), result);
+            }
+        }
+        if (structureOnly.isEmpty()) {
+            return;
+        }
+        System.out.println("\nСтоимость структуры без упаковки"
+                + (StructureBenchmark.isPresized() ? " (списки с начальной емкостью):" : ":"));
+        System.out.printf("%-12s | %-20s | %9s | %9s | %7s | %9s | %10s | %11s | %10s | %s%n",
+                "Method", "List Type", "As-used", "Struct", "Доля", "Alloc/op", "S.Alloc/op",
+                "Struct B/op", "Extra B/op", "Проверка");
+        System.out.println("-".repeat(150));
+        for (Result structure : structureOnly) {
+            String methodName = structure.getMethodName();
+            methodName = methodName.substring(0, methodName.length() - StructureBenchmark.SUFFIX.length());
+            Result used = asUsed.get(methodName + "/" + structure.getListType());
+            boolean comparable = used != null && used.getTimeInMillis() > 0;
+            System.out.printf("%-12s | %-20s | %s | %9.3f | %s | %s | %s | %s | %s | %s%n",
+                    methodName,
+                    structure.getListType(),
+                    used != null ? String.format("%9.3f", used.getTimeInMillis()) : String.format("%9s", "-"),
+                    structure.getTimeInMillis(),
+                    comparable ? String.format("%6.1f%%", boxingShare(used, structure) * 100)
+                            : String.format("%7s", "-"),
+                    formatOrDash("%9.1f", used != null ? used.getAllocatedBytesPerOperation() : -1),
+                    formatOrDash("%10.1f", structure.getAllocatedBytesPerOperation()),
+                    formatOrDash("%11.1f", structure.getStructuralBytes() < 0 || structure.getOperationsCount() <= 0
+                            ? -1 : (double) structure.getStructuralBytes() / structure.getOperationsCount()),
+                    formatOrDash("%10.1f", structure.getTransientBytesPerOperation()),
+                    allocationCheck(structure));
+        }
+    }
+
+    /**
+     * Проверяет, что в измеряемом участке варианта без упаковки выделяется
+     * не больше памяти, чем остается в самой структуре. Допускается
+     * меньше одного байта на операцию, что покрывает служебные выделения
+     * измерителя ресурсов.
+     *
+     * @param structure результат варианта без упаковки
+     * @return результат проверки
+     */
+    static String allocationCheck(Result structure) {
+        double extra = structure.getTransientBytesPerOperation();
+        if (extra < 0) {
+            return "не проверено";
+        }
+        return extra < 1 ? "без лишних выделений" : "лишние выделения";
+    }
+
+    /**
+     * Выводит для каждой операции время {@link AdaptiveList} относительно лучшей
+     * реализации {@code List<Integer>} с фиксированным представлением
+     * (примитивные списки не учитываются) и относительно лучшей из реализаций,
+     * между которыми он переключается. Операции, на которых отношение к лучшему
+     * представлению превышает {@link #ADAPTIVE_BOUND}, отмечаются. Выводится,
+     * только если {@code AdaptiveList} измерялся.
+     *
+     * @param results результаты одного размера
+     */
+    private static void printAdaptiveComparison(List<Result> results) {
+        List<String> representations = Arrays.asList("ArrayList", "CircularArrayList", "TieredList");
+        Map<String, Result> adaptive = new LinkedHashMap<>();
+        Map<String, Result> best = new LinkedHashMap<>();
+        Map<String, Result> bestRepresentation = new LinkedHashMap<>();
+        BinaryOperator<Result> faster = (first, second) ->
+                first.getExecutionTime() <= second.getExecutionTime() ? first : second;
+        for (Result result : results) {
+            if (result.getTimeInMillis() <= 0) {
+                continue;
+            }
+            if (result.getListType().equals("AdaptiveList")) {
+                adaptive.put(result.getMethodName(), result);
+            } else if (boxedCounterpart(result.getListType()) == null) {
+                best.merge(result.getMethodName(), result, faster);
+                if (representations.contains(result.getListType())) {
+                    bestRepresentation.merge(result.getMethodName(), result, faster);
+                }
+            }
+        }
+        if (adaptive.isEmpty()) {
+            return;
+        }
+        System.out.println("\nAdaptiveList относительно лучшей фиксированной реализации:");
+        System.out.println("-".repeat(50));
+        for (Map.Entry<String, Result> entry : adaptive.entrySet()) {
+            Result fixed = best.get(entry.getKey());
+            if (fixed == null) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder(String.format("%-17s: %6.2fx (лучшая: %s, %.3f ms)",
+                    entry.getKey(), adaptiveOverhead(entry.getValue(), fixed),
+                    fixed.getListType(), fixed.getTimeInMillis()));
+            Result representation = bestRepresentation.get(entry.getKey());
+            if (representation != null && representation != fixed) {
+                line.append(String.format(", %.2fx среди представлений (%s)",
+                        adaptiveOverhead(entry.getValue(), representation), representation.getListType()));
+            }
+            if (representation != null && adaptiveOverhead(entry.getValue(), representation) > ADAPTIVE_BOUND) {
+                line.append(String.format(" — вне границы %.0fx", ADAPTIVE_BOUND));
+            }
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * Вычисляет, во сколько раз адаптивный список медленнее фиксированной реализации.
+     *
+     * @param adaptive результат {@link AdaptiveList}
+     * @param fixed результат фиксированной реализации
+     * @return отношение медианных времен (меньше 1, если адаптивный список быстрее)
+     */
+    static double adaptiveOverhead(Result adaptive, Result fixed) {
+        return (double) adaptive.getExecutionTime() / fixed.getExecutionTime();
+    }
+
+    /**
+     * Возвращает название списка {@code Integer}, аналогичного примитивному списку.
+     *
+     * @param listType тип списка, например "IntArrayList"
+     * @return название аналога, например "ArrayList", либо {@code null},
+     *         если список не является примитивным
+     */
+    private static String boxedCounterpart(String listType) {
+        return listType.startsWith("Int") ? listType.substring(3) : null;
+    }
+
+    /**
+     * Вычисляет долю времени списка {@code Integer}, которая приходится на упаковку,
+     * как разницу времен относительно времени списка {@code Integer}.
+     * Отрицательные значения (примитивный список оказался медленнее) приводятся к нулю.
+     *
+     * @param boxed результат списка {@code Integer}
+     * @param primitive результат примитивного списка
+     * @return доля от 0 до 1
+     */
+    static double boxingShare(Result boxed, Result primitive) {
+        double share = 1 - primitive.getTimeInMillis() / boxed.getTimeInMillis();
+        return Math.max(0, share);
+    }
+
+    /**
+     * Формирует вывод о том, какая из двух реализаций быстрее.
+     * Значимость, победитель и отношение определяются по одной статистике:
+     * если у обоих результатов есть распределение — по среднему, доверительные
+     * интервалы которого сравниваются, иначе — по единственному измерению.
+     *
+     * @param first первый результат
+     * @param second второй результат
+     * @return строка с победителем и отношением средних времен либо "нет значимой разницы"
+     */
+    static String verdict(Result first, Result second) {
+        boolean distributions = first.hasDistribution() && second.hasDistribution();
+        if (distributions && first.getStatistics().overlaps(second.getStatistics())) {
+            return "нет значимой разницы";
+        }
+        double firstTime = distributions ? first.getStatistics().getMean() : first.getExecutionTime();
+        double secondTime = distributions ? second.getStatistics().getMean() : second.getExecutionTime();
+        String faster = firstTime < secondTime ? first.getListType() : second.getListType();
+        double ratio = Math.max(firstTime, secondTime) / Math.min(firstTime, secondTime);
+        return String.format("Быстрее: %-10s (в %.2f раз)", faster, ratio);
+    }
+
+    /**
+     * Переводит время из наносекунд в миллисекунды.
+     *
+     * @param nanos время в наносекундах
+     * @return время в миллисекундах
+     */
+    private static double toMillis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,372 @@
+package com.benchmark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Список значений {@code int} фиксированной ширины, хранящийся в файле,
+ * отображенном в память ({@link MappedByteBuffer}). Файл состоит из заголовка
+ * в {@value #HEADER_BYTES} байт (сигнатура, версия формата, количество элементов)
+ * и значений по 4 байта в порядке little-endian. Открытие существующего файла
+ * методом {@link #open(Path)} не копирует и не разбирает данные: страницы файла
+ * подгружаются операционной системой при первом обращении к ним, поэтому время
+ * открытия не зависит от количества элементов, а в куче остается только объект
+ * списка и буфера.
+ * <p>
+ * Изменения записываются непосредственно в отображение, количество элементов
+ * в заголовке обновляется при каждом структурном изменении. На диск данные
+ * попадают по усмотрению операционной системы; {@link #force()} дожидается
+ * записи. При росте файл удлиняется и отображается заново вдвое большего
+ * размера, уже записанные данные не копируются. Одно отображение ограничено
+ * 2 ГБ, поэтому емкость не превышает {@value #MAX_CAPACITY} элементов.
+ * <p>
+ * Java 11 не позволяет явно освободить отображение: {@link #close()} только
+ * сохраняет данные, а память отображения освобождается, когда буфер
+ * становится недостижим. После закрытия список использовать не следует.
+ * Элементы {@code null} не поддерживаются. Класс не потокобезопасен.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class MappedIntList extends AbstractList<Integer> implements RandomAccess, Closeable {
+
+    /**
+     * Размер заголовка файла в байтах.
+     */
+    public static final int HEADER_BYTES = 16;
+
+    /**
+     * Наибольшее количество элементов в одном отображении.
+     */
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / Integer.BYTES;
+
+    /**
+     * Сигнатура файла ("MIL1").
+     */
+    private static final int MAGIC = 0x4D494C31;
+
+    /**
+     * Версия формата файла.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Смещение количества элементов в заголовке.
+     */
+    private static final int SIZE_OFFSET = 8;
+
+    /**
+     * Емкость нового файла по умолчанию.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Размер блока в байтах, которым сдвигаются элементы при вставке и удалении.
+     */
+    private static final int MOVE_CHUNK = 4096;
+
+    private final Path path;
+    private MappedByteBuffer buffer;
+    private byte[] moveBuffer;
+    private int capacity;
+    private int size;
+
+    private MappedIntList(Path path, MappedByteBuffer buffer, int size) {
+        this.path = path;
+        this.buffer = buffer;
+        this.capacity = (buffer.capacity() - HEADER_BYTES) / Integer.BYTES;
+        this.size = size;
+    }
+
+    /**
+     * Создает пустой список в файле с емкостью по умолчанию, перезаписывая файл.
+     *
+     * @param path путь к файлу
+     * @return пустой список
+     * @throws IOException если файл не удалось создать или отобразить
+     */
+    public static MappedIntList create(Path path) throws IOException {
+        return create(path, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список в файле заданной емкости, перезаписывая файл.
+     *
+     * @param path путь к файлу
+     * @param initialCapacity начальная емкость в элементах
+     * @return пустой список
+     * @throws IOException если файл не удалось создать или отобразить
+     * @throws IllegalArgumentException если емкость отрицательна или больше {@link #MAX_CAPACITY}
+     */
+    public static MappedIntList create(Path path, int initialCapacity) throws IOException {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Недопустимая емкость: " + initialCapacity);
+        }
+        MappedByteBuffer buffer = map(path, initialCapacity, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(SIZE_OFFSET, 0);
+        return new MappedIntList(path, buffer, 0);
+    }
+
+    /**
+     * Открывает список из существующего файла без копирования данных.
+     *
+     * @param path путь к файлу, созданному этим классом
+     * @return список, отображенный на файл
+     * @throws IOException если файл не удалось прочитать или он имеет неверный формат
+     */
+    public static MappedIntList open(Path path) throws IOException {
+        long length = Files.size(path);
+        if (length < HEADER_BYTES || length > Integer.MAX_VALUE) {
+            throw new IOException("Неверный размер файла списка: " + path + " (" + length + " байт)");
+        }
+        int capacity = (int) ((length - HEADER_BYTES) / Integer.BYTES);
+        MappedByteBuffer buffer = map(path, capacity);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Файл не является списком MappedIntList версии " + VERSION + ": " + path);
+        }
+        int size = buffer.getInt(SIZE_OFFSET);
+        if (size < 0 || size > capacity) {
+            throw new IOException("Неверное количество элементов в заголовке: " + size + ", емкость: " + capacity);
+        }
+        return new MappedIntList(path, buffer, size);
+    }
+
+    /**
+     * Записывает значения списка в новый файл и дожидается их записи на диск.
+     *
+     * @param source сохраняемые значения
+     * @param path путь к файлу, который перезаписывается
+     * @return список, отображенный на созданный файл
+     * @throws IOException если файл не удалось записать
+     */
+    public static MappedIntList save(List<Integer> source, Path path) throws IOException {
+        MappedIntList list = create(path, source.size());
+        for (Integer value : source) {
+            list.addInt(value);
+        }
+        list.force();
+        return list;
+    }
+
+    /**
+     * Добавляет значение в конец списка без упаковки.
+     *
+     * @param value добавляемое значение
+     */
+    public void addInt(int value) {
+        ensureCapacity(size + 1);
+        putInt(size, value);
+        setSize(size + 1);
+    }
+
+    /**
+     * Возвращает значение по индексу без упаковки.
+     *
+     * @param index индекс элемента
+     * @return значение элемента
+     * @throws IndexOutOfBoundsException если индекс вне диапазона
+     */
+    public int getInt(int index) {
+        checkIndex(index, size);
+        return readInt(index);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        checkIndex(index, size);
+        int previous = readInt(index);
+        putInt(index, element);
+        return previous;
+    }
+
+    @Override
+    public boolean add(Integer element) {
+        addInt(element);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        checkIndex(index, size + 1);
+        int value = element;
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        putInt(index, value);
+        setSize(size + 1);
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index, size);
+        int value = readInt(index);
+        move(index + 1, index, size - index - 1);
+        setSize(size - 1);
+        modCount++;
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        setSize(0);
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает путь к файлу списка.
+     *
+     * @return путь к файлу
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Возвращает размер файла списка, включая заголовок и резерв емкости.
+     *
+     * @return размер файла в байтах
+     */
+    public long fileBytes() {
+        return HEADER_BYTES + (long) capacity * Integer.BYTES;
+    }
+
+    /**
+     * Дожидается записи всех изменений отображения на диск.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * Сохраняет изменения на диск. Отображение освобождается сборщиком мусора.
+     */
+    @Override
+    public void close() {
+        force();
+    }
+
+    /**
+     * Обеспечивает емкость отображения, удлиняя файл и отображая его заново.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     * @throws IllegalStateException если требуемая емкость превышает {@link #MAX_CAPACITY}
+     * @throws UncheckedIOException если файл не удалось отобразить
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity) {
+            return;
+        }
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Превышена наибольшая емкость отображения: " + MAX_CAPACITY);
+        }
+        int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max((long) minCapacity, capacity * 2L));
+        try {
+            buffer = map(path, newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось расширить файл списка " + path, e);
+        }
+        capacity = newCapacity;
+    }
+
+    /**
+     * Перемещает значения блоками через буфер в куче. Порядок обхода блоков
+     * выбирается так, чтобы перекрывающиеся области не затирали еще не
+     * перемещенные значения.
+     *
+     * @param from индекс первого перемещаемого значения
+     * @param to индекс назначения первого значения
+     * @param count количество перемещаемых значений
+     */
+    private void move(int from, int to, int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (moveBuffer == null) {
+            moveBuffer = new byte[MOVE_CHUNK];
+        }
+        int bytes = count * Integer.BYTES;
+        int source = offset(from);
+        int target = offset(to);
+        int moved = 0;
+        while (moved < bytes) {
+            int chunk = Math.min(MOVE_CHUNK, bytes - moved);
+            int shift = target > source ? bytes - moved - chunk : moved;
+            buffer.position(source + shift);
+            buffer.get(moveBuffer, 0, chunk);
+            buffer.position(target + shift);
+            buffer.put(moveBuffer, 0, chunk);
+            moved += chunk;
+        }
+    }
+
+    private void setSize(int newSize) {
+        size = newSize;
+        buffer.putInt(SIZE_OFFSET, newSize);
+    }
+
+    private int readInt(int index) {
+        return buffer.getInt(offset(index));
+    }
+
+    private void putInt(int index, int value) {
+        buffer.putInt(offset(index), value);
+    }
+
+    private static int offset(int index) {
+        return HEADER_BYTES + index * Integer.BYTES;
+    }
+
+    /**
+     * Отображает файл в память для чтения и записи. Канал закрывается сразу:
+     * отображение остается действительным и без него.
+     *
+     * @param path путь к файлу
+     * @param capacity емкость в элементах; файл удлиняется до нужного размера
+     * @param options дополнительные параметры открытия файла
+     * @return буфер с порядком байтов little-endian
+     * @throws IOException если файл не удалось открыть или отобразить
+     */
+    private static MappedByteBuffer map(Path path, int capacity, OpenOption... options) throws IOException {
+        OpenOption[] all = new OpenOption[options.length + 2];
+        all[0] = StandardOpenOption.READ;
+        all[1] = StandardOpenOption.WRITE;
+        System.arraycopy(options, 0, all, 2, options.length);
+        try (FileChannel channel = FileChannel.open(path, all)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + (long) capacity * Integer.BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + bound);
+        }
+    }
+}
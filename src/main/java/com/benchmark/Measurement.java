@@ -0,0 +1,23 @@
+package com.benchmark;
+
+/**
+ * Однократное измерение производительности операции над списком.
+ * Совпадает по сигнатуре с методами классов {@link Benchmark} и {@link IntBenchmark},
+ * поэтому может задаваться ссылкой на метод, например {@code Benchmark::testAdd}.
+ *
+ * @param <L> тип тестируемого списка
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface Measurement<L> {
+
+    /**
+     * Выполняет одно измерение.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param operationsCount количество операций
+     * @return объект {@link Result} с результатом измерения
+     */
+    Result measure(L list, int operationsCount);
+}
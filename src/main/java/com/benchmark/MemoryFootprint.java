@@ -0,0 +1,293 @@
+package com.benchmark;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Оценка объема памяти, удерживаемой структурой данных.
+ * Обходит граф объектов, достижимых из корня через поля экземпляров
+ * и элементы массивов, и суммирует их размеры, вычисленные по раскладке
+ * объектов HotSpot: заголовок, поля и выравнивание. Параметры раскладки
+ * (сжатые указатели, выравнивание) считываются из текущей JVM.
+ * Классы, потоки и загрузчики классов не обходятся, так как принадлежат
+ * JVM, а не структуре. Для прямых буферов {@link Buffer} учитывается
+ * память вне кучи, а их внутреннее устройство не обходится.
+ * <p>
+ * Чтение полей классов JDK требует открытия пакетов модуля {@code java.base},
+ * например {@code --add-opens java.base/java.util=ALL-UNNAMED}. Если поле
+ * недоступно, оценка не выполняется и возвращается -1, чтобы в отчет
+ * не попал заниженный размер.
+ * <p>
+ * Обход графа затратен, поэтому в отчетах он выполняется только при
+ * включенном режиме измерения памяти (системное свойство {@code benchmark.memory}).
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class MemoryFootprint {
+
+    /**
+     * Результат, означающий, что объем памяти не измерялся.
+     */
+    static final MemoryFootprint UNKNOWN = new MemoryFootprint(-1, 0);
+
+    /**
+     * Пакеты модуля {@code java.base}, которые нужно открыть для обхода
+     * стандартных реализаций списков.
+     */
+    static final List<String> OPENED_PACKAGES = Collections.unmodifiableList(Arrays.asList(
+            "java.base/java.util",
+            "java.base/java.util.concurrent",
+            "java.base/java.util.concurrent.atomic",
+            "java.base/java.util.concurrent.locks"));
+
+    private static final int REFERENCE_SIZE;
+    private static final int OBJECT_HEADER;
+    private static final int ARRAY_HEADER;
+    private static final int ALIGNMENT;
+
+    static {
+        boolean compressedOops = true;
+        boolean compressedClassPointers = true;
+        int alignment = 8;
+        try {
+            HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            compressedOops = Boolean.parseBoolean(bean.getVMOption("UseCompressedOops").getValue());
+            compressedClassPointers = Boolean.parseBoolean(
+                    bean.getVMOption("UseCompressedClassPointers").getValue());
+            alignment = Integer.parseInt(bean.getVMOption("ObjectAlignmentInBytes").getValue());
+        } catch (RuntimeException e) {
+            // Не HotSpot: используются значения по умолчанию для 64-битной JVM
+        }
+        REFERENCE_SIZE = compressedOops ? 4 : 8;
+        OBJECT_HEADER = compressedClassPointers ? 12 : 16;
+        ARRAY_HEADER = align(OBJECT_HEADER + 4, 4);
+        ALIGNMENT = alignment;
+    }
+
+    /**
+     * Поля ссылочных типов и размер экземпляра для каждого обойденного класса.
+     */
+    private static final Map<Class<?>, ClassLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private final long retainedBytes;
+    private final int elementCount;
+
+    private MemoryFootprint(long retainedBytes, int elementCount) {
+        this.retainedBytes = retainedBytes;
+        this.elementCount = elementCount;
+    }
+
+    /**
+     * Проверяет, включен ли режим измерения памяти.
+     *
+     * @return {@code true}, если задано системное свойство {@code benchmark.memory=true}
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("benchmark.memory");
+    }
+
+    /**
+     * Измеряет объем памяти, удерживаемой структурой, если включен режим
+     * измерения памяти.
+     *
+     * @param structure корень структуры данных
+     * @param elementCount количество элементов в структуре
+     * @return объем памяти или {@link #UNKNOWN}, если режим выключен
+     */
+    public static MemoryFootprint of(Object structure, int elementCount) {
+        return isEnabled() ? new MemoryFootprint(retainedSize(structure), elementCount) : UNKNOWN;
+    }
+
+    /**
+     * Оценивает объем памяти, занятой всеми объектами, достижимыми из корня,
+     * включая память прямых буферов вне кучи.
+     *
+     * @param root корень структуры данных
+     * @return объем памяти в байтах или -1, если какое-либо поле недоступно для чтения
+     */
+    public static long retainedSize(Object root) {
+        return retainedSize(root, new Object[0]);
+    }
+
+    /**
+     * Оценивает объем памяти, занятой объектами, достижимыми из корня,
+     * не считая указанных общих объектов и объектов, достижимых только через них.
+     * Позволяет отделить память самой структуры от памяти элементов,
+     * принадлежащих, например, пулу {@link ValuePool}.
+     *
+     * @param root корень структуры данных
+     * @param shared объекты, не входящие в структуру
+     * @return объем памяти в байтах или -1, если какое-либо поле недоступно для чтения
+     */
+    public static long retainedSize(Object root, Object[] shared) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object object : shared) {
+            if (object != null) {
+                visited.add(object);
+            }
+        }
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        long total = 0;
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (!visited.add(object)) {
+                continue;
+            }
+            Class<?> type = object.getClass();
+            if (type.isArray()) {
+                int length = java.lang.reflect.Array.getLength(object);
+                Class<?> component = type.getComponentType();
+                total += align(ARRAY_HEADER + (long) length * sizeOf(component), ALIGNMENT);
+                if (!component.isPrimitive()) {
+                    for (Object element : (Object[]) object) {
+                        push(pending, element);
+                    }
+                }
+                continue;
+            }
+            ClassLayout layout = LAYOUTS.computeIfAbsent(type, ClassLayout::new);
+            total += layout.instanceSize;
+            if (object instanceof Buffer) {
+                Buffer buffer = (Buffer) object;
+                total += buffer.isDirect() ? (long) buffer.capacity() * bufferElementSize(buffer) : 0;
+                continue;
+            }
+            if (layout.inaccessible) {
+                return -1;
+            }
+            for (Field field : layout.references) {
+                try {
+                    push(pending, field.get(object));
+                } catch (IllegalAccessException e) {
+                    return -1;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Добавляет объект в очередь обхода, если он принадлежит структуре.
+     *
+     * @param pending очередь обхода
+     * @param object объект или {@code null}
+     */
+    private static void push(Deque<Object> pending, Object object) {
+        if (object != null && !(object instanceof Class) && !(object instanceof Thread)
+                && !(object instanceof ClassLoader)) {
+            pending.push(object);
+        }
+    }
+
+    /**
+     * Возвращает размер значения указанного типа в поле или элементе массива.
+     *
+     * @param type тип значения
+     * @return размер в байтах
+     */
+    private static int sizeOf(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_SIZE;
+    }
+
+    /**
+     * Возвращает размер элемента буфера в байтах.
+     *
+     * @param buffer буфер
+     * @return размер элемента
+     */
+    private static int bufferElementSize(Buffer buffer) {
+        if (buffer instanceof ByteBuffer) {
+            return 1;
+        } else if (buffer instanceof CharBuffer || buffer instanceof ShortBuffer) {
+            return 2;
+        } else if (buffer instanceof LongBuffer || buffer instanceof DoubleBuffer) {
+            return 8;
+        } else if (buffer instanceof FloatBuffer) {
+            return 4;
+        }
+        return 4;
+    }
+
+    private static long align(long size, int alignment) {
+        return (size + alignment - 1) / alignment * alignment;
+    }
+
+    private static int align(int size, int alignment) {
+        return (size + alignment - 1) / alignment * alignment;
+    }
+
+    /**
+     * Возвращает объем памяти, удерживаемой структурой.
+     *
+     * @return объем памяти в байтах или -1, если не измерялся
+     */
+    public long getRetainedBytes() { return retainedBytes; }
+
+    /**
+     * Возвращает количество элементов в структуре на момент измерения.
+     *
+     * @return количество элементов
+     */
+    public int getElementCount() { return elementCount; }
+
+    /**
+     * Раскладка экземпляра класса: размер и поля ссылочных типов
+     * с учетом всех суперклассов.
+     */
+    private static final class ClassLayout {
+        private final long instanceSize;
+        private final List<Field> references = new ArrayList<>();
+        private boolean inaccessible;
+
+        ClassLayout(Class<?> type) {
+            long fieldsSize = 0;
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    fieldsSize += sizeOf(field.getType());
+                    if (!field.getType().isPrimitive()) {
+                        if (field.trySetAccessible()) {
+                            references.add(field);
+                        } else {
+                            inaccessible = true;
+                        }
+                    }
+                }
+            }
+            this.instanceSize = align(OBJECT_HEADER + fieldsSize, ALIGNMENT);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Список значений {@code int}, хранящихся вне кучи в прямых буферах
+ * {@link ByteBuffer#allocateDirect(int)}. Память выделяется сегментами
+ * фиксированного размера: при росте списка добавляется новый сегмент,
+ * а уже записанные данные не копируются. В куче остаются только объекты
+ * буферов, поэтому нагрузка на сборщик мусора не зависит от числа элементов.
+ * Сдвиг элементов при вставке и удалении выполняется блоками через
+ * небольшой буфер в куче, выделяемый один раз на список.
+ * <p>
+ * Реализует {@link java.util.List}{@code <Integer>}, что позволяет использовать его
+ * в тех же сценариях {@link Benchmark}, что и {@link java.util.ArrayList}.
+ * Значения упаковываются только на границе интерфейса {@code List};
+ * методы {@link #addInt(int)} и {@link #getInt(int)} работают без упаковки.
+ * Элементы {@code null} не поддерживаются.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class OffHeapIntList extends AbstractList<Integer> implements RandomAccess {
+
+    /**
+     * Количество значений в одном сегменте по умолчанию (256 КБ памяти).
+     */
+    private static final int DEFAULT_SEGMENT_CAPACITY = 1 << 16;
+
+    /**
+     * Размер блока, которым сдвигаются элементы при вставке и удалении.
+     */
+    private static final int MOVE_CHUNK = 1024;
+
+    private final int segmentShift;
+    private final int segmentMask;
+    private IntBuffer[] segments = new IntBuffer[0];
+    private int[] moveBuffer;
+    private int segmentCount;
+    private int size;
+
+    /**
+     * Создает пустой список с размером сегмента по умолчанию.
+     */
+    public OffHeapIntList() {
+        this(DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с заданным размером сегмента.
+     *
+     * @param segmentCapacity количество значений в сегменте, степень двойки
+     * @throws IllegalArgumentException если размер сегмента не является степенью двойки
+     */
+    public OffHeapIntList(int segmentCapacity) {
+        if (segmentCapacity <= 0 || Integer.bitCount(segmentCapacity) != 1) {
+            throw new IllegalArgumentException("Размер сегмента должен быть степенью двойки: "
+                    + segmentCapacity);
+        }
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentCapacity);
+        this.segmentMask = segmentCapacity - 1;
+    }
+
+    /**
+     * Добавляет значение в конец списка без упаковки.
+     *
+     * @param value добавляемое значение
+     */
+    public void addInt(int value) {
+        ensureCapacity(size + 1);
+        putInt(size++, value);
+    }
+
+    /**
+     * Возвращает значение по индексу без упаковки.
+     *
+     * @param index индекс элемента
+     * @return значение элемента
+     * @throws IndexOutOfBoundsException если индекс вне диапазона
+     */
+    public int getInt(int index) {
+        checkIndex(index, size);
+        return readInt(index);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        checkIndex(index, size);
+        int previous = readInt(index);
+        putInt(index, element);
+        return previous;
+    }
+
+    @Override
+    public boolean add(Integer element) {
+        addInt(element);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        checkIndex(index, size + 1);
+        int value = element;
+        ensureCapacity(size + 1);
+        // Сдвигаем хвост вправо, начиная с последнего сегмента: последний элемент
+        // сегмента переносится в освободившуюся первую ячейку следующего
+        for (int segment = size >>> segmentShift; segment >= index >>> segmentShift; segment--) {
+            int segmentStart = segment << segmentShift;
+            int from = Math.max(index, segmentStart);
+            int end = Math.min(size, segmentStart + segmentMask + 1);
+            if (from >= end) {
+                continue;
+            }
+            if (end == segmentStart + segmentMask + 1) {
+                putInt(end, readInt(end - 1));
+                end--;
+            }
+            move(segments[segment], from - segmentStart, from - segmentStart + 1, end - from);
+        }
+        putInt(index, value);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index, size);
+        int value = readInt(index);
+        // Сдвигаем хвост влево, начиная с сегмента удаляемого элемента: первый
+        // элемент сегмента переносится в последнюю ячейку предыдущего
+        for (int segment = index >>> segmentShift; segment <= (size - 1) >>> segmentShift; segment++) {
+            int segmentStart = segment << segmentShift;
+            int from = Math.max(index + 1, segmentStart);
+            int end = Math.min(size, segmentStart + segmentMask + 1);
+            if (from >= end) {
+                continue;
+            }
+            if (from == segmentStart) {
+                putInt(from - 1, readInt(from));
+                from++;
+            }
+            move(segments[segment], from - segmentStart, from - segmentStart - 1, end - from);
+        }
+        size--;
+        modCount++;
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает объем памяти вне кучи, занятый сегментами списка.
+     *
+     * @return объем памяти в байтах
+     */
+    public long offHeapBytes() {
+        return (long) segmentCount << segmentShift << 2;
+    }
+
+    /**
+     * Обеспечивает наличие сегментов для хранения указанного количества значений.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     */
+    private void ensureCapacity(int minCapacity) {
+        while ((long) segmentCount << segmentShift < minCapacity) {
+            if (segmentCount == segments.length) {
+                segments = Arrays.copyOf(segments, Math.max(4, segments.length * 2));
+            }
+            segments[segmentCount++] = ByteBuffer.allocateDirect((segmentMask + 1) << 2)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+        }
+    }
+
+    /**
+     * Перемещает значения внутри одного сегмента блоками через буфер в куче.
+     * Порядок обхода блоков выбирается так, чтобы перекрывающиеся области
+     * не затирали еще не перемещенные значения.
+     *
+     * @param segment сегмент
+     * @param from начальная позиция источника внутри сегмента
+     * @param to начальная позиция назначения внутри сегмента
+     * @param count количество перемещаемых значений
+     */
+    private void move(IntBuffer segment, int from, int to, int count) {
+        if (moveBuffer == null) {
+            moveBuffer = new int[MOVE_CHUNK];
+        }
+        int moved = 0;
+        while (moved < count) {
+            int chunk = Math.min(MOVE_CHUNK, count - moved);
+            int offset = to > from ? count - moved - chunk : moved;
+            segment.position(from + offset);
+            segment.get(moveBuffer, 0, chunk);
+            segment.position(to + offset);
+            segment.put(moveBuffer, 0, chunk);
+            moved += chunk;
+        }
+    }
+
+    private int readInt(int index) {
+        return segments[index >>> segmentShift].get(index & segmentMask);
+    }
+
+    private void putInt(int index, int value) {
+        segments[index >>> segmentShift].put(index & segmentMask, value);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + bound);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.benchmark;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сбор аппаратных счетчиков производительности утилитой Linux {@code perf stat}
+ * для одного потока. Утилита подключается к потоку, вызвавшему {@link #start()},
+ * по его идентификатору в ядре ({@code /proc/thread-self}), поэтому потоки
+ * JIT-компилятора, сборщика мусора и другие ячейки в счетчики не попадают.
+ * <p>
+ * Утилита запускается с выключенными счетчиками ({@code --delay=-1}) и включает их
+ * по команде {@code enable} через управляющий канал {@code --control}. Метод
+ * {@link #start()} возвращает управление только после подтверждения {@code ack},
+ * поэтому измеряемый участок не начинается раньше, чем счетчики подключены.
+ * Управляющие каналы появились в {@code perf} 5.10; со старыми версиями
+ * счетчики неизвестны.
+ * <p>
+ * Сбор завершается сигналом {@code SIGINT}, после которого {@code perf}
+ * записывает итоговые значения в файл в формате CSV.
+ * <p>
+ * Если утилита отсутствует или ядро запрещает доступ к счетчикам
+ * ({@code kernel.perf_event_paranoid}), счетчики равны -1.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+final class PerfStat {
+
+    /**
+     * События в порядке полей {@link CellProfile.Builder#counters}.
+     */
+    static final List<String> EVENTS = Arrays.asList(
+            "cycles", "instructions", "L1-dcache-load-misses", "LLC-load-misses", "branch-misses");
+
+    /**
+     * Наибольшее время ожидания подтверждения включения счетчиков. Счетчики
+     * в это время выключены, поэтому ожидание не попадает в результаты.
+     */
+    private static final long ATTACH_TIMEOUT_MILLIS = 5000;
+
+    private final Process process;
+    private final Path directory;
+    private final Path output;
+
+    private PerfStat(Process process, Path directory, Path output) {
+        this.process = process;
+        this.directory = directory;
+        this.output = output;
+    }
+
+    /**
+     * Проверяет, доступна ли утилита {@code perf}.
+     *
+     * @return {@code true} на Linux при наличии {@code perf}
+     */
+    static boolean isAvailable() {
+        return AvailabilityHolder.AVAILABLE;
+    }
+
+    /**
+     * Начинает сбор счетчиков для текущего потока и ждет подтверждения,
+     * что счетчики подключены и включены.
+     *
+     * @return запущенный сбор или {@code null}, если {@code perf} недоступен
+     *         или не подтвердил включение счетчиков
+     */
+    static PerfStat start() {
+        if (!isAvailable()) {
+            return null;
+        }
+        Path directory = null;
+        Process process = null;
+        try {
+            String threadId = Files.readSymbolicLink(Paths.get("/proc/thread-self")).getFileName().toString();
+            directory = Files.createTempDirectory("perf-stat");
+            Path control = directory.resolve("control");
+            Path ack = directory.resolve("ack");
+            Path output = directory.resolve("counters.csv");
+            if (new ProcessBuilder("mkfifo", control.toString(), ack.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start()
+                    .waitFor() != 0) {
+                deleteAll(directory);
+                return null;
+            }
+            process = new ProcessBuilder("perf", "stat", "-x", ",",
+                    "-e", String.join(",", EVENTS), "-t", threadId, "-o", output.toString(),
+                    "--delay=-1", "--control=fifo:" + control + "," + ack)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!enable(process, control, ack)) {
+                process.destroyForcibly();
+                deleteAll(directory);
+                return null;
+            }
+            return new PerfStat(process, directory, output);
+        } catch (IOException | UnsupportedOperationException e) {
+            if (process != null) {
+                process.destroyForcibly();
+            }
+            deleteAll(directory);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (process != null) {
+                process.destroyForcibly();
+            }
+            deleteAll(directory);
+            return null;
+        }
+    }
+
+    /**
+     * Отправляет {@code perf} команду {@code enable} и ждет ответа {@code ack}.
+     * Каналы открываются на чтение и запись, чтобы открытие не блокировалось,
+     * если {@code perf} завершился, не открыв их.
+     *
+     * @param process процесс {@code perf}
+     * @param control управляющий канал
+     * @param ack канал подтверждений
+     * @return {@code true}, если включение подтверждено
+     * @throws IOException если не удалось обратиться к каналам
+     * @throws InterruptedException если ожидание было прервано
+     */
+    private static boolean enable(Process process, Path control, Path ack)
+            throws IOException, InterruptedException {
+        try (RandomAccessFile controlChannel = new RandomAccessFile(control.toFile(), "rw");
+             RandomAccessFile ackChannel = new RandomAccessFile(ack.toFile(), "rw")) {
+            controlChannel.write("enable\n".getBytes(StandardCharsets.US_ASCII));
+            InputStream replies = new FileInputStream(ackChannel.getFD());
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ATTACH_TIMEOUT_MILLIS);
+            StringBuilder reply = new StringBuilder();
+            while (process.isAlive() && System.nanoTime() < deadline) {
+                if (replies.available() == 0) {
+                    Thread.sleep(1);
+                    continue;
+                }
+                int next = replies.read();
+                if (next == '\n') {
+                    return reply.toString().equals("ack");
+                }
+                reply.append((char) next);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Останавливает сбор и возвращает значения счетчиков.
+     *
+     * @return значения в порядке {@link #EVENTS}; -1 для неподдерживаемых событий
+     */
+    long[] stop() {
+        try {
+            new ProcessBuilder("kill", "-INT", String.valueOf(process.pid()))
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start()
+                    .waitFor();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return unknown();
+            }
+            return parse(Files.readAllLines(output, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return unknown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            return unknown();
+        } finally {
+            deleteAll(directory);
+        }
+    }
+
+    /**
+     * Удаляет временный каталог сбора вместе с каналами и файлом результатов.
+     *
+     * @param directory временный каталог или {@code null}
+     */
+    private static void deleteAll(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            for (String name : Arrays.asList("control", "ack", "counters.csv")) {
+                Files.deleteIfExists(directory.resolve(name));
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            // Временные файлы будут удалены операционной системой
+        }
+    }
+
+    /**
+     * Разбирает вывод {@code perf stat -x ,}: строки вида
+     * {@code 123456,,cycles:u,1000,100.00,,}. Модификаторы события после двоеточия
+     * отбрасываются; значения {@code <not supported>} и {@code <not counted>} дают -1.
+     *
+     * @param lines строки вывода
+     * @return значения в порядке {@link #EVENTS}
+     */
+    static long[] parse(List<String> lines) {
+        long[] counters = unknown();
+        for (String line : lines) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",", -1);
+            if (fields.length < 3) {
+                continue;
+            }
+            String event = fields[2];
+            int modifier = event.indexOf(':');
+            int index = EVENTS.indexOf(modifier < 0 ? event : event.substring(0, modifier));
+            if (index < 0) {
+                continue;
+            }
+            try {
+                counters[index] = Long.parseLong(fields[0].trim());
+            } catch (NumberFormatException e) {
+                counters[index] = -1;
+            }
+        }
+        return counters;
+    }
+
+    private static long[] unknown() {
+        long[] counters = new long[EVENTS.size()];
+        Arrays.fill(counters, -1);
+        return counters;
+    }
+
+    /**
+     * Ленивая проверка наличия {@code perf}, выполняемая один раз.
+     */
+    private static final class AvailabilityHolder {
+        static final boolean AVAILABLE = detect();
+
+        private static boolean detect() {
+            if (!System.getProperty("os.name", "").toLowerCase().contains("linux")) {
+                return false;
+            }
+            try {
+                Process process = new ProcessBuilder("perf", "--version").redirectErrorStream(true).start();
+                process.getInputStream().readAllBytes();
+                return process.waitFor() == 0;
+            } catch (IOException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
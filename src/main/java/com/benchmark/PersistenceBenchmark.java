@@ -0,0 +1,376 @@
+package com.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Утилитарный класс для измерения сохранения списка в файл и загрузки из него:
+ * сериализации {@link ArrayList} и {@link LinkedList} через
+ * {@link ObjectOutputStream} в сравнении с файлом {@link MappedIntList},
+ * отображаемым в память.
+ * <p>
+ * Как и в {@link BulkBenchmark}, измеряется один вызов над списком из
+ * {@code elementsCount} элементов, а количеством операций результата считается
+ * количество элементов. Сохранение включает ожидание записи на диск
+ * ({@code fsync} для потока, {@link MappedIntList#force()} для отображения).
+ * Файлы для загрузки создаются один раз для каждого формата и размера
+ * во временном каталоге до начала измерения.
+ * <p>
+ * Загрузка «с холодного старта» означает, что в куче нет ни одного объекта
+ * списка, а файл не отображен; страничный кэш операционной системы без прав
+ * администратора не сбрасывается, поэтому чтение с диска не измеряется.
+ * Для отображения первое обращение к элементу вызывает отказ страницы,
+ * поэтому оно измеряется отдельно.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class PersistenceBenchmark {
+
+    /**
+     * Способ сохранения и загрузки списка.
+     */
+    public interface Format {
+
+        /**
+         * Возвращает название формата для отчетов.
+         *
+         * @return название формата
+         */
+        String getName();
+
+        /**
+         * Создает сохраняемый список с числами от 0 до {@code elementsCount - 1}.
+         *
+         * @param elementsCount количество элементов
+         * @return заполненный список
+         */
+        List<Integer> createSource(int elementsCount);
+
+        /**
+         * Сохраняет список в файл и дожидается записи на диск.
+         *
+         * @param source сохраняемый список
+         * @param file файл, который перезаписывается
+         * @throws IOException если файл не удалось записать
+         */
+        void save(List<Integer> source, Path file) throws IOException;
+
+        /**
+         * Загружает список из файла.
+         *
+         * @param file файл, записанный методом {@link #save(List, Path)}
+         * @return загруженный список
+         * @throws IOException если файл не удалось прочитать
+         */
+        List<Integer> load(Path file) throws IOException;
+    }
+
+    /**
+     * Сериализация {@link ArrayList}.
+     */
+    public static final Format ARRAY_LIST = serialization("ArrayList", ArrayList::new);
+
+    /**
+     * Сериализация {@link LinkedList}.
+     */
+    public static final Format LINKED_LIST = serialization("LinkedList", LinkedList::new);
+
+    /**
+     * Файл {@link MappedIntList}. Сохраняемые значения берутся из {@link ArrayList},
+     * как при сохранении рабочего списка в куче.
+     */
+    public static final Format MAPPED = new Format() {
+        @Override
+        public String getName() {
+            return "MappedIntList";
+        }
+
+        @Override
+        public List<Integer> createSource(int elementsCount) {
+            return fill(new ArrayList<>(elementsCount), elementsCount);
+        }
+
+        @Override
+        public void save(List<Integer> source, Path file) throws IOException {
+            MappedIntList.save(source, file).close();
+        }
+
+        @Override
+        public List<Integer> load(Path file) throws IOException {
+            return MappedIntList.open(file);
+        }
+    };
+
+    /**
+     * Приемник прочитанных значений, не позволяющий JIT-компилятору
+     * исключить измеряемое чтение как не имеющее эффекта.
+     */
+    private static volatile long consumed;
+
+    /**
+     * Файлы, подготовленные для загрузки, индексированные форматом и размером.
+     */
+    private static final Map<String, Path> PREPARED = new ConcurrentHashMap<>();
+
+    private static Path directory;
+
+    /**
+     * Возвращает все форматы в порядке вывода.
+     *
+     * @return форматы
+     */
+    public static List<Format> formats() {
+        return Arrays.asList(ARRAY_LIST, LINKED_LIST, MAPPED);
+    }
+
+    /**
+     * Тестирует сохранение списка в новый файл с ожиданием записи на диск.
+     *
+     * @param format формат файла
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws UncheckedIOException если файл не удалось записать
+     */
+    public static Result testSave(Format format, int elementsCount) {
+        List<Integer> source = format.createSource(elementsCount);
+        try {
+            Path file = Files.createTempFile(directory(), "save", ".bin");
+            try {
+                ResourceProbe probe = ResourceProbe.start();
+                long startTime = System.nanoTime();
+                format.save(source, file);
+                long endTime = System.nanoTime();
+                probe.stop();
+
+                return result("save", format, elementsCount, endTime - startTime, probe);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Тестирует загрузку списка из файла. Для отображения измеряется только
+     * открытие файла, без обращения к элементам.
+     *
+     * @param format формат файла
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws UncheckedIOException если файл не удалось прочитать
+     */
+    public static Result testLoad(Format format, int elementsCount) {
+        Path file = prepared(format, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        List<Integer> loaded = load(format, file);
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = loaded.size();
+
+        return result("load", format, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Тестирует первое обращение к среднему элементу сразу после загрузки.
+     * Загрузка в измерение не входит.
+     *
+     * @param format формат файла
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws UncheckedIOException если файл не удалось прочитать
+     */
+    public static Result testFirstGet(Format format, int elementsCount) {
+        List<Integer> loaded = load(format, prepared(format, elementsCount));
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        int value = loaded.get(elementsCount / 2);
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = value;
+
+        return result("firstGet", format, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Тестирует загрузку списка с последующим чтением всех элементов —
+     * полное время до получения данных, в том числе подгрузку всех
+     * страниц отображения.
+     *
+     * @param format формат файла
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws UncheckedIOException если файл не удалось прочитать
+     */
+    public static Result testLoadScan(Format format, int elementsCount) {
+        Path file = prepared(format, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        List<Integer> loaded = load(format, file);
+        long sum = 0;
+        for (Integer value : loaded) {
+            sum += value;
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = sum;
+
+        return result("loadScan", format, elementsCount, endTime - startTime, probe);
+    }
+
+    /**
+     * Возвращает размер файла, в который сохраняется список.
+     *
+     * @param format формат файла
+     * @param elementsCount количество элементов в списке
+     * @return размер файла в байтах
+     * @throws UncheckedIOException если файл не удалось создать
+     */
+    public static long fileBytes(Format format, int elementsCount) {
+        try {
+            return Files.size(prepared(format, elementsCount));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Удаляет временный каталог с подготовленными файлами.
+     *
+     * @throws IOException если файлы не удалось удалить
+     */
+    public static synchronized void deleteFiles() throws IOException {
+        PREPARED.clear();
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        directory = null;
+    }
+
+    /**
+     * Создает формат сериализации списка заданного типа.
+     *
+     * @param name название формата
+     * @param constructor конструктор пустого списка
+     * @return формат
+     */
+    private static Format serialization(String name, Supplier<List<Integer>> constructor) {
+        return new Format() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public List<Integer> createSource(int elementsCount) {
+                return fill(constructor.get(), elementsCount);
+            }
+
+            @Override
+            public void save(List<Integer> source, Path file) throws IOException {
+                try (FileOutputStream stream = new FileOutputStream(file.toFile());
+                     ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(stream))) {
+                    out.writeObject(source);
+                    out.flush();
+                    stream.getFD().sync();
+                }
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Integer> load(Path file) throws IOException {
+                try (InputStream stream = Files.newInputStream(file);
+                     ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(stream))) {
+                    return (List<Integer>) in.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Неизвестный класс в файле " + file, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Возвращает файл формата с заданным количеством элементов, создавая его при первом обращении.
+     *
+     * @param format формат файла
+     * @param elementsCount количество элементов
+     * @return путь к файлу
+     * @throws UncheckedIOException если файл не удалось создать
+     */
+    private static Path prepared(Format format, int elementsCount) {
+        return PREPARED.computeIfAbsent(format.getName() + "-" + elementsCount, key -> {
+            try {
+                Path file = directory().resolve(key + ".bin");
+                format.save(format.createSource(elementsCount), file);
+                return file;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static List<Integer> load(Format format, Path file) {
+        try {
+            return format.load(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static synchronized Path directory() throws IOException {
+        if (directory == null) {
+            directory = Files.createTempDirectory("list-persistence");
+        }
+        return directory;
+    }
+
+    private static List<Integer> fill(List<Integer> list, int elementsCount) {
+        for (int i = 0; i < elementsCount; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * Формирует результат операции с файлом (тип операции "persist").
+     *
+     * @param methodName название операции
+     * @param format формат файла
+     * @param elementsCount количество элементов
+     * @param executionTime время выполнения в наносекундах
+     * @param probe остановленный измеритель ресурсов
+     * @return результат измерения
+     */
+    private static Result result(String methodName, Format format, int elementsCount,
+                                 long executionTime, ResourceProbe probe) {
+        return new Result(methodName, format.getName(), elementsCount, executionTime, "persist")
+                .withResourceUsage(probe);
+    }
+}
@@ -0,0 +1,163 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Класс для сравнения способов сохранения списков на диск и загрузки
+ * при старте приложения: сериализации {@link java.util.ArrayList}
+ * и {@link java.util.LinkedList} и файла {@link MappedIntList},
+ * отображаемого в память. Для каждого размера выводит таблицу операций
+ * {@link PersistenceBenchmark} (время сохранения, загрузки, первого обращения
+ * и загрузки с полным чтением), размеры файлов и ускорение запуска
+ * относительно сериализации {@code ArrayList}.
+ * <p>
+ * Параметры задаются системными свойствами: {@code benchmark.sizes} — размеры
+ * через запятую (по умолчанию {@code 10000,100000,1000000}) и
+ * {@code benchmark.output}, как в {@link ListPerformanceTester}.
+ * Измерения выполняются в текущей JVM.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class PersistenceTester {
+
+    /**
+     * Размеры списков по умолчанию.
+     */
+    private static final int[] DEFAULT_SIZES = {10000, 100000, 1000000};
+
+    /**
+     * Количество прогревочных прогонов каждого измерения.
+     */
+    private static final int WARMUP_TRIALS = 3;
+
+    /**
+     * Количество измеряемых прогонов каждого измерения.
+     */
+    private static final int MEASURED_TRIALS = 10;
+
+    /**
+     * Основной метод, запускающий сравнение способов сохранения.
+     *
+     * @param args аргументы командной строки (не используются)
+     * @throws IOException если не удалось записать файл результатов или временные файлы
+     */
+    public static void main(String[] args) throws IOException {
+        String sizesProperty = System.getProperty("benchmark.sizes");
+        int[] sizes = sizesProperty != null ? ListPerformanceTester.parseSizes(sizesProperty) : DEFAULT_SIZES;
+        TrialRunner runner = new TrialRunner(WARMUP_TRIALS, MEASURED_TRIALS);
+
+        System.out.println("=== Сохранение и загрузка списков ===\n");
+
+        List<Result> results = new ArrayList<>();
+        String output = System.getProperty("benchmark.output");
+        try (ResultSink sink = output != null ? ResultSink.open(output) : ResultSink.NONE) {
+            for (int size : sizes) {
+                System.out.println("Тестирование для " + size + " элементов:");
+                System.out.println("=".repeat(80));
+                List<Result> sizeResults = new ArrayList<>();
+                for (Map.Entry<String, Measurement<PersistenceBenchmark.Format>> scenario : scenarios().entrySet()) {
+                    for (PersistenceBenchmark.Format format : PersistenceBenchmark.formats()) {
+                        Result result = runner.run(scenario.getValue(), format, size);
+                        sink.write(result);
+                        sizeResults.add(result);
+                    }
+                }
+                ListPerformanceTester.printResults(sizeResults);
+                printFileSizes(size);
+                System.out.println();
+                results.addAll(sizeResults);
+            }
+        } finally {
+            PersistenceBenchmark.deleteFiles();
+        }
+        printStartupSpeedup(results, sizes);
+    }
+
+    /**
+     * Возвращает операции с файлами в порядке вывода.
+     *
+     * @return операции, индексированные названием метода
+     */
+    static Map<String, Measurement<PersistenceBenchmark.Format>> scenarios() {
+        Map<String, Measurement<PersistenceBenchmark.Format>> scenarios = new LinkedHashMap<>();
+        scenarios.put("save", PersistenceBenchmark::testSave);
+        scenarios.put("load", PersistenceBenchmark::testLoad);
+        scenarios.put("firstGet", PersistenceBenchmark::testFirstGet);
+        scenarios.put("loadScan", PersistenceBenchmark::testLoadScan);
+        return scenarios;
+    }
+
+    /**
+     * Выводит размеры файлов каждого формата для заданного количества элементов.
+     *
+     * @param size количество элементов
+     */
+    private static void printFileSizes(int size) {
+        System.out.println("Размер файла:");
+        for (PersistenceBenchmark.Format format : PersistenceBenchmark.formats()) {
+            long bytes = PersistenceBenchmark.fileBytes(format, size);
+            System.out.printf("  %-20s %12.1f KB (%.1f B/elem)%n", format.getName(), bytes / 1024.0,
+                    (double) bytes / size);
+        }
+    }
+
+    /**
+     * Выводит ускорение загрузки ({@code load}) и загрузки с полным чтением
+     * ({@code loadScan}) каждого формата относительно сериализации {@code ArrayList}
+     * как отношение медианных времен.
+     *
+     * @param results результаты всех размеров
+     * @param sizes размеры
+     */
+    static void printStartupSpeedup(List<Result> results, int[] sizes) {
+        String reference = PersistenceBenchmark.ARRAY_LIST.getName();
+        System.out.println("Ускорение запуска относительно сериализации " + reference + ":");
+        StringBuilder header = new StringBuilder(String.format("%-10s | %-20s", "Method", "Format"));
+        for (int size : sizes) {
+            header.append(String.format(" | %10d", size));
+        }
+        System.out.println(header);
+        System.out.println("-".repeat(header.length()));
+
+        for (String methodName : new String[] {"load", "loadScan"}) {
+            for (PersistenceBenchmark.Format format : PersistenceBenchmark.formats()) {
+                if (format.getName().equals(reference)) {
+                    continue;
+                }
+                StringBuilder row = new StringBuilder(String.format("%-10s | %-20s", methodName, format.getName()));
+                for (int size : sizes) {
+                    Result base = find(results, methodName, reference, size);
+                    Result other = find(results, methodName, format.getName(), size);
+                    row.append(base != null && other != null && other.getExecutionTime() > 0
+                            ? String.format(" | %9.1fx", (double) base.getExecutionTime() / other.getExecutionTime())
+                            : String.format(" | %10s", "-"));
+                }
+                System.out.println(row);
+            }
+        }
+    }
+
+    /**
+     * Находит результат операции для формата и размера.
+     *
+     * @param results результаты
+     * @param methodName название операции
+     * @param listType название формата
+     * @param size количество элементов
+     * @return результат или {@code null}, если он не измерялся
+     */
+    private static Result find(List<Result> results, String methodName, String listType, int size) {
+        for (Result result : results) {
+            if (result.getMethodName().equals(methodName) && result.getListType().equals(listType)
+                    && result.getOperationsCount() == size) {
+                return result;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,172 @@
+package com.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сравнение результатов прогона с базовой линией {@link BaselineStore}.
+ * Замедление считается регрессией, если оно статистически значимо —
+ * 95% доверительные интервалы текущего и базового распределений
+ * не пересекаются — и среднее выросло больше чем на заданный порог.
+ * Порог, отношение и значимость определяются по одной статистике — среднему,
+ * на котором построены доверительные интервалы: медиана при асимметричной
+ * выборке может указывать в другую сторону.
+ * Для результатов без распределения (однократных измерений) значимость
+ * не проверяется и учитывается только порог.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class RegressionGate {
+
+    /**
+     * Итог сравнения одного результата с базовой линией.
+     */
+    public enum Verdict { REGRESSION, IMPROVEMENT, UNCHANGED, NEW }
+
+    /**
+     * Сравнение одного результата с соответствующим базовым результатом.
+     */
+    public static final class Comparison {
+        private final Result current;
+        private final Result baseline;
+        private final Verdict verdict;
+
+        Comparison(Result current, Result baseline, Verdict verdict) {
+            this.current = current;
+            this.baseline = baseline;
+            this.verdict = verdict;
+        }
+
+        /**
+         * Возвращает текущий результат.
+         *
+         * @return текущий результат
+         */
+        public Result getCurrent() { return current; }
+
+        /**
+         * Возвращает базовый результат.
+         *
+         * @return базовый результат или {@code null}, если его нет в базовой линии
+         */
+        public Result getBaseline() { return baseline; }
+
+        /**
+         * Возвращает итог сравнения.
+         *
+         * @return итог сравнения
+         */
+        public Verdict getVerdict() { return verdict; }
+
+        /**
+         * Возвращает отношение текущего среднего к базовому.
+         *
+         * @return отношение средних или {@link Double#NaN}, если базового результата нет
+         */
+        public double getRatio() {
+            return baseline != null && baseline.getStatistics().getMean() > 0
+                    ? current.getStatistics().getMean() / baseline.getStatistics().getMean()
+                    : Double.NaN;
+        }
+    }
+
+    private final double threshold;
+
+    /**
+     * Создает сравнение с порогом допустимого замедления.
+     *
+     * @param threshold допустимый относительный рост среднего, например 0.10 для 10%
+     * @throws IllegalArgumentException если порог отрицательный
+     */
+    public RegressionGate(double threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Порог регрессии не может быть отрицательным: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Сравнивает результаты прогона с базовой линией.
+     *
+     * @param results результаты текущего прогона
+     * @param baseline базовая линия, индексированная ключом {@link BaselineStore#key(Result)}
+     * @return сравнения в порядке текущих результатов
+     */
+    public List<Comparison> compare(List<Result> results, Map<String, Result> baseline) {
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Result current : results) {
+            Result base = baseline.get(BaselineStore.key(current));
+            comparisons.add(new Comparison(current, base, verdict(current, base)));
+        }
+        return comparisons;
+    }
+
+    /**
+     * Определяет итог сравнения результата с базовым.
+     *
+     * @param current текущий результат
+     * @param baseline базовый результат или {@code null}
+     * @return итог сравнения
+     */
+    Verdict verdict(Result current, Result baseline) {
+        if (baseline == null) {
+            return Verdict.NEW;
+        }
+        if (current.hasDistribution() && baseline.hasDistribution()
+                && current.getStatistics().overlaps(baseline.getStatistics())) {
+            return Verdict.UNCHANGED;
+        }
+        double currentMean = current.getStatistics().getMean();
+        double baselineMean = baseline.getStatistics().getMean();
+        if (currentMean > baselineMean * (1 + threshold)) {
+            return Verdict.REGRESSION;
+        } else if (currentMean * (1 + threshold) < baselineMean) {
+            return Verdict.IMPROVEMENT;
+        }
+        return Verdict.UNCHANGED;
+    }
+
+    /**
+     * Выводит таблицу сравнения с базовой линией: средние времена и их отношение.
+     *
+     * @param comparisons сравнения
+     * @return количество регрессий
+     */
+    public int print(List<Comparison> comparisons) {
+        System.out.printf("%-15s | %-20s | %10s | %14s | %14s | %8s | %-11s%n",
+                "Method", "List Type", "Operations", "Base mean (ms)", "Mean (ms)", "Ratio", "Verdict");
+        System.out.println("-".repeat(109));
+        int regressions = 0;
+        for (Comparison comparison : comparisons) {
+            Result current = comparison.getCurrent();
+            String baselineTime = comparison.getBaseline() != null
+                    ? String.format("%14.3f", comparison.getBaseline().getStatistics().getMean() / 1_000_000.0)
+                    : String.format("%14s", "-");
+            String ratio = comparison.getBaseline() != null
+                    ? String.format("%8.2f", comparison.getRatio())
+                    : String.format("%8s", "-");
+            System.out.printf("%-15s | %-20s | %10d | %s | %14.3f | %s | %-11s%n",
+                    current.getMethodName(),
+                    current.getListType(),
+                    current.getOperationsCount(),
+                    baselineTime,
+                    current.getStatistics().getMean() / 1_000_000.0,
+                    ratio,
+                    comparison.getVerdict());
+            if (comparison.getVerdict() == Verdict.REGRESSION) {
+                regressions++;
+            }
+        }
+        System.out.printf("%nРегрессий: %d (порог %.0f%%)%n", regressions, threshold * 100);
+        return regressions;
+    }
+
+    /**
+     * Возвращает порог допустимого замедления.
+     *
+     * @return относительный порог
+     */
+    public double getThreshold() { return threshold; }
+}
@@ -0,0 +1,128 @@
+package com.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Измеритель потребления ресурсов JVM за время измерения.
+ * Фиксирует состояние при создании методом {@link #start()} и при вызове
+ * {@link #stop()}, после чего возвращает объем памяти, выделенной в куче
+ * текущим потоком, а также количество и суммарное время сборок мусора
+ * между этими моментами.
+ * <p>
+ * Выделенная память определяется через {@code com.sun.management.ThreadMXBean};
+ * если JVM не поддерживает этот интерфейс, возвращается -1.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class ResourceProbe {
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final long startAllocatedBytes;
+    private final long startGcCount;
+    private final long startGcTimeMillis;
+    private long allocatedBytes = -1;
+    private long gcCount;
+    private long gcTimeMillis;
+
+    /**
+     * Создает снимок текущего состояния. Выделенная память считывается
+     * последней, чтобы не учитывать выделения при опросе сборщиков мусора.
+     */
+    private ResourceProbe() {
+        this.startGcCount = totalGcCount();
+        this.startGcTimeMillis = totalGcTimeMillis();
+        this.startAllocatedBytes = currentThreadAllocatedBytes();
+    }
+
+    /**
+     * Фиксирует состояние ресурсов перед началом измерения.
+     *
+     * @return снимок состояния
+     */
+    public static ResourceProbe start() {
+        return new ResourceProbe();
+    }
+
+    /**
+     * Фиксирует потребление ресурсов с момента вызова {@link #start()}.
+     * Вызывается сразу после окончания измеряемого участка, чтобы
+     * в результат не попали выделения памяти при формировании отчета.
+     *
+     * @return этот же объект
+     */
+    public ResourceProbe stop() {
+        long allocatedNow = currentThreadAllocatedBytes();
+        this.allocatedBytes = startAllocatedBytes < 0 || allocatedNow < 0
+                ? -1
+                : allocatedNow - startAllocatedBytes;
+        this.gcCount = totalGcCount() - startGcCount;
+        this.gcTimeMillis = totalGcTimeMillis() - startGcTimeMillis;
+        return this;
+    }
+
+    /**
+     * Возвращает объем памяти, выделенной текущим потоком между
+     * {@link #start()} и {@link #stop()}.
+     *
+     * @return выделенная память в байтах или -1, если измерение не поддерживается
+     */
+    public long allocatedBytes() { return allocatedBytes; }
+
+    /**
+     * Возвращает количество сборок мусора между {@link #start()} и {@link #stop()}.
+     *
+     * @return количество сборок
+     */
+    public long gcCount() { return gcCount; }
+
+    /**
+     * Возвращает суммарное время сборок мусора между {@link #start()} и {@link #stop()}.
+     *
+     * @return время сборок в миллисекундах
+     */
+    public long gcTimeMillis() { return gcTimeMillis; }
+
+    /**
+     * Возвращает объем памяти, выделенной текущим потоком за все время его работы.
+     *
+     * @return выделенная память в байтах или -1, если измерение не поддерживается
+     */
+    static long currentThreadAllocatedBytes() {
+        if (THREAD_BEAN instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_BEAN;
+            if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает суммарное количество сборок мусора по всем сборщикам.
+     *
+     * @return количество сборок
+     */
+    private static long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Возвращает суммарное время сборок мусора по всем сборщикам.
+     *
+     * @return время сборок в миллисекундах
+     */
+    private static long totalGcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, bean.getCollectionTime());
+        }
+        return time;
+    }
+}
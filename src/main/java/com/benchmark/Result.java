@@ -15,6 +15,16 @@ public class Result {
     private final int operationsCount;
     private final long executionTime;
     private final String operationType;
+    private final Statistics statistics;
+    private long allocatedBytes = -1;
+    private long gcCount;
+    private long gcTimeMillis;
+    private int threadCount = 1;
+    private long retainedBytes = -1;
+    private int elementCount;
+    private long structuralBytes = -1;
+    private CellProfile profile = CellProfile.EMPTY;
+    private LatencySummary latency = LatencySummary.EMPTY;
 
     /**
      * Конструктор для создания объекта результата тестирования.
@@ -32,6 +42,172 @@ public class Result {
         this.operationsCount = operationsCount;
         this.executionTime = executionTime;
         this.operationType = operationType;
+        this.statistics = new Statistics(new long[] {executionTime});
+    }
+
+    /**
+     * Конструктор для создания объекта результата по серии повторных измерений.
+     * В качестве времени выполнения используется медиана распределения.
+     *
+     * @param methodName название тестируемого метода
+     * @param listType тип списка
+     * @param operationsCount количество операций в одном измерении
+     * @param statistics распределение времен выполнения в наносекундах
+     * @param operationType тип операции ("add", "get", "delete", "mixed")
+     */
+    public Result(String methodName, String listType, int operationsCount,
+                  Statistics statistics, String operationType) {
+        this.methodName = methodName;
+        this.listType = listType;
+        this.operationsCount = operationsCount;
+        this.executionTime = Math.round(statistics.getMedian());
+        this.operationType = operationType;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Создает копию результата со всеми дополнительными характеристиками.
+     *
+     * @return копия результата
+     */
+    private Result copy() {
+        return copy(statistics);
+    }
+
+    /**
+     * Создает копию результата с другим распределением времен выполнения
+     * и всеми дополнительными характеристиками исходного результата.
+     *
+     * @param statistics распределение времен выполнения копии
+     * @return копия результата
+     */
+    private Result copy(Statistics statistics) {
+        Result copy = new Result(methodName, listType, operationsCount, statistics, operationType);
+        copy.threadCount = threadCount;
+        copy.allocatedBytes = allocatedBytes;
+        copy.gcCount = gcCount;
+        copy.gcTimeMillis = gcTimeMillis;
+        copy.retainedBytes = retainedBytes;
+        copy.elementCount = elementCount;
+        copy.structuralBytes = structuralBytes;
+        copy.profile = profile;
+        copy.latency = latency;
+        return copy;
+    }
+
+    /**
+     * Возвращает копию результата с распределением времен, полученным
+     * по серии повторных измерений. Время выполнения копии равно медиане.
+     *
+     * @param statistics распределение времен выполнения в наносекундах
+     * @return новый объект результата
+     */
+    public Result withStatistics(Statistics statistics) {
+        return copy(statistics);
+    }
+
+    /**
+     * Возвращает копию результата с количеством потоков, одновременно
+     * выполнявших операции.
+     *
+     * @param threadCount количество потоков
+     * @return новый объект результата
+     */
+    public Result withThreadCount(int threadCount) {
+        Result copy = copy();
+        copy.threadCount = threadCount;
+        return copy;
+    }
+
+    /**
+     * Возвращает копию результата с данными о потреблении памяти и сборках мусора
+     * за время измерения.
+     *
+     * @param allocatedBytes объем памяти, выделенной в куче, в байтах (-1, если неизвестно)
+     * @param gcCount количество сборок мусора (-1, если неизвестно)
+     * @param gcTimeMillis суммарное время сборок мусора в миллисекундах (-1, если неизвестно)
+     * @return новый объект результата
+     */
+    public Result withResourceUsage(long allocatedBytes, long gcCount, long gcTimeMillis) {
+        Result copy = copy();
+        copy.allocatedBytes = allocatedBytes;
+        copy.gcCount = gcCount;
+        copy.gcTimeMillis = gcTimeMillis;
+        return copy;
+    }
+
+    /**
+     * Возвращает копию результата с данными о потреблении ресурсов,
+     * зафиксированными измерителем {@link ResourceProbe}.
+     *
+     * @param probe остановленный измеритель ресурсов
+     * @return новый объект результата
+     */
+    public Result withResourceUsage(ResourceProbe probe) {
+        return withResourceUsage(probe.allocatedBytes(), probe.gcCount(), probe.gcTimeMillis());
+    }
+
+    /**
+     * Возвращает копию результата с объемом памяти, удерживаемой списком
+     * после выполнения операций.
+     *
+     * @param retainedBytes объем памяти в байтах (-1, если неизвестно)
+     * @param elementCount количество элементов в списке
+     * @return новый объект результата
+     */
+    public Result withFootprint(long retainedBytes, int elementCount) {
+        Result copy = copy();
+        copy.retainedBytes = retainedBytes;
+        copy.elementCount = elementCount;
+        return copy;
+    }
+
+    /**
+     * Возвращает копию результата с объемом памяти, измеренным
+     * {@link MemoryFootprint}.
+     *
+     * @param footprint объем памяти, удерживаемой списком
+     * @return новый объект результата
+     */
+    public Result withFootprint(MemoryFootprint footprint) {
+        return withFootprint(footprint.getRetainedBytes(), footprint.getElementCount());
+    }
+
+    /**
+     * Возвращает копию результата с приростом памяти, удерживаемой самой
+     * структурой за измеряемый участок, без значений элементов.
+     *
+     * @param structuralBytes прирост в байтах (0, если структура не выросла; -1, если неизвестно)
+     * @return новый объект результата
+     */
+    public Result withStructuralBytes(long structuralBytes) {
+        Result copy = copy();
+        copy.structuralBytes = structuralBytes;
+        return copy;
+    }
+
+    /**
+     * Возвращает копию результата со сводкой профилирования измеряемых прогонов.
+     *
+     * @param profile сводка профилирования
+     * @return новый объект результата
+     */
+    public Result withProfile(CellProfile profile) {
+        Result copy = copy();
+        copy.profile = profile;
+        return copy;
+    }
+
+    /**
+     * Возвращает копию результата со сводкой задержек отдельных операций.
+     *
+     * @param latency сводка задержек
+     * @return новый объект результата
+     */
+    public Result withLatency(LatencySummary latency) {
+        Result copy = copy();
+        copy.latency = latency;
+        return copy;
     }
 
     /**
@@ -69,6 +245,127 @@ public class Result {
      */
     public String getOperationType() { return operationType; }
 
+    /**
+     * Возвращает распределение времен выполнения. Для результата
+     * однократного измерения выборка состоит из одного значения.
+     *
+     * @return статистика времен выполнения
+     */
+    public Statistics getStatistics() { return statistics; }
+
+    /**
+     * Проверяет, получен ли результат по нескольким измерениям,
+     * что позволяет использовать доверительный интервал при сравнении.
+     *
+     * @return {@code true}, если выборка содержит более одного измерения
+     */
+    public boolean hasDistribution() { return statistics.getCount() > 1; }
+
+    /**
+     * Возвращает количество потоков, одновременно выполнявших операции.
+     *
+     * @return количество потоков (1 для однопоточных измерений)
+     */
+    public int getThreadCount() { return threadCount; }
+
+    /**
+     * Возвращает объем памяти, выделенной в куче за время измерения.
+     *
+     * @return выделенная память в байтах или -1, если не измерялась
+     */
+    public long getAllocatedBytes() { return allocatedBytes; }
+
+    /**
+     * Возвращает количество сборок мусора за время измерения.
+     *
+     * @return количество сборок или -1, если ячейку нельзя отделить от других
+     */
+    public long getGcCount() { return gcCount; }
+
+    /**
+     * Возвращает суммарное время сборок мусора за время измерения.
+     *
+     * @return время сборок в миллисекундах или -1, если ячейку нельзя отделить от других
+     */
+    public long getGcTimeMillis() { return gcTimeMillis; }
+
+    /**
+     * Возвращает объем памяти, удерживаемой списком после выполнения операций.
+     *
+     * @return объем памяти в байтах или -1, если не измерялся
+     */
+    public long getRetainedBytes() { return retainedBytes; }
+
+    /**
+     * Возвращает количество элементов в списке на момент измерения памяти.
+     *
+     * @return количество элементов
+     */
+    public int getElementCount() { return elementCount; }
+
+    /**
+     * Возвращает прирост памяти, удерживаемой самой структурой за измеряемый участок.
+     *
+     * @return прирост в байтах или -1, если не измерялся
+     */
+    public long getStructuralBytes() { return structuralBytes; }
+
+    /**
+     * Возвращает объем выделенной памяти, не оставшейся в структуре:
+     * временные объекты, упаковку значений, старые массивы при росте.
+     *
+     * @return байт на операцию или -1, если выделенная память или прирост структуры неизвестны
+     */
+    public double getTransientBytesPerOperation() {
+        if (allocatedBytes < 0 || structuralBytes < 0 || operationsCount <= 0) {
+            return -1;
+        }
+        return Math.max(0, allocatedBytes - structuralBytes) / (double) operationsCount;
+    }
+
+    /**
+     * Возвращает сводку профилирования измеряемых прогонов.
+     *
+     * @return сводка или {@link CellProfile#EMPTY}, если профилирование не выполнялось
+     */
+    public CellProfile getProfile() { return profile; }
+
+    /**
+     * Возвращает сводку задержек отдельных операций.
+     *
+     * @return сводка или {@link LatencySummary#EMPTY}, если задержки не измерялись
+     */
+    public LatencySummary getLatency() { return latency; }
+
+    /**
+     * Возвращает объем удерживаемой памяти в расчете на один элемент списка,
+     * включая запас емкости и упакованные значения.
+     *
+     * @return байт на элемент или -1, если память не измерялась или список пуст
+     */
+    public double getBytesPerElement() {
+        return retainedBytes >= 0 && elementCount > 0 ? (double) retainedBytes / elementCount : -1;
+    }
+
+    /**
+     * Возвращает объем памяти, выделенной в куче, в расчете на одну операцию.
+     *
+     * @return байт на операцию или -1, если выделенная память не измерялась
+     */
+    public double getAllocatedBytesPerOperation() {
+        return allocatedBytes >= 0 && operationsCount > 0 ? (double) allocatedBytes / operationsCount : -1;
+    }
+
+    /**
+     * Возвращает пропускную способность: количество операций в миллисекунду.
+     *
+     * @return операций в миллисекунду или 0, если время выполнения равно нулю
+     */
+    public double getThroughput() {
+        double millis = getTimeInMillis();
+        return millis > 0 ? operationsCount / millis : 0;
+    }
+
     /**
      * Возвращает время выполнения операций в миллисекундах.
      * Выполняет преобразование из наносекунд в миллисекунды.
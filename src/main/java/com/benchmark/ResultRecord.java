@@ -0,0 +1,83 @@
+package com.benchmark;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Плоское представление результата для машиночитаемых форматов.
+ * Задает общий для всех приемников набор и порядок полей: время записи,
+ * характеристики измерения и сведения о JVM. Времена указываются
+ * в наносекундах, объемы памяти — в байтах; неизмеренные значения равны -1.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+final class ResultRecord {
+
+    private ResultRecord() {
+    }
+
+    /**
+     * Возвращает поля записи в порядке вывода.
+     *
+     * @param result результат измерения
+     * @param environment сведения о JVM
+     * @param timestamp время записи
+     * @return значения полей, индексированные названием поля
+     */
+    static Map<String, Object> fields(Result result, RunEnvironment environment, Instant timestamp) {
+        Statistics statistics = result.getStatistics();
+        CellProfile profile = result.getProfile();
+        LatencySummary latency = result.getLatency();
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("timestamp", timestamp.toString());
+        fields.put("run", environment.getStartTime().toString());
+        fields.put("method", result.getMethodName());
+        fields.put("listType", result.getListType());
+        fields.put("operations", result.getOperationsCount());
+        fields.put("operationType", result.getOperationType());
+        fields.put("threads", result.getThreadCount());
+        fields.put("samples", statistics.getCount());
+        fields.put("medianNs", statistics.getMedian());
+        fields.put("meanNs", statistics.getMean());
+        fields.put("minNs", statistics.getMin());
+        fields.put("p90Ns", statistics.getP90());
+        fields.put("p99Ns", statistics.getP99());
+        fields.put("ciLowNs", statistics.getCiLow());
+        fields.put("ciHighNs", statistics.getCiHigh());
+        fields.put("opsPerMs", result.getThroughput());
+        fields.put("latencyP50Ns", latency.getP50());
+        fields.put("latencyP99Ns", latency.getP99());
+        fields.put("latencyP999Ns", latency.getP999());
+        fields.put("latencyMaxNs", latency.getMax());
+        fields.put("latencyCoIntervalNs", latency.getExpectedInterval());
+        fields.put("allocatedBytes", result.getAllocatedBytes());
+        fields.put("gcCount", result.getGcCount());
+        fields.put("gcTimeMs", result.getGcTimeMillis());
+        fields.put("retainedBytes", result.getRetainedBytes());
+        fields.put("elementCount", result.getElementCount());
+        fields.put("structuralBytes", result.getStructuralBytes());
+        fields.put("cycles", profile.getCycles());
+        fields.put("instructions", profile.getInstructions());
+        fields.put("ipc", profile.getInstructionsPerCycle());
+        fields.put("l1Misses", profile.getL1Misses());
+        fields.put("llcMisses", profile.getLlcMisses());
+        fields.put("branchMisses", profile.getBranchMisses());
+        fields.put("jfrAllocatedBytes", profile.getJfrAllocatedBytes());
+        fields.put("topAllocatedType", profile.getTopAllocatedType());
+        fields.put("gcPauses", profile.getGcPauses());
+        fields.put("gcPauseNs", profile.getGcPauseNanos());
+        fields.put("jitCompilations", profile.getCompilations());
+        fields.put("jitCompilationNs", profile.getCompilationNanos());
+        fields.put("deoptimizations", profile.getDeoptimizations());
+        fields.put("javaVersion", environment.getJavaVersion());
+        fields.put("vm", environment.getVmName());
+        fields.put("gc", environment.getGarbageCollectors());
+        fields.put("heapInitBytes", environment.getInitialHeapBytes());
+        fields.put("heapMaxBytes", environment.getMaxHeapBytes());
+        fields.put("jvmArgs", environment.getJvmArguments());
+        fields.put("processors", environment.getAvailableProcessors());
+        return fields;
+    }
+}
@@ -0,0 +1,86 @@
+package com.benchmark;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Приемник результатов измерений. Результаты передаются в приемник по мере
+ * завершения ячеек матрицы, поэтому реализации записывают каждый результат
+ * сразу и не накапливают их в памяти: при аварийном завершении длинного
+ * прогона уже полученные данные сохраняются.
+ * <p>
+ * Вместе с каждым результатом записываются сведения о JVM {@link RunEnvironment}
+ * и время записи, что позволяет сравнивать результаты разных запусков.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public interface ResultSink extends Closeable {
+
+    /**
+     * Приемник, отбрасывающий все результаты.
+     */
+    ResultSink NONE = new ResultSink() {
+        @Override
+        public void write(Result result) {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * Записывает результат измерения.
+     *
+     * @param result результат
+     * @throws IOException если запись не удалась
+     */
+    void write(Result result) throws IOException;
+
+    /**
+     * Открывает приемники по описанию вида {@code csv:results.csv,jsonl:results.jsonl,html:report.html}.
+     * Поддерживаются форматы {@code csv}, {@code jsonl} и {@code html}.
+     *
+     * @param spec описание приемников через запятую
+     * @return приемник, передающий результаты всем указанным приемникам
+     * @throws IOException если не удалось открыть файл
+     * @throws IllegalArgumentException если формат неизвестен или описание имеет неверный вид
+     */
+    static ResultSink open(String spec) throws IOException {
+        List<ResultSink> sinks = new ArrayList<>();
+        RunEnvironment environment = RunEnvironment.current();
+        try {
+            for (String entry : spec.split(",")) {
+                int separator = entry.indexOf(':');
+                if (separator <= 0 || separator == entry.trim().length() - 1) {
+                    throw new IllegalArgumentException("Ожидается формат:путь, получено: " + entry.trim());
+                }
+                String format = entry.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+                Path path = Paths.get(entry.substring(separator + 1).trim());
+                switch (format) {
+                    case "csv":
+                        sinks.add(new CsvResultSink(path, environment));
+                        break;
+                    case "jsonl":
+                        sinks.add(new JsonLinesResultSink(path, environment));
+                        break;
+                    case "html":
+                        sinks.add(new HtmlResultSink(path, environment));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Неизвестный формат результатов: " + format);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            new CompositeResultSink(sinks).close();
+            throw e;
+        }
+        return sinks.size() == 1 ? sinks.get(0) : new CompositeResultSink(sinks);
+    }
+}
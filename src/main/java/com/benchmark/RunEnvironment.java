@@ -0,0 +1,118 @@
+package com.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Сведения о JVM, в которой выполняется прогон: версия, сборщики мусора,
+ * настройки кучи и аргументы запуска. Записываются вместе с каждым
+ * результатом, чтобы результаты разных запусков можно было сравнивать.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class RunEnvironment {
+    private final Instant startTime;
+    private final String javaVersion;
+    private final String vmName;
+    private final String garbageCollectors;
+    private final long initialHeapBytes;
+    private final long maxHeapBytes;
+    private final String jvmArguments;
+    private final int availableProcessors;
+
+    private RunEnvironment(Instant startTime, String javaVersion, String vmName, String garbageCollectors,
+                           long initialHeapBytes, long maxHeapBytes, String jvmArguments,
+                           int availableProcessors) {
+        this.startTime = startTime;
+        this.javaVersion = javaVersion;
+        this.vmName = vmName;
+        this.garbageCollectors = garbageCollectors;
+        this.initialHeapBytes = initialHeapBytes;
+        this.maxHeapBytes = maxHeapBytes;
+        this.jvmArguments = jvmArguments;
+        this.availableProcessors = availableProcessors;
+    }
+
+    /**
+     * Собирает сведения о текущей JVM.
+     *
+     * @return сведения о JVM
+     */
+    public static RunEnvironment current() {
+        List<String> collectors = new ArrayList<>();
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collectors.add(bean.getName());
+        }
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        return new RunEnvironment(
+                Instant.ofEpochMilli(runtime.getStartTime()),
+                System.getProperty("java.version"),
+                System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version"),
+                String.join("+", collectors),
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getInit(),
+                Runtime.getRuntime().maxMemory(),
+                String.join(" ", runtime.getInputArguments()),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Возвращает время запуска JVM, которое служит идентификатором прогона.
+     *
+     * @return время запуска
+     */
+    public Instant getStartTime() { return startTime; }
+
+    /**
+     * Возвращает версию Java.
+     *
+     * @return версия Java
+     */
+    public String getJavaVersion() { return javaVersion; }
+
+    /**
+     * Возвращает название и версию виртуальной машины.
+     *
+     * @return название и версия JVM
+     */
+    public String getVmName() { return vmName; }
+
+    /**
+     * Возвращает названия сборщиков мусора, разделенные знаком "+".
+     *
+     * @return сборщики мусора
+     */
+    public String getGarbageCollectors() { return garbageCollectors; }
+
+    /**
+     * Возвращает начальный размер кучи.
+     *
+     * @return начальный размер кучи в байтах или -1, если не определен
+     */
+    public long getInitialHeapBytes() { return initialHeapBytes; }
+
+    /**
+     * Возвращает максимальный размер кучи.
+     *
+     * @return максимальный размер кучи в байтах
+     */
+    public long getMaxHeapBytes() { return maxHeapBytes; }
+
+    /**
+     * Возвращает аргументы запуска JVM.
+     *
+     * @return аргументы через пробел
+     */
+    public String getJvmArguments() { return jvmArguments; }
+
+    /**
+     * Возвращает количество процессоров, доступных JVM.
+     *
+     * @return количество процессоров
+     */
+    public int getAvailableProcessors() { return availableProcessors; }
+}
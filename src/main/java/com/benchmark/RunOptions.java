@@ -0,0 +1,225 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Параметры запуска {@link ListPerformanceTester}, заданные аргументами командной
+ * строки и файлом настроек. Каждый параметр соответствует системному свойству
+ * {@code benchmark.<имя>}: аргумент {@code --sizes=1000,10000} равносилен
+ * {@code -Dbenchmark.sizes=1000,10000}. Параметры применяются как системные
+ * свойства ({@link #apply()}), поэтому действуют во всех классах, читающих
+ * эти свойства, и передаются дочерним JVM режима {@code fork}.
+ * <p>
+ * Источники перекрывают друг друга в порядке возрастания приоритета:
+ * набор настроек ({@code --preset=quick} или {@code --quick}), файл настроек
+ * ({@code --config=run.properties}, формат {@link Properties}, имена с префиксом
+ * {@code benchmark.} или без него), системные свойства {@code -D}, аргументы
+ * командной строки. Неизвестные имена параметров отклоняются, чтобы опечатка
+ * не приводила к незаметному запуску полной матрицы.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+final class RunOptions {
+
+    /**
+     * Префикс системных свойств параметров.
+     */
+    static final String PREFIX = "benchmark.";
+
+    /**
+     * Известные параметры с описаниями для справки, в порядке вывода.
+     */
+    private static final Map<String, String> KNOWN = new LinkedHashMap<>();
+
+    /**
+     * Наборы настроек, индексированные названием.
+     */
+    private static final Map<String, Map<String, String>> PRESETS = new LinkedHashMap<>();
+
+    static {
+        KNOWN.put("scenarios", "операции через запятую, например add,deleteFirst (по умолчанию все)");
+        KNOWN.put("lists", "реализации через запятую, например ArrayList,TieredList (по умолчанию все)");
+        KNOWN.put("sizes", "количества операций через запятую (по умолчанию 1000,2000,5000)");
+        KNOWN.put("warmup", "прогревочных прогонов каждой ячейки (по умолчанию 5)");
+        KNOWN.put("trials", "измеряемых прогонов каждой ячейки (по умолчанию 15)");
+        KNOWN.put("execution", "sequential, platform, virtual или fork");
+        KNOWN.put("parallelism", "количество одновременно выполняемых ячеек");
+        KNOWN.put("output", "файлы результатов, например csv:r.csv,jsonl:r.jsonl,html:r.html");
+        KNOWN.put("workload", "описание смешанной нагрузки операции mixed");
+        KNOWN.put("memory", "true — измерять удерживаемую память");
+        KNOWN.put("profile", "профилирование ячеек: perf, jfr, jit или all");
+        KNOWN.put("latency", "true — измерять задержки отдельных операций");
+        KNOWN.put("latencyBatch", "операций в пакете режима задержек");
+        KNOWN.put("latencyInterval", "ожидаемый интервал операции mixed в наносекундах");
+        KNOWN.put("structureOnly", "true — добавить варианты операций без упаковки");
+        KNOWN.put("presize", "true — списки с начальной емкостью для вариантов без упаковки");
+        KNOWN.put("saveBaseline", "файл, в который сохраняются результаты как базовая линия");
+        KNOWN.put("baseline", "файл базовой линии для проверки регрессий");
+        KNOWN.put("regressionThreshold", "порог регрессии (по умолчанию 0.10)");
+
+        Map<String, String> quick = new LinkedHashMap<>();
+        quick.put("warmup", "0");
+        quick.put("trials", "3");
+        quick.put("sizes", "1000");
+        PRESETS.put("quick", Collections.unmodifiableMap(quick));
+        PRESETS.put("full", Collections.emptyMap());
+    }
+
+    private final Map<String, String> values;
+    private final boolean help;
+
+    private RunOptions(Map<String, String> values, boolean help) {
+        this.values = values;
+        this.help = help;
+    }
+
+    /**
+     * Разбирает аргументы командной строки вида {@code --имя=значение}, а также
+     * {@code --config=файл}, {@code --preset=набор}, {@code --quick} и {@code --help},
+     * и объединяет их с файлом настроек, набором настроек и системными свойствами.
+     *
+     * @param args аргументы командной строки
+     * @return параметры запуска
+     * @throws IOException если файл настроек не удалось прочитать
+     * @throws IllegalArgumentException если аргумент, параметр или набор настроек неизвестен
+     */
+    static RunOptions parse(String[] args) throws IOException {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        String config = null;
+        String preset = null;
+        boolean help = false;
+        for (String arg : args) {
+            if (arg.equals("--help") || arg.equals("-h")) {
+                help = true;
+            } else if (arg.equals("--quick")) {
+                preset = "quick";
+            } else if (arg.startsWith("--") && arg.indexOf('=') > 2) {
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1).trim();
+                if (name.equals("config")) {
+                    config = value;
+                } else if (name.equals("preset")) {
+                    preset = value;
+                } else {
+                    arguments.put(checkName(name, "аргумент"), value);
+                }
+            } else {
+                throw new IllegalArgumentException("Неизвестный аргумент: " + arg
+                        + " (ожидается --имя=значение, см. --help)");
+            }
+        }
+
+        Map<String, String> file = config != null ? readConfig(config) : Collections.emptyMap();
+        if (preset == null) {
+            preset = file.get("preset");
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        if (preset != null) {
+            Map<String, String> presetValues = PRESETS.get(preset);
+            if (presetValues == null) {
+                throw new IllegalArgumentException("Неизвестный набор настроек: " + preset
+                        + ", доступны: " + String.join(", ", PRESETS.keySet()));
+            }
+            values.putAll(presetValues);
+        }
+        for (Map.Entry<String, String> entry : file.entrySet()) {
+            if (!entry.getKey().equals("preset")) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (String name : KNOWN.keySet()) {
+            String property = System.getProperty(PREFIX + name);
+            if (property != null) {
+                values.put(name, property);
+            }
+        }
+        values.putAll(arguments);
+        return new RunOptions(values, help);
+    }
+
+    /**
+     * Устанавливает параметры как системные свойства {@code benchmark.<имя>}.
+     */
+    void apply() {
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            System.setProperty(PREFIX + entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Возвращает итоговые значения параметров после объединения источников.
+     *
+     * @return значения, индексированные именем параметра без префикса
+     */
+    Map<String, String> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Проверяет, запрошена ли справка.
+     *
+     * @return {@code true}, если задан аргумент {@code --help}
+     */
+    boolean isHelp() {
+        return help;
+    }
+
+    /**
+     * Возвращает справку по аргументам командной строки.
+     *
+     * @return текст справки
+     */
+    static String usage() {
+        StringBuilder text = new StringBuilder("Использование: ListPerformanceTester [--имя=значение ...]\n")
+                .append(String.format("  %-26s %s%n", "--config=файл", "файл настроек (имя=значение)"))
+                .append(String.format("  %-26s %s%n", "--preset=набор", "набор настроек: "
+                        + String.join(", ", PRESETS.keySet())))
+                .append(String.format("  %-26s %s%n", "--quick", "то же, что --preset=quick: "
+                        + PRESETS.get("quick")))
+                .append(String.format("  %-26s %s%n", "--help", "эта справка"));
+        for (Map.Entry<String, String> entry : KNOWN.entrySet()) {
+            text.append(String.format("  %-26s %s%n", "--" + entry.getKey() + "=...", entry.getValue()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Читает файл настроек, удаляя у имен префикс {@code benchmark.}.
+     *
+     * @param path путь к файлу
+     * @return значения, индексированные именем параметра
+     * @throws IOException если файл не удалось прочитать
+     * @throws IllegalArgumentException если файл содержит неизвестный параметр
+     */
+    private static Map<String, String> readConfig(String path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            String name = key.startsWith(PREFIX) ? key.substring(PREFIX.length()) : key;
+            if (!name.equals("preset")) {
+                checkName(name, "параметр в файле " + path);
+            }
+            values.put(name, properties.getProperty(key).trim());
+        }
+        return values;
+    }
+
+    private static String checkName(String name, String source) {
+        if (!KNOWN.containsKey(name)) {
+            throw new IllegalArgumentException("Неизвестный " + source + ": " + name + " (см. --help)");
+        }
+        return name;
+    }
+}
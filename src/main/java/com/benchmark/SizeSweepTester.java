@@ -0,0 +1,353 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Измерение операций на геометрической последовательности размеров
+ * с подбором асимптотической сложности. На малых размерах все данные
+ * помещаются в кэш процессора, и разница между O(1) и O(n) почти не видна;
+ * последовательность от 10² до 10⁷ показывает ее явно.
+ * <p>
+ * Для каждой операции и реализации размеры перебираются по возрастанию.
+ * Перед измерением очередного размера время ячейки (все прогоны) оценивается
+ * экстраполяцией по двум последним измерениям; если оценка превышает бюджет
+ * ячейки, оставшиеся размеры пропускаются. По измеренным точкам подбирается
+ * модель сложности одной операции {@link ComplexityFit}, а для каждой пары
+ * реализаций определяются размеры, при которых одна значимо обгоняет другую.
+ * <p>
+ * Параметры задаются системными свойствами: {@code benchmark.sweep} —
+ * последовательность в формате {@code от:до:множитель} (по умолчанию
+ * {@code 100:10000000:10}), {@code benchmark.cellBudgetMs} — бюджет ячейки
+ * в миллисекундах (по умолчанию 5000), а также {@code benchmark.execution}
+ * и {@code benchmark.output}, как в {@link ListPerformanceTester}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class SizeSweepTester {
+
+    /**
+     * Последовательность размеров по умолчанию: от 10² до 10⁷ с множителем 10.
+     */
+    static final String DEFAULT_SWEEP = "100:10000000:10";
+
+    /**
+     * Бюджет времени одной ячейки по умолчанию в миллисекундах.
+     */
+    private static final long DEFAULT_CELL_BUDGET_MS = 5000;
+
+    /**
+     * Количество прогревочных прогонов каждого измерения.
+     */
+    private static final int WARMUP_TRIALS = 3;
+
+    /**
+     * Количество измеряемых прогонов каждого измерения.
+     */
+    private static final int MEASURED_TRIALS = 5;
+
+    /**
+     * Измерения одной реализации на последовательности размеров.
+     */
+    static final class Curve {
+        private final String listType;
+        private final List<Integer> sizes = new ArrayList<>();
+        private final List<Double> timesPerOperation = new ArrayList<>();
+        private final List<Statistics> statistics = new ArrayList<>();
+        private String stopReason;
+
+        Curve(String listType) {
+            this.listType = listType;
+        }
+
+        void add(int size, Statistics trialStatistics) {
+            sizes.add(size);
+            timesPerOperation.add(trialStatistics.getMedian() / size);
+            statistics.add(trialStatistics);
+        }
+
+        /**
+         * Проверяет, значимо ли различие с другой реализацией при указанном размере:
+         * 95% доверительные интервалы времени прогона не пересекаются.
+         *
+         * @param other другая реализация
+         * @param size размер, измеренный для обеих реализаций
+         * @return {@code true}, если различие значимо
+         */
+        boolean differsFrom(Curve other, int size) {
+            return !statistics.get(sizes.indexOf(size)).overlaps(other.statistics.get(other.sizes.indexOf(size)));
+        }
+
+        /**
+         * Возвращает время одной операции для размера.
+         *
+         * @param size размер
+         * @return время в наносекундах или -1, если размер не измерялся
+         */
+        double timeAt(int size) {
+            int index = sizes.indexOf(size);
+            return index >= 0 ? timesPerOperation.get(index) : -1;
+        }
+
+        /**
+         * Подбирает модель сложности по измеренным точкам.
+         *
+         * @return модель или {@code null}, если точек меньше двух
+         */
+        ComplexityFit fit() {
+            if (sizes.size() < 2) {
+                return null;
+            }
+            int[] n = new int[sizes.size()];
+            double[] t = new double[sizes.size()];
+            for (int i = 0; i < n.length; i++) {
+                n[i] = sizes.get(i);
+                t[i] = timesPerOperation.get(i);
+            }
+            return ComplexityFit.fit(n, t);
+        }
+    }
+
+    /**
+     * Основной метод, запускающий измерение на последовательности размеров.
+     *
+     * @param args аргументы командной строки (не используются)
+     * @throws IOException если не удалось открыть или записать файл результатов
+     */
+    public static void main(String[] args) throws IOException {
+        int[] sizes = parseSweep(System.getProperty("benchmark.sweep", DEFAULT_SWEEP));
+        long budgetNanos = Long.getLong("benchmark.cellBudgetMs", DEFAULT_CELL_BUDGET_MS) * 1_000_000L;
+        ExecutionMode mode = ExecutionMode.valueOf(
+                System.getProperty("benchmark.execution", "sequential").toUpperCase());
+        ExecutionEngine engine = new ExecutionEngine(mode, 1, WARMUP_TRIALS, MEASURED_TRIALS);
+
+        System.out.println("=== Зависимость времени операции от размера ===\n");
+        String output = System.getProperty("benchmark.output");
+        try (ResultSink sink = output != null ? ResultSink.open(output) : ResultSink.NONE) {
+            for (String methodName : ListPerformanceTester.scenarios().keySet()) {
+                List<Curve> curves = new ArrayList<>();
+                for (String listType : ListPerformanceTester.listTypes(methodName)) {
+                    Curve curve = sweep(engine, sink, methodName, listType, sizes, budgetNanos);
+                    if (!curve.sizes.isEmpty()) {
+                        curves.add(curve);
+                    }
+                }
+                System.out.println("Операция: " + methodName + " (время одной операции, нс)");
+                printCurves(curves, sizes);
+                printCrossovers(curves, sizes);
+                System.out.println();
+            }
+        }
+    }
+
+    /**
+     * Измеряет одну реализацию на последовательности размеров, пока
+     * оценка времени ячейки не превысит бюджет.
+     *
+     * @param engine исполнитель ячеек
+     * @param sink приемник результатов
+     * @param methodName название операции
+     * @param listType название реализации
+     * @param sizes размеры по возрастанию
+     * @param budgetNanos бюджет ячейки в наносекундах
+     * @return измерения реализации
+     */
+    private static Curve sweep(ExecutionEngine engine, ResultSink sink, String methodName, String listType,
+                               int[] sizes, long budgetNanos) {
+        Curve curve = new Curve(listType);
+        int[] measuredSizes = new int[sizes.length];
+        double[] trialNanos = new double[sizes.length];
+        int count = 0;
+        for (int size : sizes) {
+            double predicted = predictTrialNanos(measuredSizes, trialNanos, count, size)
+                    * (WARMUP_TRIALS + MEASURED_TRIALS);
+            if (predicted > budgetNanos) {
+                curve.stopReason = String.format("n ≥ %d: оценка %.1f с превышает бюджет", size, predicted / 1e9);
+                break;
+            }
+            List<Result> results;
+            try {
+                results = engine.run(Collections.singletonList(new BenchmarkCell(methodName, listType, size)), sink);
+            } catch (OutOfMemoryError e) {
+                curve.stopReason = "n ≥ " + size + ": недостаточно памяти";
+                break;
+            }
+            if (results.isEmpty()) {
+                // Реализация не поддерживает операцию
+                break;
+            }
+            Result result = results.get(0);
+            measuredSizes[count] = size;
+            trialNanos[count] = result.getStatistics().getMedian();
+            count++;
+            curve.add(size, result.getStatistics());
+        }
+        return curve;
+    }
+
+    /**
+     * Оценивает время одного прогона для следующего размера по степенному закону
+     * {@code t ~ n^k}, где показатель {@code k} определяется по двум последним
+     * измерениям и ограничивается диапазоном от 1 (каждая операция O(1))
+     * до 2 (каждая операция O(n)). По единственному измерению используется k = 2.
+     *
+     * @param sizes измеренные размеры
+     * @param trialNanos время прогона для каждого измеренного размера
+     * @param count количество измерений
+     * @param nextSize следующий размер
+     * @return оценка времени прогона в наносекундах или 0, если измерений нет
+     */
+    static double predictTrialNanos(int[] sizes, double[] trialNanos, int count, int nextSize) {
+        if (count == 0) {
+            return 0;
+        }
+        int last = count - 1;
+        double exponent = 2;
+        if (count > 1 && trialNanos[last - 1] > 0 && trialNanos[last] > 0) {
+            exponent = Math.log(trialNanos[last] / trialNanos[last - 1])
+                    / Math.log((double) sizes[last] / sizes[last - 1]);
+            exponent = Math.max(1, Math.min(2, exponent));
+        }
+        return trialNanos[last] * Math.pow((double) nextSize / sizes[last], exponent);
+    }
+
+    /**
+     * Разбирает описание последовательности размеров {@code от:до:множитель}.
+     *
+     * @param text описание последовательности
+     * @return размеры по возрастанию
+     * @throws IllegalArgumentException если описание имеет неверный формат
+     */
+    static int[] parseSweep(String text) {
+        String[] parts = text.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Ожидается формат от:до:множитель, получено: " + text);
+        }
+        try {
+            return geometricSizes(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()),
+                    Double.parseDouble(parts[2].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Неверное число в описании последовательности: " + text, e);
+        }
+    }
+
+    /**
+     * Формирует геометрическую последовательность размеров от {@code from}
+     * до {@code to} включительно с множителем {@code factor}. Размеры округляются
+     * до целых, повторяющиеся после округления значения исключаются.
+     *
+     * @param from начальный размер
+     * @param to конечный размер
+     * @param factor множитель последовательности
+     * @return размеры по возрастанию
+     * @throws IllegalArgumentException если границы или множитель некорректны
+     */
+    static int[] geometricSizes(int from, int to, double factor) {
+        if (from < 1 || to < from || factor <= 1) {
+            throw new IllegalArgumentException("Некорректная последовательность: от " + from
+                    + " до " + to + ", множитель " + factor);
+        }
+        List<Integer> sizes = new ArrayList<>();
+        // Небольшой допуск, чтобы конечный размер не терялся из-за погрешности умножения
+        for (double size = from; size <= to * (1 + 1e-9); size *= factor) {
+            int rounded = (int) Math.round(size);
+            if (sizes.isEmpty() || sizes.get(sizes.size() - 1) != rounded) {
+                sizes.add(rounded);
+            }
+        }
+        return sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Оценивает размер, при котором отношение времен двух реализаций
+     * проходит через 1, линейной интерполяцией логарифма отношения
+     * по логарифму размера между двумя соседними измерениями.
+     *
+     * @param size1 меньший размер
+     * @param ratio1 отношение времен при меньшем размере
+     * @param size2 больший размер
+     * @param ratio2 отношение времен при большем размере
+     * @return оценка размера пересечения
+     */
+    static double crossoverSize(int size1, double ratio1, int size2, double ratio2) {
+        double log1 = Math.log(ratio1);
+        double log2 = Math.log(ratio2);
+        double fraction = log1 / (log1 - log2);
+        return Math.exp(Math.log(size1) + fraction * (Math.log(size2) - Math.log(size1)));
+    }
+
+    /**
+     * Выводит таблицу времени одной операции по размерам и подобранную сложность.
+     *
+     * @param curves измерения реализаций
+     * @param sizes размеры
+     */
+    private static void printCurves(List<Curve> curves, int[] sizes) {
+        StringBuilder header = new StringBuilder(String.format("%-20s", "List Type"));
+        for (int size : sizes) {
+            header.append(String.format(" | %10d", size));
+        }
+        header.append(String.format(" | %-9s | %10s | %6s", "Сложность", "c (нс)", "Ошибка"));
+        System.out.println(header);
+        System.out.println("-".repeat(header.length()));
+
+        for (Curve curve : curves) {
+            StringBuilder row = new StringBuilder(String.format("%-20s", curve.listType));
+            for (int size : sizes) {
+                double time = curve.timeAt(size);
+                row.append(time >= 0 ? String.format(" | %10.1f", time) : String.format(" | %10s", "-"));
+            }
+            ComplexityFit fit = curve.fit();
+            if (fit != null) {
+                row.append(String.format(" | %-9s | %10.3g | %5.0f%%",
+                        fit.getModel().getNotation(), fit.getConstant(), fit.getError() * 100));
+            } else {
+                row.append(String.format(" | %-9s | %10s | %6s", "-", "-", "-"));
+            }
+            System.out.println(row);
+        }
+        for (Curve curve : curves) {
+            if (curve.stopReason != null) {
+                System.out.println("  " + curve.listType + " пропущен при " + curve.stopReason);
+            }
+        }
+    }
+
+    /**
+     * Выводит размеры, при которых одна реализация обгоняет другую.
+     * Учитываются только размеры, на которых различие статистически значимо,
+     * чтобы шум измерений не давал ложных пересечений.
+     *
+     * @param curves измерения реализаций
+     * @param sizes размеры
+     */
+    private static void printCrossovers(List<Curve> curves, int[] sizes) {
+        for (int i = 0; i < curves.size(); i++) {
+            for (int j = i + 1; j < curves.size(); j++) {
+                Curve first = curves.get(i);
+                Curve second = curves.get(j);
+                int previousSize = -1;
+                double previousRatio = 0;
+                for (int size : sizes) {
+                    double firstTime = first.timeAt(size);
+                    double secondTime = second.timeAt(size);
+                    if (firstTime <= 0 || secondTime <= 0 || !first.differsFrom(second, size)) {
+                        continue;
+                    }
+                    double ratio = firstTime / secondTime;
+                    if (previousSize > 0 && (previousRatio - 1) * (ratio - 1) < 0) {
+                        String winner = ratio < 1 ? first.listType : second.listType;
+                        String loser = ratio < 1 ? second.listType : first.listType;
+                        System.out.printf("  %s обгоняет %s при n ≈ %.0f%n", winner, loser,
+                                crossoverSize(previousSize, previousRatio, size, ratio));
+                    }
+                    previousSize = size;
+                    previousRatio = ratio;
+                }
+            }
+        }
+    }
+}
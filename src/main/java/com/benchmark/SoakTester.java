@@ -0,0 +1,437 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Длительный прогон («soak») установившейся смешанной нагрузки для каждой
+ * реализации списка. Короткие измерения не показывают, как, например,
+ * {@code LinkedList} с миллионами узлов, непрерывно создаваемых и удаляемых,
+ * влияет на продвижение объектов в старое поколение и паузы сборщика мусора;
+ * длительный прогон показывает это по временному ряду.
+ * <p>
+ * Нагрузка задается в формате {@link WorkloadSpec}; по умолчанию
+ * ({@link #DEFAULT_WORKLOAD}) добавления в конец и удаления из начала
+ * уравновешены, поэтому размер списка колеблется около начального.
+ * Последовательность операций генерируется заранее ({@link WorkloadTrace})
+ * и воспроизводится по кругу; после каждого прохода размер списка
+ * возвращается к начальному.
+ * <p>
+ * Задержка каждой операции записывается в {@link LatencyHistogram}. Через равные
+ * интервалы снимается строка временного ряда: пропускная способность,
+ * перцентили задержки за интервал, занятость кучи и старого поколения
+ * (в том числе после последней сборки — ее рост при постоянном размере
+ * списка означает продвижение узлов и фрагментацию старого поколения),
+ * паузы сборщика мусора ({@link GcPauseMonitor}) и темп выделения памяти.
+ * <p>
+ * Параметры задаются системными свойствами:
+ * <ul>
+ *   <li>{@code benchmark.soakDuration} — длительность прогона каждой реализации,
+ *       например {@code 90s}, {@code 10m}, {@code 1h} (по умолчанию {@code 60s});</li>
+ *   <li>{@code benchmark.soakInterval} — интервал строк временного ряда (по умолчанию {@code 1s});</li>
+ *   <li>{@code benchmark.soakWorkload} — нагрузка (по умолчанию {@link #DEFAULT_WORKLOAD});</li>
+ *   <li>{@code benchmark.soakLists} — реализации через запятую (по умолчанию все
+ *       из {@link ListFactoryRegistry#getDefault()});</li>
+ *   <li>{@code benchmark.soakOutput} — файл временного ряда, например
+ *       {@code csv:soak.csv} или {@code jsonl:soak.jsonl} (см. {@link TimeSeriesWriter}).</li>
+ * </ul>
+ * Реализации выполняются последовательно в одной JVM; для независимых
+ * измерений состояния кучи каждую реализацию лучше запускать отдельно.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class SoakTester {
+
+    /**
+     * Нагрузка по умолчанию: очередь из миллиона элементов с чтением горячих элементов.
+     */
+    public static final String DEFAULT_WORKLOAD =
+            "20% get random, 40% add tail, 40% remove head, zipf 0.99, seed 42, initial 1000000";
+
+    /**
+     * Длина заранее сгенерированной последовательности операций.
+     */
+    private static final int TRACE_LENGTH = 1 << 20;
+
+    /**
+     * Основной метод, запускающий длительный прогон.
+     *
+     * @param args аргументы командной строки (не используются)
+     * @throws IOException если не удалось открыть или записать файл временного ряда
+     */
+    public static void main(String[] args) throws IOException {
+        long durationNanos = parseDuration(System.getProperty("benchmark.soakDuration", "60s")) * 1_000_000L;
+        long intervalNanos = parseDuration(System.getProperty("benchmark.soakInterval", "1s")) * 1_000_000L;
+        WorkloadSpec spec = WorkloadSpec.parse(System.getProperty("benchmark.soakWorkload", DEFAULT_WORKLOAD));
+        List<ListFactory> factories = new ArrayList<>();
+        String lists = System.getProperty("benchmark.soakLists");
+        if (lists == null) {
+            factories.addAll(ListFactoryRegistry.getDefault().getFactories());
+        } else {
+            for (String name : lists.split(",")) {
+                factories.add(ListFactoryRegistry.getDefault().get(name.trim()));
+            }
+        }
+
+        System.out.println("=== Длительный прогон установившейся нагрузки ===\n");
+        System.out.println("Нагрузка: " + spec);
+        System.out.printf("Длительность: %.0f с на реализацию, интервал: %.1f с%n%n",
+                durationNanos / 1e9, intervalNanos / 1e9);
+
+        List<Summary> summaries = new ArrayList<>();
+        String output = System.getProperty("benchmark.soakOutput");
+        try (TimeSeriesWriter writer = output != null ? TimeSeriesWriter.open(output) : null) {
+            for (ListFactory factory : factories) {
+                System.gc();
+                try {
+                    summaries.add(run(factory, spec, durationNanos, intervalNanos, writer));
+                } catch (UnsupportedOperationException e) {
+                    System.out.println(factory.getName() + ": нагрузка не поддерживается, пропущен\n");
+                }
+            }
+        }
+        printSummaries(summaries);
+    }
+
+    /**
+     * Выполняет длительный прогон одной реализации.
+     *
+     * @param factory фабрика тестируемого списка
+     * @param spec описание нагрузки
+     * @param durationNanos длительность прогона в наносекундах
+     * @param intervalNanos интервал строк временного ряда в наносекундах
+     * @param writer файл временного ряда или {@code null}
+     * @return сводка прогона
+     * @throws IOException если запись временного ряда не удалась
+     * @throws UnsupportedOperationException если реализация не поддерживает операции нагрузки
+     */
+    static Summary run(ListFactory factory, WorkloadSpec spec, long durationNanos, long intervalNanos,
+                       TimeSeriesWriter writer) throws IOException {
+        WorkloadTrace trace = WorkloadTrace.generate(spec, TRACE_LENGTH);
+        List<Integer> list = factory.create();
+        int initialSize = trace.getInitialSize();
+        for (int i = 0; i < initialSize; i++) {
+            list.add(i);
+        }
+
+        Summary summary = new Summary(factory.getName());
+        LatencyHistogram interval = new LatencyHistogram();
+        MemoryPoolMXBean oldGen = oldGenPool();
+        try (GcPauseMonitor pauses = GcPauseMonitor.start()) {
+            long start = System.nanoTime();
+            long intervalStart = start;
+            long allocatedAtIntervalStart = ResourceProbe.currentThreadAllocatedBytes();
+            long end = start + durationNanos;
+            long now = start;
+            int position = 0;
+            while (now < end) {
+                int index = trace.getIndex(position);
+                long before = System.nanoTime();
+                switch (trace.getOperation(position)) {
+                    case GET:
+                        list.get(index);
+                        break;
+                    case ADD:
+                        list.add(index, position);
+                        break;
+                    case REMOVE:
+                        list.remove(index);
+                        break;
+                    default:
+                        list.set(index, position);
+                        break;
+                }
+                now = System.nanoTime();
+                interval.record(now - before);
+
+                if (++position == trace.size()) {
+                    // Возвращаем размер к начальному, чтобы индексы последовательности оставались верными
+                    position = 0;
+                    while (list.size() > initialSize) {
+                        list.remove(list.size() - 1);
+                    }
+                    while (list.size() < initialSize) {
+                        list.add(list.size());
+                    }
+                }
+                if (now - intervalStart >= intervalNanos || now >= end) {
+                    long allocatedNow = ResourceProbe.currentThreadAllocatedBytes();
+                    Map<String, Object> sample = sample(factory.getName(), now - start, now - intervalStart,
+                            interval, list.size(), oldGen, pauses.drain(),
+                            allocatedAtIntervalStart < 0 ? -1 : allocatedNow - allocatedAtIntervalStart);
+                    if (summary.getSamples() == 0) {
+                        printHeader();
+                    }
+                    summary.add(interval, now - intervalStart, sample);
+                    print(sample);
+                    if (writer != null) {
+                        writer.write(sample);
+                    }
+                    interval.reset();
+                    allocatedAtIntervalStart = ResourceProbe.currentThreadAllocatedBytes();
+                    intervalStart = System.nanoTime();
+                    now = intervalStart;
+                }
+            }
+        }
+        System.out.println();
+        return summary;
+    }
+
+    /**
+     * Формирует строку временного ряда за интервал.
+     *
+     * @param listType название реализации
+     * @param elapsedNanos время от начала прогона
+     * @param intervalNanos длительность интервала
+     * @param latency гистограмма задержек за интервал
+     * @param listSize размер списка
+     * @param oldGen пул старого поколения или {@code null}
+     * @param pauses паузы сборщика мусора за интервал (количество, сумма и максимум в мс)
+     * @param allocatedBytes память, выделенная измеряющим потоком за интервал (-1, если неизвестно)
+     * @return значения полей в порядке вывода
+     */
+    private static Map<String, Object> sample(String listType, long elapsedNanos, long intervalNanos,
+                                              LatencyHistogram latency, int listSize, MemoryPoolMXBean oldGen,
+                                              long[] pauses, long allocatedBytes) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage oldGenAfterGc = oldGen != null ? oldGen.getCollectionUsage() : null;
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("listType", listType);
+        fields.put("elapsedMs", elapsedNanos / 1_000_000);
+        fields.put("intervalMs", intervalNanos / 1e6);
+        fields.put("operations", latency.getCount());
+        fields.put("opsPerMs", intervalNanos > 0 ? latency.getCount() / (intervalNanos / 1e6) : 0.0);
+        fields.put("p50Ns", latency.getValueAtPercentile(50));
+        fields.put("p99Ns", latency.getValueAtPercentile(99));
+        fields.put("p999Ns", latency.getValueAtPercentile(99.9));
+        fields.put("maxNs", latency.getMax());
+        fields.put("listSize", listSize);
+        fields.put("heapUsedBytes", heap.getUsed());
+        fields.put("heapCommittedBytes", heap.getCommitted());
+        fields.put("oldGenUsedBytes", oldGen != null ? oldGen.getUsage().getUsed() : -1L);
+        fields.put("oldGenAfterGcBytes", oldGenAfterGc != null ? oldGenAfterGc.getUsed() : -1L);
+        fields.put("gcPauses", pauses[0]);
+        fields.put("gcPauseTotalMs", pauses[1]);
+        fields.put("gcPauseMaxMs", pauses[2]);
+        fields.put("allocatedBytes", allocatedBytes);
+        return fields;
+    }
+
+    /**
+     * Выводит в консоль заголовок строк временного ряда.
+     */
+    private static void printHeader() {
+        System.out.printf("%-20s | %8s | %10s | %9s | %9s | %10s | %9s | %9s | %11s | %9s | %s%n",
+                "List Type", "Time (s)", "ops/ms", "p50 (ns)", "p99 (ns)", "p99.9 (ns)", "max (ns)",
+                "Heap (MB)", "Old GC (MB)", "MB/s", "GC pauses");
+    }
+
+    /**
+     * Выводит строку временного ряда в консоль.
+     *
+     * @param sample строка временного ряда
+     */
+    private static void print(Map<String, Object> sample) {
+        long allocated = (Long) sample.get("allocatedBytes");
+        long elapsedMs = (Long) sample.get("elapsedMs");
+        double intervalSeconds = (Double) sample.get("intervalMs") / 1000;
+        long oldGenAfterGc = (Long) sample.get("oldGenAfterGcBytes");
+        System.out.printf("%-20s | %8.1f | %10.1f | %9d | %9d | %10d | %9d | %9.1f | %11s | %9s | %d (max %d ms)%n",
+                sample.get("listType"),
+                elapsedMs / 1000.0,
+                (Double) sample.get("opsPerMs"),
+                (Long) sample.get("p50Ns"),
+                (Long) sample.get("p99Ns"),
+                (Long) sample.get("p999Ns"),
+                (Long) sample.get("maxNs"),
+                (Long) sample.get("heapUsedBytes") / (1024.0 * 1024),
+                oldGenAfterGc >= 0 ? String.format("%.1f", oldGenAfterGc / (1024.0 * 1024)) : "-",
+                allocated >= 0 && intervalSeconds > 0
+                        ? String.format("%.1f", allocated / (1024.0 * 1024) / intervalSeconds) : "-",
+                (Long) sample.get("gcPauses"),
+                (Long) sample.get("gcPauseMaxMs"));
+    }
+
+    /**
+     * Выводит сводку всех прогонов: общую пропускную способность, перцентили
+     * задержки за весь прогон, паузы сборщика мусора и изменение занятости
+     * старого поколения после сборки между первым и последним интервалом.
+     *
+     * @param summaries сводки прогонов
+     */
+    private static void printSummaries(List<Summary> summaries) {
+        System.out.println("Сводка длительного прогона:");
+        System.out.printf("%-20s | %12s | %10s | %9s | %9s | %10s | %10s | %9s | %12s | %14s%n",
+                "List Type", "Operations", "ops/ms", "p50 (ns)", "p99 (ns)", "p99.9 (ns)", "max (ns)",
+                "GC pauses", "GC max (ms)", "Old GC Δ (MB)");
+        System.out.println("-".repeat(150));
+        for (Summary summary : summaries) {
+            LatencyHistogram latency = summary.getLatency();
+            long drift = summary.getOldGenAfterGcGrowth();
+            System.out.printf("%-20s | %12d | %10.1f | %9d | %9d | %10d | %10d | %9d | %12d | %14s%n",
+                    summary.getListType(),
+                    latency.getCount(),
+                    summary.getThroughput(),
+                    latency.getValueAtPercentile(50),
+                    latency.getValueAtPercentile(99),
+                    latency.getValueAtPercentile(99.9),
+                    latency.getMax(),
+                    summary.getGcPauses(),
+                    summary.getMaxGcPauseMillis(),
+                    drift != Long.MIN_VALUE ? String.format("%+.1f", drift / (1024.0 * 1024)) : "-");
+        }
+    }
+
+    /**
+     * Возвращает пул памяти старого поколения.
+     *
+     * @return пул старого поколения или {@code null}, если сборщик не разделяет кучу на поколения
+     */
+    private static MemoryPoolMXBean oldGenPool() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP
+                    && (pool.getName().contains("Old") || pool.getName().contains("Tenured"))) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Разбирает длительность с единицей измерения {@code ms}, {@code s}, {@code m} или {@code h};
+     * число без единицы означает секунды.
+     *
+     * @param text длительность, например {@code 500ms}, {@code 90s}, {@code 1h}
+     * @return длительность в миллисекундах
+     * @throws IllegalArgumentException если длительность имеет неверный формат или не положительна
+     */
+    static long parseDuration(String text) {
+        String value = text.trim().toLowerCase(Locale.ROOT);
+        long multiplier = 1000;
+        if (value.endsWith("ms")) {
+            multiplier = 1;
+            value = value.substring(0, value.length() - 2);
+        } else if (value.endsWith("s")) {
+            value = value.substring(0, value.length() - 1);
+        } else if (value.endsWith("m")) {
+            multiplier = 60_000;
+            value = value.substring(0, value.length() - 1);
+        } else if (value.endsWith("h")) {
+            multiplier = 3_600_000;
+            value = value.substring(0, value.length() - 1);
+        }
+        try {
+            long millis = Math.round(Double.parseDouble(value.trim()) * multiplier);
+            if (millis <= 0) {
+                throw new IllegalArgumentException("Длительность должна быть положительной: " + text);
+            }
+            return millis;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Неверная длительность: " + text, e);
+        }
+    }
+
+    /**
+     * Сводка длительного прогона одной реализации.
+     */
+    static final class Summary {
+        private final String listType;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private long elapsedNanos;
+        private long gcPauses;
+        private long maxGcPauseMillis;
+        private long firstOldGenAfterGc = -1;
+        private long lastOldGenAfterGc = -1;
+        private int samples;
+
+        Summary(String listType) {
+            this.listType = listType;
+        }
+
+        /**
+         * Добавляет интервал в сводку.
+         *
+         * @param interval гистограмма задержек за интервал
+         * @param intervalNanos длительность интервала
+         * @param sample строка временного ряда за интервал
+         */
+        void add(LatencyHistogram interval, long intervalNanos, Map<String, Object> sample) {
+            latency.add(interval);
+            elapsedNanos += intervalNanos;
+            gcPauses += (Long) sample.get("gcPauses");
+            maxGcPauseMillis = Math.max(maxGcPauseMillis, (Long) sample.get("gcPauseMaxMs"));
+            long oldGenAfterGc = (Long) sample.get("oldGenAfterGcBytes");
+            if (oldGenAfterGc >= 0) {
+                if (firstOldGenAfterGc < 0) {
+                    firstOldGenAfterGc = oldGenAfterGc;
+                }
+                lastOldGenAfterGc = oldGenAfterGc;
+            }
+            samples++;
+        }
+
+        /**
+         * Возвращает название реализации.
+         *
+         * @return название реализации
+         */
+        String getListType() { return listType; }
+
+        /**
+         * Возвращает гистограмму задержек за весь прогон.
+         *
+         * @return гистограмма задержек в наносекундах
+         */
+        LatencyHistogram getLatency() { return latency; }
+
+        /**
+         * Возвращает количество строк временного ряда.
+         *
+         * @return количество интервалов
+         */
+        int getSamples() { return samples; }
+
+        /**
+         * Возвращает количество пауз сборщика мусора за прогон.
+         *
+         * @return количество пауз
+         */
+        long getGcPauses() { return gcPauses; }
+
+        /**
+         * Возвращает самую длинную паузу сборщика мусора за прогон.
+         *
+         * @return длительность в миллисекундах
+         */
+        long getMaxGcPauseMillis() { return maxGcPauseMillis; }
+
+        /**
+         * Возвращает пропускную способность за весь прогон.
+         *
+         * @return операций в миллисекунду
+         */
+        double getThroughput() {
+            return elapsedNanos > 0 ? latency.getCount() / (elapsedNanos / 1e6) : 0;
+        }
+
+        /**
+         * Возвращает изменение занятости старого поколения после сборки
+         * между первым и последним интервалом.
+         *
+         * @return изменение в байтах или {@link Long#MIN_VALUE}, если неизвестно
+         */
+        long getOldGenAfterGcGrowth() {
+            return firstOldGenAfterGc >= 0 ? lastOldGenAfterGc - firstOldGenAfterGc : Long.MIN_VALUE;
+        }
+    }
+}
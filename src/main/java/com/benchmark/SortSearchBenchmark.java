@@ -0,0 +1,440 @@
+package com.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Утилитарный класс для измерения сортировки и двоичного поиска в списках:
+ * {@code Collections.sort}, {@code List.sort}, {@code Collections.binarySearch},
+ * а также примитивных базовых вариантов для сравнения — {@code Arrays.parallelSort}
+ * и поразрядной сортировки копии {@code int[]}, {@code Arrays.binarySearch}
+ * и поиска в раскладке Эйтцингера.
+ * <p>
+ * Как и в {@link BulkBenchmark}, измеряется один вызов над списком из
+ * {@code elementsCount} элементов. Сортируются случайные значения {@code int}
+ * всего диапазона (с отрицательными), поиск выполняет {@code elementsCount}
+ * запросов, половина которых находит элемент, а половина — нет. Базовые варианты
+ * получают данные из списка испытуемого типа и учитывают время копирования
+ * в массив: так видно, окупается ли переход к примитивной копии для этого списка.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class SortSearchBenchmark {
+
+    /**
+     * Начальное значение генератора данных и ключей поиска.
+     */
+    private static final long SEED = 42;
+
+    /**
+     * Количество бит в разряде поразрядной сортировки.
+     */
+    private static final int RADIX_BITS = 8;
+
+    /**
+     * Количество значений одного разряда.
+     */
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    /**
+     * Приемник вычисленных сумм, не позволяющий JIT-компилятору
+     * исключить измеряемую работу как не имеющую эффекта.
+     */
+    private static volatile long consumed;
+
+    /**
+     * Тестирует сортировку {@code Collections.sort(list)} в естественном порядке.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testCollectionsSort(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createRandomList(list, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        Collections.sort(testList);
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("collectionsSort", list, testList, elementsCount, endTime - startTime, "sort", probe);
+    }
+
+    /**
+     * Тестирует сортировку {@code list.sort(null)}. Метод по умолчанию копирует
+     * элементы в массив и записывает их обратно итератором; {@link java.util.ArrayList}
+     * и некоторые другие реализации сортируют внутренний массив на месте.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testListSort(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createRandomList(list, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        testList.sort(null);
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("listSort", list, testList, elementsCount, endTime - startTime, "sort", probe);
+    }
+
+    /**
+     * Тестирует копирование списка в {@code int[]} и сортировку копии
+     * {@code Arrays.parallelSort} в общем пуле {@link java.util.concurrent.ForkJoinPool}.
+     * Выделенная память учитывается только для вызывающего потока.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testParallelSort(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createRandomList(list, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        int[] values = toIntArray(testList);
+        Arrays.parallelSort(values);
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = values.length > 0 ? values[values.length / 2] : 0;
+
+        return result("parallelSort", list, testList, elementsCount, endTime - startTime, "sort", probe);
+    }
+
+    /**
+     * Тестирует копирование списка в {@code int[]} и поразрядную сортировку копии
+     * ({@link #radixSort(int[])}).
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testRadixSort(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createRandomList(list, elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        int[] values = toIntArray(testList);
+        radixSort(values);
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = values.length > 0 ? values[values.length / 2] : 0;
+
+        return result("radixSort", list, testList, elementsCount, endTime - startTime, "sort", probe);
+    }
+
+    /**
+     * Тестирует {@code elementsCount} запросов {@code Collections.binarySearch}
+     * к отсортированному списку. Для списков без произвольного доступа
+     * размером от 5000 элементов метод переходит по итератору, и каждый запрос
+     * обходит O(n) узлов вместо O(log n) обращений по индексу.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке и количество запросов
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testBinarySearch(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createSortedList(list, elementsCount);
+        Integer[] keys = boxed(searchKeys(elementsCount));
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        long sum = 0;
+        for (Integer key : keys) {
+            sum += Collections.binarySearch(testList, key);
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = sum;
+
+        return result("binarySearch", list, testList, elementsCount, endTime - startTime, "search", probe);
+    }
+
+    /**
+     * Тестирует копирование отсортированного списка в {@code int[]}
+     * и {@code elementsCount} запросов {@code Arrays.binarySearch} к копии.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке и количество запросов
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testArrayBinarySearch(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createSortedList(list, elementsCount);
+        int[] keys = searchKeys(elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        int[] values = toIntArray(testList);
+        long sum = 0;
+        for (int key : keys) {
+            sum += Arrays.binarySearch(values, key);
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = sum;
+
+        return result("arrayBinarySearch", list, testList, elementsCount, endTime - startTime, "search", probe);
+    }
+
+    /**
+     * Тестирует копирование отсортированного списка в раскладку Эйтцингера
+     * ({@link #eytzinger(int[])}) и {@code elementsCount} запросов
+     * {@link #eytzingerLowerBound(int[], int)} к ней.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов в списке и количество запросов
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testEytzingerSearch(List<Integer> list, int elementsCount) {
+        List<Integer> testList = createSortedList(list, elementsCount);
+        int[] keys = searchKeys(elementsCount);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        int[] layout = eytzinger(toIntArray(testList));
+        long sum = 0;
+        for (int key : keys) {
+            sum += eytzingerLowerBound(layout, key);
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+        consumed = sum;
+
+        return result("eytzingerSearch", list, testList, elementsCount, endTime - startTime, "search", probe);
+    }
+
+    /**
+     * Сортирует массив поразрядной сортировкой (LSD) по разрядам в 8 бит:
+     * четыре устойчивых прохода подсчетом с одним вспомогательным массивом.
+     * В старшем разряде инвертируется знаковый бит, поэтому отрицательные
+     * значения оказываются перед положительными. Проход пропускается,
+     * если все элементы имеют одинаковый разряд.
+     *
+     * @param values сортируемый массив
+     * @throws NullPointerException если массив равен null
+     */
+    public static void radixSort(int[] values) {
+        int[] source = values;
+        int[] target = new int[values.length];
+        int[] counts = new int[RADIX];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            int flip = shift == Integer.SIZE - RADIX_BITS ? RADIX >>> 1 : 0;
+            Arrays.fill(counts, 0);
+            for (int value : source) {
+                counts[((value >>> shift) & (RADIX - 1)) ^ flip]++;
+            }
+            if (source.length == 0 || counts[((source[0] >>> shift) & (RADIX - 1)) ^ flip] == source.length) {
+                continue;
+            }
+            int offset = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = counts[digit];
+                counts[digit] = offset;
+                offset += count;
+            }
+            for (int value : source) {
+                target[counts[((value >>> shift) & (RADIX - 1)) ^ flip]++] = value;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != values) {
+            System.arraycopy(source, 0, values, 0, values.length);
+        }
+    }
+
+    /**
+     * Переставляет отсортированный массив в раскладку Эйтцингера — неявное
+     * двоичное дерево поиска в порядке обхода в ширину. Элемент с номером
+     * {@code k} имеет потомков {@code 2k} и {@code 2k + 1}; элемент 0 не используется.
+     * Первые уровни дерева, которые читает каждый запрос, лежат рядом в начале
+     * массива и остаются в кэше, а потомки одного узла соседствуют в одной
+     * строке кэша.
+     *
+     * @param sorted массив, отсортированный по возрастанию
+     * @return массив длины {@code sorted.length + 1} в раскладке Эйтцингера
+     * @throws NullPointerException если массив равен null
+     */
+    public static int[] eytzinger(int[] sorted) {
+        int[] layout = new int[sorted.length + 1];
+        fill(sorted, layout, 0, 1);
+        return layout;
+    }
+
+    /**
+     * Заполняет поддерево с корнем {@code k} обходом в симметричном порядке.
+     *
+     * @param sorted отсортированный массив
+     * @param layout заполняемая раскладка
+     * @param next номер следующего элемента отсортированного массива
+     * @param k номер корня поддерева в раскладке
+     * @return номер следующего элемента после заполнения поддерева
+     */
+    private static int fill(int[] sorted, int[] layout, int next, int k) {
+        if (k < layout.length) {
+            next = fill(sorted, layout, next, 2 * k);
+            layout[k] = sorted[next++];
+            next = fill(sorted, layout, next, 2 * k + 1);
+        }
+        return next;
+    }
+
+    /**
+     * Находит в раскладке Эйтцингера наименьший элемент, не меньший ключа.
+     * Спуск по дереву не содержит ветвлений, зависящих от данных: номер
+     * следующего узла вычисляется из результата сравнения, поэтому процессор
+     * не ошибается в предсказании переходов. После спуска за листья номер
+     * ответа восстанавливается отбрасыванием последних переходов вправо.
+     *
+     * @param layout массив в раскладке Эйтцингера ({@link #eytzinger(int[])})
+     * @param key искомый ключ
+     * @return номер найденного элемента в раскладке или 0, если все элементы меньше ключа
+     * @throws NullPointerException если массив равен null
+     */
+    public static int eytzingerLowerBound(int[] layout, int key) {
+        int n = layout.length - 1;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (layout[k] < key ? 1 : 0);
+        }
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    /**
+     * Создает новый список того же типа со случайными значениями.
+     *
+     * @param original оригинальный список, тип которого используется для создания нового списка
+     * @param elementsCount количество элементов
+     * @return заполненный список
+     */
+    private static List<Integer> createRandomList(List<Integer> original, int elementsCount) {
+        List<Integer> testList = createNewList(original);
+        for (int value : randomValues(elementsCount)) {
+            testList.add(value);
+        }
+        return testList;
+    }
+
+    /**
+     * Создает новый список того же типа с отсортированными случайными значениями.
+     *
+     * @param original оригинальный список, тип которого используется для создания нового списка
+     * @param elementsCount количество элементов
+     * @return заполненный список
+     */
+    private static List<Integer> createSortedList(List<Integer> original, int elementsCount) {
+        int[] values = randomValues(elementsCount);
+        Arrays.sort(values);
+        List<Integer> testList = createNewList(original);
+        for (int value : values) {
+            testList.add(value);
+        }
+        return testList;
+    }
+
+    /**
+     * Формирует случайные значения всего диапазона {@code int}.
+     *
+     * @param count количество значений
+     * @return значения
+     */
+    private static int[] randomValues(int count) {
+        Random random = new Random(SEED);
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+
+    /**
+     * Формирует ключи поиска: четные запросы ищут значения из данных,
+     * нечетные — случайные значения, которых почти наверняка нет.
+     *
+     * @param count количество элементов и запросов
+     * @return ключи поиска
+     */
+    private static int[] searchKeys(int count) {
+        int[] values = randomValues(count);
+        Random random = new Random(SEED + 1);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = i % 2 == 0 ? values[random.nextInt(count)] : random.nextInt();
+        }
+        return keys;
+    }
+
+    /**
+     * Упаковывает ключи заранее, чтобы упаковка не входила в измерение.
+     *
+     * @param keys ключи поиска
+     * @return упакованные ключи
+     */
+    private static Integer[] boxed(int[] keys) {
+        Integer[] boxed = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            boxed[i] = keys[i];
+        }
+        return boxed;
+    }
+
+    /**
+     * Копирует элементы списка в массив обходом итератором.
+     *
+     * @param list список
+     * @return массив значений
+     */
+    private static int[] toIntArray(List<Integer> list) {
+        int[] values = new int[list.size()];
+        int i = 0;
+        for (Integer value : list) {
+            values[i++] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Формирует результат операции.
+     *
+     * @param methodName название операции
+     * @param list оригинальный список, по фабрике которого называется реализация
+     * @param testList тестовый список после операции
+     * @param elementsCount количество элементов
+     * @param executionTime время выполнения в наносекундах
+     * @param operationType тип операции: "sort" или "search"
+     * @param probe остановленный измеритель ресурсов
+     * @return результат измерения
+     */
+    private static Result result(String methodName, List<Integer> list, List<Integer> testList,
+                                 int elementsCount, long executionTime, String operationType, ResourceProbe probe) {
+        return new Result(methodName, Benchmark.listType(list),
+                elementsCount, executionTime, operationType)
+                .withResourceUsage(probe);
+    }
+
+    /**
+     * Создает новый экземпляр списка того же типа, что и переданный список.
+     *
+     * @param original оригинальный список, тип которого используется для создания нового списка
+     * @return новый экземпляр списка того же типа
+     * @throws IllegalArgumentException если тип списка не зарегистрирован
+     */
+    private static List<Integer> createNewList(List<Integer> original) {
+        return ListFactoryRegistry.getDefault().forList(original).create();
+    }
+}
@@ -0,0 +1,131 @@
+package com.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Класс для тестирования сортировки и двоичного поиска {@link SortSearchBenchmark}
+ * для всех реализаций из {@link ListFactoryRegistry#getDefault()} на геометрической
+ * последовательности размеров, как в {@link SizeSweepTester}. Помимо таблиц
+ * по размерам выводит ускорение примитивных базовых вариантов
+ * ({@code parallelSort}, {@code radixSort}, {@code arrayBinarySearch},
+ * {@code eytzingerSearch}) относительно {@code Collections.sort}
+ * и {@code Collections.binarySearch} для каждой реализации.
+ * <p>
+ * Ячейки выполняются по одной, так как {@code Arrays.parallelSort} занимает
+ * все процессоры общего пула. Если оценка времени ячейки превышает бюджет,
+ * оставшиеся размеры для реализации пропускаются: так поиск в
+ * {@link java.util.LinkedList}, где каждый запрос обходит O(n) узлов,
+ * останавливается на размере, который укладывается в бюджет.
+ * <p>
+ * Параметры задаются системными свойствами: {@code benchmark.sweep} —
+ * последовательность размеров в формате {@code от:до:множитель} (по умолчанию
+ * {@code 100:10000000:10}), {@code benchmark.cellBudgetMs} — бюджет ячейки
+ * в миллисекундах (по умолчанию 5000), {@code benchmark.scenarios}
+ * и {@code benchmark.lists} — выбранные операции и реализации через запятую,
+ * а также {@code benchmark.execution} и {@code benchmark.output},
+ * как в {@link ListPerformanceTester}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class SortSearchTester {
+
+    /**
+     * Бюджет времени одной ячейки по умолчанию в миллисекундах.
+     */
+    private static final long DEFAULT_CELL_BUDGET_MS = 5000;
+
+    /**
+     * Количество прогревочных прогонов каждого измерения.
+     */
+    private static final int WARMUP_TRIALS = 3;
+
+    /**
+     * Количество измеряемых прогонов каждого измерения.
+     */
+    private static final int MEASURED_TRIALS = 10;
+
+    /**
+     * Основной метод, запускающий тестирование сортировки и поиска.
+     *
+     * @param args аргументы командной строки (не используются)
+     * @throws IOException если не удалось открыть или записать файл результатов
+     */
+    public static void main(String[] args) throws IOException {
+        int[] sizes = SizeSweepTester.parseSweep(
+                System.getProperty("benchmark.sweep", SizeSweepTester.DEFAULT_SWEEP));
+        long budgetNanos = Long.getLong("benchmark.cellBudgetMs", DEFAULT_CELL_BUDGET_MS) * 1_000_000L;
+        ExecutionMode mode = ExecutionMode.valueOf(
+                System.getProperty("benchmark.execution", "sequential").toUpperCase());
+        ExecutionEngine engine = new ExecutionEngine(mode, 1, WARMUP_TRIALS, MEASURED_TRIALS);
+        List<String> listTypes = new ArrayList<>();
+        for (ListFactory factory : ListFactoryRegistry.getDefault().getFactories()) {
+            listTypes.add(factory.getName());
+        }
+        Set<String> methodNames = ListPerformanceTester.selection("benchmark.scenarios", scenarios().keySet());
+        Set<String> selectedListTypes = ListPerformanceTester.selection("benchmark.lists", listTypes);
+
+        System.out.println("=== Сортировка и двоичный поиск ===\n");
+
+        List<Result> results = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        String output = System.getProperty("benchmark.output");
+        try (ResultSink sink = output != null ? ResultSink.open(output) : ResultSink.NONE) {
+            for (String methodName : methodNames) {
+                for (String listType : selectedListTypes) {
+                    String stopReason = BulkPerformanceTester.sweep(engine, sink, methodName, listType, sizes,
+                            budgetNanos, WARMUP_TRIALS + MEASURED_TRIALS, results);
+                    if (stopReason != null) {
+                        skipped.add(methodName + "/" + listType + " пропущен при " + stopReason);
+                    }
+                }
+            }
+        }
+
+        for (int size : sizes) {
+            List<Result> sizeResults = new ArrayList<>();
+            for (Result result : results) {
+                if (result.getOperationsCount() == size) {
+                    sizeResults.add(result);
+                }
+            }
+            if (sizeResults.isEmpty()) {
+                continue;
+            }
+            System.out.println("Тестирование для " + size + " элементов:");
+            System.out.println("=".repeat(80));
+            ListPerformanceTester.printResults(sizeResults);
+            System.out.println();
+        }
+        for (String line : skipped) {
+            System.out.println("  " + line);
+        }
+        System.out.println();
+        BulkPerformanceTester.printSpeedup(results, sizes, "collectionsSort", "parallelSort", null);
+        BulkPerformanceTester.printSpeedup(results, sizes, "collectionsSort", "radixSort", null);
+        BulkPerformanceTester.printSpeedup(results, sizes, "binarySearch", "arrayBinarySearch", null);
+        BulkPerformanceTester.printSpeedup(results, sizes, "binarySearch", "eytzingerSearch", null);
+    }
+
+    /**
+     * Возвращает операции сортировки и поиска в порядке вывода.
+     *
+     * @return операции, индексированные названием метода
+     */
+    static Map<String, Measurement<List<Integer>>> scenarios() {
+        Map<String, Measurement<List<Integer>>> scenarios = new LinkedHashMap<>();
+        scenarios.put("collectionsSort", SortSearchBenchmark::testCollectionsSort);
+        scenarios.put("listSort", SortSearchBenchmark::testListSort);
+        scenarios.put("parallelSort", SortSearchBenchmark::testParallelSort);
+        scenarios.put("radixSort", SortSearchBenchmark::testRadixSort);
+        scenarios.put("binarySearch", SortSearchBenchmark::testBinarySearch);
+        scenarios.put("arrayBinarySearch", SortSearchBenchmark::testArrayBinarySearch);
+        scenarios.put("eytzingerSearch", SortSearchBenchmark::testEytzingerSearch);
+        return scenarios;
+    }
+}
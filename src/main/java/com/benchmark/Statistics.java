@@ -0,0 +1,194 @@
+package com.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Статистические характеристики распределения времени выполнения,
+ * полученного в результате нескольких повторных измерений.
+ * Хранит исходную выборку и вычисляет минимум, среднее, медиану,
+ * перцентили, стандартное отклонение и 95% доверительный интервал среднего.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class Statistics {
+
+    /**
+     * Квантили t-распределения Стьюдента для двустороннего 95% интервала
+     * при числе степеней свободы от 1 до 30.
+     */
+    private static final double[] T_95 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    /**
+     * Квантиль нормального распределения для 95% интервала,
+     * используемый при большом числе степеней свободы.
+     */
+    private static final double Z_95 = 1.960;
+
+    private final long[] samples;
+    private final long min;
+    private final long max;
+    private final double mean;
+    private final double median;
+    private final double p90;
+    private final double p99;
+    private final double stdDev;
+    private final double ciLow;
+    private final double ciHigh;
+
+    /**
+     * Создает статистику по выборке времен выполнения.
+     *
+     * @param samples времена выполнения в наносекундах
+     * @throws IllegalArgumentException если выборка пуста
+     */
+    public Statistics(long[] samples) {
+        if (samples.length == 0) {
+            throw new IllegalArgumentException("Выборка не может быть пустой");
+        }
+        this.samples = samples.clone();
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+
+        double sum = 0;
+        for (long sample : sorted) {
+            sum += sample;
+        }
+        double variance = 0;
+        double average = sum / sorted.length;
+        for (long sample : sorted) {
+            variance += (sample - average) * (sample - average);
+        }
+        variance = sorted.length > 1 ? variance / (sorted.length - 1) : 0;
+
+        this.min = sorted[0];
+        this.max = sorted[sorted.length - 1];
+        this.mean = average;
+        this.median = percentile(sorted, 50);
+        this.p90 = percentile(sorted, 90);
+        this.p99 = percentile(sorted, 99);
+        this.stdDev = Math.sqrt(variance);
+
+        double halfWidth = sorted.length > 1
+                ? tQuantile(sorted.length - 1) * stdDev / Math.sqrt(sorted.length)
+                : 0;
+        this.ciLow = mean - halfWidth;
+        this.ciHigh = mean + halfWidth;
+    }
+
+    /**
+     * Вычисляет перцентиль отсортированной выборки с линейной интерполяцией
+     * между соседними элементами.
+     *
+     * @param sorted отсортированная по возрастанию выборка
+     * @param percent перцентиль от 0 до 100
+     * @return значение перцентиля
+     */
+    static double percentile(long[] sorted, double percent) {
+        double rank = percent / 100.0 * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    /**
+     * Возвращает квантиль t-распределения для 95% интервала.
+     *
+     * @param degreesOfFreedom число степеней свободы
+     * @return значение квантиля
+     */
+    private static double tQuantile(int degreesOfFreedom) {
+        return degreesOfFreedom <= T_95.length ? T_95[degreesOfFreedom - 1] : Z_95;
+    }
+
+    /**
+     * Проверяет, пересекаются ли 95% доверительные интервалы двух распределений.
+     *
+     * @param other статистика для сравнения
+     * @return {@code true}, если интервалы пересекаются
+     */
+    public boolean overlaps(Statistics other) {
+        return ciLow <= other.ciHigh && other.ciLow <= ciHigh;
+    }
+
+    /**
+     * Возвращает копию исходной выборки в порядке измерений.
+     *
+     * @return времена выполнения в наносекундах
+     */
+    public long[] getSamples() { return samples.clone(); }
+
+    /**
+     * Возвращает количество измерений в выборке.
+     *
+     * @return размер выборки
+     */
+    public int getCount() { return samples.length; }
+
+    /**
+     * Возвращает минимальное время выполнения.
+     *
+     * @return минимум в наносекундах
+     */
+    public long getMin() { return min; }
+
+    /**
+     * Возвращает максимальное время выполнения.
+     *
+     * @return максимум в наносекундах
+     */
+    public long getMax() { return max; }
+
+    /**
+     * Возвращает среднее время выполнения.
+     *
+     * @return среднее в наносекундах
+     */
+    public double getMean() { return mean; }
+
+    /**
+     * Возвращает медиану времени выполнения.
+     *
+     * @return медиана в наносекундах
+     */
+    public double getMedian() { return median; }
+
+    /**
+     * Возвращает 90-й перцентиль времени выполнения.
+     *
+     * @return p90 в наносекундах
+     */
+    public double getP90() { return p90; }
+
+    /**
+     * Возвращает 99-й перцентиль времени выполнения.
+     *
+     * @return p99 в наносекундах
+     */
+    public double getP99() { return p99; }
+
+    /**
+     * Возвращает выборочное стандартное отклонение.
+     *
+     * @return стандартное отклонение в наносекундах
+     */
+    public double getStdDev() { return stdDev; }
+
+    /**
+     * Возвращает нижнюю границу 95% доверительного интервала среднего.
+     *
+     * @return нижняя граница в наносекундах
+     */
+    public double getCiLow() { return ciLow; }
+
+    /**
+     * Возвращает верхнюю границу 95% доверительного интервала среднего.
+     *
+     * @return верхняя граница в наносекундах
+     */
+    public double getCiHigh() { return ciHigh; }
+}
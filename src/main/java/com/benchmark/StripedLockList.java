@@ -0,0 +1,156 @@
+package com.benchmark;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Потокобезопасный список, разделенный на полосы (stripes) с отдельными блокировками.
+ * Добавление в конец выполняется в полосу, выбранную по идентификатору потока,
+ * поэтому потоки, добавляющие элементы одновременно, как правило, не конкурируют
+ * за одну блокировку. Логический порядок элементов — элементы полосы 0,
+ * затем полосы 1 и так далее; доступ по индексу проходит полосы по очереди.
+ * <p>
+ * Операции над отдельными полосами атомарны, но составные операции
+ * (поиск по индексу, {@link #size()}) не являются линеаризуемыми относительно
+ * одновременных изменений в других полосах. Список подходит для сценариев,
+ * где порядок между потоками не важен, например для накопления результатов.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class StripedLockList extends AbstractList<Integer> {
+
+    /**
+     * Количество полос по умолчанию.
+     */
+    private static final int DEFAULT_STRIPES = 16;
+
+    private final List<List<Integer>> stripes;
+    private final ReentrantLock[] locks;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Создает пустой список с количеством полос по умолчанию.
+     */
+    public StripedLockList() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Создает пустой список с заданным количеством полос.
+     *
+     * @param stripeCount количество полос
+     * @throws IllegalArgumentException если количество полос меньше 1
+     */
+    public StripedLockList(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Количество полос должно быть положительным: " + stripeCount);
+        }
+        this.stripes = new ArrayList<>(stripeCount);
+        this.locks = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new ArrayList<>());
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public boolean add(Integer element) {
+        int stripe = (int) (Thread.currentThread().getId() % locks.length);
+        locks[stripe].lock();
+        try {
+            stripes.get(stripe).add(element);
+            size.incrementAndGet();
+            modCount++;
+        } finally {
+            locks[stripe].unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        int remaining = index;
+        for (int stripe = 0; stripe < locks.length; stripe++) {
+            locks[stripe].lock();
+            try {
+                List<Integer> list = stripes.get(stripe);
+                if (remaining <= list.size()) {
+                    list.add(remaining, element);
+                    size.incrementAndGet();
+                    modCount++;
+                    return;
+                }
+                remaining -= list.size();
+            } finally {
+                locks[stripe].unlock();
+            }
+        }
+        throw new IndexOutOfBoundsException("Индекс: " + index);
+    }
+
+    @Override
+    public Integer get(int index) {
+        int remaining = index;
+        for (int stripe = 0; stripe < locks.length && remaining >= 0; stripe++) {
+            locks[stripe].lock();
+            try {
+                List<Integer> list = stripes.get(stripe);
+                if (remaining < list.size()) {
+                    return list.get(remaining);
+                }
+                remaining -= list.size();
+            } finally {
+                locks[stripe].unlock();
+            }
+        }
+        throw new IndexOutOfBoundsException("Индекс: " + index);
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        int remaining = index;
+        for (int stripe = 0; stripe < locks.length && remaining >= 0; stripe++) {
+            locks[stripe].lock();
+            try {
+                List<Integer> list = stripes.get(stripe);
+                if (remaining < list.size()) {
+                    return list.set(remaining, element);
+                }
+                remaining -= list.size();
+            } finally {
+                locks[stripe].unlock();
+            }
+        }
+        throw new IndexOutOfBoundsException("Индекс: " + index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        int remaining = index;
+        for (int stripe = 0; stripe < locks.length && remaining >= 0; stripe++) {
+            locks[stripe].lock();
+            try {
+                List<Integer> list = stripes.get(stripe);
+                if (remaining < list.size()) {
+                    Integer removed = list.remove(remaining);
+                    size.decrementAndGet();
+                    modCount++;
+                    return removed;
+                }
+                remaining -= list.size();
+            } finally {
+                locks[stripe].unlock();
+            }
+        }
+        throw new IndexOutOfBoundsException("Индекс: " + index);
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+}
@@ -0,0 +1,198 @@
+package com.benchmark;
+
+import java.util.List;
+
+/**
+ * Утилитарный класс для измерения стоимости операций самой структуры данных
+ * («structure-only») в отличие от стоимости при обычном использовании
+ * («as-used»), которую измеряет {@link Benchmark}.
+ * <p>
+ * Значения берутся из пула заранее упакованных значений {@link ValuePool},
+ * поэтому ни в измеряемом участке, ни при заполнении списка упаковка
+ * не выполняется. При системном свойстве {@code benchmark.presize=true}
+ * список создается с емкостью, достаточной для всех элементов
+ * ({@link ListFactory#create(int)}), и копирования при росте не измеряются.
+ * <p>
+ * До и после измеряемого участка оценивается объем памяти, удерживаемой
+ * структурой без значений пула ({@link MemoryFootprint#retainedSize(Object, Object[])}).
+ * Его прирост записывается в результат ({@link Result#getStructuralBytes()}),
+ * а выделения сверх прироста — временные объекты, упаковка, копии при росте —
+ * доступны как {@link Result#getTransientBytesPerOperation()}. Для оценки нужен
+ * доступ к полям классов JDK ({@code --add-opens}), иначе прирост неизвестен.
+ * <p>
+ * Названия операций совпадают с {@link Benchmark} с суффиксом {@link #SUFFIX}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class StructureBenchmark {
+
+    /**
+     * Суффикс названия операции, измеренной без упаковки.
+     */
+    public static final String SUFFIX = "Struct";
+
+    /**
+     * Тестирует добавление элементов в конец списка значениями из пула.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов для добавления
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testAdd(List<Integer> list, int elementsCount) {
+        Integer[] values = ValuePool.boxed(elementsCount);
+        List<Integer> testList = createNewList(list, elementsCount);
+        long structureBefore = MemoryFootprint.retainedSize(testList, values);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < elementsCount; i++) {
+            testList.add(values[i]);
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("add", list, testList, elementsCount, endTime - startTime, "add", probe,
+                structureBefore, values);
+    }
+
+    /**
+     * Тестирует добавление элементов в начало списка значениями из пула.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param elementsCount количество элементов для добавления в начало
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testAddFirst(List<Integer> list, int elementsCount) {
+        Integer[] values = ValuePool.boxed(elementsCount);
+        List<Integer> testList = createNewList(list, elementsCount);
+        long structureBefore = MemoryFootprint.retainedSize(testList, values);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < elementsCount; i++) {
+            testList.add(0, values[i]);
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("addFirst", list, testList, elementsCount, endTime - startTime, "add", probe,
+                structureBefore, values);
+    }
+
+    /**
+     * Тестирует удаление элементов из начала списка, заполненного значениями из пула.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param operationsCount количество операций удаления
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testDeleteFirst(List<Integer> list, int operationsCount) {
+        Integer[] values = ValuePool.boxed(operationsCount * 2);
+        List<Integer> testList = createFilledList(list, operationsCount * 2, values);
+        long structureBefore = MemoryFootprint.retainedSize(testList, values);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < operationsCount; i++) {
+            testList.remove(0);
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("deleteFirst", list, testList, operationsCount, endTime - startTime, "delete", probe,
+                structureBefore, values);
+    }
+
+    /**
+     * Тестирует удаление элементов из конца списка, заполненного значениями из пула.
+     *
+     * @param list список, на основе типа которого создается тестовый список
+     * @param operationsCount количество операций удаления
+     * @return объект {@link Result} с результатами тестирования
+     * @throws NullPointerException если переданный список равен null
+     */
+    public static Result testDeleteLast(List<Integer> list, int operationsCount) {
+        Integer[] values = ValuePool.boxed(operationsCount * 2);
+        List<Integer> testList = createFilledList(list, operationsCount * 2, values);
+        long structureBefore = MemoryFootprint.retainedSize(testList, values);
+
+        ResourceProbe probe = ResourceProbe.start();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < operationsCount; i++) {
+            testList.remove(testList.size() - 1);
+        }
+        long endTime = System.nanoTime();
+        probe.stop();
+
+        return result("deleteLast", list, testList, operationsCount, endTime - startTime, "delete", probe,
+                structureBefore, values);
+    }
+
+    /**
+     * Проверяет, включено ли создание списков с начальной емкостью.
+     *
+     * @return {@code true}, если задано системное свойство {@code benchmark.presize=true}
+     */
+    public static boolean isPresized() {
+        return Boolean.getBoolean("benchmark.presize");
+    }
+
+    /**
+     * Формирует результат и оценивает прирост памяти структуры за измеряемый участок.
+     *
+     * @param methodName название операции без суффикса
+     * @param list оригинальный список, по фабрике которого называется реализация
+     * @param testList тестовый список после операции
+     * @param operationsCount количество операций
+     * @param executionTime время выполнения в наносекундах
+     * @param operationType тип операции
+     * @param probe остановленный измеритель ресурсов
+     * @param structureBefore память структуры до измеряемого участка (-1, если неизвестна)
+     * @param values пул значений, не входящих в структуру
+     * @return результат измерения
+     */
+    private static Result result(String methodName, List<Integer> list, List<Integer> testList,
+                                 int operationsCount, long executionTime, String operationType,
+                                 ResourceProbe probe, long structureBefore, Integer[] values) {
+        long structureAfter = structureBefore >= 0 ? MemoryFootprint.retainedSize(testList, values) : -1;
+        return new Result(methodName + SUFFIX, Benchmark.listType(list),
+                operationsCount, executionTime, operationType)
+                .withResourceUsage(probe)
+                .withStructuralBytes(structureAfter >= 0 ? Math.max(0, structureAfter - structureBefore) : -1)
+                .withFootprint(MemoryFootprint.of(testList, testList.size()));
+    }
+
+    /**
+     * Создает новый список того же типа и заполняет его значениями из пула.
+     *
+     * @param original оригинальный список, тип которого используется для создания нового списка
+     * @param elementsCount количество элементов
+     * @param values пул значений
+     * @return заполненный список
+     */
+    private static List<Integer> createFilledList(List<Integer> original, int elementsCount, Integer[] values) {
+        List<Integer> testList = createNewList(original, elementsCount);
+        for (int i = 0; i < elementsCount; i++) {
+            testList.add(values[i]);
+        }
+        return testList;
+    }
+
+    /**
+     * Создает новый экземпляр списка того же типа, что и переданный список,
+     * с начальной емкостью, если включено свойство {@code benchmark.presize}.
+     *
+     * @param original оригинальный список, тип которого используется для создания нового списка
+     * @param capacity максимальное количество элементов в списке
+     * @return новый экземпляр списка того же типа
+     * @throws IllegalArgumentException если тип списка не зарегистрирован
+     */
+    private static List<Integer> createNewList(List<Integer> original, int capacity) {
+        ListFactory factory = ListFactoryRegistry.getDefault().forList(original);
+        return isPresized() ? factory.create(capacity) : factory.create();
+    }
+}
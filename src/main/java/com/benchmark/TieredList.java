@@ -0,0 +1,424 @@
+package com.benchmark;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Развернутый (unrolled) список: элементы хранятся в блоках емкости B,
+ * а позиции блоков индексируются деревом Фенвика по количеству
+ * элементов в блоках. Поиск блока по индексу и обновление индекса при
+ * вставке или удалении стоят O(log(n / B)), сдвиг внутри блока — O(B).
+ * Разбиение переполненного блока и удаление пустого сдвигают массив блоков
+ * и перестраивают индекс за O(n / B), но происходят не чаще чем раз
+ * в B / 2 изменений одного блока, то есть стоят O(n / B²) в среднем.
+ * <p>
+ * Поэтому список, созданный без явной емкости, держит B около √n: когда
+ * размер выходит за пределы [B² / 4, 4B²], все блоки перераспределяются
+ * с вдвое большей или меньшей емкостью (не меньше 64 ссылок — четыре строки
+ * кэша при сжатых указателях). Перераспределение стоит O(n) и происходит
+ * после изменения размера в 4 раза, так что вставка и удаление в середине
+ * обходятся в O(√n) в среднем при любом размере. Явно заданная емкость
+ * блока остается постоянной.
+ * <p>
+ * В отличие от {@link java.util.ArrayList}, вставка и удаление в середине
+ * большого списка не сдвигают миллионы ссылок, а в отличие от
+ * {@link java.util.LinkedList} не требуют обхода половины списка.
+ * <p>
+ * Полностью реализует {@link java.util.List}, включая элементы {@code null}
+ * и итераторы с быстрым отказом при одновременном изменении.
+ *
+ * @param <E> тип элементов
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class TieredList<E> extends AbstractList<E> implements RandomAccess {
+
+    /**
+     * Начальная и минимальная емкость блока списка с подстраиваемой емкостью.
+     */
+    private static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    /**
+     * Подстраивается ли емкость блока под размер списка.
+     */
+    private final boolean adaptive;
+    private int chunkCapacity;
+    private Object[][] chunks = new Object[4][];
+    private int[] counts = new int[4];
+    /**
+     * Дерево Фенвика по количеству элементов в блоках, индексы с 1.
+     */
+    private int[] tree = new int[5];
+    private int chunkCount;
+    private int size;
+
+    /**
+     * Создает пустой список, емкость блока которого подстраивается под размер.
+     */
+    public TieredList() {
+        this(DEFAULT_CHUNK_CAPACITY, true);
+    }
+
+    /**
+     * Создает пустой список с заданной постоянной емкостью блока.
+     *
+     * @param chunkCapacity количество элементов в блоке, не меньше 4
+     * @throws IllegalArgumentException если емкость блока меньше 4
+     */
+    public TieredList(int chunkCapacity) {
+        this(chunkCapacity, false);
+        if (chunkCapacity < 4) {
+            throw new IllegalArgumentException("Емкость блока должна быть не меньше 4: " + chunkCapacity);
+        }
+    }
+
+    private TieredList(int chunkCapacity, boolean adaptive) {
+        this.chunkCapacity = chunkCapacity;
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Создает список, содержащий элементы коллекции в порядке ее итератора.
+     * Элементы копируются в заполненные блоки емкости около √n за O(n).
+     *
+     * @param collection исходная коллекция
+     * @throws NullPointerException если коллекция равна null
+     */
+    public TieredList(Collection<? extends E> collection) {
+        this();
+        Object[] source = collection.toArray();
+        size = source.length;
+        while (size > 4L * chunkCapacity * chunkCapacity) {
+            chunkCapacity *= 2;
+        }
+        chunkCount = (size + chunkCapacity - 1) / chunkCapacity;
+        ensureChunkCapacity(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = chunk * chunkCapacity;
+            counts[chunk] = Math.min(chunkCapacity, size - from);
+            chunks[chunk] = new Object[chunkCapacity];
+            System.arraycopy(source, from, chunks[chunk], 0, counts[chunk]);
+        }
+        rebuildIndex();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        long location = locate(index);
+        return (E) chunks[(int) (location >>> 32)][(int) location];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index, size);
+        long location = locate(index);
+        Object[] chunk = chunks[(int) (location >>> 32)];
+        E previous = (E) chunk[(int) location];
+        chunk[(int) location] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element) {
+        int last = chunkCount - 1;
+        if (last < 0 || counts[last] == chunkCapacity) {
+            appendChunk();
+            last++;
+        }
+        chunks[last][counts[last]++] = element;
+        updateIndex(last, 1);
+        size++;
+        modCount++;
+        adjustChunkCapacity();
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        long location = locate(index);
+        int chunk = (int) (location >>> 32);
+        int offset = (int) location;
+        if (offset == 0 && chunk > 0 && counts[chunk - 1] < chunkCapacity) {
+            // Вставка на границе блоков: дописываем в конец предыдущего блока без сдвига
+            chunk--;
+            offset = counts[chunk];
+        } else if (counts[chunk] == chunkCapacity) {
+            split(chunk);
+            if (offset > counts[chunk]) {
+                offset -= counts[chunk];
+                chunk++;
+            }
+        }
+        Object[] target = chunks[chunk];
+        System.arraycopy(target, offset, target, offset + 1, counts[chunk] - offset);
+        target[offset] = element;
+        counts[chunk]++;
+        updateIndex(chunk, 1);
+        size++;
+        modCount++;
+        adjustChunkCapacity();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index, size);
+        long location = locate(index);
+        int chunk = (int) (location >>> 32);
+        int offset = (int) location;
+        Object[] target = chunks[chunk];
+        E removed = (E) target[offset];
+        System.arraycopy(target, offset + 1, target, offset, counts[chunk] - offset - 1);
+        target[--counts[chunk]] = null;
+        size--;
+        modCount++;
+        if (counts[chunk] == 0) {
+            removeChunk(chunk);
+        } else if (chunk + 1 < chunkCount && counts[chunk] + counts[chunk + 1] <= chunkCapacity / 2) {
+            merge(chunk);
+        } else if (chunk > 0 && counts[chunk - 1] + counts[chunk] <= chunkCapacity / 2) {
+            merge(chunk - 1);
+        } else {
+            updateIndex(chunk, -1);
+        }
+        adjustChunkCapacity();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        chunks = new Object[4][];
+        counts = new int[4];
+        tree = new int[5];
+        chunkCount = 0;
+        size = 0;
+        if (adaptive) {
+            chunkCapacity = DEFAULT_CHUNK_CAPACITY;
+        }
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает количество блоков.
+     *
+     * @return количество блоков
+     */
+    int chunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Возвращает текущую емкость блока.
+     *
+     * @return емкость блока
+     */
+    int chunkCapacity() {
+        return chunkCapacity;
+    }
+
+    /**
+     * Находит блок и смещение в нем для индекса спуском по дереву Фенвика.
+     *
+     * @param index индекс элемента, меньший размера списка
+     * @return номер блока в старших 32 битах и смещение в младших
+     */
+    private long locate(int index) {
+        int position = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(chunkCount); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= chunkCount && tree[next] <= remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return ((long) position << 32) | remaining;
+    }
+
+    /**
+     * Изменяет количество элементов блока в индексе.
+     *
+     * @param chunk номер блока
+     * @param delta изменение количества элементов
+     */
+    private void updateIndex(int chunk, int delta) {
+        for (int i = chunk + 1; i <= chunkCount; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Возвращает количество элементов в первых блоках.
+     *
+     * @param chunkLimit количество блоков
+     * @return суммарное количество элементов
+     */
+    private int prefix(int chunkLimit) {
+        int sum = 0;
+        for (int i = chunkLimit; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Перестраивает индекс по количествам элементов в блоках за O(число блоков).
+     */
+    private void rebuildIndex() {
+        for (int i = 1; i <= chunkCount; i++) {
+            tree[i] = counts[i - 1];
+        }
+        for (int i = 1; i <= chunkCount; i++) {
+            int parent = i + (i & -i);
+            if (parent <= chunkCount) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Добавляет пустой блок в конец. Узел индекса нового блока вычисляется
+     * по уже построенным узлам за O(log(число блоков)).
+     */
+    private void appendChunk() {
+        ensureChunkCapacity(chunkCount + 1);
+        chunks[chunkCount] = new Object[chunkCapacity];
+        counts[chunkCount] = 0;
+        chunkCount++;
+        int node = chunkCount;
+        tree[node] = prefix(node - 1) - prefix(node - (node & -node));
+    }
+
+    /**
+     * Разбивает заполненный блок пополам, вставляя вторую половину новым блоком.
+     *
+     * @param chunk номер блока
+     */
+    private void split(int chunk) {
+        ensureChunkCapacity(chunkCount + 1);
+        System.arraycopy(chunks, chunk + 1, chunks, chunk + 2, chunkCount - chunk - 1);
+        System.arraycopy(counts, chunk + 1, counts, chunk + 2, chunkCount - chunk - 1);
+        int half = counts[chunk] / 2;
+        Object[] upper = new Object[chunkCapacity];
+        System.arraycopy(chunks[chunk], half, upper, 0, counts[chunk] - half);
+        Arrays.fill(chunks[chunk], half, counts[chunk], null);
+        chunks[chunk + 1] = upper;
+        counts[chunk + 1] = counts[chunk] - half;
+        counts[chunk] = half;
+        chunkCount++;
+        rebuildIndex();
+    }
+
+    /**
+     * Объединяет блок со следующим.
+     *
+     * @param chunk номер первого из объединяемых блоков
+     */
+    private void merge(int chunk) {
+        System.arraycopy(chunks[chunk + 1], 0, chunks[chunk], counts[chunk], counts[chunk + 1]);
+        counts[chunk] += counts[chunk + 1];
+        counts[chunk + 1] = 0;
+        removeChunk(chunk + 1);
+    }
+
+    /**
+     * Удаляет блок и перестраивает индекс.
+     *
+     * @param chunk номер блока
+     */
+    private void removeChunk(int chunk) {
+        System.arraycopy(chunks, chunk + 1, chunks, chunk, chunkCount - chunk - 1);
+        System.arraycopy(counts, chunk + 1, counts, chunk, chunkCount - chunk - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+        counts[chunkCount] = 0;
+        tree[chunkCount + 1] = 0;
+        rebuildIndex();
+    }
+
+    /**
+     * Удваивает или уменьшает вдвое емкость блока, если размер списка вышел
+     * за пределы [B² / 4, 4B²].
+     */
+    private void adjustChunkCapacity() {
+        if (!adaptive) {
+            return;
+        }
+        long square = (long) chunkCapacity * chunkCapacity;
+        if (size > 4 * square) {
+            repartition(chunkCapacity * 2);
+        } else if (chunkCapacity > DEFAULT_CHUNK_CAPACITY && size < square / 4) {
+            repartition(chunkCapacity / 2);
+        }
+    }
+
+    /**
+     * Переносит элементы в заполненные блоки новой емкости и перестраивает индекс.
+     *
+     * @param capacity новая емкость блока
+     */
+    private void repartition(int capacity) {
+        Object[][] oldChunks = chunks;
+        int[] oldCounts = counts;
+        int oldChunkCount = chunkCount;
+        int newChunkCount = (size + capacity - 1) / capacity;
+        int length = Math.max(4, newChunkCount);
+        chunks = new Object[length][];
+        counts = new int[length];
+        tree = new int[length + 1];
+        chunkCapacity = capacity;
+        int target = 0;
+        for (int chunk = 0; chunk < oldChunkCount; chunk++) {
+            int copied = 0;
+            while (copied < oldCounts[chunk]) {
+                if (chunks[target] == null) {
+                    chunks[target] = new Object[capacity];
+                }
+                int moved = Math.min(oldCounts[chunk] - copied, capacity - counts[target]);
+                System.arraycopy(oldChunks[chunk], copied, chunks[target], counts[target], moved);
+                counts[target] += moved;
+                copied += moved;
+                if (counts[target] == capacity) {
+                    target++;
+                }
+            }
+        }
+        chunkCount = newChunkCount;
+        rebuildIndex();
+    }
+
+    /**
+     * Обеспечивает место для указанного количества блоков.
+     *
+     * @param minChunks минимальное количество блоков
+     */
+    private void ensureChunkCapacity(int minChunks) {
+        if (minChunks > chunks.length) {
+            int capacity = Math.max(minChunks, chunks.length * 2);
+            chunks = Arrays.copyOf(chunks, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            tree = Arrays.copyOf(tree, capacity + 1);
+        }
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Индекс: " + index + ", размер: " + bound);
+        }
+    }
+}
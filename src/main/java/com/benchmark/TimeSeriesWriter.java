@@ -0,0 +1,92 @@
+package com.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Запись временного ряда в файл по мере получения строк в формате CSV
+ * или JSON Lines. Форматы совпадают с {@link CsvResultSink} и
+ * {@link JsonLinesResultSink}; после каждой строки буфер сбрасывается
+ * на диск, поэтому при прерывании длительного прогона записанные
+ * интервалы сохраняются.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+final class TimeSeriesWriter implements Closeable {
+    private final BufferedWriter writer;
+    private final boolean json;
+    private boolean headerWritten;
+
+    private TimeSeriesWriter(Path path, boolean json) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        this.json = json;
+    }
+
+    /**
+     * Открывает файл по описанию вида {@code csv:soak.csv} или {@code jsonl:soak.jsonl},
+     * перезаписывая его.
+     *
+     * @param spec формат и путь через двоеточие
+     * @return открытый файл
+     * @throws IOException если файл не удалось открыть
+     * @throws IllegalArgumentException если формат неизвестен или описание имеет неверный вид
+     */
+    static TimeSeriesWriter open(String spec) throws IOException {
+        int separator = spec.indexOf(':');
+        if (separator <= 0 || separator == spec.trim().length() - 1) {
+            throw new IllegalArgumentException("Ожидается формат:путь, получено: " + spec.trim());
+        }
+        String format = spec.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+        Path path = Paths.get(spec.substring(separator + 1).trim());
+        switch (format) {
+            case "csv":
+                return new TimeSeriesWriter(path, false);
+            case "jsonl":
+                return new TimeSeriesWriter(path, true);
+            default:
+                throw new IllegalArgumentException("Неизвестный формат временного ряда: " + format);
+        }
+    }
+
+    /**
+     * Записывает строку временного ряда. Набор и порядок полей должны
+     * совпадать во всех строках файла CSV.
+     *
+     * @param fields значения полей, индексированные названием поля
+     * @throws IOException если запись не удалась
+     */
+    void write(Map<String, Object> fields) throws IOException {
+        if (json) {
+            writer.write(JsonLinesResultSink.toJson(fields));
+        } else {
+            if (!headerWritten) {
+                writer.write(String.join(",", fields.keySet()));
+                writer.newLine();
+                headerWritten = true;
+            }
+            StringBuilder line = new StringBuilder();
+            for (Object value : fields.values()) {
+                if (line.length() > 0) {
+                    line.append(',');
+                }
+                line.append(CsvResultSink.escape(String.valueOf(value)));
+            }
+            writer.write(line.toString());
+        }
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,134 @@
+package com.benchmark;
+
+/**
+ * Выполняет многократные измерения одной операции над списком.
+ * Сначала выполняется заданное число прогревочных прогонов, результаты
+ * которых отбрасываются, затем заданное число измеряемых прогонов.
+ * Итоговый {@link Result} содержит полное распределение времен в виде
+ * объекта {@link Statistics}, а в качестве времени выполнения — медиану.
+ * Выделенная память усредняется по измеряемым прогонам, а количество
+ * и время сборок мусора суммируются по всем измеряемым прогонам.
+ * <p>
+ * Если задан профилировщик {@link CellProfiler}, измеряемые прогоны
+ * выполняются внутри одного сеанса профилирования, а его сводка
+ * добавляется в результат. В режиме задержек ({@link LatencyRecorder})
+ * задержки операций всех измеряемых прогонов собираются в одну гистограмму,
+ * сводка которой также добавляется в результат.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class TrialRunner {
+    private final int warmupTrials;
+    private final int measuredTrials;
+    private final CellProfiler profiler;
+
+    /**
+     * Создает исполнитель повторных измерений с профилировщиком,
+     * заданным системным свойством {@code benchmark.profile}.
+     *
+     * @param warmupTrials количество прогревочных прогонов (может быть 0)
+     * @param measuredTrials количество измеряемых прогонов
+     * @throws IllegalArgumentException если количество прогонов некорректно
+     */
+    public TrialRunner(int warmupTrials, int measuredTrials) {
+        this(warmupTrials, measuredTrials, CellProfiler.configured());
+    }
+
+    /**
+     * Создает исполнитель повторных измерений.
+     *
+     * @param warmupTrials количество прогревочных прогонов (может быть 0)
+     * @param measuredTrials количество измеряемых прогонов
+     * @param profiler профилировщик измеряемых прогонов
+     * @throws IllegalArgumentException если количество прогонов некорректно
+     */
+    public TrialRunner(int warmupTrials, int measuredTrials, CellProfiler profiler) {
+        if (warmupTrials < 0 || measuredTrials < 1) {
+            throw new IllegalArgumentException("Некорректное количество прогонов: прогрев "
+                    + warmupTrials + ", измерения " + measuredTrials);
+        }
+        this.warmupTrials = warmupTrials;
+        this.measuredTrials = measuredTrials;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Выполняет прогрев и серию измерений операции.
+     *
+     * @param <L> тип тестируемого списка
+     * @param measurement измеряемая операция, например {@code Benchmark::testAdd}
+     * @param list список, на основе типа которого создаются тестовые списки
+     * @param operationsCount количество операций в одном прогоне
+     * @return результат с распределением времен выполнения
+     */
+    public <L> Result run(Measurement<L> measurement, L list, int operationsCount) {
+        boolean latencyMode = LatencyRecorder.isEnabled();
+        if (latencyMode) {
+            // Прогрев выполняет тот же код, что и измерения, но задержки отбрасываются
+            LatencyRecorder.start(new LatencyHistogram());
+        }
+        try {
+            for (int i = 0; i < warmupTrials; i++) {
+                measurement.measure(list, operationsCount);
+            }
+        } finally {
+            LatencyRecorder.stop();
+        }
+
+        long[] samples = new long[measuredTrials];
+        long allocatedBytes = 0;
+        long gcCount = 0;
+        long gcTimeMillis = 0;
+        Result last = null;
+        LatencyHistogram latency = latencyMode ? new LatencyHistogram() : null;
+        CellProfiler.Session session = null;
+        CellProfile profile = CellProfile.EMPTY;
+        if (latency != null) {
+            LatencyRecorder.start(latency);
+        }
+        try {
+            if (profiler.isEnabled()) {
+                session = profiler.start(list.getClass());
+            }
+            for (int i = 0; i < measuredTrials; i++) {
+                last = measurement.measure(list, operationsCount);
+                samples[i] = last.getExecutionTime();
+                allocatedBytes = allocatedBytes < 0 || last.getAllocatedBytes() < 0
+                        ? -1
+                        : allocatedBytes + last.getAllocatedBytes();
+                gcCount += last.getGcCount();
+                gcTimeMillis += last.getGcTimeMillis();
+            }
+        } finally {
+            LatencyRecorder.stop();
+            // Сеанс останавливается и при исключении, иначе запись JFR
+            // и счетчики perf продолжили бы работать после ячейки
+            if (session != null) {
+                profile = session.stop((long) operationsCount * measuredTrials);
+            }
+        }
+
+        return last.withStatistics(new Statistics(samples))
+                .withResourceUsage(allocatedBytes < 0 ? -1 : allocatedBytes / measuredTrials,
+                        gcCount, gcTimeMillis)
+                .withProfile(profile)
+                .withLatency(latency != null
+                        ? LatencyRecorder.summarize(latency, last.getOperationType())
+                        : LatencySummary.EMPTY);
+    }
+
+    /**
+     * Возвращает количество прогревочных прогонов.
+     *
+     * @return количество прогревочных прогонов
+     */
+    public int getWarmupTrials() { return warmupTrials; }
+
+    /**
+     * Возвращает количество измеряемых прогонов.
+     *
+     * @return количество измеряемых прогонов
+     */
+    public int getMeasuredTrials() { return measuredTrials; }
+}
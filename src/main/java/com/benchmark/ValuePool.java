@@ -0,0 +1,67 @@
+package com.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Общий пул заранее упакованных значений {@code Integer} от 0 до n - 1.
+ * Используется в измерениях {@link StructureBenchmark}, чтобы в измеряемом
+ * участке не выполнялась упаковка: {@link Integer#valueOf(int)} кэширует
+ * только значения от -128 до 127, а остальные значения выделяются заново
+ * при каждом вызове.
+ * <p>
+ * Пул растет по мере необходимости и не уменьшается до вызова {@link #release()};
+ * его объекты живут все время выполнения матрицы измерений, поэтому не создают
+ * нагрузки на сборщик мусора между измерениями. {@link ExecutionEngine}
+ * освобождает пул после выполнения матрицы, чтобы значения не оставались
+ * в куче при последующих измерениях.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public final class ValuePool {
+
+    private static Integer[] values = new Integer[0];
+
+    private ValuePool() {
+    }
+
+    /**
+     * Возвращает массив упакованных значений, в котором элемент с индексом
+     * {@code i} равен {@code i}. Массив общий для всех вызовов и не должен изменяться.
+     *
+     * @param count минимальное количество значений
+     * @return массив длиной не меньше {@code count}
+     * @throws IllegalArgumentException если количество отрицательно
+     */
+    public static synchronized Integer[] boxed(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Количество значений не может быть отрицательным: " + count);
+        }
+        if (values.length < count) {
+            int previous = values.length;
+            Integer[] grown = Arrays.copyOf(values, Math.max(count, previous * 2));
+            for (int i = previous; i < grown.length; i++) {
+                grown[i] = i;
+            }
+            values = grown;
+        }
+        return values;
+    }
+
+    /**
+     * Освобождает пул. Массивы, полученные ранее, остаются корректными,
+     * следующий вызов {@link #boxed(int)} создает значения заново.
+     */
+    public static synchronized void release() {
+        values = new Integer[0];
+    }
+
+    /**
+     * Возвращает текущее количество значений в пуле.
+     *
+     * @return количество значений
+     */
+    static synchronized int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,188 @@
+package com.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Описание смешанной нагрузки на список: доли операций, позиции, к которым
+ * они обращаются, распределение случайных индексов и начальное значение
+ * генератора. Задается строкой, например:
+ * <pre>
+ * 70% get random, 20% add tail, 10% remove middle, zipf 0.99, seed 42
+ * </pre>
+ * Элементы строки разделяются запятыми:
+ * <ul>
+ *   <li>{@code N% операция позиция} — доля операции в процентах; операции
+ *       {@code get}, {@code add}, {@code remove}, {@code set}; позиции
+ *       {@code head}, {@code tail}, {@code middle}, {@code random};</li>
+ *   <li>{@code uniform} или {@code zipf S} — распределение позиций {@code random}
+ *       (равномерное или Ципфа с параметром 0 &lt;= S &lt; 1, горячие элементы
+ *       в начале списка);</li>
+ *   <li>{@code seed N} — начальное значение генератора случайных чисел;</li>
+ *   <li>{@code initial N} — начальный размер списка (по умолчанию равен
+ *       количеству операций).</li>
+ * </ul>
+ * Сумма долей операций должна быть равна 100%.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class WorkloadSpec {
+
+    /**
+     * Операция над списком.
+     */
+    public enum Operation { GET, ADD, REMOVE, SET }
+
+    /**
+     * Позиция в списке, к которой обращается операция.
+     */
+    public enum Position { HEAD, TAIL, MIDDLE, RANDOM }
+
+    /**
+     * Доля одной операции в нагрузке.
+     */
+    public static final class Mix {
+        private final int percent;
+        private final Operation operation;
+        private final Position position;
+
+        Mix(int percent, Operation operation, Position position) {
+            this.percent = percent;
+            this.operation = operation;
+            this.position = position;
+        }
+
+        /**
+         * Возвращает долю операции в процентах.
+         *
+         * @return доля в процентах
+         */
+        public int getPercent() { return percent; }
+
+        /**
+         * Возвращает операцию.
+         *
+         * @return операция
+         */
+        public Operation getOperation() { return operation; }
+
+        /**
+         * Возвращает позицию операции.
+         *
+         * @return позиция
+         */
+        public Position getPosition() { return position; }
+    }
+
+    /**
+     * Нагрузка по умолчанию для сценария "mixed".
+     */
+    public static final String DEFAULT =
+            "70% get random, 20% add tail, 10% remove middle, zipf 0.99, seed 42";
+
+    private final String text;
+    private final List<Mix> mix;
+    private final double zipfExponent;
+    private final long seed;
+    private final int initialSize;
+
+    private WorkloadSpec(String text, List<Mix> mix, double zipfExponent, long seed, int initialSize) {
+        this.text = text;
+        this.mix = Collections.unmodifiableList(mix);
+        this.zipfExponent = zipfExponent;
+        this.seed = seed;
+        this.initialSize = initialSize;
+    }
+
+    /**
+     * Разбирает описание нагрузки.
+     *
+     * @param text описание нагрузки
+     * @return описание нагрузки
+     * @throws IllegalArgumentException если описание имеет неверный формат,
+     *         сумма долей не равна 100% или параметр Ципфа вне [0, 1)
+     */
+    public static WorkloadSpec parse(String text) {
+        List<Mix> mix = new ArrayList<>();
+        double zipfExponent = 0;
+        long seed = 42;
+        int initialSize = -1;
+        int total = 0;
+
+        for (String clause : text.split(",")) {
+            String[] tokens = clause.trim().toLowerCase(Locale.ROOT).split("\\s+");
+            try {
+                if (tokens[0].endsWith("%") && tokens.length == 3) {
+                    int percent = Integer.parseInt(tokens[0].substring(0, tokens[0].length() - 1));
+                    if (percent < 0) {
+                        throw new IllegalArgumentException("Отрицательная доля: " + clause.trim());
+                    }
+                    total += percent;
+                    mix.add(new Mix(percent,
+                            Operation.valueOf(tokens[1].toUpperCase(Locale.ROOT)),
+                            Position.valueOf(tokens[2].toUpperCase(Locale.ROOT))));
+                } else if (tokens[0].equals("uniform") && tokens.length == 1) {
+                    zipfExponent = 0;
+                } else if (tokens[0].equals("zipf") && tokens.length == 2) {
+                    zipfExponent = Double.parseDouble(tokens[1]);
+                } else if (tokens[0].equals("seed") && tokens.length == 2) {
+                    seed = Long.parseLong(tokens[1]);
+                } else if (tokens[0].equals("initial") && tokens.length == 2) {
+                    initialSize = Integer.parseInt(tokens[1]);
+                } else {
+                    throw new IllegalArgumentException("Неизвестный элемент нагрузки: " + clause.trim());
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Неверное число в элементе нагрузки: " + clause.trim(), e);
+            }
+        }
+        if (total != 100) {
+            throw new IllegalArgumentException("Сумма долей операций должна быть 100%, получено " + total + "%");
+        }
+        if (!(zipfExponent >= 0 && zipfExponent < 1)) {
+            // Генератор Грея и др. определен только при 0 < S < 1
+            throw new IllegalArgumentException(
+                    "Параметр распределения Ципфа должен быть в диапазоне [0, 1), получено " + zipfExponent);
+        }
+        return new WorkloadSpec(text, mix, zipfExponent, seed, initialSize);
+    }
+
+    /**
+     * Возвращает доли операций в порядке описания.
+     *
+     * @return доли операций
+     */
+    public List<Mix> getMix() { return mix; }
+
+    /**
+     * Возвращает параметр распределения Ципфа для позиций {@code random}.
+     *
+     * @return параметр распределения; 0 означает равномерное распределение
+     */
+    public double getZipfExponent() { return zipfExponent; }
+
+    /**
+     * Возвращает начальное значение генератора случайных чисел.
+     *
+     * @return начальное значение
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Возвращает начальный размер списка.
+     *
+     * @param operationsCount количество операций нагрузки
+     * @return начальный размер; если он не задан, равен количеству операций
+     */
+    public int getInitialSize(int operationsCount) {
+        return initialSize >= 0 ? initialSize : operationsCount;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,177 @@
+package com.benchmark;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Заранее сгенерированная последовательность операций смешанной нагрузки.
+ * Генерация случайных чисел и вычисление индексов выполняются до измерения,
+ * поэтому при воспроизведении в {@link Benchmark#testMixed(List, WorkloadTrace)}
+ * измеряются только операции над списком. Индексы вычисляются с учетом того,
+ * как добавления и удаления меняют размер списка, поэтому одна и та же
+ * последовательность корректна для любой реализации.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+public class WorkloadTrace {
+    private final WorkloadSpec.Operation[] operations;
+    private final int[] indices;
+    private final int initialSize;
+
+    private WorkloadTrace(WorkloadSpec.Operation[] operations, int[] indices, int initialSize) {
+        this.operations = operations;
+        this.indices = indices;
+        this.initialSize = initialSize;
+    }
+
+    /**
+     * Генерирует последовательность операций по описанию нагрузки.
+     * Операции чтения, изменения и удаления над пустым списком заменяются
+     * добавлением в конец.
+     *
+     * @param spec описание нагрузки
+     * @param operationsCount количество операций
+     * @return последовательность операций
+     */
+    public static WorkloadTrace generate(WorkloadSpec spec, int operationsCount) {
+        Random random = new Random(spec.getSeed());
+        int initialSize = spec.getInitialSize(operationsCount);
+        ZipfGenerator zipf = spec.getZipfExponent() > 0
+                ? new ZipfGenerator(initialSize + operationsCount, spec.getZipfExponent())
+                : null;
+
+        WorkloadSpec.Operation[] operations = new WorkloadSpec.Operation[operationsCount];
+        int[] indices = new int[operationsCount];
+        int size = initialSize;
+        for (int i = 0; i < operationsCount; i++) {
+            WorkloadSpec.Mix mix = choose(spec.getMix(), random.nextInt(100));
+            WorkloadSpec.Operation operation = mix.getOperation();
+            WorkloadSpec.Position position = mix.getPosition();
+            if (operation != WorkloadSpec.Operation.ADD && size == 0) {
+                operation = WorkloadSpec.Operation.ADD;
+                position = WorkloadSpec.Position.TAIL;
+            }
+            // Добавление допускает индекс, равный размеру списка
+            int bound = operation == WorkloadSpec.Operation.ADD ? size + 1 : size;
+            int index;
+            switch (position) {
+                case HEAD:
+                    index = 0;
+                    break;
+                case TAIL:
+                    index = bound - 1;
+                    break;
+                case MIDDLE:
+                    index = size / 2;
+                    break;
+                default:
+                    index = zipf != null ? (int) (zipf.next(random) % bound) : random.nextInt(bound);
+                    break;
+            }
+            operations[i] = operation;
+            indices[i] = index;
+            if (operation == WorkloadSpec.Operation.ADD) {
+                size++;
+            } else if (operation == WorkloadSpec.Operation.REMOVE) {
+                size--;
+            }
+        }
+        return new WorkloadTrace(operations, indices, initialSize);
+    }
+
+    /**
+     * Выбирает долю операции по случайному проценту.
+     *
+     * @param mix доли операций
+     * @param percent случайный процент от 0 до 99
+     * @return выбранная доля
+     */
+    private static WorkloadSpec.Mix choose(List<WorkloadSpec.Mix> mix, int percent) {
+        int cumulative = 0;
+        for (WorkloadSpec.Mix candidate : mix) {
+            cumulative += candidate.getPercent();
+            if (percent < cumulative) {
+                return candidate;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    /**
+     * Возвращает количество операций в последовательности.
+     *
+     * @return количество операций
+     */
+    public int size() { return operations.length; }
+
+    /**
+     * Возвращает операцию с указанным номером.
+     *
+     * @param i номер операции
+     * @return операция
+     */
+    public WorkloadSpec.Operation getOperation(int i) { return operations[i]; }
+
+    /**
+     * Возвращает индекс в списке, к которому обращается операция с указанным номером.
+     *
+     * @param i номер операции
+     * @return индекс в списке
+     */
+    public int getIndex(int i) { return indices[i]; }
+
+    /**
+     * Возвращает размер, до которого заполняется список перед воспроизведением.
+     *
+     * @return начальный размер списка
+     */
+    public int getInitialSize() { return initialSize; }
+
+    /**
+     * Генератор рангов с распределением Ципфа по методу Грея и др.
+     * ("Quickly Generating Billion-Record Synthetic Databases"): после
+     * вычисления дзета-функции за O(n) каждое значение генерируется за O(1).
+     * Ранг 0 — самый частый. Формула верна только при 0 &lt; theta &lt; 1;
+     * остальные значения отклоняет {@link WorkloadSpec#parse(String)}.
+     */
+    private static final class ZipfGenerator {
+        private final long items;
+        private final double theta;
+        private final double alpha;
+        private final double zetaN;
+        private final double eta;
+
+        ZipfGenerator(long items, double exponent) {
+            this.theta = exponent;
+            this.items = Math.max(1, items);
+            this.alpha = 1.0 / (1.0 - theta);
+            this.zetaN = zeta(this.items, theta);
+            double zeta2 = zeta(Math.min(2, this.items), theta);
+            this.eta = this.items > 1
+                    ? (1 - Math.pow(2.0 / this.items, 1 - theta)) / (1 - zeta2 / zetaN)
+                    : 0;
+        }
+
+        long next(Random random) {
+            double u = random.nextDouble();
+            double uz = u * zetaN;
+            if (uz < 1.0 || items == 1) {
+                return 0;
+            }
+            if (uz < 1.0 + Math.pow(0.5, theta)) {
+                return 1;
+            }
+            long rank = (long) (items * Math.pow(eta * u - eta + 1, alpha));
+            return Math.min(rank, items - 1);
+        }
+
+        private static double zeta(long n, double theta) {
+            double sum = 0;
+            for (long i = 1; i <= n; i++) {
+                sum += 1 / Math.pow(i, theta);
+            }
+            return sum;
+        }
+    }
+}
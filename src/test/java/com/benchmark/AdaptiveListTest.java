@@ -0,0 +1,218 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link AdaptiveList}.
+ * Проверяет совместимость с {@link List} при сменах представления
+ * и выбор представления для типичных характеров доступа.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class AdaptiveListTest {
+
+    /**
+     * Размер списка в сценариях модели стоимости.
+     */
+    private static final int MODEL_SIZE = 10000;
+
+    /**
+     * Проверяет, что список ведет себя так же, как {@link ArrayList},
+     * при случайных операциях, вызывающих смены представления.
+     */
+    @Test
+    void testMatchesArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        AdaptiveList<Integer> actual = new AdaptiveList<>();
+        Random random = new Random(42);
+
+        for (int phase = 0; phase < 6; phase++) {
+            for (int i = 0; i < 4000; i++) {
+                int operation = random.nextInt(10);
+                int size = expected.size();
+                if (operation < 3 || size == 0) {
+                    int index = phase % 3 == 0 ? size : phase % 3 == 1 ? 0 : random.nextInt(size + 1);
+                    expected.add(index, i);
+                    actual.add(index, i);
+                } else if (operation < 5) {
+                    int index = phase % 3 == 1 ? 0 : random.nextInt(size);
+                    assertEquals(expected.remove(index), actual.remove(index));
+                } else {
+                    int index = random.nextInt(size);
+                    assertEquals(expected.get(index), actual.get(index));
+                }
+            }
+            assertEquals(expected, actual);
+        }
+        actual.add(null);
+        expected.add(null);
+        actual.subList(10, 20).clear();
+        expected.subList(10, 20).clear();
+        assertEquals(expected, actual);
+        assertTrue(actual.getMigrationCount() > 0);
+    }
+
+    /**
+     * Проверяет, что добавление в начало не требует смены представления.
+     */
+    @Test
+    void testHeadOperationsKeepCircular() {
+        AdaptiveList<Integer> list = new AdaptiveList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(0, i);
+        }
+
+        assertEquals(AdaptiveList.Representation.CIRCULAR, list.getRepresentation());
+        assertEquals(0, list.getMigrationCount());
+        assertEquals(0, list.get(9999).intValue());
+    }
+
+    /**
+     * Проверяет, что преобладание чтений переводит список на массив,
+     * а серия изменений в начале сразу возвращает кольцевой буфер.
+     */
+    @Test
+    void testHeadRunLeavesArray() {
+        AdaptiveList<Integer> list = new AdaptiveList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        long sum = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < list.size(); i++) {
+                sum += list.get(i);
+            }
+        }
+        assertEquals(AdaptiveList.Representation.ARRAY, list.getRepresentation());
+        assertNotEquals(0, sum);
+
+        for (int i = 0; i < AdaptiveList.HEAD_RUN; i++) {
+            list.remove(0);
+        }
+        assertEquals(AdaptiveList.Representation.CIRCULAR, list.getRepresentation());
+        assertEquals(2, list.getMigrationCount());
+        assertEquals(AdaptiveList.HEAD_RUN, list.get(0).intValue());
+    }
+
+    /**
+     * Проверяет, что вставки в середину большого списка переводят его на блоки,
+     * а последующее чтение по индексу переводит его на массив.
+     */
+    @Test
+    void testMiddleEditsSelectChunkedAndReadsSelectArray() {
+        AdaptiveList<Integer> list = new AdaptiveList<>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 2000; i++) {
+            list.add(list.size() / 2, -i);
+        }
+        assertEquals(AdaptiveList.Representation.CHUNKED, list.getRepresentation());
+
+        long sum = 0;
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < list.size(); i++) {
+                sum += list.get(i);
+            }
+        }
+        assertEquals(AdaptiveList.Representation.ARRAY, list.getRepresentation());
+        assertNotEquals(0, sum);
+    }
+
+    /**
+     * Проверяет, что добавление в конец и чтение не меняют представление.
+     */
+    @Test
+    void testAppendAndReadKeepCircular() {
+        AdaptiveList<Integer> list = new AdaptiveList<>(16);
+        list.addAll(Arrays.asList(1, 2, 3));
+        for (int i = 0; i < 50000; i++) {
+            list.add(i);
+            list.get(i / 2);
+        }
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(AdaptiveList.Representation.CIRCULAR, list.getRepresentation());
+        assertEquals(0, list.getMigrationCount());
+        assertEquals(50002, list.size());
+    }
+
+    /**
+     * Проверяет, что удаление из начала, как в {@link Benchmark#testDeleteFirst},
+     * не требует смены представления.
+     */
+    @Test
+    void testDeleteFirstKeepsCircular() {
+        AdaptiveList<Integer> list = new AdaptiveList<>();
+        for (int i = 0; i < MODEL_SIZE * 2; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < MODEL_SIZE; i++) {
+            assertEquals(i, list.remove(0).intValue());
+        }
+
+        assertEquals(AdaptiveList.Representation.CIRCULAR, list.getRepresentation());
+        assertEquals(0, list.getMigrationCount());
+    }
+
+    /**
+     * Проверяет, что вставки и удаления в середине, как в
+     * {@link Benchmark#testInsertMiddle} и {@link Benchmark#testRemoveMiddle},
+     * переводят список на блоки одним переходом в первые десятки операций:
+     * до перехода теряется не больше стоимости копирования списка.
+     */
+    @Test
+    void testMiddleEditsMigrateOnceEarly() {
+        AdaptiveList<Integer> insert = new AdaptiveList<>();
+        for (int i = 0; i < MODEL_SIZE; i++) {
+            insert.add(i);
+        }
+        int insertions = operationsUntilMigration(insert, list -> list.add(list.size() / 2, 0));
+        assertTrue(insertions > 0 && insertions <= 32, "переход после " + insertions + " вставок");
+
+        AdaptiveList<Integer> remove = new AdaptiveList<>();
+        for (int i = 0; i < MODEL_SIZE * 2; i++) {
+            remove.add(i);
+        }
+        int removals = operationsUntilMigration(remove, list -> list.remove(list.size() / 2));
+        assertTrue(removals > 0 && removals <= 32, "переход после " + removals + " удалений");
+
+        for (AdaptiveList<Integer> list : Arrays.asList(insert, remove)) {
+            for (int i = 0; i < MODEL_SIZE / 2; i++) {
+                list.add(list.size() / 2, i);
+                list.remove(list.size() / 2);
+            }
+            assertEquals(AdaptiveList.Representation.CHUNKED, list.getRepresentation());
+            assertEquals(1, list.getMigrationCount());
+        }
+    }
+
+    /**
+     * Выполняет операцию, пока список не сменит представление.
+     *
+     * @param list список
+     * @param operation операция над списком
+     * @return количество выполненных операций или -1, если перехода не было
+     */
+    private static int operationsUntilMigration(AdaptiveList<Integer> list, Consumer<AdaptiveList<Integer>> operation) {
+        for (int i = 1; i <= MODEL_SIZE; i++) {
+            operation.accept(list);
+            if (list.getMigrationCount() > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
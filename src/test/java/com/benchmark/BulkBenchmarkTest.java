@@ -0,0 +1,91 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для классов {@link BulkBenchmark} и {@link BulkPerformanceTester}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class BulkBenchmarkTest {
+
+    private static final int TEST_SIZE = 1000;
+
+    /**
+     * Проверяет, что каждая групповая операция выполняется для массива
+     * и связного списка и возвращает результат с названием операции.
+     */
+    @Test
+    void testAllScenarios() {
+        for (Map.Entry<String, Measurement<List<Integer>>> scenario
+                : BulkPerformanceTester.scenarios().entrySet()) {
+            for (List<Integer> list : List.of(new ArrayList<Integer>(), new LinkedList<Integer>())) {
+                Result result = scenario.getValue().measure(list, TEST_SIZE);
+
+                assertEquals(scenario.getKey(), result.getMethodName());
+                assertEquals(list.getClass().getSimpleName(), result.getListType());
+                assertEquals(TEST_SIZE, result.getOperationsCount());
+                assertEquals("bulk", result.getOperationType());
+                assertTrue(result.getExecutionTime() >= 0);
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что групповые операции доступны ячейкам матрицы,
+     * а неподдерживаемые реализацией операции пропускаются.
+     */
+    @Test
+    void testCellLookup() {
+        TrialRunner runner = new TrialRunner(0, 1, CellProfiler.NONE);
+
+        Result result = new BenchmarkCell("parallelStream", "TieredList", TEST_SIZE).execute(runner);
+        assertEquals("parallelStream", result.getMethodName());
+        assertNull(new BenchmarkCell("removeIf", "ChunkedAppendList", TEST_SIZE).execute(runner));
+    }
+
+    /**
+     * Проверяет вывод об окупаемости параллельного потока по значимым различиям.
+     */
+    @Test
+    void testParallelVerdict() {
+        Map<Integer, Result> sequential = new HashMap<>();
+        Map<Integer, Result> parallel = new HashMap<>();
+        sequential.put(1000, stream("stream", 1000, 100));
+        parallel.put(1000, stream("parallelStream", 1000, 400));
+        sequential.put(100000, stream("stream", 100000, 10000));
+        parallel.put(100000, stream("parallelStream", 100000, 2500));
+
+        assertTrue(BulkPerformanceTester.parallelVerdict(sequential, parallel).startsWith("окупается с n ≈ 10000"));
+
+        parallel.put(100000, stream("parallelStream", 100000, 40000));
+        assertEquals("не окупается ни на одном значимом размере",
+                BulkPerformanceTester.parallelVerdict(sequential, parallel));
+
+        parallel.put(1000, stream("parallelStream", 1000, 100));
+        parallel.put(100000, stream("parallelStream", 100000, 10000));
+        assertEquals("нет значимой разницы", BulkPerformanceTester.parallelVerdict(sequential, parallel));
+    }
+
+    /**
+     * Создает результат с узким распределением вокруг заданного времени.
+     *
+     * @param methodName название операции
+     * @param size размер списка
+     * @param nanos время выполнения в наносекундах
+     * @return результат
+     */
+    private static Result stream(String methodName, int size, long nanos) {
+        Statistics statistics = new Statistics(new long[] {nanos - 1, nanos, nanos + 1});
+        return new Result(methodName, "LinkedList", size, statistics, "bulk");
+    }
+}
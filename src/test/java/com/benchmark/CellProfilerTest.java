@@ -0,0 +1,125 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для классов {@link CellProfiler} и {@link CellProfile}.
+ * Проверяет разбор описания источников и вывода {@code perf stat},
+ * передачу сводки между JVM и сбор событий JFR.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class CellProfilerTest {
+
+    /**
+     * Проверяет разбор описания источников профилирования.
+     */
+    @Test
+    void testParse() {
+        assertTrue(CellProfiler.parse("perf, jit").isEnabled());
+        assertTrue(CellProfiler.parse("all").isEnabled());
+        assertSame(CellProfiler.NONE, CellProfiler.parse(""));
+        assertFalse(CellProfiler.NONE.isEnabled());
+        assertThrows(IllegalArgumentException.class, () -> CellProfiler.parse("perf,vtune"));
+    }
+
+    /**
+     * Проверяет разбор вывода {@code perf stat -x ,}, включая модификаторы
+     * событий и неподдерживаемые счетчики.
+     */
+    @Test
+    void testParsePerfOutput() {
+        long[] counters = PerfStat.parse(Arrays.asList(
+                "# started on Thu Jan  1 00:00:00 2026",
+                "",
+                "1200,,cycles:u,1000,100.00,,",
+                "3000,,instructions:u,1000,100.00,2.50,insn per cycle",
+                "40,,L1-dcache-load-misses:u,1000,100.00,,",
+                "<not supported>,,LLC-load-misses:u,0,100.00,,",
+                "7,,branch-misses,1000,100.00,,"));
+
+        assertArrayEquals(new long[] {1200, 3000, 40, -1, 7}, counters);
+    }
+
+    /**
+     * Проверяет вычисление производных величин и восстановление сводки после кодирования.
+     */
+    @Test
+    void testEncodeDecode() {
+        CellProfile profile = new CellProfile.Builder(100)
+                .counters(1000, 2500, 20, -1, 5)
+                .allocations(1600, "java.util.LinkedList$Node")
+                .gc(1, 2_000_000)
+                .jit(2, 300, 0, Arrays.asList("java.util.LinkedList.node@4", "com.benchmark.Benchmark.testGet@4"))
+                .build();
+
+        assertTrue(profile.isPresent());
+        assertEquals(2.5, profile.getInstructionsPerCycle(), 1e-9);
+        assertEquals(10.0, profile.perOperation(profile.getCycles()), 1e-9);
+        assertEquals(-1, profile.perOperation(profile.getLlcMisses()), 1e-9);
+
+        CellProfile decoded = CellProfile.decode(profile.encode());
+        assertEquals(profile.encode(), decoded.encode());
+        assertEquals("java.util.LinkedList$Node", decoded.getTopAllocatedType());
+        assertEquals(profile.getCompiledMethods(), decoded.getCompiledMethods());
+        assertFalse(CellProfile.decode(CellProfile.EMPTY.encode()).isPresent());
+    }
+
+    /**
+     * Проверяет передачу сводки через строку результата дочерней JVM
+     * и чтение строк в прежнем формате без сводки.
+     */
+    @Test
+    void testCellRunnerRoundTrip() {
+        Result result = new Result("get", "LinkedList", 100, 5000, "get")
+                .withProfile(new CellProfile.Builder(100).gc(0, 0).build());
+
+        Result decoded = CellRunner.decode(CellRunner.encode(result));
+        assertEquals(0, decoded.getProfile().getGcPauses());
+
+        String[] fields = CellRunner.encode(result).split("\t");
+        String withProfile = String.join("\t", Arrays.copyOf(fields, 12));
+        assertEquals(0, CellRunner.decode(withProfile).getProfile().getGcPauses());
+        String legacy = String.join("\t", Arrays.copyOf(fields, 11));
+        assertSame(CellProfile.EMPTY, CellRunner.decode(legacy).getProfile());
+        assertEquals(-1, CellRunner.decode(legacy).getStructuralBytes());
+        assertSame(LatencySummary.EMPTY, CellRunner.decode(legacy).getLatency());
+    }
+
+    /**
+     * Проверяет сбор выделений памяти измеряющим потоком по событиям JFR.
+     */
+    @Test
+    void testJfrAllocations() {
+        CellProfiler.Session session = CellProfiler.parse("jfr,jit").start(LinkedList.class);
+        List<int[]> arrays = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            arrays.add(new int[4096]);
+        }
+        CellProfile profile = session.stop(arrays.size());
+
+        assertTrue(profile.getJfrAllocatedBytes() >= 200L * 4096 * 4 / 2,
+                "выделено по JFR: " + profile.getJfrAllocatedBytes());
+        assertTrue(profile.getGcPauses() >= 0);
+        assertTrue(profile.getCompilations() >= 0);
+        assertEquals(-1, profile.getCycles());
+    }
+
+    /**
+     * Проверяет отнесение методов к измеряемым классам с учетом вложенных классов.
+     */
+    @Test
+    void testIsTimed() {
+        assertTrue(JfrProbe.isTimed("java.util.LinkedList$Node", Collections.singleton("java.util.LinkedList")));
+        assertFalse(JfrProbe.isTimed("java.util.ArrayList", Collections.singleton("java.util.LinkedList")));
+    }
+}
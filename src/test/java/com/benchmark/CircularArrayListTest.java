@@ -0,0 +1,127 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для классов {@link CircularArrayList} и {@link GapBufferList}.
+ * Сравнивает поведение со списком {@link ArrayList} на случайной
+ * последовательности операций и проверяет особенности каждой структуры.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class CircularArrayListTest {
+
+    /**
+     * Проверяет, что кольцевой список ведет себя так же, как {@link ArrayList}.
+     */
+    @Test
+    void testCircularMatchesArrayList() {
+        assertMatchesArrayList(new CircularArrayList<>(2));
+    }
+
+    /**
+     * Проверяет, что список с разрывом ведет себя так же, как {@link ArrayList}.
+     */
+    @Test
+    void testGapBufferMatchesArrayList() {
+        assertMatchesArrayList(new GapBufferList<>(2));
+    }
+
+    /**
+     * Проверяет работу на обоих концах кольцевого буфера с переходом через границу массива.
+     */
+    @Test
+    void testCircularWrapAround() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(8);
+        for (int i = 0; i < 6; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 4; i++) {
+            list.remove(0);
+            list.add(0, -i);
+            list.remove(0);
+            list.add(10 + i);
+        }
+
+        assertEquals(8, list.capacity());
+        assertEquals(Arrays.asList(4, 5, 10, 11, 12, 13), list);
+        assertArrayEquals(new Object[] {4, 5, 10, 11, 12, 13}, list.toArray());
+        assertArrayEquals(new Integer[] {4, 5, 10, 11, 12, 13}, list.toArray(new Integer[0]));
+    }
+
+    /**
+     * Проверяет, что разрыв остается на месте последнего изменения.
+     */
+    @Test
+    void testGapFollowsEdits() {
+        GapBufferList<String> list = new GapBufferList<>(Arrays.asList("a", "b", "c", "d"));
+        list.add(2, "x");
+        list.add(3, "y");
+        list.remove(1);
+
+        assertEquals(Arrays.asList("a", "x", "y", "c", "d"), list);
+        assertEquals(1, list.gapPosition());
+    }
+
+    /**
+     * Проверяет поддержку null, итераторов с быстрым отказом и подсписков.
+     */
+    @Test
+    void testListContract() {
+        for (List<String> list : Arrays.<List<String>>asList(new CircularArrayList<>(), new GapBufferList<>())) {
+            list.addAll(Arrays.asList("a", null, "c"));
+            assertEquals(1, list.indexOf(null));
+            list.subList(0, 2).clear();
+            assertEquals(Arrays.asList("c"), list);
+
+            Iterator<String> iterator = list.iterator();
+            list.add("d");
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, "e"));
+        }
+    }
+
+    /**
+     * Выполняет одинаковую случайную последовательность операций над списком
+     * и {@link ArrayList} и сравнивает результаты.
+     *
+     * @param actual проверяемый список
+     */
+    private static void assertMatchesArrayList(List<Integer> actual) {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 4 || expected.isEmpty()) {
+                int index = random.nextBoolean() ? random.nextInt(expected.size() + 1)
+                        : (random.nextBoolean() ? 0 : expected.size());
+                expected.add(index, i);
+                actual.add(index, i);
+            } else if (operation < 7) {
+                int index = random.nextBoolean() ? random.nextInt(expected.size())
+                        : (random.nextBoolean() ? 0 : expected.size() - 1);
+                assertEquals(expected.remove(index), actual.remove(index));
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), actual.set(index, -i));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), actual.get(index));
+            }
+        }
+        assertEquals(expected, actual);
+        actual.clear();
+        assertTrue(actual.isEmpty());
+    }
+}
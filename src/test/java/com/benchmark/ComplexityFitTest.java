@@ -0,0 +1,85 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для подбора сложности {@link ComplexityFit} и вспомогательных
+ * вычислений {@link SizeSweepTester}: последовательности размеров,
+ * оценки времени прогона и размера пересечения.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class ComplexityFitTest {
+
+    private static final int[] SIZES = {100, 1000, 10000, 100000};
+
+    /**
+     * Проверяет, что для точных данных каждой модели выбирается эта модель
+     * с верным постоянным множителем.
+     */
+    @Test
+    void testFitsExactModels() {
+        for (ComplexityFit.Model model : ComplexityFit.Model.values()) {
+            double[] times = new double[SIZES.length];
+            for (int i = 0; i < SIZES.length; i++) {
+                times[i] = 3 * model.apply(SIZES[i]);
+            }
+            ComplexityFit fit = ComplexityFit.fit(SIZES, times);
+
+            assertEquals(model, fit.getModel());
+            assertEquals(3, fit.getConstant(), 1e-6);
+            assertEquals(0, fit.getError(), 1e-9);
+            assertEquals(3 * model.apply(500), fit.predict(500), 1e-6);
+        }
+    }
+
+    /**
+     * Проверяет выбор линейной модели при зашумленных данных.
+     */
+    @Test
+    void testFitsNoisyLinear() {
+        double[] times = {0.12 * 100, 0.09 * 1000, 0.11 * 10000, 0.1 * 100000};
+
+        assertEquals(ComplexityFit.Model.LINEAR, ComplexityFit.fit(SIZES, times).getModel());
+        assertThrows(IllegalArgumentException.class, () -> ComplexityFit.fit(new int[0], new double[0]));
+    }
+
+    /**
+     * Проверяет формирование геометрической последовательности размеров.
+     */
+    @Test
+    void testGeometricSizes() {
+        assertArrayEquals(new int[] {100, 1000, 10000, 100000, 1000000, 10000000},
+                SizeSweepTester.parseSweep("100:10000000:10"));
+        assertArrayEquals(new int[] {1, 2, 4, 8}, SizeSweepTester.geometricSizes(1, 10, 2));
+        assertThrows(IllegalArgumentException.class, () -> SizeSweepTester.parseSweep("100:10"));
+        assertThrows(IllegalArgumentException.class, () -> SizeSweepTester.geometricSizes(100, 10, 10));
+    }
+
+    /**
+     * Проверяет экстраполяцию времени прогона на следующий размер.
+     */
+    @Test
+    void testPredictTrialNanos() {
+        int[] sizes = {100, 1000, 0};
+        double[] linear = {1000, 10000, 0};
+        double[] quadratic = {1000, 100000, 0};
+
+        assertEquals(0, SizeSweepTester.predictTrialNanos(sizes, linear, 0, 100), 1e-9);
+        assertEquals(100000, SizeSweepTester.predictTrialNanos(sizes, linear, 1, 1000), 1e-6);
+        assertEquals(100000, SizeSweepTester.predictTrialNanos(sizes, linear, 2, 10000), 1e-6);
+        assertEquals(10000000, SizeSweepTester.predictTrialNanos(sizes, quadratic, 2, 10000), 1e-3);
+    }
+
+    /**
+     * Проверяет оценку размера, при котором реализации меняются местами.
+     */
+    @Test
+    void testCrossoverSize() {
+        // Отношение падает с 2 до 0.5 на интервале от 100 до 10000: пересечение в середине по логарифму
+        assertEquals(1000, SizeSweepTester.crossoverSize(100, 2, 10000, 0.5), 1e-6);
+    }
+}
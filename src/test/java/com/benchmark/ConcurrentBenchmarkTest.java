@@ -0,0 +1,180 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link ConcurrentBenchmark} и потокобезопасных
+ * реализаций {@link StripedLockList} и {@link ConcurrentDequeList}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class ConcurrentBenchmarkTest {
+
+    /**
+     * Проверяет, что все сценарии выполняются для всех реализаций
+     * и результат содержит количество потоков и суммарное число операций.
+     */
+    @Test
+    void testAllScenarios() {
+        for (ListFactory factory : ConcurrentBenchmark.factories()) {
+            if (factory.getListClass() == ChunkedAppendList.class) {
+                continue;
+            }
+            List<Result> results = new ArrayList<>();
+            results.add(ConcurrentBenchmark.testAdd(factory, 3, 50));
+            results.add(ConcurrentBenchmark.testGet(factory, 3, 50));
+            results.add(ConcurrentBenchmark.testDeleteFirst(factory, 3, 50));
+            results.add(ConcurrentBenchmark.testDeleteLast(factory, 3, 50));
+            results.add(ConcurrentBenchmark.testMixed(factory, 3, 50));
+            results.add(ConcurrentBenchmark.testAppendRead(factory, 3, 50));
+
+            for (Result result : results) {
+                assertEquals(factory.getName(), result.getListType());
+                assertEquals(3, result.getThreadCount());
+                assertEquals(150, result.getOperationsCount());
+                assertTrue(result.getExecutionTime() >= 0);
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что одновременное добавление в {@link StripedLockList}
+     * не теряет элементы.
+     */
+    @Test
+    void testStripedLockListConcurrentAdd() throws InterruptedException {
+        StripedLockList list = new StripedLockList(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int base = t * 1000;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    list.add(base + i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4000, list.size());
+        Set<Integer> values = new HashSet<>(list);
+        assertEquals(4000, values.size());
+    }
+
+    /**
+     * Проверяет операции {@link StripedLockList} по индексу.
+     */
+    @Test
+    void testStripedLockListIndexedOperations() {
+        StripedLockList list = new StripedLockList(2);
+        list.add(1);
+        list.add(0, 0);
+        list.add(2, 2);
+
+        assertEquals(3, list.size());
+        assertEquals(Integer.valueOf(0), list.get(0));
+        assertEquals(Integer.valueOf(2), list.get(2));
+        assertEquals(Integer.valueOf(0), list.remove(0));
+        assertEquals(Integer.valueOf(2), list.remove(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+
+    /**
+     * Проверяет адаптер {@link ConcurrentDequeList}.
+     */
+    @Test
+    void testConcurrentDequeList() {
+        ConcurrentDequeList list = new ConcurrentDequeList();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        list.add(0, 0);
+
+        assertEquals(4, list.size());
+        assertEquals(Integer.valueOf(2), list.get(2));
+        assertEquals(Integer.valueOf(0), list.remove(0));
+        assertEquals(Integer.valueOf(3), list.remove(list.size() - 1));
+        assertEquals(Integer.valueOf(2), list.remove(1));
+        assertEquals(Collections.singletonList(1), new ArrayList<>(list));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+    }
+
+    /**
+     * Проверяет, что одновременное добавление в {@link ChunkedAppendList}
+     * не теряет элементы, пересекая границы блоков, а чтение видит
+     * все опубликованные значения.
+     */
+    @Test
+    void testChunkedAppendListConcurrentAdd() throws InterruptedException {
+        ChunkedAppendList list = new ChunkedAppendList();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int base = t * 5000;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    list.add(base + i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(20000, list.size());
+        Set<Integer> values = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            values.add(list.get(i));
+        }
+        assertEquals(20000, values.size());
+    }
+
+    /**
+     * Проверяет последовательные операции {@link ChunkedAppendList}
+     * и сценарии, в которых он участвует.
+     */
+    @Test
+    void testChunkedAppendList() {
+        ChunkedAppendList list = new ChunkedAppendList();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        list.set(50, -1);
+
+        assertEquals(100, list.size());
+        assertEquals(Integer.valueOf(99), list.get(99));
+        assertEquals(Integer.valueOf(-1), list.get(50));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+
+        ListFactory factory = ListFactoryRegistry.getDefault().get("ChunkedAppendList");
+        assertEquals("ChunkedAppendList", Benchmark.testGet(factory.create(), 100).getListType());
+        assertEquals(4, ConcurrentBenchmark.testAppendRead(factory, 4, 100).getThreadCount());
+    }
+
+    /**
+     * Проверяет количества потоков по умолчанию для кривых масштабирования.
+     */
+    @Test
+    void testDefaultThreadCounts() {
+        assertArrayEquals(new int[] {1, 2}, ConcurrentPerformanceTester.defaultThreadCounts(1));
+        assertArrayEquals(new int[] {1, 2, 4, 8}, ConcurrentPerformanceTester.defaultThreadCounts(4));
+        assertArrayEquals(new int[] {1, 2, 4, 8, 12}, ConcurrentPerformanceTester.defaultThreadCounts(6));
+    }
+}
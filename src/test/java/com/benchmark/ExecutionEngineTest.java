@@ -0,0 +1,115 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link ExecutionEngine}.
+ * Проверяет, что результаты возвращаются в порядке ячеек при любом
+ * способе выполнения, и корректность обмена результатами с дочерней JVM.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class ExecutionEngineTest {
+
+    /**
+     * Ячейки небольшой матрицы измерений, включая неподдерживаемую операцию.
+     */
+    private static final List<BenchmarkCell> CELLS = Arrays.asList(
+            new BenchmarkCell("add", "ArrayList", 50),
+            new BenchmarkCell("get", "LinkedList", 50),
+            new BenchmarkCell("deleteFirst", "ChunkedAppendList", 50),
+            new BenchmarkCell("deleteLast", "IntArrayList", 50),
+            new BenchmarkCell("addFirst", "OffHeapIntList", 50));
+
+    /**
+     * Возвращает ключи результатов в виде "операция/реализация".
+     *
+     * @param results результаты
+     * @return ключи результатов
+     */
+    private static List<String> keys(List<Result> results) {
+        return results.stream()
+                .map(result -> result.getMethodName() + "/" + result.getListType())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Проверяет детерминированный порядок результатов для режимов внутри JVM
+     * и то, что общие для JVM сборки мусора не приписываются одновременно
+     * выполняемым ячейкам, а выделения памяти виртуальных потоков считаются неизвестными.
+     */
+    @Test
+    void testInProcessModes() {
+        List<String> expected = Arrays.asList("add/ArrayList", "get/LinkedList",
+                "deleteLast/IntArrayList", "addFirst/OffHeapIntList");
+
+        for (ExecutionMode mode : Arrays.asList(ExecutionMode.SEQUENTIAL,
+                ExecutionMode.PLATFORM, ExecutionMode.VIRTUAL)) {
+            List<Result> results = new ExecutionEngine(mode, 3, 1, 3).run(CELLS);
+
+            assertEquals(expected, keys(results), mode.name());
+            assertEquals(3, results.get(0).getStatistics().getCount());
+            boolean shared = mode != ExecutionMode.SEQUENTIAL;
+            assertEquals(shared, results.get(0).getGcCount() < 0, mode.name());
+            assertEquals(shared, results.get(0).getGcTimeMillis() < 0, mode.name());
+            boolean virtualThreads = mode == ExecutionMode.VIRTUAL && Runtime.version().feature() >= 21;
+            assertEquals(virtualThreads, results.get(0).getAllocatedBytes() < 0, mode.name());
+        }
+    }
+
+    /**
+     * Проверяет выполнение ячейки в дочерней JVM.
+     */
+    @Test
+    void testForkMode() {
+        List<Result> results = new ExecutionEngine(ExecutionMode.FORK, 2, 0, 2)
+                .run(CELLS.subList(0, 3));
+
+        assertEquals(Arrays.asList("add/ArrayList", "get/LinkedList"), keys(results));
+        assertEquals(2, results.get(1).getStatistics().getCount());
+        assertEquals(50, results.get(1).getOperationsCount());
+    }
+
+    /**
+     * Проверяет кодирование и разбор результата для обмена с дочерней JVM.
+     */
+    @Test
+    void testEncodeDecode() {
+        Result original = new Result("get", "ArrayList", 100,
+                new Statistics(new long[] {5, 7, 6}), "get")
+                .withResourceUsage(1024, 1, 3)
+                .withThreadCount(2)
+                .withFootprint(4096, 100)
+                .withStructuralBytes(512);
+        Result decoded = CellRunner.decode(CellRunner.encode(original));
+
+        assertEquals(original.getMethodName(), decoded.getMethodName());
+        assertEquals(original.getListType(), decoded.getListType());
+        assertEquals(original.getOperationsCount(), decoded.getOperationsCount());
+        assertEquals(original.getOperationType(), decoded.getOperationType());
+        assertArrayEquals(original.getStatistics().getSamples(), decoded.getStatistics().getSamples());
+        assertEquals(1024, decoded.getAllocatedBytes());
+        assertEquals(1, decoded.getGcCount());
+        assertEquals(3, decoded.getGcTimeMillis());
+        assertEquals(2, decoded.getThreadCount());
+        assertEquals(4096, decoded.getRetainedBytes());
+        assertEquals(100, decoded.getElementCount());
+        assertEquals(512, decoded.getStructuralBytes());
+    }
+
+    /**
+     * Проверяет разбор списка процессоров в формате Linux.
+     */
+    @Test
+    void testParseCpuList() {
+        assertArrayEquals(new int[] {0, 1, 2, 3, 8, 10, 11}, ExecutionEngine.parseCpuList("0-3,8,10-11"));
+        assertArrayEquals(new int[0], ExecutionEngine.parseCpuList(""));
+    }
+}
@@ -0,0 +1,84 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для реализаций {@link IntList}: {@link IntArrayList} и {@link IntLinkedList}.
+ * Проверяет корректность операций и работу {@link IntBenchmark}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class IntListTest {
+
+    /**
+     * Проверяет последовательность операций над списком.
+     *
+     * @param list пустой тестируемый список
+     */
+    private static void checkOperations(IntList list) {
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        list.addFirst(-1);
+        list.addFirst(-2);
+
+        assertEquals(22, list.size());
+        assertEquals(-2, list.get(0));
+        assertEquals(-1, list.get(1));
+        assertEquals(0, list.get(2));
+        assertEquals(19, list.get(21));
+
+        assertEquals(-2, list.removeFirst());
+        assertEquals(19, list.removeLast());
+        assertEquals(20, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(18, list.get(19));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(20));
+
+        while (!list.isEmpty()) {
+            list.removeLast();
+        }
+        assertThrows(NoSuchElementException.class, list::removeFirst);
+        assertThrows(NoSuchElementException.class, list::removeLast);
+    }
+
+    /**
+     * Тестирует операции {@link IntArrayList}.
+     */
+    @Test
+    void testIntArrayList() {
+        checkOperations(new IntArrayList());
+        checkOperations(new IntArrayList(0));
+    }
+
+    /**
+     * Тестирует операции {@link IntLinkedList}.
+     */
+    @Test
+    void testIntLinkedList() {
+        checkOperations(new IntLinkedList());
+    }
+
+    /**
+     * Тестирует измерения {@link IntBenchmark} для обеих реализаций.
+     */
+    @Test
+    void testIntBenchmark() {
+        Result arrayResult = IntBenchmark.testDeleteFirst(new IntArrayList(), 100);
+        Result linkedResult = IntBenchmark.testGet(new IntLinkedList(), 100);
+
+        assertEquals("deleteFirst", arrayResult.getMethodName());
+        assertEquals("IntArrayList", arrayResult.getListType());
+        assertEquals("get", linkedResult.getMethodName());
+        assertEquals("IntLinkedList", linkedResult.getListType());
+        assertTrue(linkedResult.getExecutionTime() >= 0);
+        // Подкласс не подменяется молча реализацией IntArrayList
+        assertThrows(IllegalArgumentException.class, () -> IntBenchmark.testGet(new IntArrayList() { }, 100));
+    }
+}
@@ -0,0 +1,94 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link LatencyHistogram}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class LatencyHistogramTest {
+
+    /**
+     * Проверяет перцентили равномерного распределения с точностью интервалов.
+     */
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_000.5, histogram.getMean(), 1e-6);
+        assertEquals(50_000, histogram.getValueAtPercentile(50), 50_000 / 128.0);
+        assertEquals(99_000, histogram.getValueAtPercentile(99), 99_000 / 128.0);
+        assertEquals(99_900, histogram.getValueAtPercentile(99.9), 99_900 / 128.0);
+        assertEquals(100_000, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Проверяет, что малые значения хранятся точно, а интервалы
+     * покрывают весь диапазон без разрывов.
+     */
+    @Test
+    void testBuckets() {
+        for (long value = 0; value < 256; value++) {
+            assertEquals(value, LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value)));
+        }
+        for (int index = 256; index < LatencyHistogram.indexOf(Long.MAX_VALUE); index++) {
+            long upper = LatencyHistogram.highestEquivalentValue(index);
+            assertEquals(index, LatencyHistogram.indexOf(upper));
+            assertEquals(index + 1, LatencyHistogram.indexOf(upper + 1));
+        }
+        assertEquals(Long.MAX_VALUE,
+                LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    /**
+     * Проверяет объединение и очистку гистограмм.
+     */
+    @Test
+    void testAddAndReset() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        second.record(1_000_000);
+        second.record(-5);
+
+        first.add(second);
+        assertEquals(3, first.getCount());
+        assertEquals(0, first.getMin());
+        assertEquals(1_000_000, first.getMax());
+
+        first.reset();
+        assertEquals(0, first.getCount());
+        assertEquals(0, first.getValueAtPercentile(99));
+        assertThrows(IllegalArgumentException.class, () -> first.getValueAtPercentile(101));
+    }
+
+    /**
+     * Проверяет поправку на скоординированное пропускание: одна задержка
+     * в 100 интервалов дополняется пропущенными значениями, как в HdrHistogram.
+     */
+    @Test
+    void testCoordinatedOmissionCorrection() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10, 99);
+        histogram.record(1000);
+
+        LatencyHistogram corrected = histogram.copyCorrectedForCoordinatedOmission(10);
+        assertEquals(100, histogram.getCount());
+        assertEquals(10, histogram.getValueAtPercentile(99));
+        // Добавлены значения 990, 980, ..., 10
+        assertEquals(199, corrected.getCount());
+        assertEquals(1000, corrected.getMax());
+        assertTrue(corrected.getValueAtPercentile(75) >= 480, "p75: " + corrected.getValueAtPercentile(75));
+        assertThrows(IllegalArgumentException.class, () -> histogram.copyCorrectedForCoordinatedOmission(0));
+    }
+}
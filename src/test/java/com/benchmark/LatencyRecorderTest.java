@@ -0,0 +1,118 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для режима измерения задержек {@link LatencyRecorder}
+ * и сводки {@link LatencySummary}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class LatencyRecorderTest {
+
+    private static final int TEST_SIZE = 1000;
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty("benchmark.latency");
+        System.clearProperty("benchmark.latencyBatch");
+        System.clearProperty("benchmark.latencyInterval");
+    }
+
+    /**
+     * Проверяет, что без режима задержек сводка не заполняется.
+     */
+    @Test
+    void testDisabledByDefault() {
+        Result result = new TrialRunner(0, 2, CellProfiler.NONE).run(Benchmark::testAdd, new ArrayList<>(), TEST_SIZE);
+
+        assertSame(LatencySummary.EMPTY, result.getLatency());
+        assertNull(LatencyRecorder.active());
+    }
+
+    /**
+     * Проверяет, что задержки всех операций измеряемых прогонов собираются
+     * в одну гистограмму, а для обычных операций поправка не применяется.
+     */
+    @Test
+    void testOperationLatencies() {
+        System.setProperty("benchmark.latency", "true");
+        System.setProperty("benchmark.latencyBatch", "4");
+        Result result = new TrialRunner(1, 3, CellProfiler.NONE).run(Benchmark::testAdd, new ArrayList<>(), TEST_SIZE);
+        LatencySummary latency = result.getLatency();
+
+        assertEquals(3L * TEST_SIZE, latency.getCount());
+        assertFalse(latency.isCorrected());
+        assertTrue(latency.getP50() <= latency.getP99());
+        assertTrue(latency.getP99() <= latency.getP999());
+        assertTrue(latency.getP999() <= latency.getMax());
+        assertNull(LatencyRecorder.active());
+    }
+
+    /**
+     * Проверяет, что по умолчанию единичный всплеск не усредняется
+     * и попадает в максимум целиком.
+     */
+    @Test
+    void testSpikeReachesMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long spikeNanos = 5_000_000L;
+        LatencyRecorder.timeBatches(histogram, 64, i -> {
+            if (i == 10) {
+                long until = System.nanoTime() + spikeNanos;
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+
+        assertEquals(64, histogram.getCount());
+        assertTrue(histogram.getMax() >= spikeNanos, "max = " + histogram.getMax());
+    }
+
+    /**
+     * Проверяет поправку на скоординированное пропускание для смешанной нагрузки
+     * с заданным ожидаемым интервалом.
+     */
+    @Test
+    void testMixedCorrected() {
+        System.setProperty("benchmark.latency", "true");
+        System.setProperty("benchmark.latencyInterval", "1");
+        WorkloadTrace trace = WorkloadTrace.generate(WorkloadSpec.parse(WorkloadSpec.DEFAULT), TEST_SIZE);
+        Result result = new TrialRunner(0, 1, CellProfiler.NONE).run(
+                (List<Integer> list, int count) -> Benchmark.testMixed(list, trace), new ArrayList<>(), TEST_SIZE);
+        LatencySummary latency = result.getLatency();
+
+        assertTrue(latency.isCorrected());
+        assertEquals(1, latency.getExpectedInterval());
+        assertTrue(latency.getCount() >= TEST_SIZE);
+    }
+
+    /**
+     * Проверяет передачу сводки через строку результата дочерней JVM.
+     */
+    @Test
+    void testEncodeDecode() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        Result result = new Result("mixed", "ArrayList", 1000, 5000, "mixed")
+                .withLatency(LatencySummary.of(histogram, 25));
+
+        LatencySummary decoded = CellRunner.decode(CellRunner.encode(result)).getLatency();
+        assertEquals(1000, decoded.getCount());
+        assertEquals(result.getLatency().getP99(), decoded.getP99());
+        assertEquals(1000, decoded.getMax());
+        assertEquals(25, decoded.getExpectedInterval());
+        assertSame(LatencySummary.EMPTY, LatencySummary.decode(LatencySummary.EMPTY.encode()));
+        assertThrows(IllegalArgumentException.class, () -> LatencySummary.decode("1,2"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Vector;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link ListFactoryRegistry}.
+ * Проверяет регистрацию встроенных реализаций, загрузку фабрик через
+ * {@link java.util.ServiceLoader} и поиск фабрики по экземпляру списка.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class ListFactoryRegistryTest {
+
+    /**
+     * Пользовательский список, подключаемый через {@code META-INF/services}.
+     */
+    static class CustomList extends ArrayList<Integer> {
+    }
+
+    /**
+     * Фабрика пользовательского списка, указанная в тестовом
+     * файле {@code META-INF/services/com.benchmark.ListFactory}.
+     */
+    public static class CustomListFactory implements ListFactory {
+        @Override
+        public String getName() {
+            return "CustomList";
+        }
+
+        @Override
+        public Class<?> getListClass() {
+            return CustomList.class;
+        }
+
+        @Override
+        public List<Integer> create() {
+            return new CustomList();
+        }
+    }
+
+    /**
+     * Вторая фабрика того же класса {@link CustomList} под другим названием,
+     * указанная в тестовом файле {@code META-INF/services/com.benchmark.ListFactory}.
+     */
+    public static class CustomListAliasFactory extends CustomListFactory {
+        @Override
+        public String getName() {
+            return "CustomListAlias";
+        }
+    }
+
+    /**
+     * Проверяет порядок встроенных реализаций.
+     */
+    @Test
+    void testBuiltins() {
+        List<String> names = ListFactoryRegistry.withBuiltins().getFactories().stream()
+                .map(ListFactory::getName)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("ArrayList", "LinkedList", "OffHeapIntList",
+                "Vector", "CopyOnWriteArrayList", "ChunkedAppendList", "CircularArrayList",
+                "GapBufferList", "TieredList", "AdaptiveList"), names);
+    }
+
+    /**
+     * Проверяет, что реестр по умолчанию содержит фабрики из classpath,
+     * а {@link Benchmark} измеряет созданные ими списки.
+     */
+    @Test
+    void testServiceLoader() {
+        ListFactory factory = ListFactoryRegistry.getDefault().get("CustomList");
+        Result result = Benchmark.testAdd(factory.create(), 100);
+
+        assertEquals("CustomList", result.getListType());
+        assertSame(factory, ListFactoryRegistry.getDefault().forList(new CustomList()));
+    }
+
+    /**
+     * Проверяет, что незарегистрированная реализация отклоняется,
+     * а не подменяется {@link ArrayList}.
+     */
+    @Test
+    void testUnknownList() {
+        ListFactoryRegistry registry = ListFactoryRegistry.withBuiltins();
+
+        assertEquals("Vector", registry.forList(new Vector<>()).getName());
+        assertThrows(IllegalArgumentException.class, () -> registry.forList(new CustomList()));
+        assertThrows(IllegalArgumentException.class, () -> registry.get("Unknown"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Benchmark.testAdd(Arrays.asList(1, 2, 3), 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> registry.register(ListFactory.of("ArrayList", ArrayList.class, ArrayList::new)));
+    }
+
+    /**
+     * Проверяет, что результат называется по фабрике шаблона, а не по классу списка,
+     * даже если класс зарегистрирован под несколькими названиями.
+     */
+    @Test
+    void testResultNamedByFactory() {
+        ListFactoryRegistry registry = ListFactoryRegistry.getDefault();
+
+        assertEquals("CustomListAlias",
+                Benchmark.testAdd(registry.createTemplate("CustomListAlias"), 100).getListType());
+        assertEquals("CustomListAlias",
+                BulkBenchmark.testIterate(registry.createTemplate("CustomListAlias"), 100).getListType());
+        assertEquals("CustomListAlias",
+                SortSearchBenchmark.testListSort(registry.createTemplate("CustomListAlias"), 100).getListType());
+        assertEquals("CustomListAlias",
+                StructureBenchmark.testAdd(registry.createTemplate("CustomListAlias"), 100).getListType());
+        assertEquals("CustomList", Benchmark.testAdd(new CustomList(), 100).getListType());
+    }
+}
@@ -202,4 +202,55 @@ class ListPerformanceTesterTest {
         
         assertNotNull(result.toString());
     }
-}
\ No newline at end of file
+
+    /**
+     * Тестирует выполнение серии измерений через {@link TrialRunner}.
+     * Проверяет, что результат содержит распределение из заданного числа
+     * измерений, а время выполнения равно медиане.
+     */
+    @Test
+    void testTrialRunner() {
+        TrialRunner runner = new TrialRunner(2, 7);
+        Result result = runner.run(Benchmark::testAdd, new ArrayList<>(), TEST_SIZE);
+
+        assertEquals("add", result.getMethodName());
+        assertEquals("ArrayList", result.getListType());
+        assertEquals(TEST_SIZE, result.getOperationsCount());
+        assertTrue(result.hasDistribution());
+        assertEquals(7, result.getStatistics().getCount());
+        assertEquals(Math.round(result.getStatistics().getMedian()), result.getExecutionTime());
+    }
+
+    /**
+     * Тестирует сравнение результатов: победитель называется только
+     * при непересекающихся доверительных интервалах, а отношение считается
+     * по средним, как и интервалы.
+     */
+    @Test
+    void testVerdict() {
+        Result fast = new Result("get", "ArrayList", 100,
+                new Statistics(new long[] {10, 11, 12, 11, 10}), "get");
+        Result similar = new Result("get", "LinkedList", 100,
+                new Statistics(new long[] {11, 12, 13, 12, 11}), "get");
+        Result slow = new Result("get", "LinkedList", 100,
+                new Statistics(new long[] {100, 101, 102, 101, 100}), "get");
+
+        assertEquals("нет значимой разницы", ListPerformanceTester.verdict(fast, similar));
+        assertTrue(ListPerformanceTester.verdict(fast, slow).contains("ArrayList"));
+
+        Result skewed = new Result("get", "ArrayList", 100,
+                new Statistics(new long[] {10, 10, 10, 11, 14}), "get");
+        assertTrue(ListPerformanceTester.verdict(skewed, slow)
+                .contains(String.format("%.2f", slow.getStatistics().getMean() / 11)));
+    }
+
+    /**
+     * Проверяет разбор размеров, задаваемых свойством benchmark.sizes.
+     */
+    @Test
+    void testParseSizes() {
+        assertArrayEquals(new int[] {100, 2000, 30000}, ListPerformanceTester.parseSizes("100, 2000,30000"));
+        assertThrows(IllegalArgumentException.class, () -> ListPerformanceTester.parseSizes("100,x"));
+        assertThrows(IllegalArgumentException.class, () -> ListPerformanceTester.parseSizes("0"));
+    }
+}
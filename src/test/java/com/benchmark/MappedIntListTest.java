@@ -0,0 +1,131 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link MappedIntList} и операций {@link PersistenceBenchmark}.
+ * Проверяет совместимость с {@link List}, сохранение данных в файле
+ * и проверку формата при открытии.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class MappedIntListTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Проверяет, что список ведет себя так же, как {@link ArrayList},
+     * в том числе при росте файла и сдвигах больше блока перемещения.
+     */
+    @Test
+    void testMatchesArrayList() throws IOException {
+        List<Integer> expected = new ArrayList<>();
+        MappedIntList actual = MappedIntList.create(directory.resolve("list.bin"), 4);
+
+        for (int i = 0; i < 3000; i++) {
+            expected.add(i);
+            actual.add(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            expected.add(0, -i);
+            actual.add(0, -i);
+        }
+        expected.add(1500, 1000);
+        actual.add(1500, 1000);
+        assertEquals(expected.remove(0), actual.remove(0));
+        assertEquals(expected.remove(expected.size() - 1), actual.remove(actual.size() - 1));
+        assertEquals(expected.remove(17), actual.remove(17));
+        expected.set(5, 77);
+        actual.set(5, 77);
+
+        assertEquals(expected, actual);
+        assertEquals(4096, (actual.fileBytes() - MappedIntList.HEADER_BYTES) / Integer.BYTES);
+        assertEquals(actual.fileBytes(), Files.size(actual.getPath()));
+    }
+
+    /**
+     * Проверяет, что данные и количество элементов сохраняются в файле
+     * и восстанавливаются при открытии.
+     */
+    @Test
+    void testReopen() throws IOException {
+        Path file = directory.resolve("list.bin");
+        try (MappedIntList list = MappedIntList.create(file)) {
+            for (int i = 0; i < 100; i++) {
+                list.addInt(i * 3);
+            }
+            list.remove(0);
+        }
+
+        MappedIntList reopened = MappedIntList.open(file);
+        assertEquals(99, reopened.size());
+        assertEquals(3, reopened.getInt(0));
+        assertEquals(297, reopened.getInt(98));
+
+        reopened.addInt(-1);
+        assertEquals(100, MappedIntList.open(file).size());
+    }
+
+    /**
+     * Проверяет, что файл другого формата не открывается.
+     */
+    @Test
+    void testRejectsForeignFile() throws IOException {
+        Path shortFile = Files.write(directory.resolve("short.bin"), new byte[4]);
+        Path foreign = Files.write(directory.resolve("foreign.bin"), new byte[64]);
+
+        assertThrows(IOException.class, () -> MappedIntList.open(shortFile));
+        assertThrows(IOException.class, () -> MappedIntList.open(foreign));
+    }
+
+    /**
+     * Проверяет обработку некорректных аргументов.
+     */
+    @Test
+    void testInvalidArguments() throws IOException {
+        MappedIntList list = MappedIntList.create(directory.resolve("list.bin"));
+
+        assertThrows(IllegalArgumentException.class, () -> MappedIntList.create(directory.resolve("x.bin"), -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+    }
+
+    /**
+     * Проверяет, что каждый формат {@link PersistenceBenchmark} загружает
+     * сохраненные значения и что операции заполняют результат.
+     */
+    @Test
+    void testPersistenceFormats() throws IOException {
+        try {
+            for (PersistenceBenchmark.Format format : PersistenceBenchmark.formats()) {
+                Path file = directory.resolve(format.getName() + ".bin");
+                format.save(format.createSource(1000), file);
+                List<Integer> loaded = format.load(file);
+                assertEquals(1000, loaded.size(), format.getName());
+                assertEquals(500, loaded.get(500), format.getName());
+
+                for (Measurement<PersistenceBenchmark.Format> scenario : PersistenceTester.scenarios().values()) {
+                    Result result = scenario.measure(format, 1000);
+                    assertEquals(format.getName(), result.getListType());
+                    assertEquals(1000, result.getOperationsCount());
+                    assertEquals("persist", result.getOperationType());
+                }
+            }
+            assertEquals(MappedIntList.HEADER_BYTES + 4000,
+                    PersistenceBenchmark.fileBytes(PersistenceBenchmark.MAPPED, 1000));
+        } finally {
+            PersistenceBenchmark.deleteFiles();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link MemoryFootprint}.
+ * Проверяет оценку объема памяти, удерживаемой списками, и вычисление
+ * производных характеристик в {@link Result}. Тесты запускаются
+ * с открытыми пакетами JDK (см. конфигурацию surefire в pom.xml).
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class MemoryFootprintTest {
+
+    /**
+     * Проверяет размер массива примитивов: заголовок и данные с выравниванием.
+     */
+    @Test
+    void testPrimitiveArray() {
+        long size = MemoryFootprint.retainedSize(new int[10]);
+
+        assertTrue(size >= 56 && size <= 64, "Размер int[10]: " + size);
+    }
+
+    /**
+     * Проверяет, что общие объекты учитываются один раз.
+     */
+    @Test
+    void testSharedObjectsCountedOnce() {
+        Integer shared = 1000;
+        Object[] twice = {shared, shared};
+        Object[] once = {shared, null};
+
+        assertEquals(MemoryFootprint.retainedSize(once), MemoryFootprint.retainedSize(twice));
+    }
+
+    /**
+     * Проверяет соотношение размеров реализаций: узлы LinkedList занимают
+     * больше памяти, чем массив ArrayList, а примитивный список — меньше всех.
+     */
+    @Test
+    void testListComparison() {
+        int count = 1000;
+        List<Integer> arrayList = new ArrayList<>();
+        List<Integer> linkedList = new LinkedList<>();
+        IntArrayList intList = new IntArrayList();
+        for (int i = 0; i < count; i++) {
+            arrayList.add(1000 + i);
+            linkedList.add(1000 + i);
+            intList.add(1000 + i);
+        }
+
+        long arraySize = MemoryFootprint.retainedSize(arrayList);
+        long linkedSize = MemoryFootprint.retainedSize(linkedList);
+        long intSize = MemoryFootprint.retainedSize(intList);
+
+        // Упакованное Integer занимает не менее 16 байт, ссылка — не менее 4
+        assertTrue(arraySize >= count * 20L, "ArrayList: " + arraySize);
+        assertTrue(linkedSize > arraySize, "LinkedList: " + linkedSize);
+        assertTrue(intSize < arraySize / 2, "IntArrayList: " + intSize);
+    }
+
+    /**
+     * Проверяет, что для списка вне кучи учитывается память прямых буферов.
+     */
+    @Test
+    void testOffHeapMemoryCounted() {
+        OffHeapIntList list = new OffHeapIntList(1024);
+        list.addInt(1);
+
+        assertTrue(MemoryFootprint.retainedSize(list) >= list.offHeapBytes());
+    }
+
+    /**
+     * Проверяет удельные характеристики памяти в результате.
+     */
+    @Test
+    void testResultPerElementAndPerOperation() {
+        Result result = new Result("add", "ArrayList", 100, 1000L, "add")
+                .withResourceUsage(800, 0, 0)
+                .withFootprint(2000, 100);
+
+        assertEquals(20.0, result.getBytesPerElement(), 1e-9);
+        assertEquals(8.0, result.getAllocatedBytesPerOperation(), 1e-9);
+        assertEquals(2000, result.withStatistics(new Statistics(new long[] {1, 2})).getRetainedBytes());
+
+        Result empty = new Result("deleteFirst", "ArrayList", 100, 1000L, "delete")
+                .withFootprint(500, 0);
+        assertEquals(-1, empty.getBytesPerElement(), 1e-9);
+        assertEquals(-1, new Result("get", "ArrayList", 1, 1L, "get").getRetainedBytes());
+    }
+}
@@ -0,0 +1,92 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link OffHeapIntList}.
+ * Проверяет совместимость с {@link List} и рост числа сегментов.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class OffHeapIntListTest {
+
+    /**
+     * Проверяет, что список ведет себя так же, как {@link ArrayList},
+     * при операциях, пересекающих границы сегментов.
+     */
+    @Test
+    void testMatchesArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        OffHeapIntList actual = new OffHeapIntList(8);
+
+        for (int i = 0; i < 50; i++) {
+            expected.add(i);
+            actual.add(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            expected.add(0, -i);
+            actual.add(0, -i);
+        }
+        expected.add(30, 1000);
+        actual.add(30, 1000);
+        assertEquals(expected.remove(0), actual.remove(0));
+        assertEquals(expected.remove(expected.size() - 1), actual.remove(actual.size() - 1));
+        assertEquals(expected.remove(17), actual.remove(17));
+        expected.set(5, 77);
+        actual.set(5, 77);
+
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), actual.size());
+        assertEquals(1000, actual.getInt(actual.indexOf(1000)));
+    }
+
+    /**
+     * Проверяет, что память вне кучи выделяется сегментами по мере роста.
+     */
+    @Test
+    void testSegmentGrowth() {
+        OffHeapIntList list = new OffHeapIntList(4);
+        assertEquals(0, list.offHeapBytes());
+
+        list.addAll(Arrays.asList(1, 2, 3, 4));
+        assertEquals(16, list.offHeapBytes());
+
+        list.addInt(5);
+        assertEquals(32, list.offHeapBytes());
+        assertEquals(5, list.getInt(4));
+    }
+
+    /**
+     * Проверяет обработку некорректных аргументов.
+     */
+    @Test
+    void testInvalidArguments() {
+        OffHeapIntList list = new OffHeapIntList();
+
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapIntList(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+    }
+
+    /**
+     * Проверяет, что {@link Benchmark} создает список того же типа
+     * и заполняет данные о ресурсах в результате.
+     */
+    @Test
+    void testBenchmarkBackend() {
+        Result result = Benchmark.testAdd(new OffHeapIntList(), 100);
+
+        assertEquals("OffHeapIntList", result.getListType());
+        assertEquals(100, result.getOperationsCount());
+        assertTrue(result.getGcCount() >= 0);
+        assertTrue(result.getGcTimeMillis() >= 0);
+        assertTrue(result.getThroughput() >= 0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для классов {@link BaselineStore} и {@link RegressionGate}.
+ * Проверяет сохранение и загрузку базовой линии и определение регрессий.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class RegressionGateTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Проверяет, что базовая линия сохраняется вместе с выборками и загружается обратно.
+     */
+    @Test
+    void testSaveAndLoad() throws IOException {
+        Path file = directory.resolve("baseline.tsv");
+        List<Result> results = Arrays.asList(
+                result("add", "ArrayList", 100, 101, 102),
+                result("add", "LinkedList", 200, 201, 202));
+
+        BaselineStore.save(results, file);
+        Map<String, Result> baseline = BaselineStore.load(file);
+
+        assertEquals(2, baseline.size());
+        Result loaded = baseline.get(BaselineStore.key(results.get(1)));
+        assertEquals("LinkedList", loaded.getListType());
+        assertArrayEquals(new long[] {200, 201, 202}, loaded.getStatistics().getSamples());
+    }
+
+    /**
+     * Проверяет определение регрессии, улучшения и отсутствия изменений.
+     */
+    @Test
+    void testVerdicts() {
+        RegressionGate gate = new RegressionGate(0.10);
+        Result baseline = result("get", "ArrayList", 100, 101, 102, 99, 100);
+
+        assertEquals(RegressionGate.Verdict.REGRESSION,
+                gate.verdict(result("get", "ArrayList", 150, 151, 152, 149, 150), baseline));
+        assertEquals(RegressionGate.Verdict.IMPROVEMENT,
+                gate.verdict(result("get", "ArrayList", 50, 51, 52, 49, 50), baseline));
+        // Значимое, но меньше порога замедление не считается регрессией
+        assertEquals(RegressionGate.Verdict.UNCHANGED,
+                gate.verdict(result("get", "ArrayList", 105, 106, 107, 104, 105), baseline));
+        // Пересекающиеся интервалы не считаются регрессией даже при росте медианы
+        assertEquals(RegressionGate.Verdict.UNCHANGED,
+                gate.verdict(result("get", "ArrayList", 50, 300, 120, 90, 200), baseline));
+        assertEquals(RegressionGate.Verdict.NEW,
+                gate.verdict(result("get", "Vector", 100, 101), null));
+    }
+
+    /**
+     * Проверяет, что порог применяется к среднему, как и проверка значимости:
+     * при асимметричной выборке медиана уменьшилась, а среднее значимо выросло.
+     */
+    @Test
+    void testSkewedSampleJudgedByMean() {
+        RegressionGate gate = new RegressionGate(0.10);
+        Result baseline = result("get", "ArrayList", 99, 100, 101, 100, 99, 101);
+        Result skewed = result("get", "ArrayList", 95, 95, 95, 95, 95, 95, 200, 200, 200, 200, 200);
+
+        assertEquals(RegressionGate.Verdict.REGRESSION, gate.verdict(skewed, baseline));
+        RegressionGate.Comparison comparison = gate.compare(Arrays.asList(skewed),
+                Map.of(BaselineStore.key(baseline), baseline)).get(0);
+        assertEquals(skewed.getStatistics().getMean() / 100.0, comparison.getRatio(), 1e-9);
+    }
+
+    /**
+     * Проверяет, что параметры запуска сохраняются в заголовке базовой линии
+     * и различия с текущим запуском обнаруживаются.
+     */
+    @Test
+    void testParametersSaved() throws IOException {
+        Path file = directory.resolve("baseline.tsv");
+        System.setProperty("benchmark.latency", "true");
+        System.setProperty("benchmark.trials", "5");
+        try {
+            BaselineStore.save(Arrays.asList(result("add", "ArrayList", 100, 101)), file);
+        } finally {
+            System.clearProperty("benchmark.latency");
+            System.clearProperty("benchmark.trials");
+        }
+        Map<String, String> saved = BaselineStore.loadParameters(file);
+
+        assertEquals("true", saved.get("latency"));
+        assertEquals(WorkloadSpec.DEFAULT, saved.get("workload"));
+        assertEquals(Arrays.asList("latency: true -> false", "trials: 5 -> 15"),
+                BaselineStore.parameterMismatches(saved, BaselineStore.currentParameters()));
+        assertTrue(BaselineStore.parameterMismatches(Map.of(), BaselineStore.currentParameters()).isEmpty());
+        assertEquals(1, BaselineStore.load(file).size());
+    }
+
+    /**
+     * Проверяет сопоставление результатов с базовой линией по ключу.
+     */
+    @Test
+    void testCompare() {
+        Result old = result("add", "ArrayList", 100, 101, 102);
+        Result current = result("add", "ArrayList", 200, 201, 202);
+        List<RegressionGate.Comparison> comparisons = new RegressionGate(0.05)
+                .compare(Arrays.asList(current), Map.of(BaselineStore.key(old), old));
+
+        assertEquals(1, comparisons.size());
+        assertEquals(RegressionGate.Verdict.REGRESSION, comparisons.get(0).getVerdict());
+        assertEquals(201.0 / 101.0, comparisons.get(0).getRatio(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> new RegressionGate(-0.1));
+    }
+
+    private static Result result(String method, String listType, long... samples) {
+        return new Result(method, listType, 1000, new Statistics(samples), method);
+    }
+}
@@ -0,0 +1,110 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для приемников результатов {@link ResultSink}.
+ * Проверяет форматы CSV, JSON Lines и HTML, экранирование значений
+ * и потоковую передачу результатов из {@link ExecutionEngine}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class ResultSinkTest {
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Проверяет запись результатов во все форматы сразу.
+     */
+    @Test
+    void testAllFormats() throws IOException {
+        Path csv = directory.resolve("results.csv");
+        Path jsonl = directory.resolve("results.jsonl");
+        Path html = directory.resolve("report.html");
+
+        try (ResultSink sink = ResultSink.open("csv:" + csv + ",jsonl:" + jsonl + ",html:" + html)) {
+            sink.write(new Result("add", "ArrayList", 1000, new Statistics(new long[] {10, 20, 30}), "add"));
+            sink.write(new Result("add", "LinkedList", 1000, 50L, "add").withResourceUsage(2048, 1, 2));
+            // Строки пишутся сразу, до закрытия приемника
+            assertEquals(3, Files.readAllLines(csv, StandardCharsets.UTF_8).size());
+        }
+
+        List<String> csvLines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        assertTrue(csvLines.get(0).startsWith("timestamp,run,method,listType,operations"));
+        assertTrue(csvLines.get(0).contains("javaVersion"));
+        assertTrue(csvLines.get(1).contains(",add,ArrayList,1000,add,1,3,20.0,"));
+
+        List<String> jsonLines = Files.readAllLines(jsonl, StandardCharsets.UTF_8);
+        assertEquals(2, jsonLines.size());
+        assertTrue(jsonLines.get(1).startsWith("{\"timestamp\":\""));
+        assertTrue(jsonLines.get(1).contains("\"listType\":\"LinkedList\""));
+        assertTrue(jsonLines.get(1).contains("\"allocatedBytes\":2048"));
+        assertTrue(jsonLines.get(1).contains("\"javaVersion\":\"" + System.getProperty("java.version") + "\""));
+
+        String report = new String(Files.readAllBytes(html), StandardCharsets.UTF_8);
+        assertTrue(report.contains("data-list=\"LinkedList\""));
+        assertTrue(report.contains("<script>"));
+        assertTrue(report.trim().endsWith("</html>"));
+    }
+
+    /**
+     * Проверяет экранирование значений в CSV, JSON и HTML.
+     */
+    @Test
+    void testEscaping() {
+        assertEquals("plain", CsvResultSink.escape("plain"));
+        assertEquals("\"a,\"\"b\"\"\"", CsvResultSink.escape("a,\"b\""));
+        assertEquals("\"a\\\"b\\\\c\\n\"", JsonLinesResultSink.quote("a\"b\\c\n"));
+        assertEquals("&lt;b&gt; &amp; &quot;", HtmlResultSink.escape("<b> & \""));
+    }
+
+    /**
+     * Проверяет, что неизвестный формат отклоняется.
+     */
+    @Test
+    void testUnknownFormat() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ResultSink.open("xml:" + directory.resolve("results.xml")));
+        assertThrows(IllegalArgumentException.class, () -> ResultSink.open("results.csv"));
+    }
+
+    /**
+     * Проверяет, что исполнитель передает в приемник каждый поддерживаемый результат.
+     */
+    @Test
+    void testEngineStreamsResults() {
+        List<Result> written = new ArrayList<>();
+        ResultSink sink = new ResultSink() {
+            @Override
+            public synchronized void write(Result result) {
+                written.add(result);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        List<BenchmarkCell> cells = Arrays.asList(
+                new BenchmarkCell("add", "ArrayList", 100),
+                new BenchmarkCell("deleteFirst", "ChunkedAppendList", 100),
+                new BenchmarkCell("get", "LinkedList", 100));
+
+        List<Result> results = new ExecutionEngine(ExecutionMode.PLATFORM, 2, 0, 2).run(cells, sink);
+
+        assertEquals(2, results.size());
+        assertEquals(2, written.size());
+    }
+}
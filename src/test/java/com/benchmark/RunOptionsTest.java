@@ -0,0 +1,115 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link RunOptions} и выбора ячеек матрицы
+ * {@link ListPerformanceTester#createCells(int[])}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class RunOptionsTest {
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void clearProperties() {
+        for (String name : Arrays.asList("sizes", "warmup", "trials", "scenarios", "lists", "execution")) {
+            System.clearProperty(RunOptions.PREFIX + name);
+        }
+    }
+
+    /**
+     * Проверяет приоритет источников: набор настроек, файл настроек,
+     * системные свойства, аргументы командной строки.
+     */
+    @Test
+    void testPrecedence() throws IOException {
+        Path config = directory.resolve("run.properties");
+        Files.write(config, Arrays.asList("preset=quick", "benchmark.trials=7", "sizes=500", "lists=ArrayList"),
+                StandardCharsets.UTF_8);
+        System.setProperty("benchmark.sizes", "2000");
+
+        Map<String, String> values = RunOptions.parse(new String[] {
+                "--config=" + config, "--lists=LinkedList"}).getValues();
+
+        assertEquals("0", values.get("warmup"));
+        assertEquals("7", values.get("trials"));
+        assertEquals("2000", values.get("sizes"));
+        assertEquals("LinkedList", values.get("lists"));
+        assertFalse(values.containsKey("preset"));
+    }
+
+    /**
+     * Проверяет, что быстрый набор настроек отключает прогрев,
+     * а параметры применяются как системные свойства.
+     */
+    @Test
+    void testQuickPresetApplied() throws IOException {
+        RunOptions options = RunOptions.parse(new String[] {"--quick", "--execution=fork"});
+        options.apply();
+
+        assertFalse(options.isHelp());
+        assertEquals(0, Integer.getInteger("benchmark.warmup").intValue());
+        assertEquals(3, Integer.getInteger("benchmark.trials").intValue());
+        assertEquals("1000", System.getProperty("benchmark.sizes"));
+        assertEquals("fork", System.getProperty("benchmark.execution"));
+        assertTrue(RunOptions.parse(new String[] {"-h"}).isHelp());
+    }
+
+    /**
+     * Проверяет, что неизвестные аргументы, параметры и наборы настроек отклоняются.
+     */
+    @Test
+    void testRejectsUnknownNames() throws IOException {
+        Path config = directory.resolve("bad.properties");
+        Files.write(config, Arrays.asList("sizez=1000"), StandardCharsets.UTF_8);
+
+        assertThrows(IllegalArgumentException.class, () -> RunOptions.parse(new String[] {"--sizez=1000"}));
+        assertThrows(IllegalArgumentException.class, () -> RunOptions.parse(new String[] {"1000"}));
+        assertThrows(IllegalArgumentException.class, () -> RunOptions.parse(new String[] {"--preset=slow"}));
+        assertThrows(IllegalArgumentException.class, () -> RunOptions.parse(new String[] {"--config=" + config}));
+        assertTrue(RunOptions.usage().contains("--scenarios=..."));
+    }
+
+    /**
+     * Проверяет, что матрица ограничивается выбранными операциями и реализациями
+     * в порядке отчета, а неизвестные названия отклоняются.
+     */
+    @Test
+    void testCellSelection() {
+        System.setProperty("benchmark.scenarios", "deleteFirst,add");
+        System.setProperty("benchmark.lists", "TieredList,ArrayList,IntArrayList");
+
+        List<BenchmarkCell> cells = ListPerformanceTester.createCells(new int[] {10});
+        Set<String> methods = new HashSet<>();
+        for (BenchmarkCell cell : cells) {
+            methods.add(cell.getMethodName());
+        }
+
+        assertEquals(6, cells.size());
+        assertEquals(new HashSet<>(Arrays.asList("add", "deleteFirst")), methods);
+        assertEquals("add", cells.get(0).getMethodName());
+        assertEquals("ArrayList", cells.get(0).getListType());
+        assertEquals("IntArrayList", cells.get(2).getListType());
+
+        System.setProperty("benchmark.lists", "ArrayLsit");
+        assertThrows(IllegalArgumentException.class, () -> ListPerformanceTester.createCells(new int[] {10}));
+    }
+}
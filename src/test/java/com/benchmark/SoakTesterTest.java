@@ -0,0 +1,82 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link SoakTester} и записи временного ряда.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class SoakTesterTest {
+
+    private static final String WORKLOAD = "20% get random, 40% add tail, 40% remove head, initial 1000";
+
+    /**
+     * Проверяет, что короткий прогон записывает строку временного ряда
+     * на каждый интервал и сводка учитывает все операции.
+     *
+     * @param directory временный каталог
+     * @throws IOException если запись не удалась
+     */
+    @Test
+    void testRunWritesTimeSeries(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("soak.csv");
+        SoakTester.Summary summary;
+        try (TimeSeriesWriter writer = TimeSeriesWriter.open("csv:" + file)) {
+            summary = SoakTester.run(ListFactoryRegistry.getDefault().get("LinkedList"),
+                    WorkloadSpec.parse(WORKLOAD), 300_000_000L, 100_000_000L, writer);
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(summary.getSamples() >= 2, "Интервалов: " + summary.getSamples());
+        assertEquals(summary.getSamples() + 1, lines.size());
+        assertTrue(lines.get(0).startsWith("listType,elapsedMs,"));
+        assertTrue(lines.get(1).startsWith("LinkedList,"));
+        assertTrue(summary.getLatency().getCount() > 0);
+        assertTrue(summary.getThroughput() > 0);
+    }
+
+    /**
+     * Проверяет, что реализация без удаления не поддерживает нагрузку.
+     */
+    @Test
+    void testUnsupportedList() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> SoakTester.run(ListFactoryRegistry.getDefault().get("ChunkedAppendList"),
+                        WorkloadSpec.parse(WORKLOAD), 100_000_000L, 50_000_000L, null));
+    }
+
+    /**
+     * Проверяет разбор длительностей.
+     */
+    @Test
+    void testParseDuration() {
+        assertEquals(500, SoakTester.parseDuration("500ms"));
+        assertEquals(90_000, SoakTester.parseDuration("90s"));
+        assertEquals(90_000, SoakTester.parseDuration("90"));
+        assertEquals(600_000, SoakTester.parseDuration("10m"));
+        assertEquals(5_400_000, SoakTester.parseDuration("1.5h"));
+        assertThrows(IllegalArgumentException.class, () -> SoakTester.parseDuration("0s"));
+        assertThrows(IllegalArgumentException.class, () -> SoakTester.parseDuration("час"));
+    }
+
+    /**
+     * Проверяет, что параллельные циклы сборщиков не считаются паузами.
+     */
+    @Test
+    void testGcPauseNames() {
+        assertTrue(GcPauseMonitor.isPause("G1 Young Generation"));
+        assertFalse(GcPauseMonitor.isPause("G1 Concurrent GC"));
+        assertFalse(GcPauseMonitor.isPause("ZGC Cycles"));
+        assertTrue(GcPauseMonitor.isPause("ZGC Pauses"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для классов {@link SortSearchBenchmark} и {@link SortSearchTester}.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class SortSearchBenchmarkTest {
+
+    private static final int TEST_SIZE = 1000;
+
+    /**
+     * Проверяет, что поразрядная сортировка упорядочивает значения всего
+     * диапазона так же, как {@link Arrays#sort(int[])}, в том числе
+     * при пропуске проходов с одинаковым разрядом.
+     */
+    @Test
+    void testRadixSort() {
+        Random random = new Random(7);
+        int[] values = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 3 == 0 ? random.nextInt(100) - 50 : random.nextInt();
+        }
+        values[0] = Integer.MIN_VALUE;
+        values[1] = Integer.MAX_VALUE;
+
+        for (int[] input : List.of(values, new int[0], new int[] {5}, new int[] {3, 3, 3}, new int[] {-1, 1, 0})) {
+            int[] expected = input.clone();
+            int[] actual = input.clone();
+            Arrays.sort(expected);
+            SortSearchBenchmark.radixSort(actual);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    /**
+     * Проверяет, что поиск в раскладке Эйтцингера находит наименьший элемент,
+     * не меньший ключа, для каждого размера дерева, в том числе неполного.
+     */
+    @Test
+    void testEytzingerLowerBound() {
+        Random random = new Random(11);
+        for (int n = 0; n <= 40; n++) {
+            int[] sorted = new int[n];
+            for (int i = 0; i < n; i++) {
+                sorted[i] = random.nextInt(60) - 30;
+            }
+            Arrays.sort(sorted);
+            int[] layout = SortSearchBenchmark.eytzinger(sorted);
+
+            for (int key = -32; key <= 32; key++) {
+                int rank = 0;
+                while (rank < n && sorted[rank] < key) {
+                    rank++;
+                }
+                int found = SortSearchBenchmark.eytzingerLowerBound(layout, key);
+                if (rank == n) {
+                    assertEquals(0, found, "n = " + n + ", key = " + key);
+                } else {
+                    assertEquals(sorted[rank], layout[found], "n = " + n + ", key = " + key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что каждая операция выполняется для массива и связного
+     * списка и возвращает результат с названием и типом операции.
+     */
+    @Test
+    void testAllScenarios() {
+        for (Map.Entry<String, Measurement<List<Integer>>> scenario : SortSearchTester.scenarios().entrySet()) {
+            for (List<Integer> list : List.of(new ArrayList<Integer>(), new LinkedList<Integer>())) {
+                Result result = scenario.getValue().measure(list, TEST_SIZE);
+
+                assertEquals(scenario.getKey(), result.getMethodName());
+                assertEquals(list.getClass().getSimpleName(), result.getListType());
+                assertEquals(TEST_SIZE, result.getOperationsCount());
+                assertEquals(scenario.getKey().endsWith("Sort") ? "sort" : "search", result.getOperationType());
+                assertTrue(result.getExecutionTime() >= 0);
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что операции доступны ячейкам матрицы, а неизвестная операция отклоняется.
+     */
+    @Test
+    void testCellLookup() {
+        TrialRunner runner = new TrialRunner(0, 1, CellProfiler.NONE);
+
+        Result result = new BenchmarkCell("eytzingerSearch", "TieredList", TEST_SIZE).execute(runner);
+        assertEquals("eytzingerSearch", result.getMethodName());
+        assertEquals("TieredList", result.getListType());
+        assertEquals("sort", new BenchmarkCell("radixSort", "LinkedList", TEST_SIZE).execute(runner)
+                .getOperationType());
+        assertThrows(IllegalArgumentException.class,
+                () -> new BenchmarkCell("bubbleSort", "ArrayList", TEST_SIZE).execute(runner));
+    }
+}
@@ -0,0 +1,69 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link Statistics}.
+ * Проверяет вычисление характеристик распределения и сравнение
+ * доверительных интервалов.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class StatisticsTest {
+
+    /**
+     * Проверяет основные характеристики на известной выборке.
+     */
+    @Test
+    void testBasicStatistics() {
+        Statistics statistics = new Statistics(new long[] {5, 1, 4, 2, 3});
+
+        assertEquals(5, statistics.getCount());
+        assertEquals(1, statistics.getMin());
+        assertEquals(5, statistics.getMax());
+        assertEquals(3.0, statistics.getMean(), 1e-9);
+        assertEquals(3.0, statistics.getMedian(), 1e-9);
+        assertEquals(4.6, statistics.getP90(), 1e-9);
+        assertEquals(Math.sqrt(2.5), statistics.getStdDev(), 1e-9);
+        assertTrue(statistics.getCiLow() < statistics.getMean());
+        assertTrue(statistics.getCiHigh() > statistics.getMean());
+    }
+
+    /**
+     * Проверяет, что выборка из одного значения дает вырожденный интервал.
+     */
+    @Test
+    void testSingleSample() {
+        Statistics statistics = new Statistics(new long[] {42});
+
+        assertEquals(42.0, statistics.getMedian(), 1e-9);
+        assertEquals(0.0, statistics.getStdDev(), 1e-9);
+        assertEquals(42.0, statistics.getCiLow(), 1e-9);
+        assertEquals(42.0, statistics.getCiHigh(), 1e-9);
+    }
+
+    /**
+     * Проверяет определение пересечения доверительных интервалов.
+     */
+    @Test
+    void testOverlaps() {
+        Statistics low = new Statistics(new long[] {10, 11, 12, 11, 10});
+        Statistics close = new Statistics(new long[] {11, 12, 13, 12, 11});
+        Statistics high = new Statistics(new long[] {100, 101, 102, 101, 100});
+
+        assertTrue(low.overlaps(close));
+        assertFalse(low.overlaps(high));
+        assertFalse(high.overlaps(low));
+    }
+
+    /**
+     * Проверяет, что пустая выборка отклоняется.
+     */
+    @Test
+    void testEmptySamples() {
+        assertThrows(IllegalArgumentException.class, () -> new Statistics(new long[0]));
+    }
+}
@@ -0,0 +1,138 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для классов {@link StructureBenchmark} и {@link ValuePool}.
+ * Тесты запускаются с открытыми пакетами JDK (см. конфигурацию surefire в pom.xml),
+ * поэтому прирост памяти структуры известен.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class StructureBenchmarkTest {
+
+    private static final int TEST_SIZE = 1000;
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty("benchmark.presize");
+        System.clearProperty("benchmark.structureOnly");
+    }
+
+    /**
+     * Проверяет, что пул содержит значения, равные индексам, и не пересоздает их при росте.
+     */
+    @Test
+    void testValuePool() {
+        Integer[] small = ValuePool.boxed(10);
+        Integer[] large = ValuePool.boxed(5000);
+
+        assertTrue(large.length >= 5000);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, large[i].intValue());
+        }
+        assertSame(small[9], large[9]);
+        assertThrows(IllegalArgumentException.class, () -> ValuePool.boxed(-1));
+    }
+
+    /**
+     * Проверяет, что пул значений освобождается после выполнения матрицы
+     * с ячейками без упаковки.
+     */
+    @Test
+    void testValuePoolReleasedAfterRun() {
+        List<Result> results = new ExecutionEngine(ExecutionMode.SEQUENTIAL, 0, 2)
+                .run(Arrays.asList(new BenchmarkCell("add" + StructureBenchmark.SUFFIX, "ArrayList", TEST_SIZE)));
+
+        assertEquals(1, results.size());
+        assertEquals(0, ValuePool.size());
+    }
+
+    /**
+     * Проверяет, что добавление в список с начальной емкостью значениями
+     * из пула не выделяет памяти в измеряемом участке.
+     */
+    @Test
+    void testPresizedAddDoesNotAllocate() {
+        System.setProperty("benchmark.presize", "true");
+        Result result = null;
+        for (int i = 0; i < 20; i++) {
+            result = StructureBenchmark.testAdd(new ArrayList<>(), TEST_SIZE);
+        }
+
+        assertEquals("addStruct", result.getMethodName());
+        assertEquals(0, result.getStructuralBytes());
+        assertEquals("без лишних выделений", ListPerformanceTester.allocationCheck(result));
+    }
+
+    /**
+     * Проверяет, что без начальной емкости рост массива учитывается в приросте
+     * структуры, а старые массивы — как выделения сверх структуры.
+     */
+    @Test
+    void testGrowthAccounted() {
+        Result result = StructureBenchmark.testAdd(new ArrayList<>(), TEST_SIZE);
+
+        assertTrue(result.getStructuralBytes() >= 4L * TEST_SIZE, "Прирост: " + result.getStructuralBytes());
+        assertTrue(result.getTransientBytesPerOperation() >= 0);
+    }
+
+    /**
+     * Проверяет, что все операции выполняются для массива и связного списка.
+     */
+    @Test
+    void testAllScenarios() {
+        for (Map.Entry<String, Measurement<List<Integer>>> scenario
+                : ListPerformanceTester.structureScenarios().entrySet()) {
+            for (List<Integer> list : List.of(new ArrayList<Integer>(), new LinkedList<Integer>())) {
+                Result result = scenario.getValue().measure(list, TEST_SIZE);
+
+                assertEquals(scenario.getKey(), result.getMethodName());
+                assertEquals(list.getClass().getSimpleName(), result.getListType());
+                assertEquals(TEST_SIZE, result.getOperationsCount());
+                assertTrue(result.getStructuralBytes() >= 0);
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что варианты без упаковки следуют сразу за обычными операциями
+     * только при включенном свойстве {@code benchmark.structureOnly}.
+     */
+    @Test
+    void testScenarioOrder() {
+        assertFalse(ListPerformanceTester.scenarios().containsKey("addStruct"));
+
+        System.setProperty("benchmark.structureOnly", "true");
+        List<String> names = new ArrayList<>(ListPerformanceTester.scenarios().keySet());
+        assertEquals(names.indexOf("add") + 1, names.indexOf("addStruct"));
+        assertEquals(names.indexOf("deleteLast") + 1, names.indexOf("deleteLastStruct"));
+    }
+
+    /**
+     * Проверяет, что значения пула не учитываются в памяти структуры,
+     * а фабрика создает список с начальной емкостью.
+     */
+    @Test
+    void testSharedValuesExcluded() {
+        Integer[] values = ValuePool.boxed(TEST_SIZE);
+        List<Integer> list = ListFactoryRegistry.getDefault().get("ArrayList").create(TEST_SIZE);
+        long empty = MemoryFootprint.retainedSize(list, values);
+        for (int i = 0; i < TEST_SIZE; i++) {
+            list.add(values[i]);
+        }
+
+        assertEquals(empty, MemoryFootprint.retainedSize(list, values));
+        assertTrue(MemoryFootprint.retainedSize(list) > empty);
+    }
+}
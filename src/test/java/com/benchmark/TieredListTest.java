@@ -0,0 +1,158 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для класса {@link TieredList} и сценариев вставки и удаления
+ * в середине списка.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class TieredListTest {
+
+    /**
+     * Проверяет, что развернутый список ведет себя так же, как {@link ArrayList},
+     * на случайной последовательности операций с малой емкостью блока,
+     * при которой часто происходят разбиения и объединения блоков.
+     */
+    @Test
+    void testMatchesArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        TieredList<Integer> actual = new TieredList<>(4);
+        Random random = new Random(11);
+        for (int i = 0; i < 20000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 4 || expected.isEmpty()) {
+                int index = randomIndex(random, expected.size() + 1);
+                expected.add(index, i);
+                actual.add(index, i);
+            } else if (operation < 7) {
+                int index = randomIndex(random, expected.size());
+                assertEquals(expected.remove(index), actual.remove(index));
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), actual.set(index, -i));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), actual.get(index));
+            }
+        }
+        assertEquals(expected, actual);
+        actual.clear();
+        assertTrue(actual.isEmpty());
+        assertEquals(0, actual.chunkCount());
+    }
+
+    /**
+     * Проверяет разбиение заполненного блока и объединение опустевших блоков.
+     */
+    @Test
+    void testSplitAndMerge() {
+        TieredList<Integer> list = new TieredList<>(8);
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+        assertEquals(1, list.chunkCount());
+
+        list.add(4, 100);
+        assertEquals(2, list.chunkCount());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 100, 4, 5, 6, 7), list);
+
+        while (list.size() > 3) {
+            list.remove(list.size() / 2);
+        }
+        assertEquals(1, list.chunkCount());
+        assertEquals(Arrays.asList(0, 1, 7), list);
+    }
+
+    /**
+     * Проверяет, что емкость блока списка по умолчанию растет около √n
+     * при вставках в середину, возвращается к начальной при удалениях,
+     * а содержимое при перераспределениях блоков не меняется.
+     */
+    @Test
+    void testChunkCapacityFollowsSize() {
+        List<Integer> expected = new ArrayList<>();
+        TieredList<Integer> actual = new TieredList<>();
+        assertEquals(64, actual.chunkCapacity());
+        for (int i = 0; i < 100_000; i++) {
+            expected.add(expected.size() / 2, i);
+            actual.add(actual.size() / 2, i);
+        }
+        assertEquals(expected, actual);
+        double root = Math.sqrt(actual.size());
+        assertTrue(actual.chunkCapacity() >= root / 2 && actual.chunkCapacity() <= 2 * root,
+                "емкость блока " + actual.chunkCapacity() + " при размере " + actual.size());
+
+        while (expected.size() > 100) {
+            assertEquals(expected.remove(expected.size() / 2), actual.remove(actual.size() / 2));
+        }
+        assertEquals(expected, actual);
+        assertEquals(64, actual.chunkCapacity());
+    }
+
+    /**
+     * Проверяет поддержку null, подсписков, итераторов с быстрым отказом и границ индексов.
+     */
+    @Test
+    void testListContract() {
+        List<String> list = new TieredList<>(Arrays.asList("a", null, "c"));
+        assertEquals(1, list.indexOf(null));
+        list.subList(0, 2).clear();
+        assertEquals(Arrays.asList("c"), list);
+
+        Iterator<String> iterator = list.iterator();
+        list.add("d");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(4, "e"));
+        assertThrows(IllegalArgumentException.class, () -> new TieredList<String>(3));
+    }
+
+    /**
+     * Проверяет сценарии вставки и удаления в середине списка.
+     */
+    @Test
+    void testMiddleScenarios() {
+        Result insert = Benchmark.testInsertMiddle(new TieredList<>(), 500);
+        assertEquals("insertMiddle", insert.getMethodName());
+        assertEquals("TieredList", insert.getListType());
+        assertEquals("add", insert.getOperationType());
+        assertEquals(500, insert.getOperationsCount());
+
+        Result remove = Benchmark.testRemoveMiddle(new ArrayList<>(), 500);
+        assertEquals("removeMiddle", remove.getMethodName());
+        assertEquals("ArrayList", remove.getListType());
+        assertEquals("delete", remove.getOperationType());
+    }
+
+    /**
+     * Выбирает индекс в начале, в конце, в середине или случайный.
+     *
+     * @param random генератор случайных чисел
+     * @param bound граница индекса (не включается)
+     * @return индекс от 0 до {@code bound - 1}
+     */
+    private static int randomIndex(Random random, int bound) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return 0;
+            case 1:
+                return bound - 1;
+            case 2:
+                return bound / 2;
+            default:
+                return random.nextInt(bound);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit-тесты для классов {@link WorkloadSpec} и {@link WorkloadTrace}.
+ * Проверяет разбор описания нагрузки, генерацию последовательности
+ * операций и ее воспроизведение.
+ *
+ * @author Panova Viktoria
+ * @version 1.0
+ */
+class WorkloadSpecTest {
+
+    /**
+     * Проверяет разбор описания нагрузки по умолчанию.
+     */
+    @Test
+    void testParseDefault() {
+        WorkloadSpec spec = WorkloadSpec.parse(WorkloadSpec.DEFAULT);
+
+        assertEquals(3, spec.getMix().size());
+        assertEquals(70, spec.getMix().get(0).getPercent());
+        assertEquals(WorkloadSpec.Operation.GET, spec.getMix().get(0).getOperation());
+        assertEquals(WorkloadSpec.Position.RANDOM, spec.getMix().get(0).getPosition());
+        assertEquals(WorkloadSpec.Operation.REMOVE, spec.getMix().get(2).getOperation());
+        assertEquals(WorkloadSpec.Position.MIDDLE, spec.getMix().get(2).getPosition());
+        assertEquals(0.99, spec.getZipfExponent(), 1e-9);
+        assertEquals(42, spec.getSeed());
+        assertEquals(100, spec.getInitialSize(100));
+    }
+
+    /**
+     * Проверяет, что некорректные описания отклоняются.
+     */
+    @Test
+    void testParseErrors() {
+        assertThrows(IllegalArgumentException.class, () -> WorkloadSpec.parse("50% get random"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadSpec.parse("100% push tail"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadSpec.parse("100% get nowhere"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadSpec.parse("100% get tail, seed x"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadSpec.parse("100% get random, zipf 1"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadSpec.parse("100% get random, zipf 1.2"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadSpec.parse("100% get random, zipf NaN"));
+    }
+
+    /**
+     * Проверяет, что последовательность детерминирована при одинаковом seed
+     * и все индексы находятся в допустимых границах.
+     */
+    @Test
+    void testTraceIsDeterministicAndInBounds() {
+        WorkloadSpec spec = WorkloadSpec.parse("40% get random, 30% add random, 30% remove head, "
+                + "zipf 0.99, seed 7, initial 10");
+        WorkloadTrace first = WorkloadTrace.generate(spec, 1000);
+        WorkloadTrace second = WorkloadTrace.generate(spec, 1000);
+
+        assertEquals(1000, first.size());
+        assertEquals(10, first.getInitialSize());
+        int size = first.getInitialSize();
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.getOperation(i), second.getOperation(i));
+            assertEquals(first.getIndex(i), second.getIndex(i));
+
+            int bound = first.getOperation(i) == WorkloadSpec.Operation.ADD ? size + 1 : size;
+            assertTrue(first.getIndex(i) >= 0 && first.getIndex(i) < bound);
+            if (first.getOperation(i) == WorkloadSpec.Operation.ADD) {
+                size++;
+            } else if (first.getOperation(i) == WorkloadSpec.Operation.REMOVE) {
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Проверяет, что распределение Ципфа смещено к началу списка.
+     */
+    @Test
+    void testZipfIsSkewed() {
+        WorkloadTrace trace = WorkloadTrace.generate(
+                WorkloadSpec.parse("100% get random, zipf 0.99, seed 1"), 10000);
+
+        int hot = 0;
+        for (int i = 0; i < trace.size(); i++) {
+            if (trace.getIndex(i) < 100) {
+                hot++;
+            }
+        }
+        assertTrue(hot > trace.size() / 4, "Первый процент элементов должен быть горячим: " + hot);
+    }
+
+    /**
+     * Проверяет воспроизведение нагрузки для разных реализаций списка.
+     */
+    @Test
+    void testMixed() {
+        WorkloadTrace trace = WorkloadTrace.generate(WorkloadSpec.parse(WorkloadSpec.DEFAULT), 500);
+
+        Result arrayResult = Benchmark.testMixed(new ArrayList<>(), trace);
+        Result linkedResult = Benchmark.testMixed(new LinkedList<>(), trace);
+
+        assertEquals("mixed", arrayResult.getMethodName());
+        assertEquals("mixed", arrayResult.getOperationType());
+        assertEquals(500, arrayResult.getOperationsCount());
+        assertEquals("LinkedList", linkedResult.getListType());
+        assertTrue(arrayResult.getExecutionTime() > 0);
+    }
+}